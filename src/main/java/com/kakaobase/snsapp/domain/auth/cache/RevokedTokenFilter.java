@@ -0,0 +1,200 @@
+package com.kakaobase.snsapp.domain.auth.cache;
+
+import com.kakaobase.snsapp.domain.auth.repository.RevokedRefreshTokenRepository;
+import com.kakaobase.snsapp.domain.auth.util.ScalableBloomFilter;
+import com.kakaobase.snsapp.global.common.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 취소된 리프레시 토큰 블룸 필터
+ *
+ * <p>리프레시 토큰 검증 시 대부분의 토큰은 취소되지 않았으므로, 취소된 토큰 해시를 {@link ScalableBloomFilter} 로 보관하여
+ * 필터에 없는 토큰은 revoked_refresh_tokens 를 조회하지 않습니다. 필터에 있다고 나온 토큰(오탐 포함)만 DB 로 확인합니다.
+ * 시작 시 DB 의 취소 목록으로 만들고, 이후 취소는 즉시 추가하며 다른 노드에는 {@link CacheInvalidationBus} 로 전파합니다.
+ * 만료된 취소 목록을 정리한 노드는 {@link #rebuildAll()} 로 다른 노드의 필터도 다시 만들게 합니다.</p>
+ *
+ * <p>필터가 준비되기 전에는 모든 토큰을 DB 로 확인합니다. 전파가 누락되어 필터에서 빠진 토큰도
+ * 취소 시 auth_tokens 에서 삭제되므로 검증을 통과하지 못합니다.</p>
+ */
+@Slf4j
+@Component
+public class RevokedTokenFilter {
+
+    private static final String TOPIC = "revoked-refresh-token";
+    private static final String REBUILD_TOPIC = "revoked-refresh-token-rebuild";
+
+    private final RevokedRefreshTokenRepository revokedTokenRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final int initialCapacity;
+    private final double falsePositiveRate;
+    private final int loadBatchSize;
+
+    private volatile ScalableBloomFilter filter;
+    // 재생성 중 추가된 취소를 새 필터에도 반영하기 위한 재생성 중인 필터
+    private ScalableBloomFilter rebuilding;
+    private volatile boolean ready;
+
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder checked = new LongAdder();
+
+    public RevokedTokenFilter(
+            RevokedRefreshTokenRepository revokedTokenRepository,
+            CacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.revoked-token-filter.initial-capacity:100000}") int initialCapacity,
+            @Value("${app.revoked-token-filter.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${app.revoked-token-filter.load-batch-size:1000}") int loadBatchSize) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.loadBatchSize = loadBatchSize;
+        this.filter = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void init() {
+        invalidationBus.subscribe(TOPIC, this::addLocal);
+        invalidationBus.subscribe(REBUILD_TOPIC, ignored -> rebuild());
+
+        FunctionCounter.builder("auth.revoked.token.filter.requests", skipped, LongAdder::sum)
+                .tag("result", "skipped")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.revoked.token.filter.requests", checked, LongAdder::sum)
+                .tag("result", "checked")
+                .register(meterRegistry);
+        Gauge.builder("auth.revoked.token.filter.stages", this, f -> f.filter.stageCount())
+                .register(meterRegistry);
+        Gauge.builder("auth.revoked.token.filter.bytes", this, f -> f.filter.sizeInBytes())
+                .register(meterRegistry);
+    }
+
+    /**
+     * DB 의 취소 목록으로 필터를 다시 만듭니다. (시작 시, 만료된 취소 정리 후)
+     * 다시 만드는 동안 추가된 취소는 새 필터에도 반영됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        ScalableBloomFilter next = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+        synchronized (this) {
+            rebuilding = next;
+        }
+
+        long loaded = 0;
+        String after = "";
+        List<String> hashes;
+        do {
+            hashes = revokedTokenRepository.findHashesAfter(after, PageRequest.of(0, loadBatchSize));
+            for (String hash : hashes) {
+                long h1 = h1(hash);
+                next.add(h1, h2(h1));
+            }
+            loaded += hashes.size();
+            if (!hashes.isEmpty()) {
+                after = hashes.get(hashes.size() - 1);
+            }
+        } while (hashes.size() == loadBatchSize);
+
+        synchronized (this) {
+            filter = next;
+            rebuilding = null;
+        }
+        ready = true;
+        log.info("취소된 리프레시 토큰 필터 생성 완료: 토큰 수={}, 단계 수={}, 소요 시간={}ms",
+                loaded, next.stageCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 이 노드의 필터를 다시 만들고 다른 노드에도 다시 만들도록 전파합니다. (만료된 취소 정리 후)
+     */
+    public void rebuildAll() {
+        rebuild();
+        invalidationBus.publish(REBUILD_TOPIC, 0L);
+    }
+
+    /**
+     * 토큰이 취소되었을 수 있는지 확인합니다.
+     * false 이면 취소되지 않은 토큰이므로 DB 를 조회하지 않아도 됩니다.
+     *
+     * @param refreshTokenHash 리프레시 토큰 해시
+     * @return 취소되었을 수 있으면 true (필터 준비 전에는 항상 true)
+     */
+    public boolean mightBeRevoked(String refreshTokenHash) {
+        long h1 = h1(refreshTokenHash);
+        if (ready && !filter.mightContain(h1, h2(h1))) {
+            skipped.increment();
+            return false;
+        }
+        checked.increment();
+        return true;
+    }
+
+    /**
+     * 취소된 토큰을 필터에 추가하고 다른 노드에도 전파합니다.
+     * 오탐만 늘어날 뿐 잘못 통과시키지는 않으므로 커밋을 기다리지 않고 바로 추가합니다.
+     *
+     * @param refreshTokenHash 리프레시 토큰 해시
+     */
+    public void add(String refreshTokenHash) {
+        long h1 = h1(refreshTokenHash);
+        addLocal(h1);
+        invalidationBus.publish(TOPIC, h1);
+    }
+
+    private synchronized void addLocal(Long h1) {
+        long h2 = h2(h1);
+        filter.add(h1, h2);
+        if (rebuilding != null) {
+            rebuilding.add(h1, h2);
+        }
+    }
+
+    /**
+     * 토큰 해시(SHA-256 의 Base64)의 앞 8바이트. 형식이 다르면 문자열 해시를 사용합니다.
+     */
+    private static long h1(String refreshTokenHash) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(refreshTokenHash);
+            if (bytes.length >= Long.BYTES) {
+                return ByteBuffer.wrap(bytes).getLong();
+            }
+        } catch (IllegalArgumentException ignored) {
+            // 아래 문자열 해시 사용
+        }
+        return mix(refreshTokenHash.hashCode());
+    }
+
+    /**
+     * 이중 해싱의 두 번째 해시 (h1 만 전파해도 같은 비트를 계산할 수 있도록 h1 에서 유도, 홀수로 고정)
+     */
+    private static long h2(long h1) {
+        return mix(h1) | 1L;
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -4,6 +4,7 @@ import com.kakaobase.snsapp.domain.auth.dto.AuthRequestDto;
 import com.kakaobase.snsapp.domain.auth.dto.AuthResponseDto;
 import com.kakaobase.snsapp.domain.auth.service.AuthService;
 import com.kakaobase.snsapp.global.common.response.CustomResponse;
+import com.kakaobase.snsapp.global.security.jwt.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +34,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final JwtUtil jwtUtil;
 
     @Operation(summary = "로그인", description = "이메일과 비밀번호로 로그인하고 JWT 토큰을 발급합니다")
     @ApiResponses(value = {
@@ -95,6 +98,7 @@ public class AuthController {
      * 로그아웃 API
      * 현재 사용 중인 토큰을 무효화하고 로그아웃합니다.
      * 리프레시 토큰은 서버에서 블랙리스트에 등록되고, 쿠키에서 제거됩니다.
+     * 요청에 사용한 Access Token 은 만료될 때까지 거부됩니다.
      *
      * @return 로그아웃 성공 메시지
      */
@@ -107,14 +111,14 @@ public class AuthController {
     })
     @DeleteMapping("/tokens")
     public ResponseEntity<CustomResponse<Void>> logout(
+            HttpServletRequest httpRequest,
             HttpServletResponse httpResponse,
             @Parameter(hidden = true) @CookieValue(value = "kakaobase_refresh_token", required = false, defaultValue = "") String providedRefreshToken
             ) {
 
         log.info("로그아웃 요청 수신");
 
-        authService.logout(providedRefreshToken);
-        ResponseCookie emptyRefreshCookie = authService.logout(providedRefreshToken);
+        ResponseCookie emptyRefreshCookie = authService.logout(providedRefreshToken, jwtUtil.resolveToken(httpRequest));
 
         return ResponseEntity
                 .ok()
@@ -2,10 +2,10 @@ package com.kakaobase.snsapp.domain.auth.converter;
 
 import com.kakaobase.snsapp.domain.auth.dto.AuthRequestDto;
 import com.kakaobase.snsapp.domain.auth.dto.AuthResponseDto;
-import com.kakaobase.snsapp.domain.auth.entity.AuthToken;
 import com.kakaobase.snsapp.domain.auth.entity.RevokedRefreshToken;
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
-import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.auth.store.RefreshSession;
+import com.kakaobase.snsapp.domain.members.cache.MemberProfileCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -21,15 +21,15 @@ import java.util.UUID;
 public class AuthConverter {
 
     /**
-     * 로그인 정보와 생성된 토큰 정보로 AuthToken 엔티티를 생성합니다.
+     * 로그인 정보와 생성된 토큰 정보로 리프레시 토큰 세션을 생성합니다.
      *
      * @param memberId 회원 ID
      * @param refreshTokenHash 리프레시 토큰 해시 값
      * @param userAgent 사용자 브라우저 정보
      * @param expirationTime 토큰 만료 시간
-     * @return 생성된 AuthToken 엔티티
+     * @return 생성된 리프레시 토큰 세션
      */
-    public AuthToken toAuthTokenEntity(
+    public RefreshSession toRefreshSession(
             Long memberId,
             String refreshTokenHash,
             String userAgent,
@@ -38,14 +38,7 @@ public class AuthConverter {
         // 기기 ID 생성 (UUID v4)
         String deviceId = UUID.randomUUID().toString();
 
-        // AuthToken 엔티티 생성 및 반환
-        return AuthToken.builder()
-                .memberId(memberId)
-                .refreshTokenHash(refreshTokenHash)
-                .deviceId(deviceId)
-                .userAgent(userAgent)
-                .expiresAt(expirationTime)
-                .build();
+        return new RefreshSession(refreshTokenHash, memberId, deviceId, userAgent, expirationTime);
     }
 
     /**
@@ -97,13 +90,13 @@ public class AuthConverter {
 
     }
 
-    public AuthResponseDto.LoginResponse toLoginResponseDto(Member member, String accessToken) {
+    public AuthResponseDto.LoginResponse toLoginResponseDto(MemberProfileCache.Profile profile, String accessToken) {
         return AuthResponseDto.LoginResponse
                 .builder()
-                .memberId(member.getId())
-                .nickname(member.getNickname())
-                .className(member.getClassName())
-                .imageUrl(member.getProfileImgUrl())
+                .memberId(profile.id())
+                .nickname(profile.nickname())
+                .className(profile.className())
+                .imageUrl(profile.profileImgUrl())
                 .accessToken(accessToken)
                 .build();
 
@@ -5,20 +5,25 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.DynamicInsert;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 /**
  * 취소된 리프레시 토큰 정보를 저장하는 엔티티입니다.
  * 로그아웃 등으로 인해 더 이상 유효하지 않은 토큰을 관리합니다.
+ * 키를 직접 지정하므로 {@link Persistable} 로 새 엔티티 여부를 알려 저장 시 조회 없이 INSERT 합니다.
  */
 @Entity
-@Table(name = "revoked_refresh_tokens")
+@Table(name = "revoked_refresh_tokens", indexes = {
+        // 만료된 취소 목록 정리 (findHashesRevokedBefore)
+        @Index(name = "idx_revoked_refresh_tokens_revoked_at", columnList = "revoked_at")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
-public class RevokedRefreshToken extends BaseCreatedTimeEntity {
+public class RevokedRefreshToken extends BaseCreatedTimeEntity implements Persistable<String> {
 
     /**
      * 취소된, SHA-256으로 해시된 리프레시 토큰 값입니다.
@@ -53,6 +58,19 @@ public class RevokedRefreshToken extends BaseCreatedTimeEntity {
         return this.memberId.equals(memberId);
     }
 
+    @Override
+    public String getId() {
+        return refreshTokenHash;
+    }
+
+    /**
+     * 생성 시간이 기록되기 전(저장 전)이면 새 엔티티입니다.
+     */
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+
     @Builder
     RevokedRefreshToken(String refreshTokenHash, Long memberId) {
         this.refreshTokenHash = refreshTokenHash;
@@ -1,5 +1,6 @@
 package com.kakaobase.snsapp.domain.auth.principal;
 
+import com.kakaobase.snsapp.domain.members.cache.MemberProfileCache;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
@@ -22,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
 
     /**
      * 이메일로 사용자를 조회하여 UserDetails 객체로 반환합니다.
@@ -56,7 +58,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     /**
      * 사용자 ID로 사용자를 조회하여 UserDetails 객체로 반환합니다.
-     * 주로 JWT 인증 시 사용됩니다.
+     * 주로 토큰 재발급 시 사용되며, 매번 DB 를 읽지 않도록 회원 프로필 캐시를 사용합니다.
      *
      * @param id 사용자 ID
      * @return UserDetails 객체
@@ -74,7 +76,7 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new CustomException(GeneralErrorCode.RESOURCE_NOT_FOUND, "유효하지 않은 사용자 ID 형식입니다.");
         }
 
-        Member member = memberRepository.findById(memberId)
+        MemberProfileCache.Profile profile = memberProfileCache.get(memberId)
                 .orElseThrow(() -> {
                     log.debug("ID로 사용자를 찾을 수 없습니다: {}", id);
                     throw new CustomException(GeneralErrorCode.RESOURCE_NOT_FOUND, "사용자를 찾을 수 없습니다.");
@@ -82,9 +84,9 @@ public class CustomUserDetailsService implements UserDetailsService {
 
 
         return new CustomUserDetails(
-                member.getId().toString(),
-                member.getRole(),
-                member.getClassName(),
-                member.isEnabled());
+                profile.id().toString(),
+                profile.role(),
+                profile.className(),
+                profile.enabled());
     }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.kakaobase.snsapp.domain.auth.repository;
 
 import com.kakaobase.snsapp.domain.auth.entity.AuthToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -61,4 +63,26 @@ public interface AuthTokenRepository extends JpaRepository<AuthToken, Long> {
     @Query("DELETE FROM AuthToken a WHERE a.expiresAt < :expirationTime")
     int deleteAllExpiredTokensBefore(@Param("expirationTime") LocalDateTime expirationTime);
 
+    /**
+     * RefreshToken 해시값으로 AuthToken 을 삭제합니다.
+     * 동시에 같은 토큰을 취소해도 한 쪽만 삭제 행 수 1을 받습니다.
+     *
+     * @param refreshTokenHash 해시된 리프레시 토큰
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AuthToken a WHERE a.refreshTokenHash = :refreshTokenHash")
+    int deleteByRefreshTokenHash(@Param("refreshTokenHash") String refreshTokenHash);
+
+    /**
+     * 기준 시간 이전에 만료된 AuthToken ID 를 조회합니다.
+     * 만료된 토큰을 나누어 삭제할 때 사용됩니다.
+     *
+     * @param expirationTime 기준 만료 시간
+     * @param pageable 조회할 개수
+     * @return AuthToken ID 목록
+     */
+    @Query("SELECT a.id FROM AuthToken a WHERE a.expiresAt < :expirationTime")
+    List<Long> findIdsExpiredBefore(@Param("expirationTime") LocalDateTime expirationTime, Pageable pageable);
 }
@@ -1,7 +1,9 @@
 package com.kakaobase.snsapp.domain.auth.repository;
 
 import com.kakaobase.snsapp.domain.auth.entity.RevokedRefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -50,7 +52,30 @@ public interface RevokedRefreshTokenRepository extends JpaRepository<RevokedRefr
      * @param revokedBefore 기준 취소 시간
      * @return 삭제된 행 수
      */
+    @Modifying
     @Query("DELETE FROM RevokedRefreshToken r WHERE r.revokedAt < :revokedBefore")
     int deleteByRevokedAtBefore(@Param("revokedBefore") LocalDateTime revokedBefore);
 
+    /**
+     * 특정 시간 이전에 취소된 토큰 해시를 조회합니다.
+     * 만료된 취소 목록을 나누어 삭제할 때 사용됩니다.
+     *
+     * @param revokedBefore 기준 취소 시간
+     * @param pageable 조회할 개수
+     * @return 취소된 토큰 해시 목록
+     */
+    @Query("SELECT r.refreshTokenHash FROM RevokedRefreshToken r WHERE r.revokedAt < :revokedBefore")
+    List<String> findHashesRevokedBefore(@Param("revokedBefore") LocalDateTime revokedBefore, Pageable pageable);
+
+    /**
+     * 주어진 해시 이후의 취소된 토큰 해시를 오름차순으로 조회합니다.
+     * 취소 목록 블룸 필터를 만들 때 키 기준으로 나누어 읽는 데 사용됩니다.
+     *
+     * @param after 마지막으로 읽은 해시 (처음이면 빈 문자열)
+     * @param pageable 조회할 개수
+     * @return 취소된 토큰 해시 목록
+     */
+    @Query("SELECT r.refreshTokenHash FROM RevokedRefreshToken r WHERE r.refreshTokenHash > :after ORDER BY r.refreshTokenHash")
+    List<String> findHashesAfter(@Param("after") String after, Pageable pageable);
+
 }
\ No newline at end of file
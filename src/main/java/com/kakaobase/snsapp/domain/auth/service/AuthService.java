@@ -9,10 +9,10 @@ import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetailsService;
 import com.kakaobase.snsapp.domain.auth.util.CookieUtil;
 
-import com.kakaobase.snsapp.domain.members.entity.Member;
-import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.cache.MemberProfileCache;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import com.kakaobase.snsapp.global.error.exception.CustomException;
+import com.kakaobase.snsapp.global.security.jwt.AccessTokenDenyList;
 import com.kakaobase.snsapp.global.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,7 +40,8 @@ public class AuthService {
     private final CustomUserDetailsService userDetailsService;
     private final CustomUserDetailsService customUserDetailsService;
     private final AuthConverter authConverter;
-    private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
+    private final AccessTokenDenyList accessTokenDenyList;
 
     /**
      * 사용자 로그인 처리 및 인증 토큰 발급
@@ -122,30 +123,38 @@ public class AuthService {
 
         String accessToken = jwtTokenProvider.createAccessToken(userDetails);
 
-        Member member = memberRepository.findById(userId)
+        MemberProfileCache.Profile profile = memberProfileCache.get(userId)
                 .orElseThrow(() -> new AuthException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId"));
 
-        AuthResponseDto.LoginResponse response = authConverter.toLoginResponseDto(member, accessToken);
+        AuthResponseDto.LoginResponse response = authConverter.toLoginResponseDto(profile, accessToken);
 
         return response;
     }
 
     /**
      * 로그아웃 처리
+     * 리프레시 토큰을 취소하고, 요청에 사용한 Access Token 은 만료될 때까지 거부합니다.
+     *
+     * @param providedRefreshToken 리프레시 토큰 (쿠키)
+     * @param accessToken 요청에 사용한 Access Token (없으면 null)
      */
     @Transactional
-    public ResponseCookie logout(String providedRefreshToken) {
+    public ResponseCookie logout(String providedRefreshToken, String accessToken) {
         // 토큰이 있다면 기존 토큰 파기
         if (providedRefreshToken != null
                 && !providedRefreshToken.isBlank()
                 && providedRefreshToken.length() > 20) {
             securityTokenManager.revokeRefreshToken(providedRefreshToken);
         }
+        if (accessToken != null && !accessToken.isBlank()) {
+            accessTokenDenyList.denyToken(accessToken);
+        }
         return cookieUtil.createEmptyRefreshCookie();
     }
 
     /**
      * 다른 모든 디바이스 로그아웃
+     * 다른 기기의 리프레시 토큰만 취소하며, 그 기기의 Access Token 은 만료될 때까지 유효합니다.
      */
     @Transactional
     public void logoutOtherDevices(Long memberId, String currentRefreshToken) {
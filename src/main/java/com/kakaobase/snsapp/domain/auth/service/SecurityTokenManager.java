@@ -1,27 +1,25 @@
 package com.kakaobase.snsapp.domain.auth.service;
 
+import com.kakaobase.snsapp.domain.auth.cache.RevokedTokenFilter;
 import com.kakaobase.snsapp.domain.auth.converter.AuthConverter;
-import com.kakaobase.snsapp.domain.auth.entity.AuthToken;
-import com.kakaobase.snsapp.domain.auth.entity.RevokedRefreshToken;
 import com.kakaobase.snsapp.domain.auth.exception.AuthErrorCode;
 import com.kakaobase.snsapp.domain.auth.exception.AuthException;
-import com.kakaobase.snsapp.domain.auth.repository.AuthTokenRepository;
 import com.kakaobase.snsapp.domain.auth.repository.RevokedRefreshTokenRepository;
-import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import com.kakaobase.snsapp.domain.auth.store.RefreshSession;
+import com.kakaobase.snsapp.domain.auth.store.RefreshSessionStore;
+import com.kakaobase.snsapp.domain.auth.util.RefreshTokenCodec;
+import com.kakaobase.snsapp.global.common.lock.service.SchedulerLockManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Base64;
 import java.util.List;
-import java.nio.charset.StandardCharsets;
 
 /**
  * 보안 토큰(리프레시 토큰)의 생성, 검증, 관리를 담당하는 서비스
@@ -31,35 +29,49 @@ import java.nio.charset.StandardCharsets;
 @RequiredArgsConstructor
 public class SecurityTokenManager {
 
-    private final AuthTokenRepository authTokenRepository;
+    private static final String PURGE_LOCK = "revoked-refresh-token-purge";
+
+    private final RefreshSessionStore sessionStore;
     private final RevokedRefreshTokenRepository revokedTokenRepository;
     private final AuthConverter authConverter;
+    private final RevokedTokenFilter revokedTokenFilter;
+    private final RefreshTokenCodec refreshTokenCodec;
+    private final SchedulerLockManager schedulerLockManager;
 
     @Value("${app.jwt.refresh.expiration-time}")
     private long refreshTokenExpirationTimeMillis;
 
+    @Value("${app.revoked-token-filter.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    @Value("${app.revoked-token-filter.purge-interval-millis:3600000}")
+    private long purgeIntervalMillis;
+
+    @Value("${app.auth.session-sweep-batch-size:1000}")
+    private int sessionSweepBatchSize;
+
     /**
      * 리프레시 토큰 생성 및 저장
      */
     @Transactional
     public String createRefreshToken(Long userId, String userAgent) {
         // 1. 랜덤 토큰 생성
-        String rawToken = generateSecureToken();
-        String hashedToken = hashToken(rawToken);
+        String rawToken = refreshTokenCodec.generate();
+        String hashedToken = refreshTokenCodec.hash(rawToken);
 
         // 2. 만료 시간 계산
         LocalDateTime expiryTime = LocalDateTime.now()
                 .plus(Duration.ofMillis(refreshTokenExpirationTimeMillis));
 
-        // 3. AuthConverter를 사용하여 토큰 엔티티 생성 및 저장
-        AuthToken tokenEntity = authConverter.toAuthTokenEntity(
+        // 3. AuthConverter를 사용하여 세션 생성 및 저장
+        RefreshSession session = authConverter.toRefreshSession(
                 userId,
                 hashedToken,
                 userAgent,
                 expiryTime
         );
 
-        authTokenRepository.save(tokenEntity);
+        sessionStore.save(session);
 
         return rawToken;
     }
@@ -67,113 +79,129 @@ public class SecurityTokenManager {
     /**
      * 리프레시 토큰 검증 및 사용자 ID 반환
      */
+    @Transactional
     public Long validateRefreshTokenAndGetUserId(String rawToken) {
-        String hashedToken = hashToken(rawToken);
+        String hashedToken = refreshTokenCodec.hash(rawToken);
 
         // 1. 취소된 토큰인지 확인
         if (isTokenRevoked(hashedToken)) {
             throw new AuthException(AuthErrorCode.REFRESH_TOKEN_REVOKED);
         }
 
-        // 2. 토큰 조회
-        AuthToken tokenEntity = authTokenRepository.findByRefreshTokenHash(hashedToken)
+        // 2. 세션 조회
+        RefreshSession session = sessionStore.findByRefreshTokenHash(hashedToken)
                 .orElseThrow(() -> new AuthException(AuthErrorCode.REFRESH_TOKEN_INVALID));
 
         // 3. 만료 확인
-        if (isTokenExpired(tokenEntity)) {
-            revokeToken(tokenEntity);
+        if (session.isExpired(LocalDateTime.now())) {
+            sessionStore.remove(hashedToken).ifPresent(removed -> recordRevocations(List.of(removed)));
             throw new AuthException(AuthErrorCode.REFRESH_TOKEN_EXPIRED);
         }
 
-        return tokenEntity.getMemberId();
+        return session.memberId();
     }
 
     /**
      * 리프레시 토큰 취소
+     * 저장소에서 실제로 삭제한 경우에만 취소 목록에 기록하므로 없는 토큰은 무시합니다.
      */
     @Transactional
     public void revokeRefreshToken(String rawToken) {
-        String hashedToken = hashToken(rawToken);
+        String hashedToken = refreshTokenCodec.hash(rawToken);
 
-        boolean exists = authTokenRepository.existsByRefreshTokenHash(hashedToken);
-        if (!exists) {
-            log.debug("리프레시 토큰 없음 - 무시하고 통과");
-            return;
-        }
-
-        AuthToken tokenEntity = authTokenRepository.findByRefreshTokenHash(hashedToken)
-                .orElseThrow(() -> new AuthException(AuthErrorCode.REFRESH_TOKEN_INVALID, "해당 리프레시 토큰값을 DB에서 조회할 수 없음"));
-
-        revokeToken(tokenEntity);
-    }
-
-    /**
-     * 토큰 취소 처리 (내부 메서드)
-     */
-    @Transactional
-    public void revokeToken(AuthToken token) {
-        // AuthConverter를 사용하여 취소된 토큰 엔티티 생성
-        RevokedRefreshToken revokedToken = authConverter.toRevokedTokenEntity(
-                token.getRefreshTokenHash(),
-                token.getMemberId()
-        );
-
-        // 기존 토큰 삭제 및 취소 토큰 저장
-        authTokenRepository.delete(token);
-        revokedTokenRepository.save(revokedToken);
+        sessionStore.remove(hashedToken).ifPresentOrElse(
+                session -> recordRevocations(List.of(session)),
+                () -> log.debug("리프레시 토큰 없음 - 무시하고 통과"));
     }
 
     /**
      * 현재 토큰을 제외한 모든 토큰 취소
+     * 세션 삭제와 취소 목록 저장을 기기 수와 관계없이 한 번에 처리합니다.
      */
     @Transactional
     public void revokeAllTokensExcept(Long memberId, String currentRawToken) {
-        String currentHashedToken = hashToken(currentRawToken);
-        List<AuthToken> tokens = authTokenRepository.findAllByMemberId(memberId);
-
-        for (AuthToken token : tokens) {
-            if (!token.getRefreshTokenHash().equals(currentHashedToken)) {
-                revokeToken(token);
-            }
-        }
+        String currentHashedToken = refreshTokenCodec.hash(currentRawToken);
+        recordRevocations(sessionStore.removeAllByMemberIdExcept(memberId, currentHashedToken));
     }
 
-
-
     /**
-     * 토큰이 취소되었는지 확인
+     * 저장소에서 삭제한 세션들을 취소 목록에 기록합니다. (내부 메서드)
      */
-    private boolean isTokenRevoked(String hashedToken) {
-        return revokedTokenRepository.existsByRefreshTokenHash(hashedToken);
+    private void recordRevocations(List<RefreshSession> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        // AuthConverter를 사용하여 취소된 토큰 엔티티 생성 및 저장
+        revokedTokenRepository.saveAll(sessions.stream()
+                .map(session -> authConverter.toRevokedTokenEntity(session.refreshTokenHash(), session.memberId()))
+                .toList());
+        sessions.forEach(session -> revokedTokenFilter.add(session.refreshTokenHash()));
     }
 
     /**
-     * 토큰 만료 여부 확인
+     * 만료된 리프레시 토큰 세션을 나누어 삭제합니다.
+     * 만료된 세션을 스스로 지우지 않는 저장소(auth_tokens)에서만 삭제할 세션이 있습니다.
      */
-    private boolean isTokenExpired(AuthToken token) {
-        return token.getExpiresAt().isBefore(LocalDateTime.now());
+    @Scheduled(fixedDelayString = "${app.auth.session-sweep-interval-millis:600000}")
+    public void sweepExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int swept = 0;
+        int count;
+        do {
+            count = sessionStore.sweepExpired(now, sessionSweepBatchSize);
+            swept += count;
+        } while (count == sessionSweepBatchSize);
+
+        if (swept > 0) {
+            log.info("만료된 리프레시 토큰 세션 삭제: {}건", swept);
+        }
     }
 
     /**
-     * 안전한 랜덤 토큰 생성
+     * 리프레시 토큰 유효 시간이 지난 취소 목록을 나누어 삭제합니다.
+     * 해당 토큰들은 이미 만료되어 취소 여부를 확인할 필요가 없으며, 삭제 후 모든 노드의 블룸 필터를 다시 만듭니다.
+     *
+     * <p>모든 노드에서 스케줄되지만 정리 주기만큼 잡는 스케줄러 잠금을 가져온 한 노드만 실행합니다.
+     * 성공하면 잠금을 풀지 않아 같은 주기 안에 다른 노드가 다시 정리하지 않고, 실패하면 바로 풀어 다른 노드가 재시도합니다.</p>
      */
-    private String generateSecureToken() {
-        byte[] bytes = new byte[32];
-        new SecureRandom().nextBytes(bytes);
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    @Scheduled(fixedDelayString = "${app.revoked-token-filter.purge-interval-millis:3600000}")
+    public void purgeExpiredRevocations() {
+        if (!schedulerLockManager.tryLock(PURGE_LOCK, Duration.ofMillis(purgeIntervalMillis))) {
+            return;
+        }
+
+        try {
+            LocalDateTime revokedBefore = LocalDateTime.now()
+                    .minus(Duration.ofMillis(refreshTokenExpirationTimeMillis));
+
+            int purged = 0;
+            List<String> hashes;
+            do {
+                hashes = revokedTokenRepository.findHashesRevokedBefore(revokedBefore, PageRequest.of(0, purgeBatchSize));
+                if (!hashes.isEmpty()) {
+                    revokedTokenRepository.deleteAllByIdInBatch(hashes);
+                    purged += hashes.size();
+                }
+            } while (hashes.size() == purgeBatchSize);
+
+            if (purged > 0) {
+                log.info("만료된 리프레시 토큰 취소 목록 삭제: {}건", purged);
+                revokedTokenFilter.rebuildAll();
+            }
+        } catch (RuntimeException e) {
+            schedulerLockManager.unlock(PURGE_LOCK);
+            throw e;
+        }
     }
 
     /**
-     * 토큰 해싱 (SHA-256)
+     * 토큰이 취소되었는지 확인
+     * 블룸 필터에 없는 토큰은 취소되지 않은 토큰이므로 DB 를 조회하지 않습니다.
      */
-    private String hashToken(String rawToken) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(rawToken.getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
-        } catch (NoSuchAlgorithmException e) {
-            log.error("Failed to hash token", e);
-            throw new AuthException(GeneralErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
-        }
+    private boolean isTokenRevoked(String hashedToken) {
+        return revokedTokenFilter.mightBeRevoked(hashedToken)
+                && revokedTokenRepository.existsByRefreshTokenHash(hashedToken);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+package com.kakaobase.snsapp.domain.auth.store;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 메모리 기반 리프레시 토큰 세션 저장소 (단일 노드, 테스트용)
+ *
+ * <p>세션을 만료 시각에 해당하는 타임 휠 칸(tick)에 넣어 두고, 저장소를 사용할 때마다 지난 칸들만 확인하여
+ * 만료된 세션을 제거합니다. 휠 한 바퀴보다 먼 세션은 칸을 확인할 때 아직 만료되지 않았으면 그대로 남겨 다음 바퀴에 다시 확인합니다.
+ * 별도의 스레드나 전체 순회 없이 만료 처리 비용이 지난 칸의 세션 수에 비례합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.session-store", havingValue = "memory")
+public class InMemoryRefreshSessionStore implements RefreshSessionStore {
+
+    private final ZoneId zoneId = ZoneId.systemDefault();
+    private final long tickMillis;
+    private final List<Set<String>> wheel;
+
+    private final Map<String, RefreshSession> sessions = new HashMap<>();
+    private final Map<Long, Set<String>> sessionsByMember = new HashMap<>();
+    // 마지막으로 확인한 칸 (epoch millis / tickMillis)
+    private long currentTick;
+
+    public InMemoryRefreshSessionStore(
+            @Value("${app.auth.memory-store.tick-millis:1000}") long tickMillis,
+            @Value("${app.auth.memory-store.wheel-size:3600}") int wheelSize) {
+        this.tickMillis = tickMillis;
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new HashSet<>());
+        }
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    @Override
+    public synchronized void save(RefreshSession session) {
+        advance();
+        sessions.put(session.refreshTokenHash(), session);
+        sessionsByMember.computeIfAbsent(session.memberId(), id -> new HashSet<>()).add(session.refreshTokenHash());
+        // 만료 시각이 속한 칸의 다음 칸에 넣어 칸을 확인할 때는 이미 만료되었도록 함
+        slot(Math.max(tickOf(session) + 1, currentTick + 1)).add(session.refreshTokenHash());
+    }
+
+    @Override
+    public synchronized Optional<RefreshSession> findByRefreshTokenHash(String refreshTokenHash) {
+        advance();
+        return Optional.ofNullable(sessions.get(refreshTokenHash));
+    }
+
+    @Override
+    public synchronized Optional<RefreshSession> remove(String refreshTokenHash) {
+        advance();
+        return Optional.ofNullable(removeSession(refreshTokenHash));
+    }
+
+    @Override
+    public synchronized List<RefreshSession> removeAllByMemberIdExcept(Long memberId, String keepRefreshTokenHash) {
+        advance();
+        List<RefreshSession> removed = new ArrayList<>();
+        for (String hash : List.copyOf(sessionsByMember.getOrDefault(memberId, Set.of()))) {
+            if (!hash.equals(keepRefreshTokenHash)) {
+                removed.add(removeSession(hash));
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 저장소를 사용할 때마다 타임 휠로 만료시키므로 정리할 것이 없습니다.
+     */
+    @Override
+    public int sweepExpired(LocalDateTime now, int batchSize) {
+        return 0;
+    }
+
+    public synchronized int size() {
+        advance();
+        return sessions.size();
+    }
+
+    /**
+     * 마지막으로 확인한 칸 이후 현재 시각까지의 칸을 확인하여 만료된 세션을 제거합니다.
+     */
+    private void advance() {
+        long nowTick = System.currentTimeMillis() / tickMillis;
+        if (nowTick <= currentTick) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(zoneId);
+        long ticks = Math.min(nowTick - currentTick, wheel.size());
+        for (long i = 1; i <= ticks; i++) {
+            slot(currentTick + i).removeIf(hash -> {
+                RefreshSession session = sessions.get(hash);
+                if (session == null) {
+                    return true;
+                }
+                if (session.isExpired(now)) {
+                    removeSession(hash);
+                    return true;
+                }
+                return false;
+            });
+        }
+        currentTick = nowTick;
+    }
+
+    private RefreshSession removeSession(String refreshTokenHash) {
+        RefreshSession session = sessions.remove(refreshTokenHash);
+        if (session == null) {
+            return null;
+        }
+        Set<String> memberSessions = sessionsByMember.get(session.memberId());
+        if (memberSessions != null) {
+            memberSessions.remove(refreshTokenHash);
+            if (memberSessions.isEmpty()) {
+                sessionsByMember.remove(session.memberId());
+            }
+        }
+        return session;
+    }
+
+    private long tickOf(RefreshSession session) {
+        return session.expiresAt().atZone(zoneId).toInstant().toEpochMilli() / tickMillis;
+    }
+
+    private Set<String> slot(long tick) {
+        return wheel.get((int) Math.floorMod(tick, wheel.size()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.kakaobase.snsapp.domain.auth.store;
+
+import com.kakaobase.snsapp.domain.auth.entity.AuthToken;
+import com.kakaobase.snsapp.domain.auth.repository.AuthTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * auth_tokens 테이블 기반 리프레시 토큰 세션 저장소 (기본값)
+ *
+ * <p>만료된 세션은 DB 가 직접 삭제하지 않으므로 {@link #sweepExpired} 를 주기적으로 호출해 나누어 삭제합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.session-store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaRefreshSessionStore implements RefreshSessionStore {
+
+    private final AuthTokenRepository authTokenRepository;
+
+    @Override
+    public void save(RefreshSession session) {
+        authTokenRepository.save(AuthToken.builder()
+                .memberId(session.memberId())
+                .refreshTokenHash(session.refreshTokenHash())
+                .deviceId(session.deviceId())
+                .userAgent(session.userAgent())
+                .expiresAt(session.expiresAt())
+                .build());
+    }
+
+    @Override
+    public Optional<RefreshSession> findByRefreshTokenHash(String refreshTokenHash) {
+        return authTokenRepository.findByRefreshTokenHash(refreshTokenHash).map(JpaRefreshSessionStore::toSession);
+    }
+
+    @Override
+    public Optional<RefreshSession> remove(String refreshTokenHash) {
+        Optional<RefreshSession> session = findByRefreshTokenHash(refreshTokenHash);
+        if (session.isEmpty() || authTokenRepository.deleteByRefreshTokenHash(refreshTokenHash) == 0) {
+            return Optional.empty();
+        }
+        return session;
+    }
+
+    @Override
+    public List<RefreshSession> removeAllByMemberIdExcept(Long memberId, String keepRefreshTokenHash) {
+        List<AuthToken> tokens = authTokenRepository.findAllByMemberId(memberId).stream()
+                .filter(token -> !token.getRefreshTokenHash().equals(keepRefreshTokenHash))
+                .toList();
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        authTokenRepository.deleteAllByIdInBatch(tokens.stream().map(AuthToken::getId).toList());
+        return tokens.stream().map(JpaRefreshSessionStore::toSession).toList();
+    }
+
+    @Override
+    public int sweepExpired(LocalDateTime now, int batchSize) {
+        List<Long> ids = authTokenRepository.findIdsExpiredBefore(now, PageRequest.of(0, batchSize));
+        if (!ids.isEmpty()) {
+            authTokenRepository.deleteAllByIdInBatch(ids);
+        }
+        return ids.size();
+    }
+
+    private static RefreshSession toSession(AuthToken token) {
+        return new RefreshSession(token.getRefreshTokenHash(), token.getMemberId(), token.getDeviceId(),
+                token.getUserAgent(), token.getExpiresAt());
+    }
+}
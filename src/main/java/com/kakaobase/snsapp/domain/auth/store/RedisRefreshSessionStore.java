@@ -0,0 +1,144 @@
+package com.kakaobase.snsapp.domain.auth.store;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis 기반 리프레시 토큰 세션 저장소
+ *
+ * <p>세션은 {@code refresh-session:{해시}} Hash 에 보관하고 만료 시각을 TTL 로 지정하여 Redis 가 직접 삭제합니다.
+ * 회원별 세션 목록은 {@code refresh-session:member:{회원 ID}} Set 에 해시로 보관하며,
+ * 가장 늦게 만료되는 세션(가장 최근 세션)에 맞춰 TTL 을 갱신합니다.
+ * 목록에는 이미 만료된 세션의 해시가 남을 수 있으므로 조회 시 세션 Hash 가 없으면 무시합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.session-store", havingValue = "redis")
+public class RedisRefreshSessionStore implements RefreshSessionStore {
+
+    private static final String SESSION_PREFIX = "refresh-session:";
+    private static final String MEMBER_PREFIX = "refresh-session:member:";
+
+    private static final String MEMBER_ID = "memberId";
+    private static final String DEVICE_ID = "deviceId";
+    private static final String USER_AGENT = "userAgent";
+    private static final String EXPIRES_AT = "expiresAt";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    public RedisRefreshSessionStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void save(RefreshSession session) {
+        long expiresAtMillis = session.expiresAt().atZone(zoneId).toInstant().toEpochMilli();
+        String sessionKey = sessionKey(session.refreshTokenHash());
+        String memberKey = memberKey(session.memberId());
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.hMSet(sessionKey, Map.of(
+                    MEMBER_ID, session.memberId().toString(),
+                    DEVICE_ID, session.deviceId(),
+                    USER_AGENT, session.userAgent(),
+                    EXPIRES_AT, Long.toString(expiresAtMillis)));
+            redis.pExpireAt(sessionKey, expiresAtMillis);
+            redis.sAdd(memberKey, session.refreshTokenHash());
+            redis.pExpireAt(memberKey, expiresAtMillis);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<RefreshSession> findByRefreshTokenHash(String refreshTokenHash) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(sessionKey(refreshTokenHash));
+        return Optional.ofNullable(toSession(refreshTokenHash, fields));
+    }
+
+    @Override
+    public Optional<RefreshSession> remove(String refreshTokenHash) {
+        Optional<RefreshSession> session = findByRefreshTokenHash(refreshTokenHash);
+        if (session.isEmpty() || !Boolean.TRUE.equals(redisTemplate.delete(sessionKey(refreshTokenHash)))) {
+            return Optional.empty();
+        }
+        redisTemplate.opsForSet().remove(memberKey(session.get().memberId()), refreshTokenHash);
+        return session;
+    }
+
+    @Override
+    public List<RefreshSession> removeAllByMemberIdExcept(Long memberId, String keepRefreshTokenHash) {
+        String memberKey = memberKey(memberId);
+        Set<String> members = redisTemplate.opsForSet().members(memberKey);
+        if (members == null) {
+            return List.of();
+        }
+        List<String> hashes = members.stream().filter(hash -> !hash.equals(keepRefreshTokenHash)).toList();
+        if (hashes.isEmpty()) {
+            return List.of();
+        }
+
+        // 세션 조회와 삭제를 각각 한 번의 왕복으로 처리하고, 실제로 삭제한 세션만 반환
+        List<Object> entries = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            hashes.forEach(hash -> redis.hGetAll(sessionKey(hash)));
+            return null;
+        });
+        List<Object> deleted = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            hashes.forEach(hash -> redis.del(sessionKey(hash)));
+            redis.sRem(memberKey, hashes.toArray(String[]::new));
+            return null;
+        });
+
+        List<RefreshSession> removed = new ArrayList<>();
+        for (int i = 0; i < hashes.size(); i++) {
+            @SuppressWarnings("unchecked")
+            RefreshSession session = toSession(hashes.get(i), (Map<Object, Object>) entries.get(i));
+            if (session != null && ((Number) deleted.get(i)).longValue() > 0) {
+                removed.add(session);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 세션마다 TTL 이 지정되어 Redis 가 직접 만료시키므로 정리할 것이 없습니다.
+     */
+    @Override
+    public int sweepExpired(LocalDateTime now, int batchSize) {
+        return 0;
+    }
+
+    private RefreshSession toSession(String refreshTokenHash, Map<Object, Object> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        return new RefreshSession(
+                refreshTokenHash,
+                Long.valueOf((String) fields.get(MEMBER_ID)),
+                (String) fields.get(DEVICE_ID),
+                (String) fields.get(USER_AGENT),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong((String) fields.get(EXPIRES_AT))), zoneId));
+    }
+
+    private static String sessionKey(String refreshTokenHash) {
+        return SESSION_PREFIX + refreshTokenHash;
+    }
+
+    private static String memberKey(Long memberId) {
+        return MEMBER_PREFIX + memberId;
+    }
+}
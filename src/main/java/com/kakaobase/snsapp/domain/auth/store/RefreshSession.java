@@ -0,0 +1,20 @@
+package com.kakaobase.snsapp.domain.auth.store;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 세션 (기기별 로그인)
+ *
+ * @param refreshTokenHash 리프레시 토큰 해시 (SHA-256, Base64)
+ * @param memberId 회원 ID
+ * @param deviceId 기기 식별자 (UUID v4)
+ * @param userAgent 토큰이 발급된 기기의 User-Agent
+ * @param expiresAt 만료 시간
+ */
+public record RefreshSession(String refreshTokenHash, Long memberId, String deviceId, String userAgent,
+                             LocalDateTime expiresAt) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
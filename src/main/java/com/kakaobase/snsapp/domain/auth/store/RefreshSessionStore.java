@@ -0,0 +1,59 @@
+package com.kakaobase.snsapp.domain.auth.store;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 세션 저장소
+ *
+ * <p>{@code app.auth.session-store} 로 구현을 선택합니다.
+ * jpa(기본값)는 auth_tokens 테이블에 보관하고 만료된 세션을 {@link #sweepExpired} 로 나누어 삭제하며,
+ * redis 는 세션마다 만료 시각을 TTL 로 지정하여 Redis 가 직접 삭제하고,
+ * memory 는 타임 휠로 만료시키는 단일 노드(테스트)용 구현입니다.</p>
+ *
+ * <p>제거 메서드는 실제로 제거한 세션만 반환하므로, 같은 세션을 동시에 취소해도 한 쪽만 취소 처리합니다.</p>
+ */
+public interface RefreshSessionStore {
+
+    /**
+     * 세션을 저장합니다.
+     *
+     * @param session 저장할 세션
+     */
+    void save(RefreshSession session);
+
+    /**
+     * 토큰 해시로 세션을 조회합니다. 만료된 세션이 남아 있을 수 있으므로 호출자가 만료를 확인합니다.
+     *
+     * @param refreshTokenHash 리프레시 토큰 해시
+     * @return 세션
+     */
+    Optional<RefreshSession> findByRefreshTokenHash(String refreshTokenHash);
+
+    /**
+     * 세션을 제거합니다.
+     *
+     * @param refreshTokenHash 리프레시 토큰 해시
+     * @return 제거한 세션 (없거나 이미 제거되었으면 empty)
+     */
+    Optional<RefreshSession> remove(String refreshTokenHash);
+
+    /**
+     * 회원의 세션 중 주어진 토큰을 제외한 나머지를 한 번에 제거합니다.
+     *
+     * @param memberId 회원 ID
+     * @param keepRefreshTokenHash 남길 리프레시 토큰 해시
+     * @return 제거한 세션 목록
+     */
+    List<RefreshSession> removeAllByMemberIdExcept(Long memberId, String keepRefreshTokenHash);
+
+    /**
+     * 만료된 세션을 최대 batchSize 개 삭제합니다. 저장소가 직접 만료시키면 아무 일도 하지 않습니다.
+     *
+     * @param now 기준 시간
+     * @param batchSize 한 번에 삭제할 최대 세션 수
+     * @return 삭제한 세션 수
+     */
+    int sweepExpired(LocalDateTime now, int batchSize);
+}
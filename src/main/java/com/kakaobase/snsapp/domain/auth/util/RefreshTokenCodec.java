@@ -0,0 +1,52 @@
+package com.kakaobase.snsapp.domain.auth.util;
+
+import com.kakaobase.snsapp.domain.auth.exception.AuthException;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 리프레시 토큰 생성 및 해싱 유틸리티
+ *
+ * <p>SecureRandom 은 스레드 안전하므로 하나를 공유하여 토큰마다 엔트로피 소스를 새로 초기화하지 않고,
+ * MessageDigest 는 스레드 안전하지 않으므로 스레드별로 하나씩 만들어 재사용합니다.</p>
+ */
+@Component
+public class RefreshTokenCodec {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AuthException(GeneralErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    });
+
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * 안전한 랜덤 토큰 생성 (32바이트, Base64 URL)
+     */
+    public String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * 토큰 해싱 (SHA-256, Base64 URL)
+     */
+    public String hash(String rawToken) {
+        // digest() 가 완료되면 다음 사용을 위해 초기화됨
+        byte[] hash = SHA_256.get().digest(rawToken.getBytes(StandardCharsets.UTF_8));
+        return ENCODER.encodeToString(hash);
+    }
+}
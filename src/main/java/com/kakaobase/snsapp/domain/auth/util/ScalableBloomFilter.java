@@ -0,0 +1,149 @@
+package com.kakaobase.snsapp.domain.auth.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 확장형 블룸 필터 (Scalable Bloom Filter)
+ *
+ * <p>처음에는 초기 용량만큼의 단계(stage) 하나로 시작하고, 마지막 단계가 가득 차면
+ * 용량을 {@code GROWTH} 배로 늘리고 오탐률을 {@code TIGHTENING} 배로 줄인 단계를 추가합니다.
+ * 따라서 원소 수를 미리 알지 못해도 전체 오탐률이 {@code falsePositiveRate / (1 - TIGHTENING)} 이하로 유지됩니다.
+ * 거짓 음성은 없습니다.</p>
+ *
+ * <p>원소는 호출하는 쪽에서 만든 두 개의 64비트 해시로 받고, 단계별 비트 위치는
+ * 이중 해싱({@code h1 + i * h2})으로 계산합니다. 조회는 잠금 없이 수행되며 추가는 직렬화됩니다.
+ * DB/Spring 에 의존하지 않습니다.</p>
+ */
+public final class ScalableBloomFilter {
+
+    private static final int GROWTH = 2;
+    private static final double TIGHTENING = 0.5;
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+
+    private final double falsePositiveRate;
+
+    // 추가 시에만 교체되며, 조회는 교체 전후 어느 배열을 보더라도 이미 추가된 원소를 찾음
+    private volatile Stage[] stages;
+    private long count;
+
+    /**
+     * @param initialCapacity 첫 단계의 용량
+     * @param falsePositiveRate 첫 단계의 오탐률
+     */
+    public ScalableBloomFilter(int initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("initialCapacity > 0, 0 < falsePositiveRate < 1 이어야 합니다.");
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        this.stages = new Stage[]{new Stage(initialCapacity, falsePositiveRate)};
+    }
+
+    /**
+     * 원소를 추가합니다.
+     *
+     * @param h1 첫 번째 64비트 해시
+     * @param h2 두 번째 64비트 해시
+     */
+    public synchronized void add(long h1, long h2) {
+        Stage[] current = stages;
+        Stage last = current[current.length - 1];
+        if (last.isFull()) {
+            Stage[] grown = new Stage[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            long capacity = last.capacity * GROWTH;
+            grown[current.length] = new Stage(capacity,
+                    falsePositiveRate * Math.pow(TIGHTENING, current.length));
+            stages = grown;
+            last = grown[current.length];
+        }
+        last.add(h1, h2);
+        count++;
+    }
+
+    /**
+     * 원소가 추가되었을 수 있는지 확인합니다.
+     *
+     * @param h1 첫 번째 64비트 해시
+     * @param h2 두 번째 64비트 해시
+     * @return 추가되지 않은 원소면 false, 추가되었을 수 있으면 true
+     */
+    public boolean mightContain(long h1, long h2) {
+        for (Stage stage : stages) {
+            if (stage.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 추가된 원소 수 (중복 포함)
+     */
+    public synchronized long count() {
+        return count;
+    }
+
+    /**
+     * @return 단계 수
+     */
+    public int stageCount() {
+        return stages.length;
+    }
+
+    /**
+     * @return 모든 단계의 비트 배열 크기 합 (bytes)
+     */
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (Stage stage : stages) {
+            bytes += (long) stage.bits.length() * Long.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * 고정 용량 블룸 필터 한 단계
+     */
+    private static final class Stage {
+
+        private final long capacity;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+        private long added;
+
+        private Stage(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.bitCount = Math.max(Long.SIZE, (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / LN2_SQUARED));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitCount + Long.SIZE - 1) / Long.SIZE));
+        }
+
+        private boolean isFull() {
+            return added >= capacity;
+        }
+
+        private void add(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(h1 + i * h2, bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long value;
+                do {
+                    value = bits.get(word);
+                } while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask));
+            }
+            added++;
+        }
+
+        private boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.kakaobase.snsapp.domain.comments.cache;
+
+import com.kakaobase.snsapp.global.common.cache.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import static com.kakaobase.snsapp.global.common.cache.TransactionCallbacks.afterCommit;
+
+/**
+ * 게시글별 댓글 페이지 캐시
+ *
+ * <p>게시글 댓글 목록의 (cursor, limit) 페이지를 조회자와 무관한 스냅샷으로 캐시합니다.
+ * 좋아요/팔로우 여부는 캐시하지 않고 요청마다 조회자 기준으로 덧씌웁니다.
+ * 좋아요 수도 자주 바뀌므로 캐시하지 않고 요청마다 샤드 카운터 합계와 함께 조회하여, 좋아요가 캐시를 무효화하지 않도록 합니다.</p>
+ *
+ * <p>댓글은 id 오름차순으로만 추가되므로 새 댓글이 작성되면 마지막 페이지(hasNext=false)만 무효화하고,
+ * 삭제/대댓글 수 변경은 캐시된 페이지를 제자리에서 갱신합니다.
+ * 변경 반영은 트랜잭션 커밋 이후에 수행하며, 게시글마다 버전을 두어
+ * 변경 이전에 시작된 조회 결과가 뒤늦게 캐시에 저장되지 않도록 합니다.</p>
+ *
+ * <p>다른 노드에는 변경된 게시글 ID 를 {@link CacheInvalidationBus} 로 전파하고, 받은 노드는 해당 게시글의 페이지를 모두 제거합니다.
+ * 전파가 누락되더라도 TTL 이 지나면 DB 에서 다시 읽습니다.</p>
+ */
+@Slf4j
+@Component
+public class CommentPageCache {
+
+    // 게시글 페이지 묶음이 제거 후 다시 만들어져도 이전 버전과 겹치지 않도록 전역 순번을 사용
+    private static final AtomicLong VERSION_SEQUENCE = new AtomicLong();
+
+    private static final String TOPIC = "comment-page";
+
+    private final CacheInvalidationBus invalidationBus;
+    private final long ttlMillis;
+    private final Map<Long, PostPages> posts;
+
+    public CommentPageCache(
+            CacheInvalidationBus invalidationBus,
+            @Value("${app.comment-cache.ttl-millis:30000}") long ttlMillis,
+            @Value("${app.comment-cache.max-posts:1000}") int maxPosts) {
+        this.invalidationBus = invalidationBus;
+        this.ttlMillis = ttlMillis;
+        this.posts = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, PostPages> eldest) {
+                return size() > maxPosts;
+            }
+        });
+    }
+
+    @PostConstruct
+    void init() {
+        invalidationBus.subscribe(TOPIC, this::evictLocal);
+    }
+
+    /**
+     * 캐시된 댓글 페이지를 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param cursor 페이지 커서 (첫 페이지는 null)
+     * @param limit 페이지 크기
+     * @return 캐시된 페이지, 없거나 만료되었으면 null
+     */
+    public CachedPage get(Long postId, Long cursor, int limit) {
+        PostPages postPages = posts.get(postId);
+        return postPages == null ? null : postPages.get(new PageKey(cursor, limit));
+    }
+
+    /**
+     * DB 조회를 시작하기 전에 게시글의 현재 버전을 기록합니다.
+     *
+     * @param postId 게시글 ID
+     * @return {@link #put} 에 전달할 버전
+     */
+    public long beginLoad(Long postId) {
+        return posts.computeIfAbsent(postId, id -> new PostPages()).version();
+    }
+
+    /**
+     * 조회한 댓글 페이지를 캐시에 저장합니다.
+     * 조회 도중 게시글의 댓글이 변경되었으면 저장하지 않습니다.
+     *
+     * @param postId 게시글 ID
+     * @param cursor 페이지 커서
+     * @param limit 페이지 크기
+     * @param comments 페이지 댓글 스냅샷
+     * @param hasNext 다음 페이지 존재 여부
+     * @param nextCursor 다음 페이지 커서
+     * @param loadVersion {@link #beginLoad} 로 기록한 버전
+     * @return 저장(또는 저장 시도)한 페이지
+     */
+    public CachedPage put(Long postId, Long cursor, int limit, List<CachedComment> comments,
+                          boolean hasNext, Long nextCursor, long loadVersion) {
+        CachedPage page = new CachedPage(List.copyOf(comments), hasNext, nextCursor,
+                System.currentTimeMillis() + ttlMillis);
+        PostPages postPages = posts.get(postId);
+        if (postPages != null) {
+            postPages.putIfVersion(new PageKey(cursor, limit), page, loadVersion);
+        }
+        return page;
+    }
+
+    /**
+     * 새 댓글 작성 시 마지막 페이지만 무효화하고 다른 노드에 전파합니다. (커밋 이후)
+     *
+     * @param postId 게시글 ID
+     */
+    public void invalidateTail(Long postId) {
+        afterCommit(() -> {
+            PostPages postPages = posts.get(postId);
+            if (postPages != null) {
+                postPages.removeTail();
+            }
+            invalidationBus.publish(TOPIC, postId);
+        });
+    }
+
+    /**
+     * 삭제된 댓글을 캐시된 페이지에서 제거합니다. (커밋 이후)
+     * 페이지의 다음 커서는 그대로 유지되므로 이어지는 페이지는 영향을 받지 않습니다.
+     *
+     * @param postId 게시글 ID
+     * @param commentId 삭제된 댓글 ID
+     */
+    public void removeComment(Long postId, Long commentId) {
+        patch(postId, comments -> comments.stream()
+                .filter(comment -> !comment.id().equals(commentId))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 캐시된 댓글의 대댓글 수를 증감합니다. (커밋 이후)
+     *
+     * @param postId 게시글 ID
+     * @param commentId 댓글 ID
+     * @param delta 증감분
+     */
+    public void addRecommentCount(Long postId, Long commentId, int delta) {
+        patch(postId, comments -> comments.stream()
+                .map(comment -> comment.id().equals(commentId)
+                        ? comment.withRecommentCount(Math.max(0, comment.recommentCount() + delta))
+                        : comment)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 게시글의 캐시된 페이지를 모두 제거하고 다른 노드에 전파합니다. (커밋 이후)
+     *
+     * @param postId 게시글 ID
+     */
+    public void evictPost(Long postId) {
+        afterCommit(() -> {
+            evictLocal(postId);
+            invalidationBus.publish(TOPIC, postId);
+        });
+    }
+
+    /**
+     * 이 노드의 캐시된 페이지를 갱신하고, 같은 변경을 적용할 수 없는 다른 노드에는 게시글 단위 제거를 전파합니다. (커밋 이후)
+     */
+    private void patch(Long postId, UnaryOperator<List<CachedComment>> patcher) {
+        afterCommit(() -> {
+            PostPages postPages = posts.get(postId);
+            if (postPages != null) {
+                postPages.patch(patcher);
+            }
+            invalidationBus.publish(TOPIC, postId);
+        });
+    }
+
+    private void evictLocal(Long postId) {
+        PostPages postPages = posts.remove(postId);
+        if (postPages != null) {
+            postPages.clear();
+        }
+    }
+
+    /**
+     * 조회자와 무관한 댓글 스냅샷 (좋아요 수 제외)
+     */
+    public record CachedComment(
+            Long id,
+            Long authorId,
+            String authorNickname,
+            String authorImageUrl,
+            String content,
+            LocalDateTime createdAt,
+            int recommentCount
+    ) {
+        CachedComment withRecommentCount(int recommentCount) {
+            return new CachedComment(id, authorId, authorNickname, authorImageUrl, content, createdAt,
+                    recommentCount);
+        }
+    }
+
+    /**
+     * 캐시된 댓글 페이지
+     */
+    public record CachedPage(
+            List<CachedComment> comments,
+            boolean hasNext,
+            Long nextCursor,
+            long expiresAt
+    ) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        CachedPage withComments(List<CachedComment> comments) {
+            return new CachedPage(List.copyOf(comments), hasNext, nextCursor, expiresAt);
+        }
+    }
+
+    private record PageKey(Long cursor, int limit) {
+    }
+
+    /**
+     * 한 게시글의 캐시된 페이지 묶음
+     */
+    private static final class PostPages {
+
+        private final Map<PageKey, CachedPage> pages = new HashMap<>();
+        private long version = VERSION_SEQUENCE.incrementAndGet();
+
+        synchronized long version() {
+            return version;
+        }
+
+        synchronized CachedPage get(PageKey key) {
+            CachedPage page = pages.get(key);
+            if (page != null && page.isExpired(System.currentTimeMillis())) {
+                pages.remove(key);
+                return null;
+            }
+            return page;
+        }
+
+        synchronized void putIfVersion(PageKey key, CachedPage page, long loadVersion) {
+            if (version == loadVersion) {
+                pages.put(key, page);
+            } else {
+                log.debug("댓글 페이지 캐시 저장 생략: 조회 중 변경 발생 (cursor={}, limit={})", key.cursor(), key.limit());
+            }
+        }
+
+        synchronized void removeTail() {
+            version = VERSION_SEQUENCE.incrementAndGet();
+            pages.values().removeIf(page -> !page.hasNext());
+        }
+
+        synchronized void patch(UnaryOperator<List<CachedComment>> patcher) {
+            version = VERSION_SEQUENCE.incrementAndGet();
+            pages.replaceAll((key, page) -> page.withComments(patcher.apply(page.comments())));
+        }
+
+        synchronized void clear() {
+            version = VERSION_SEQUENCE.incrementAndGet();
+            pages.clear();
+        }
+    }
+}
@@ -129,10 +129,11 @@ public class CommentController {
             @PathVariable Long postId,
             @Parameter(description = "한 번에 불러올 댓글 수 (기본값: 12)") @RequestParam(required = false) Integer limit,
             @Parameter(description = "페이지네이션 커서 (이전 응답의 next_cursor)") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "댓글마다 함께 불러올 대댓글 수 (최대 5)") @RequestParam(required = false) Integer preview,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long memberId = Long.valueOf(userDetails.getId());
-        CommentRequestDto.CommentPageRequest pageRequest = new CommentRequestDto.CommentPageRequest(limit, cursor);
+        CommentRequestDto.CommentPageRequest pageRequest = new CommentRequestDto.CommentPageRequest(limit, cursor, preview);
         CommentResponseDto.CommentListResponse response = commentService.getCommentsByPostId(memberId, postId, pageRequest);
         return ResponseEntity.ok(CustomResponse.success("댓글 목록을 조회했습니다.", response));
     }
@@ -293,10 +294,13 @@ public class CommentController {
     public CustomResponse<List<MemberResponseDto.UserInfo>> getCommentLikedMemberList(
             @Parameter(description = "댓글 ID") @PathVariable Long commentId,
             @Parameter(description = "한 페이지에 표시할 유저 수") @RequestParam(defaultValue = "12") int limit,
-            @Parameter(description = "마지막으로 조회한 유저 ID") @RequestParam(required = false) Long cursor
+            @Parameter(description = "마지막으로 조회한 유저 ID") @RequestParam(required = false) Long cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        List<MemberResponseDto.UserInfo> response= commentLikeService.getCommentLikedMembers(commentId, limit, cursor);
+        Long memberId = Long.valueOf(userDetails.getId());
+
+        List<MemberResponseDto.UserInfo> response= commentLikeService.getCommentLikedMembers(commentId, limit, cursor, memberId);
 
         return CustomResponse.success("좋아요 유저 목록을 성공적으로 불러왔습니다", response);
     }
@@ -309,10 +313,13 @@ public class CommentController {
     public CustomResponse<List<MemberResponseDto.UserInfo>> getRecommentLikedMemberList(
             @Parameter(description = "댓글 ID") @PathVariable Long recommentId,
             @Parameter(description = "한 페이지에 표시할 유저 수") @RequestParam(defaultValue = "12") int limit,
-            @Parameter(description = "마지막으로 조회한 유저 ID") @RequestParam(required = false) Long cursor
+            @Parameter(description = "마지막으로 조회한 유저 ID") @RequestParam(required = false) Long cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        List<MemberResponseDto.UserInfo> response= commentLikeService.getRecommentLikedMembers(recommentId, limit, cursor);
+        Long memberId = Long.valueOf(userDetails.getId());
+
+        List<MemberResponseDto.UserInfo> response= commentLikeService.getRecommentLikedMembers(recommentId, limit, cursor, memberId);
 
         return CustomResponse.success("좋아요 유저 목록을 성공적으로 불러왔습니다", response);
     }
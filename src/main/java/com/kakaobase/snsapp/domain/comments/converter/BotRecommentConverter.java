@@ -3,7 +3,7 @@ package com.kakaobase.snsapp.domain.comments.converter;
 import com.kakaobase.snsapp.domain.comments.dto.BotRecommentRequestDto;
 import com.kakaobase.snsapp.domain.comments.entity.Comment;
 import com.kakaobase.snsapp.domain.comments.entity.Recomment;
-import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.cache.MemberProfileCache;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 
 import java.time.Instant;
@@ -14,15 +14,15 @@ public class BotRecommentConverter {
 
     public static BotRecommentRequestDto toRequestDto(
             Post post,
-            Member postWriter,
+            MemberProfileCache.Profile postWriter,
             Comment comment,
             List<Recomment> recomments
     ) {
         var postDto = new BotRecommentRequestDto.PostDto(
                 post.getId(),
                 new BotRecommentRequestDto.UserDto(
-                        postWriter.getNickname(),
-                        postWriter.getClassName().toString()
+                        postWriter.nickname(),
+                        postWriter.className()
                 ),
                 formatUtc(post.getCreatedAt().toInstant(ZoneOffset.UTC)),
                 post.getContent()
@@ -1,5 +1,6 @@
 package com.kakaobase.snsapp.domain.comments.converter;
 
+import com.kakaobase.snsapp.domain.comments.cache.CommentPageCache;
 import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
 import com.kakaobase.snsapp.domain.comments.entity.Comment;
@@ -18,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -121,6 +123,136 @@ public class CommentConverter {
         );
     }
 
+    /**
+     * 댓글 목록을 댓글 상세 정보 DTO 목록으로 변환
+     * 좋아요/팔로우 여부는 미리 일괄 조회한 ID 집합으로 판단합니다.
+     *
+     * @param comments 작성자가 로딩된 댓글 목록
+     * @param currentMemberId 현재 로그인한 회원 ID
+     * @param likedCommentIds 좋아요 누른 댓글 ID 목록
+     * @param followingMemberIds 팔로우 중인 회원 ID 목록
+     * @return 댓글 상세 정보 DTO 목록
+     */
+    public List<CommentResponseDto.CommentInfo> toCommentInfoList(
+            List<Comment> comments,
+            Long currentMemberId,
+            Set<Long> likedCommentIds,
+            Set<Long> followingMemberIds
+    ) {
+        return comments.stream()
+                .map(comment -> toCommentInfo(
+                        comment,
+                        comment.getMember().getId().equals(currentMemberId),
+                        likedCommentIds.contains(comment.getId()),
+                        followingMemberIds.contains(comment.getMember().getId())
+                ))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 댓글 엔티티를 조회자와 무관한 캐시 스냅샷으로 변환
+     *
+     * @param comment 작성자가 로딩된 댓글 엔티티
+     * @return 댓글 캐시 스냅샷
+     */
+    public CommentPageCache.CachedComment toCachedComment(Comment comment) {
+        Member commentOwner = comment.getMember();
+        return new CommentPageCache.CachedComment(
+                comment.getId(),
+                commentOwner.getId(),
+                commentOwner.getNickname(),
+                commentOwner.getProfileImgUrl(),
+                comment.getContent(),
+                comment.getCreatedAt(),
+                comment.getRecommentCount()
+        );
+    }
+
+    /**
+     * 캐시된 댓글 스냅샷 목록에 좋아요 수와 조회자 기준 좋아요/팔로우 여부를 덧씌워 댓글 상세 정보 DTO 목록으로 변환
+     *
+     * @param comments 댓글 캐시 스냅샷 목록
+     * @param likeCounts 댓글 ID별 좋아요 수 (샤드 카운터 합계 포함)
+     * @param currentMemberId 현재 로그인한 회원 ID
+     * @param likedCommentIds 좋아요 누른 댓글 ID 목록
+     * @param followingMemberIds 팔로우 중인 회원 ID 목록
+     * @return 댓글 상세 정보 DTO 목록
+     */
+    public List<CommentResponseDto.CommentInfo> toCommentInfoListFromCache(
+            List<CommentPageCache.CachedComment> comments,
+            Map<Long, Integer> likeCounts,
+            Long currentMemberId,
+            Set<Long> likedCommentIds,
+            Set<Long> followingMemberIds
+    ) {
+        return comments.stream()
+                .map(comment -> new CommentResponseDto.CommentInfo(
+                        comment.id(),
+                        MemberResponseDto.UserInfoWithFollowing.builder()
+                                .id(comment.authorId())
+                                .nickname(comment.authorNickname())
+                                .imageUrl(comment.authorImageUrl())
+                                .isFollowed(followingMemberIds.contains(comment.authorId()))
+                                .build(),
+                        comment.content(),
+                        comment.createdAt(),
+                        likeCounts.getOrDefault(comment.id(), 0),
+                        comment.recommentCount(),
+                        comment.authorId().equals(currentMemberId),
+                        likedCommentIds.contains(comment.id())
+                ))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 댓글 목록을 미리보기 대댓글이 포함된 댓글 상세 정보 DTO 목록으로 변환
+     *
+     * @param comments 작성자가 로딩된 댓글 목록
+     * @param currentMemberId 현재 로그인한 회원 ID
+     * @param likedCommentIds 좋아요 누른 댓글 ID 목록
+     * @param previewRecomments 댓글 ID별 미리보기 대댓글 목록 (작성자 로딩됨)
+     * @param likedRecommentIds 좋아요 누른 대댓글 ID 목록
+     * @param followingMemberIds 팔로우 중인 회원 ID 목록 (댓글/대댓글 작성자)
+     * @return 댓글 상세 정보 DTO 목록
+     */
+    public List<CommentResponseDto.CommentInfo> toCommentInfoListWithPreview(
+            List<Comment> comments,
+            Long currentMemberId,
+            Set<Long> likedCommentIds,
+            Map<Long, List<Recomment>> previewRecomments,
+            Set<Long> likedRecommentIds,
+            Set<Long> followingMemberIds
+    ) {
+        return comments.stream()
+                .map(comment -> {
+                    CommentResponseDto.CommentInfo info = toCommentInfo(
+                            comment,
+                            comment.getMember().getId().equals(currentMemberId),
+                            likedCommentIds.contains(comment.getId()),
+                            followingMemberIds.contains(comment.getMember().getId())
+                    );
+
+                    List<CommentResponseDto.RecommentInfo> recommentInfos =
+                            previewRecomments.getOrDefault(comment.getId(), List.of()).stream()
+                                    .map(recomment -> toRecommentInfo(
+                                            recomment, currentMemberId, likedRecommentIds, followingMemberIds))
+                                    .collect(Collectors.toList());
+
+                    return new CommentResponseDto.CommentInfo(
+                            info.id(),
+                            info.user(),
+                            info.content(),
+                            info.created_at(),
+                            info.like_count(),
+                            info.recomment_count(),
+                            info.is_mine(),
+                            info.is_liked(),
+                            recommentInfos
+                    );
+                })
+                .collect(Collectors.toList());
+    }
+
     /**
      * 댓글 엔티티를 댓글 상세 정보 DTO로 변환
      *
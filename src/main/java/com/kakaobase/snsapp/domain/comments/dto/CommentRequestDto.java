@@ -38,12 +38,23 @@ public class CommentRequestDto {
             Integer limit,
 
             @Schema(description = "페이지네이션 기준 커서 (이전 응답의 마지막 댓글 ID)", example = "123", nullable = true)
-            Long cursor
+            Long cursor,
+
+            @Schema(description = "댓글마다 함께 불러올 대댓글 수 (0 또는 미지정 시 불러오지 않음, 최대 5)", example = "3", nullable = true)
+            Integer preview
     ) {
         public CommentPageRequest {
             if (limit == null) {
                 limit = 12;
             }
+            if (preview == null || preview < 0) {
+                preview = 0;
+            }
+            preview = Math.min(preview, 5);
+        }
+
+        public CommentPageRequest(Integer limit, Long cursor) {
+            this(limit, cursor, null);
         }
     }
 
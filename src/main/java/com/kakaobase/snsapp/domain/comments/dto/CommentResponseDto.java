@@ -1,5 +1,6 @@
 package com.kakaobase.snsapp.domain.comments.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -71,8 +72,18 @@ public class CommentResponseDto {
             boolean is_mine,
 
             @Schema(description = "좋아요 여부", example = "false")
-            boolean is_liked
-    ) {}
+            boolean is_liked,
+
+            @Schema(description = "미리보기 대댓글 목록 (preview 요청 시에만 포함)", nullable = true)
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            List<RecommentInfo> recomments
+    ) {
+        public CommentInfo(Long id, MemberResponseDto.UserInfoWithFollowing user, String content,
+                           LocalDateTime created_at, int like_count, int recomment_count,
+                           boolean is_mine, boolean is_liked) {
+            this(id, user, content, created_at, like_count, recomment_count, is_mine, is_liked, null);
+        }
+    }
 
     /**
      * 댓글 생성 응답 DTO
@@ -9,6 +9,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,12 +26,15 @@ import java.util.List;
 @Table(
         name = "comments",
         indexes = {
-                @Index(name = "idx_post_created_not_deleted", columnList = "post_id, created_at DESC"),
-                @Index(name = "idx_member_created_not_deleted", columnList = "member_id, created_at DESC")
+                // 게시글 댓글 커서 조회: post_id = ? AND deleted_at IS NULL AND id > ? ORDER BY id
+                @Index(name = "idx_comments_post_deleted_id", columnList = "post_id, deleted_at, id"),
+                // 유저 댓글 커서 조회: member_id = ? AND deleted_at IS NULL ORDER BY created_at DESC, id DESC
+                @Index(name = "idx_comments_member_deleted_created", columnList = "member_id, deleted_at, created_at DESC, id DESC")
         }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
 public class Comment extends BaseSoftDeletableEntity {
 
     @Id
@@ -51,6 +55,12 @@ public class Comment extends BaseSoftDeletableEntity {
     @Column(name = "like_count", nullable = false)
     private int likeCount = 0;
 
+    /**
+     * 아직 like_count 에 합산되지 않은 샤드 카운터 합계 (조회 시에만 채워짐)
+     */
+    @Transient
+    private int pendingLikeCount = 0;
+
     @Column(name = "recomment_count", nullable = false)
     private int recommentCount = 0;
 
@@ -80,6 +90,24 @@ public class Comment extends BaseSoftDeletableEntity {
         this.content = content;
     }
 
+    /**
+     * 좋아요 수 조회 (샤드 카운터에 쌓인 증감분 포함)
+     *
+     * @return 좋아요 수
+     */
+    public int getLikeCount() {
+        return Math.max(0, this.likeCount + this.pendingLikeCount);
+    }
+
+    /**
+     * 샤드 카운터에 쌓인 좋아요 증감분 반영
+     *
+     * @param pendingLikeCount 샤드 카운터 합계
+     */
+    public void applyPendingLikeCount(int pendingLikeCount) {
+        this.pendingLikeCount = pendingLikeCount;
+    }
+
     /**
      * 좋아요 수 증가
      */
@@ -112,6 +140,13 @@ public class Comment extends BaseSoftDeletableEntity {
         }
     }
 
+    /**
+     * 대댓글 수 초기화 (댓글 삭제 시 대댓글 일괄 삭제와 함께 사용)
+     */
+    public void clearRecommentCount() {
+        this.recommentCount = 0;
+    }
+
     /**
      * 작성자 확인
      *
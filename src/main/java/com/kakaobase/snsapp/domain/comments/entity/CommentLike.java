@@ -17,8 +17,10 @@ import lombok.NoArgsConstructor;
 @Table(
         name = "comment_likes",
         indexes = {
-                @Index(name = "idx_member_id", columnList = "member_id"),
-                @Index(name = "idx_comment_id", columnList = "comment_id")
+                // 조회자의 좋아요 여부 일괄 확인: member_id = ? AND comment_id IN (...)
+                @Index(name = "idx_comment_likes_member_comment", columnList = "member_id, comment_id"),
+                // 댓글별 좋아요 회원 조회/삭제: comment_id = ?
+                @Index(name = "idx_comment_likes_comment_member", columnList = "comment_id, member_id")
         }
 )
 @Getter
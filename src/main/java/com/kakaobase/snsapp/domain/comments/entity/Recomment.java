@@ -7,6 +7,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * 대댓글 정보를 담는 엔티티
@@ -19,12 +20,14 @@ import lombok.NoArgsConstructor;
 @Table(
         name = "recomments",
         indexes = {
-                @Index(name = "idx_comment_created_not_deleted", columnList = "comment_id, created_at DESC"),
-                @Index(name = "idx_member_created_not_deleted", columnList = "member_id, created_at DESC")
+                // 대댓글 커서 조회/미리보기: comment_id = ? AND deleted_at IS NULL AND id > ? ORDER BY id
+                @Index(name = "idx_recomments_comment_deleted_id", columnList = "comment_id, deleted_at, id"),
+                @Index(name = "idx_recomments_member_created", columnList = "member_id, created_at DESC")
         }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate
 public class Recomment extends BaseSoftDeletableEntity {
 
     @Id
@@ -45,6 +48,12 @@ public class Recomment extends BaseSoftDeletableEntity {
     @Column(name = "like_count", nullable = false)
     private int likeCount = 0;
 
+    /**
+     * 아직 like_count 에 합산되지 않은 샤드 카운터 합계 (조회 시에만 채워짐)
+     */
+    @Transient
+    private int pendingLikeCount = 0;
+
     /**
      * 대댓글 생성을 위한 생성자
      *
@@ -68,6 +77,24 @@ public class Recomment extends BaseSoftDeletableEntity {
         this.content = content;
     }
 
+    /**
+     * 좋아요 수 조회 (샤드 카운터에 쌓인 증감분 포함)
+     *
+     * @return 좋아요 수
+     */
+    public int getLikeCount() {
+        return Math.max(0, this.likeCount + this.pendingLikeCount);
+    }
+
+    /**
+     * 샤드 카운터에 쌓인 좋아요 증감분 반영
+     *
+     * @param pendingLikeCount 샤드 카운터 합계
+     */
+    public void applyPendingLikeCount(int pendingLikeCount) {
+        this.pendingLikeCount = pendingLikeCount;
+    }
+
     /**
      * 좋아요 수 증가
      */
@@ -93,12 +120,4 @@ public class Recomment extends BaseSoftDeletableEntity {
     public boolean isWrittenBy(Member member) {
         return this.member.getId().equals(member.getId());
     }
-
-    /**
-     * 대댓글 삭제 시 부모 댓글의 대댓글 수 감소
-     */
-    @PreRemove
-    public void onPreRemove() {
-        comment.decreaseRecommentCount();
-    }
 }
\ No newline at end of file
@@ -17,8 +17,10 @@ import lombok.NoArgsConstructor;
 @Table(
         name = "recomment_likes",
         indexes = {
-                @Index(name = "idx_member_id", columnList = "member_id"),
-                @Index(name = "idx_recomment_id", columnList = "recomment_id")
+                // 조회자의 좋아요 여부 일괄 확인: member_id = ? AND recomment_id IN (...)
+                @Index(name = "idx_recomment_likes_member_recomment", columnList = "member_id, recomment_id"),
+                // 대댓글별 좋아요 회원 조회/삭제: recomment_id = ?
+                @Index(name = "idx_recomment_likes_recomment_member", columnList = "recomment_id, member_id")
         }
 )
 @Getter
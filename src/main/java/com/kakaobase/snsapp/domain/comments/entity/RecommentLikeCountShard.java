@@ -0,0 +1,71 @@
+package com.kakaobase.snsapp.domain.comments.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대댓글 좋아요 수 샤드 카운터 엔티티
+ * <p>
+ * 좋아요 추가/취소 시 recomments.like_count 한 행에 갱신이 몰리지 않도록
+ * 대댓글마다 여러 샤드 행에 증감분(delta)을 나누어 기록합니다.
+ * 조회 시 원본 컬럼과 샤드 합계를 더해 사용하며, 주기적으로 원본 컬럼에 합산(압축)됩니다.
+ * </p>
+ */
+@Entity
+@Table(
+        name = "recomment_like_count_shards",
+        indexes = {
+                // 목록 조회의 샤드 합계 서브쿼리: recomment_id = ? (기본 키는 shard_id 가 앞에 있어 사용할 수 없음)
+                @Index(name = "idx_recomment_like_count_shards_recomment", columnList = "recomment_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecommentLikeCountShard {
+
+    @EmbeddedId
+    private RecommentLikeCountShardId id;
+
+    @Column(name = "delta", nullable = false)
+    private int delta;
+
+    /**
+     * RecommentLikeCountShard 엔티티의 임베디드 복합 기본키 클래스
+     */
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class RecommentLikeCountShardId implements java.io.Serializable {
+
+        @Column(name = "recomment_id")
+        private Long recommentId;
+
+        @Column(name = "shard_id")
+        private Integer shardId;
+
+        public RecommentLikeCountShardId(Long recommentId, Integer shardId) {
+            this.recommentId = recommentId;
+            this.shardId = shardId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            RecommentLikeCountShardId that = (RecommentLikeCountShardId) o;
+
+            if (!recommentId.equals(that.recommentId)) return false;
+            return shardId.equals(that.shardId);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = recommentId.hashCode();
+            result = 31 * result + shardId.hashCode();
+            return result;
+        }
+    }
+}
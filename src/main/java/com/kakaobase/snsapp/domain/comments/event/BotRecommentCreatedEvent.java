@@ -0,0 +1,35 @@
+package com.kakaobase.snsapp.domain.comments.event;
+
+import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 봇 대댓글 생성 이벤트
+ *
+ * <p>소셜봇이 대댓글을 작성했을 때 발행되며, 트랜잭션 커밋 이후 SSE로 댓글 작성자에게 전달됩니다.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class BotRecommentCreatedEvent {
+
+    /**
+     * 댓글이 달린 게시글 ID
+     */
+    private final Long postId;
+
+    /**
+     * 봇이 답글을 단 댓글 ID
+     */
+    private final Long commentId;
+
+    /**
+     * 댓글 작성자 ID (SSE 수신 대상)
+     */
+    private final Long commentAuthorId;
+
+    /**
+     * 생성된 봇 대댓글 정보
+     */
+    private final CommentResponseDto.RecommentInfo recomment;
+}
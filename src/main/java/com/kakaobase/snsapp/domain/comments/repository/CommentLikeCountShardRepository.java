@@ -0,0 +1,73 @@
+package com.kakaobase.snsapp.domain.comments.repository;
+
+import com.kakaobase.snsapp.domain.comments.entity.CommentLikeCountShard;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 댓글 좋아요 수 샤드 카운터에 대한 데이터 액세스 객체
+ */
+@Repository
+public interface CommentLikeCountShardRepository extends JpaRepository<CommentLikeCountShard, CommentLikeCountShard.CommentLikeCountShardId> {
+
+    /**
+     * 샤드에 증감분을 더합니다. 샤드 행이 없으면 새로 생성합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param shardId 샤드 번호
+     * @param delta 증감분 (+1 / -1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO comment_like_count_shards (comment_id, shard_id, delta) " +
+            "VALUES (:commentId, :shardId, :delta) " +
+            "ON DUPLICATE KEY UPDATE delta = delta + :delta",
+            nativeQuery = true)
+    void addDelta(@Param("commentId") Long commentId, @Param("shardId") int shardId, @Param("delta") int delta);
+
+    /**
+     * 주어진 댓글들의 샤드 합계를 조회합니다.
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return [댓글 ID, 샤드 합계] 목록
+     */
+    @Query("SELECT s.id.commentId, SUM(s.delta) FROM CommentLikeCountShard s " +
+            "WHERE s.id.commentId IN :commentIds GROUP BY s.id.commentId")
+    List<Object[]> sumDeltaByCommentIdIn(@Param("commentIds") List<Long> commentIds);
+
+    /**
+     * 원본 컬럼에 합산할 샤드를 조회합니다.
+     *
+     * @param pageable 한 번에 압축할 샤드 수
+     * @return 증감분이 남아 있는 샤드 목록
+     */
+    @Query("SELECT s FROM CommentLikeCountShard s WHERE s.delta <> 0 ORDER BY s.id.commentId")
+    List<CommentLikeCountShard> findPendingShards(Pageable pageable);
+
+    /**
+     * 원본 컬럼에 합산한 만큼 샤드의 증감분을 차감합니다.
+     * 압축 중에 들어온 증감분은 그대로 남습니다.
+     *
+     * @param commentId 댓글 ID
+     * @param shardId 샤드 번호
+     * @param delta 합산한 증감분
+     */
+    @Modifying
+    @Query("UPDATE CommentLikeCountShard s SET s.delta = s.delta - :delta " +
+            "WHERE s.id.commentId = :commentId AND s.id.shardId = :shardId")
+    int subtractDelta(@Param("commentId") Long commentId, @Param("shardId") int shardId, @Param("delta") int delta);
+
+    /**
+     * 증감분이 0인 샤드를 삭제합니다.
+     *
+     * @return 삭제된 샤드 수
+     */
+    @Modifying
+    @Query("DELETE FROM CommentLikeCountShard s WHERE s.delta = 0")
+    int deleteEmptyShards();
+}
@@ -4,6 +4,7 @@ package com.kakaobase.snsapp.domain.comments.repository;
 import com.kakaobase.snsapp.domain.comments.entity.Comment;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +18,11 @@ import java.util.Optional;
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    /**
+     * 댓글별 좋아요 샤드 카운터 합계 서브쿼리 (목록 조회 시 추가 쿼리 없이 함께 조회)
+     */
+    String PENDING_LIKE_COUNT = "(SELECT COALESCE(SUM(s.delta), 0) FROM CommentLikeCountShard s WHERE s.id.commentId = c.id)";
+
     /**
      * 특정 댓글을 ID로 조회합니다. 삭제된 댓글은 포함하지 않습니다.
      *
@@ -58,20 +64,71 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             @Param("cursor") Long cursor,
             @Param("limit") int limit);
 
-    
-    //특정 유저가 작성한 댓글 조회
-    @Query("SELECT c FROM Comment c " +
+    /**
+     * 특정 게시글의 댓글을 작성자와 함께 커서 기반으로 조회합니다.
+     * 목록 조립 시 작성자 지연 로딩으로 인한 N+1 쿼리를 방지하며,
+     * 아직 합산되지 않은 좋아요 샤드 카운터 합계를 같은 쿼리에서 함께 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param cursor 마지막으로 조회한 댓글 ID (첫 페이지에서는 null)
+     * @param pageable 조회할 댓글 수 (offset 0)
+     * @return [작성자가 로딩된 댓글, 좋아요 샤드 합계] 목록
+     */
+    @Query("SELECT c, " + PENDING_LIKE_COUNT + " FROM Comment c " +
+            "JOIN FETCH c.member " +
+            "WHERE c.post.id = :postId " +
+            "AND c.deletedAt IS NULL " +
+            "AND (:cursor IS NULL OR c.id > :cursor) " +
+            "ORDER BY c.id ASC")
+    List<Object[]> findWithMemberByPostIdWithCursor(
+            @Param("postId") Long postId,
+            @Param("cursor") Long cursor,
+            Pageable pageable);
+
+    //특정 유저가 작성한 댓글 조회 (좋아요 샤드 카운터 합계 포함)
+    @Query("SELECT c, " + PENDING_LIKE_COUNT + " FROM Comment c " +
             "JOIN FETCH c.member " +
             "JOIN FETCH c.post " +
             "WHERE c.member.id = :memberId " +
             "AND c.deletedAt IS NULL " +
             "AND (:cursor IS NULL OR c.id < :cursor) " +
             "ORDER BY c.createdAt DESC, c.id DESC")
-    List<Comment> findByMemberIdWithCursor(
+    List<Object[]> findByMemberIdWithCursor(
             @Param("memberId") Long memberId,
             @Param("cursor") Long cursor,
             Pageable pageable);
 
+    /**
+     * 댓글들의 좋아요 수를 아직 합산되지 않은 샤드 카운터 합계와 함께 조회합니다.
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return [댓글 ID, 좋아요 수 + 샤드 합계] 목록
+     */
+    @Query("SELECT c.id, c.likeCount + " + PENDING_LIKE_COUNT + " FROM Comment c WHERE c.id IN :commentIds")
+    List<Object[]> findLikeCountsByIdIn(@Param("commentIds") List<Long> commentIds);
+
+    /**
+     * 좋아요 샤드 카운터의 증감분을 원본 좋아요 수에 합산합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param delta 합산할 증감분
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = GREATEST(c.likeCount + :delta, 0) WHERE c.id = :commentId")
+    int addLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    /**
+     * 대댓글 수를 DB에서 원자적으로 증감합니다. (0 미만으로 내려가지 않음)
+     *
+     * @param commentId 댓글 ID
+     * @param delta 증감분 (+1 / -1)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.recommentCount = GREATEST(c.recommentCount + :delta, 0) WHERE c.id = :commentId")
+    int addRecommentCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
     /**
      * 특정 게시글의 댓글 수를 조회합니다.
      * 삭제되지 않은 댓글만 계산합니다.
@@ -0,0 +1,73 @@
+package com.kakaobase.snsapp.domain.comments.repository;
+
+import com.kakaobase.snsapp.domain.comments.entity.RecommentLikeCountShard;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 대댓글 좋아요 수 샤드 카운터에 대한 데이터 액세스 객체
+ */
+@Repository
+public interface RecommentLikeCountShardRepository extends JpaRepository<RecommentLikeCountShard, RecommentLikeCountShard.RecommentLikeCountShardId> {
+
+    /**
+     * 샤드에 증감분을 더합니다. 샤드 행이 없으면 새로 생성합니다.
+     *
+     * @param recommentId 대댓글 ID
+     * @param shardId 샤드 번호
+     * @param delta 증감분 (+1 / -1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO recomment_like_count_shards (recomment_id, shard_id, delta) " +
+            "VALUES (:recommentId, :shardId, :delta) " +
+            "ON DUPLICATE KEY UPDATE delta = delta + :delta",
+            nativeQuery = true)
+    void addDelta(@Param("recommentId") Long recommentId, @Param("shardId") int shardId, @Param("delta") int delta);
+
+    /**
+     * 주어진 대댓글들의 샤드 합계를 조회합니다.
+     *
+     * @param recommentIds 대댓글 ID 목록
+     * @return [대댓글 ID, 샤드 합계] 목록
+     */
+    @Query("SELECT s.id.recommentId, SUM(s.delta) FROM RecommentLikeCountShard s " +
+            "WHERE s.id.recommentId IN :recommentIds GROUP BY s.id.recommentId")
+    List<Object[]> sumDeltaByRecommentIdIn(@Param("recommentIds") List<Long> recommentIds);
+
+    /**
+     * 원본 컬럼에 합산할 샤드를 조회합니다.
+     *
+     * @param pageable 한 번에 압축할 샤드 수
+     * @return 증감분이 남아 있는 샤드 목록
+     */
+    @Query("SELECT s FROM RecommentLikeCountShard s WHERE s.delta <> 0 ORDER BY s.id.recommentId")
+    List<RecommentLikeCountShard> findPendingShards(Pageable pageable);
+
+    /**
+     * 원본 컬럼에 합산한 만큼 샤드의 증감분을 차감합니다.
+     * 압축 중에 들어온 증감분은 그대로 남습니다.
+     *
+     * @param recommentId 대댓글 ID
+     * @param shardId 샤드 번호
+     * @param delta 합산한 증감분
+     */
+    @Modifying
+    @Query("UPDATE RecommentLikeCountShard s SET s.delta = s.delta - :delta " +
+            "WHERE s.id.recommentId = :recommentId AND s.id.shardId = :shardId")
+    int subtractDelta(@Param("recommentId") Long recommentId, @Param("shardId") int shardId, @Param("delta") int delta);
+
+    /**
+     * 증감분이 0인 샤드를 삭제합니다.
+     *
+     * @return 삭제된 샤드 수
+     */
+    @Modifying
+    @Query("DELETE FROM RecommentLikeCountShard s WHERE s.delta = 0")
+    int deleteEmptyShards();
+}
@@ -89,6 +89,7 @@ public interface RecommentLikeRepository extends JpaRepository<RecommentLike, Re
      * @param recommentId 대댓글 ID
      * @return 삭제된 좋아요 수
      */
+    @Modifying
     @Query("DELETE FROM RecommentLike rl WHERE rl.recomment.id = :recommentId")
     int deleteByRecommentId(@Param("recommentId") Long recommentId);
 
@@ -138,10 +139,14 @@ public interface RecommentLikeRepository extends JpaRepository<RecommentLike, Re
     /**
      * 특정 댓글의 모든 대댓글에 대한 좋아요를 삭제합니다.
      * 댓글 삭제 시 해당 댓글의 모든 대댓글 좋아요도 함께 삭제하는 데 사용됩니다.
+     * 대댓글 수와 무관하게 단일 DELETE 문으로 처리합니다.
      *
      * @param commentId 댓글 ID
      * @return 삭제된 좋아요 수
      */
-    @Query("DELETE FROM RecommentLike rl WHERE rl.recomment.comment.id = :commentId")
+    @Modifying
+    @Query(value = "DELETE FROM recomment_likes " +
+            "WHERE recomment_id IN (SELECT r.id FROM recomments r WHERE r.comment_id = :commentId)",
+            nativeQuery = true)
     int deleteByCommentId(@Param("commentId") Long commentId);
 }
\ No newline at end of file
@@ -3,10 +3,12 @@ package com.kakaobase.snsapp.domain.comments.repository;
 
 import com.kakaobase.snsapp.domain.comments.entity.Recomment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +27,15 @@ public interface RecommentRepository extends JpaRepository<Recomment, Long> {
     @Query("SELECT r FROM Recomment r WHERE r.id = :id AND r.deletedAt IS NULL")
     Optional<Recomment> findByIdAndDeletedAtIsNull(@Param("id") Long id);
 
+    /**
+     * 대댓글 작성자 ID 만 조회합니다. (소유자 확인용, 엔티티를 읽지 않음)
+     *
+     * @param id 대댓글 ID
+     * @return 작성자 ID (Optional)
+     */
+    @Query("SELECT r.member.id FROM Recomment r WHERE r.id = :id")
+    Optional<Long> findMemberIdById(@Param("id") Long id);
+
     /**
      * 특정 대댓글을 ID와 회원 ID로 조회합니다.
      * 대댓글의 소유자 확인에 사용됩니다.
@@ -77,6 +88,63 @@ public interface RecommentRepository extends JpaRepository<Recomment, Long> {
             @Param("cursor") Long cursor,
             @Param("limit") int limit);
 
+    /**
+     * 여러 댓글의 대댓글을 댓글마다 앞에서부터 최대 N개씩 한 번에 조회합니다. (대댓글 미리보기용)
+     * ROW_NUMBER() 윈도우 함수로 댓글별 순번을 매겨 ID만 조회하며,
+     * 삭제되지 않은 대댓글을 ID 오름차순으로 조회합니다.
+     *
+     * @param commentIds 댓글 ID 목록
+     * @param preview 댓글당 조회할 대댓글 수
+     * @return 대댓글 ID 목록
+     */
+    @Query(value = "SELECT t.id FROM (" +
+            "SELECT r.id, r.comment_id, " +
+            "ROW_NUMBER() OVER (PARTITION BY r.comment_id ORDER BY r.id ASC) AS rn " +
+            "FROM recomments r " +
+            "WHERE r.comment_id IN (:commentIds) " +
+            "AND r.deleted_at IS NULL" +
+            ") t " +
+            "WHERE t.rn <= :preview " +
+            "ORDER BY t.comment_id ASC, t.id ASC",
+            nativeQuery = true)
+    List<Long> findPreviewIdsByCommentIdIn(
+            @Param("commentIds") List<Long> commentIds,
+            @Param("preview") int preview);
+
+    /**
+     * 대댓글을 작성자, 좋아요 샤드 카운터 합계와 함께 조회합니다.
+     *
+     * @param ids 대댓글 ID 목록
+     * @return [작성자가 로딩된 대댓글, 좋아요 샤드 합계] 목록 (댓글 ID, 대댓글 ID 오름차순)
+     */
+    @Query("SELECT r, " +
+            "(SELECT COALESCE(SUM(s.delta), 0) FROM RecommentLikeCountShard s WHERE s.id.recommentId = r.id) " +
+            "FROM Recomment r JOIN FETCH r.member WHERE r.id IN :ids ORDER BY r.comment.id ASC, r.id ASC")
+    List<Object[]> findWithMemberByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 특정 댓글의 대댓글을 일괄 Soft Delete 합니다.
+     * 댓글 삭제 시 대댓글 수와 무관하게 단일 UPDATE 문으로 처리합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param deletedAt 삭제 시각
+     * @return 삭제된 대댓글 수
+     */
+    @Modifying
+    @Query("UPDATE Recomment r SET r.deletedAt = :deletedAt WHERE r.comment.id = :commentId AND r.deletedAt IS NULL")
+    int softDeleteAllByCommentId(@Param("commentId") Long commentId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 좋아요 샤드 카운터의 증감분을 원본 좋아요 수에 합산합니다.
+     *
+     * @param recommentId 대댓글 ID
+     * @param delta 합산할 증감분
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Recomment r SET r.likeCount = GREATEST(r.likeCount + :delta, 0) WHERE r.id = :recommentId")
+    int addLikeCount(@Param("recommentId") Long recommentId, @Param("delta") int delta);
+
     /**
      * 특정 댓글의 대댓글 수를 조회합니다.
      * 삭제되지 않은 대댓글만 계산합니다.
@@ -1,5 +1,6 @@
 package com.kakaobase.snsapp.domain.comments.service;
 
+import com.kakaobase.snsapp.domain.comments.cache.CommentPageCache;
 import com.kakaobase.snsapp.domain.comments.converter.BotRecommentConverter;
 import com.kakaobase.snsapp.domain.comments.converter.CommentConverter;
 import com.kakaobase.snsapp.domain.comments.dto.BotRecommentRequestDto;
@@ -7,17 +8,24 @@ import com.kakaobase.snsapp.domain.comments.dto.BotRecommentResponseDto;
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
 import com.kakaobase.snsapp.domain.comments.entity.Comment;
 import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.event.BotRecommentCreatedEvent;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import com.kakaobase.snsapp.domain.members.cache.MemberProfileCache;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.global.common.client.AiRequestExecutor;
+import com.kakaobase.snsapp.global.common.client.AiWebClients;
+import com.kakaobase.snsapp.global.common.constant.AiEndpoint;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.List;
 import java.util.Objects;
@@ -27,10 +35,16 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class BotRecommentService {
 
+    private final CommentRepository commentRepository;
     private final RecommentRepository recommentRepository;
     private final MemberRepository memberRepository;
+    private final MemberProfileCache memberProfileCache;
     private final CommentConverter commentConverter;
-    private final WebClient webClient;
+    private final AiWebClients aiWebClients;
+    private final AiRequestExecutor aiRequestExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CommentPageCache commentPageCache;
+    private final PostRepository postRepository;
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
@@ -42,18 +56,19 @@ public class BotRecommentService {
         Member bot = memberRepository.findFirstByRole(Member.Role.BOT)
                 .orElseThrow(() -> new IllegalStateException("소셜봇 계정이 없습니다."));
 
-        Member writer = memberRepository.findById(post.getMember().getId())
+        MemberProfileCache.Profile writer = memberProfileCache.get(post.getMember().getId())
                 .orElseThrow(() -> new IllegalStateException("작성자 조회 실패"));
 
         List<Recomment> recomments = recommentRepository.findByCommentId(comment.getId());
 
         BotRecommentRequestDto requestDto = BotRecommentConverter.toRequestDto(post, writer, comment, recomments);
 
-        BotRecommentResponseDto response = webClient.post()
-                .uri(aiServerUrl + "/recomments/bot")
-                .bodyValue(requestDto)
-                .retrieve()
-                .bodyToMono(BotRecommentResponseDto.class)
+        BotRecommentResponseDto response = aiRequestExecutor.execute(AiEndpoint.BOT_RECOMMENT,
+                        () -> aiWebClients.get(AiEndpoint.BOT_RECOMMENT).post()
+                                .uri(aiServerUrl + AiEndpoint.BOT_RECOMMENT.getPath())
+                                .bodyValue(requestDto)
+                                .retrieve()
+                                .bodyToMono(BotRecommentResponseDto.class))
                 .block();
 
         String generatedContent = Objects.requireNonNull(response).getData().getContent();
@@ -66,15 +81,27 @@ public class BotRecommentService {
                 .build();
         recommentRepository.save(newRecomment);
 
-        comment.increaseRecommentCount();
+        commentRepository.addRecommentCount(comment.getId(), 1);
+        commentPageCache.addRecommentCount(post.getId(), comment.getId(), 1);
 
-        return commentConverter.toRecommentInfoForBot(newRecomment, bot);
+        CommentResponseDto.RecommentInfo recommentInfo = commentConverter.toRecommentInfoForBot(newRecomment, bot);
+
+        // 커밋 이후 SSE로 댓글 작성자에게 봇 대댓글 알림
+        eventPublisher.publishEvent(new BotRecommentCreatedEvent(
+                post.getId(), comment.getId(), comment.getMember().getId(), recommentInfo));
+
+        return recommentInfo;
     }
 
+    /**
+     * 게시글은 요청 트랜잭션이 끝난 뒤 실행되므로 호출하는 쪽의 프록시를 넘겨받지 않고 ID 로 받아 여기서 조회합니다.
+     */
     @Async
-    public void triggerAsync(Post post, Comment comment) {
+    public void triggerAsync(Long postId, Comment comment) {
         try {
-            log.info("🚀 [BotTrigger] 비동기 트리거 시작 - postId={}, commentId={}", post.getId(), comment.getId());
+            log.info("🚀 [BotTrigger] 비동기 트리거 시작 - postId={}, commentId={}", postId, comment.getId());
+            Post post = postRepository.findById(postId)
+                    .orElseThrow(() -> new IllegalStateException("게시글 조회 실패"));
             handle(post, comment);
             log.info("✅ [BotTrigger] 성공적으로 처리됨");
         } catch (Exception e) {
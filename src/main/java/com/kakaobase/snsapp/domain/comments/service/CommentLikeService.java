@@ -1,9 +1,7 @@
 package com.kakaobase.snsapp.domain.comments.service;
 
 import com.kakaobase.snsapp.domain.comments.converter.CommentConverter;
-import com.kakaobase.snsapp.domain.comments.entity.Comment;
 import com.kakaobase.snsapp.domain.comments.entity.CommentLike;
-import com.kakaobase.snsapp.domain.comments.entity.Recomment;
 import com.kakaobase.snsapp.domain.comments.entity.RecommentLike;
 import com.kakaobase.snsapp.domain.comments.exception.CommentErrorCode;
 import com.kakaobase.snsapp.domain.comments.exception.CommentException;
@@ -11,6 +9,7 @@ import com.kakaobase.snsapp.domain.comments.repository.CommentLikeRepository;
 import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentLikeRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import com.kakaobase.snsapp.domain.follow.cache.FollowGraphCache;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
@@ -23,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 댓글 및 대댓글 좋아요 관련 비즈니스 로직을 처리하는 서비스
@@ -39,6 +39,8 @@ public class CommentLikeService {
     private final RecommentLikeRepository recommentLikeRepository;
     private final MemberConverter memberConverter;
     private final CommentConverter commentConverter;
+    private final LikeCountShardService likeCountShardService;
+    private final FollowGraphCache followGraphCache;
 
     /**
      * 댓글에 좋아요를 추가합니다.
@@ -50,7 +52,7 @@ public class CommentLikeService {
     @Transactional
     public void addCommentLike(Long memberId, Long commentId) {
         // 댓글 존재 여부 확인
-        Comment comment = commentRepository.findByIdAndDeletedAtIsNull(commentId)
+        commentRepository.findByIdAndDeletedAtIsNull(commentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "commentId"));
 
         // 이미 좋아요한 경우 확인
@@ -62,9 +64,8 @@ public class CommentLikeService {
         CommentLike commentLike = commentConverter.toCommentLikeEntity(memberId, commentId);
         commentLikeRepository.save(commentLike);
 
-        // 댓글 좋아요 수 증가
-        comment.increaseLikeCount();
-        commentRepository.save(comment);
+        // 댓글 좋아요 수 증가 (샤드 카운터)
+        likeCountShardService.addCommentLikeCount(commentId, 1);
 
         log.info("댓글 좋아요 추가 완료: 댓글 ID={}, 회원 ID={}", commentId, memberId);
     }
@@ -80,7 +81,7 @@ public class CommentLikeService {
     @Transactional
     public void removeCommentLike(Long memberId, Long commentId) {
         // 댓글 존재 여부 확인
-        Comment comment = commentRepository.findByIdAndDeletedAtIsNull(commentId)
+        commentRepository.findByIdAndDeletedAtIsNull(commentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "commentId"));
 
         // 좋아요 존재 여부 확인
@@ -90,9 +91,8 @@ public class CommentLikeService {
         // 좋아요 삭제
         commentLikeRepository.delete(commentLike);
 
-        // 댓글 좋아요 수 감소
-        comment.decreaseLikeCount();
-        commentRepository.save(comment);
+        // 댓글 좋아요 수 감소 (샤드 카운터)
+        likeCountShardService.addCommentLikeCount(commentId, -1);
 
         log.info("댓글 좋아요 취소 완료: 댓글 ID={}, 회원 ID={}", commentId, memberId);
     }
@@ -107,7 +107,7 @@ public class CommentLikeService {
     @Transactional
     public void addRecommentLike(Long memberId, Long recommentId) {
         // 대댓글 존재 여부 확인
-        Recomment recomment = recommentRepository.findByIdAndDeletedAtIsNull(recommentId)
+        recommentRepository.findByIdAndDeletedAtIsNull(recommentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "recommentId"));
 
         // 이미 좋아요한 경우 확인
@@ -119,9 +119,8 @@ public class CommentLikeService {
         RecommentLike recommentLike = commentConverter.toRecommentLikeEntity(memberId, recommentId);
         recommentLikeRepository.save(recommentLike);
 
-        // 대댓글 좋아요 수 증가
-        recomment.increaseLikeCount();
-        recommentRepository.save(recomment);
+        // 대댓글 좋아요 수 증가 (샤드 카운터)
+        likeCountShardService.addRecommentLikeCount(recommentId, 1);
 
         log.info("대댓글 좋아요 추가 완료: 대댓글 ID={}, 회원 ID={}", recommentId, memberId);
     }
@@ -136,7 +135,7 @@ public class CommentLikeService {
     @Transactional
     public void removeRecommentLike(Long memberId, Long recommentId) {
         // 대댓글 존재 여부 확인
-        Recomment recomment = recommentRepository.findByIdAndDeletedAtIsNull(recommentId)
+        recommentRepository.findByIdAndDeletedAtIsNull(recommentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "recommentId"));
 
         // 좋아요 존재 여부 확인
@@ -146,9 +145,8 @@ public class CommentLikeService {
         // 좋아요 삭제
         recommentLikeRepository.delete(recommentLike);
 
-        // 대댓글 좋아요 수 감소
-        recomment.decreaseLikeCount();
-        recommentRepository.save(recomment);
+        // 대댓글 좋아요 수 감소 (샤드 카운터)
+        likeCountShardService.addRecommentLikeCount(recommentId, -1);
 
         log.info("대댓글 좋아요 취소 완료: 대댓글 ID={}, 회원 ID={}", recommentId, memberId);
 
@@ -214,41 +212,39 @@ public class CommentLikeService {
      */
     @Transactional
     public void deleteAllRecommentLikesByParentCommentId(Long commentId) {
-        // 대댓글 ID 목록 조회
-        List<Long> recommentIds = recommentRepository.findByCommentId(commentId)
-                .stream()
-                .map(Recomment::getId)
-                .toList();
-
-        if (!recommentIds.isEmpty()) {
-            int deletedCount = recommentLikeRepository.deleteByRecommentIdIn(recommentIds);
-            log.info("댓글 관련 대댓글 좋아요 일괄 삭제 완료: 댓글 ID={}, 삭제된 좋아요 수={}", commentId, deletedCount);
-        }
+        int deletedCount = recommentLikeRepository.deleteByCommentId(commentId);
+        log.info("댓글 관련 대댓글 좋아요 일괄 삭제 완료: 댓글 ID={}, 삭제된 좋아요 수={}", commentId, deletedCount);
     }
 
 
     @Transactional(readOnly = true)
-    public List<MemberResponseDto.UserInfo> getCommentLikedMembers(Long commentId, int limit, Long cursor) {
+    public List<MemberResponseDto.UserInfo> getCommentLikedMembers(Long commentId, int limit, Long cursor, Long currentMemberId) {
         if(!commentRepository.existsById(commentId)){
             throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND);
         }
 
         List<Member> members = commentLikeRepository.findMembersByCommentIdWithCursor(commentId, cursor, limit);
 
-        List<MemberResponseDto.UserInfo> result = memberConverter.convertToUserInfoList(members);
+        Set<Long> followedMemberIds = followGraphCache.filterFollowing(currentMemberId,
+                members.stream().map(Member::getId).toList());
+
+        List<MemberResponseDto.UserInfo> result = memberConverter.convertToUserInfoList(members, followedMemberIds);
 
         return result;
     }
 
     @Transactional(readOnly = true)
-    public List<MemberResponseDto.UserInfo> getRecommentLikedMembers(Long recommentId, int limit, Long cursor) {
+    public List<MemberResponseDto.UserInfo> getRecommentLikedMembers(Long recommentId, int limit, Long cursor, Long currentMemberId) {
         if(!recommentRepository.existsById(recommentId)){
             throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND);
         }
 
         List<Member> members = recommentLikeRepository.findMembersByRecommentIdWithCursor(recommentId, cursor, limit);
 
-        List<MemberResponseDto.UserInfo> result = memberConverter.convertToUserInfoList(members);
+        Set<Long> followedMemberIds = followGraphCache.filterFollowing(currentMemberId,
+                members.stream().map(Member::getId).toList());
+
+        List<MemberResponseDto.UserInfo> result = memberConverter.convertToUserInfoList(members, followedMemberIds);
 
         return result;
     }
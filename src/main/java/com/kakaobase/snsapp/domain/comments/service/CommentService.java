@@ -1,5 +1,6 @@
 package com.kakaobase.snsapp.domain.comments.service;
 
+import com.kakaobase.snsapp.domain.comments.cache.CommentPageCache;
 import com.kakaobase.snsapp.domain.comments.converter.CommentConverter;
 import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
@@ -11,13 +12,15 @@ import com.kakaobase.snsapp.domain.comments.exception.CommentException;
 import com.kakaobase.snsapp.domain.comments.repository.CommentLikeRepository;
 import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
-import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.follow.cache.FollowGraphCache;
 import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.loader.MemberBatchLoader;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
-import com.kakaobase.snsapp.domain.posts.entity.Post;
-import com.kakaobase.snsapp.domain.posts.service.PostService;
+import com.kakaobase.snsapp.domain.posts.exception.PostException;
+import com.kakaobase.snsapp.domain.posts.loader.PostAccess;
+import com.kakaobase.snsapp.domain.posts.loader.PostAccessLoader;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
-import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,6 +29,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -41,17 +45,20 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final RecommentRepository recommentRepository;
     private final MemberRepository memberRepository;
+    private final MemberBatchLoader memberBatchLoader;
     private final CommentConverter commentConverter;
-    private final PostService postService;
+    private final PostAccessLoader postAccessLoader;
+    private final PostRepository postRepository;
     private final CommentLikeService commentLikeService;
     private final ApplicationEventPublisher eventPublisher;
 
     private static final int DEFAULT_PAGE_SIZE = 12;
     private final CommentLikeRepository commentLikeRepository;
-    private final FollowRepository followRepository;
-    private final EntityManager em;
+    private final FollowGraphCache followGraphCache;
 
     private final BotRecommentService botRecommentService;
+    private final LikeCountShardService likeCountShardService;
+    private final CommentPageCache commentPageCache;
 
     /**
      * 댓글을 생성합니다.
@@ -63,12 +70,16 @@ public class CommentService {
      */
     @Transactional
     public CommentResponseDto.CreateCommentResponse createComment(Long memberId, Long postId, CommentRequestDto.CreateCommentRequest request) {
-        // 게시글 존재 확인
-        Post post = postService.findById(postId);
-
-        // 회원 조회
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "memberId", "회원을 찾을 수 없습니다."));
+        // 게시글 존재 확인 (권한 확인에서 조회한 작성자 ID 재사용)
+        PostAccess postAccess = findPostAccess(postId);
+
+        // 게시글 작성자를 등록해 두어 댓글 작성자를 조회할 때 한 번에 함께 조회
+        Long postAuthorId = postAccess.memberId();
+        memberBatchLoader.register(List.of(postAuthorId));
+        Member member = memberBatchLoader.get(memberId).orElse(null);
+        if (member == null) {
+            throw new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "memberId", "회원을 찾을 수 없습니다.");
+        }
 
         // 대댓글인 경우
         if (request.parent_id() != null) {
@@ -84,8 +95,9 @@ public class CommentService {
             Recomment recomment = commentConverter.toRecommentEntity(parentComment, member, request);
             Recomment savedRecomment = recommentRepository.save(recomment);
 
-            //부모 댓글 대댓글 카운트 증가
-            parentComment.increaseRecommentCount();
+            //부모 댓글 대댓글 카운트 증가 (DB 원자적 증가)
+            commentRepository.addRecommentCount(parentComment.getId(), 1);
+            commentPageCache.addRecommentCount(postId, parentComment.getId(), 1);
 
             log.info("대댓글 생성 완료: 대댓글 ID={}, 작성자 ID={}, 부모 댓글 ID={}",
                     savedRecomment.getId(), memberId, parentComment.getId());
@@ -94,11 +106,15 @@ public class CommentService {
         }
 
         // 일반 댓글인 경우
-        Comment comment = commentConverter.toCommentEntity(post, member, request);
+        // 게시글은 외래 키로만 사용하므로 엔티티를 읽지 않고 참조만 사용
+        Comment comment = commentConverter.toCommentEntity(postRepository.getReferenceById(postId), member, request);
         Comment savedComment = commentRepository.save(comment);
 
-        //게시글의 댓글 수 추가
-        post.increaseCommentCount();
+        //게시글의 댓글 수 추가 (DB 원자적 증가)
+        postRepository.addCommentCount(postId, 1);
+
+        // 댓글은 id 순으로 추가되므로 캐시된 마지막 페이지만 무효화
+        commentPageCache.invalidateTail(postId);
 
         log.info("댓글 생성 완료: 댓글 ID={}, 작성자 ID={}, 게시글 ID={}",
                 savedComment.getId(), memberId, postId);
@@ -107,7 +123,7 @@ public class CommentService {
         CommentCreatedEvent event = new CommentCreatedEvent(
                 savedComment.getId(),
                 postId,
-                post.getMember().getId(),  // 게시글 작성자 ID
+                postAuthorId,  // 게시글 작성자 ID
                 memberId,  // 댓글 작성자 ID
                 savedComment.getContent(),
                 savedComment.getCreatedAt()
@@ -117,9 +133,11 @@ public class CommentService {
         log.debug("댓글 생성 이벤트 발행: {}", event);
 
         // 게시물 작성자가 소셜봇이면 소셜봇 대댓글 로직 구현하도록
-        if (post.getMember().getRole().equals("BOT")) {
+        // 게시글 작성자는 위에서 댓글 작성자와 함께 조회되어 다시 읽지 않음
+        Member postAuthor = memberBatchLoader.get(postAuthorId).orElse(null);
+        if (postAuthor != null && "BOT".equals(postAuthor.getRole())) {
             log.info("🤖 [Trigger] 소셜봇 게시글이므로 트리거 실행!");
-            botRecommentService.triggerAsync(post, savedComment);
+            botRecommentService.triggerAsync(postId, savedComment);
         } else {
             log.info("🙅 [Skip] 게시글 작성자가 소셜봇이 아님 → 트리거 생략");
         }
@@ -145,25 +163,26 @@ public class CommentService {
             throw new CommentException(CommentErrorCode.POST_NOT_AUTHORIZED, "commentId", "본인이 작성한 댓글만 삭제할 수 있습니다.");
         }
 
-        // 게시글의 댓글 수 1감소
-        Post post = postService.findById(comment.getPost().getId());
-        post.decreaseCommentCount();
+        // 게시글의 댓글 수 1감소 (게시글을 조회하지 않고 DB 원자적 감소)
+        postRepository.addCommentCount(comment.getPost().getId(), -1);
 
         // 댓글의 좋아요 삭제
         commentLikeService.deleteAllCommentLikesByCommentId(commentId);
 
-        // 댓글에 달린 모든 대댓글 삭제 (삭제된 것 포함)
-        List<Recomment> recomments = recommentRepository.findAllByCommentId(commentId);
-        for (Recomment recomment : recomments) {
-            commentLikeService.deleteAllRecommentLikesByRecommentId(recomment.getId());
-            recommentRepository.delete(recomment);
-        }
+        // 댓글에 달린 모든 대댓글의 좋아요 삭제 (단일 DELETE)
+        commentLikeService.deleteAllRecommentLikesByParentCommentId(commentId);
 
-        // 댓글 삭제 (Soft Delete)
+        // 댓글에 달린 모든 대댓글 삭제 (단일 Soft Delete UPDATE)
+        int deletedRecommentCount = recommentRepository.softDeleteAllByCommentId(commentId, LocalDateTime.now());
+
+        // 댓글 삭제 (Soft Delete) 및 대댓글 수 초기화
         comment.softDelete();
-        commentRepository.save(comment);
+        comment.clearRecommentCount();
+
+        // 캐시된 페이지에서 삭제된 댓글 제거
+        commentPageCache.removeComment(comment.getPost().getId(), commentId);
 
-        log.info("댓글 삭제 완료: 댓글 ID={}, 삭제자 ID={}", commentId, memberId);
+        log.info("댓글 삭제 완료: 댓글 ID={}, 삭제자 ID={}, 삭제된 대댓글 수={}", commentId, memberId, deletedRecommentCount);
     }
 
     /**
@@ -181,7 +200,10 @@ public class CommentService {
         // 대댓글의 좋아요 삭제
         commentLikeService.deleteAllRecommentLikesByRecommentId(recommentId);
 
-        recomment.onPreRemove();
+        // 부모 댓글의 대댓글 수 1감소 (DB 원자적 감소)
+        Comment parentComment = recomment.getComment();
+        commentRepository.addRecommentCount(parentComment.getId(), -1);
+        commentPageCache.addRecommentCount(parentComment.getPost().getId(), parentComment.getId(), -1);
 
         // 대댓글 삭제 (Soft Delete)
         recomment.softDelete();
@@ -198,14 +220,87 @@ public class CommentService {
      * @return 댓글 목록 응답 DTO
      */
     public CommentResponseDto.CommentListResponse getCommentsByPostId(Long memberId, Long postId, CommentRequestDto.CommentPageRequest pageRequest) {
-        // 게시글 존재 확인
-        Post post = postService.findById(postId);
-
         // 페이지 설정
         int limit = pageRequest.limit() != null ? pageRequest.limit() : DEFAULT_PAGE_SIZE;
 
-        // 댓글 목록 조회
-        List<Comment> comments = commentRepository.findByPostIdWithCursor(postId, pageRequest.cursor(), limit + 1); // 다음 페이지 확인을 위해 limit + 1개 조회
+        // preview 요청은 대댓글까지 조회하므로 캐시하지 않음
+        if (pageRequest.preview() > 0) {
+            return getCommentsWithPreview(memberId, postId, pageRequest.cursor(), limit, pageRequest.preview());
+        }
+
+        // 캐시된 페이지가 있으면 좋아요 수와 조회자 기준 좋아요/팔로우 여부만 덧씌워 반환
+        CommentPageCache.CachedPage page = commentPageCache.get(postId, pageRequest.cursor(), limit);
+        Map<Long, Integer> likeCounts = null;
+        if (page == null) {
+            // 게시글 존재 확인
+            findPostAccess(postId);
+
+            long loadVersion = commentPageCache.beginLoad(postId);
+
+            // 댓글 목록 조회 (작성자 fetch join, 다음 페이지 확인을 위해 limit + 1개 조회)
+            List<Comment> comments = likeCountShardService.toCommentsWithPendingLikeCount(
+                    commentRepository.findWithMemberByPostIdWithCursor(postId, pageRequest.cursor(), PageRequest.of(0, limit + 1)));
+
+            boolean hasNext = comments.size() > limit;
+            List<Comment> pageComments = hasNext ? comments.subList(0, limit) : comments;
+            Long nextCursor = hasNext ? pageComments.get(pageComments.size() - 1).getId() : null;
+            // 방금 조회한 댓글은 샤드 합계가 반영된 좋아요 수를 그대로 사용
+            likeCounts = pageComments.stream().collect(Collectors.toMap(Comment::getId, Comment::getLikeCount));
+
+            page = commentPageCache.put(postId, pageRequest.cursor(), limit,
+                    pageComments.stream().map(commentConverter::toCachedComment).collect(Collectors.toList()),
+                    hasNext, nextCursor, loadVersion);
+        }
+
+        if (page.comments().isEmpty()) {
+            return new CommentResponseDto.CommentListResponse(
+                    Collections.emptyList(),
+                    page.hasNext(),
+                    page.nextCursor()
+            );
+        }
+
+        List<Long> commentIds = page.comments().stream()
+                .map(CommentPageCache.CachedComment::id)
+                .collect(Collectors.toList());
+
+        Set<Long> authorIds = page.comments().stream()
+                .map(CommentPageCache.CachedComment::authorId)
+                .collect(Collectors.toSet());
+
+        if (likeCounts == null) {
+            likeCounts = likeCountShardService.getCommentLikeCounts(commentIds);
+        }
+
+        Set<Long> likedCommentIds = new HashSet<>(
+                commentLikeRepository.findCommentIdsByMemberIdAndCommentIdIn(memberId, commentIds));
+
+        Set<Long> followingIds = followGraphCache.filterFollowing(memberId, authorIds);
+
+        return new CommentResponseDto.CommentListResponse(
+                commentConverter.toCommentInfoListFromCache(page.comments(), likeCounts, memberId, likedCommentIds, followingIds),
+                page.hasNext(),
+                page.nextCursor()
+        );
+    }
+
+    /**
+     * 댓글마다 앞에서부터 preview개의 대댓글을 포함한 게시글 댓글 목록을 조회합니다.
+     *
+     * @param memberId 현재 로그인한 회원 ID
+     * @param postId 게시글 ID
+     * @param cursor 페이지 커서
+     * @param limit 페이지 크기
+     * @param preview 댓글당 대댓글 수
+     * @return 댓글 목록 응답 DTO
+     */
+    private CommentResponseDto.CommentListResponse getCommentsWithPreview(Long memberId, Long postId, Long cursor, int limit, int preview) {
+        // 게시글 존재 확인
+        findPostAccess(postId);
+
+        // 댓글 목록 조회 (작성자 fetch join, 다음 페이지 확인을 위해 limit + 1개 조회)
+        List<Comment> comments = likeCountShardService.toCommentsWithPendingLikeCount(
+                commentRepository.findWithMemberByPostIdWithCursor(postId, cursor, PageRequest.of(0, limit + 1)));
 
         if (comments.isEmpty()) {
             return new CommentResponseDto.CommentListResponse(
@@ -224,14 +319,9 @@ public class CommentService {
         // 다음 커서 설정
         Long nextCursor = hasNext ? pageComments.get(pageComments.size() - 1).getId() : null;
 
-        // 개별 댓글 정보를 가져와서 CommentInfo 리스트 생성
-        List<CommentResponseDto.CommentInfo> commentInfoList = pageComments.stream()
-                .map(comment -> getCommentInfo(memberId, comment.getId()))
-                .collect(Collectors.toList());
-
-        // CommentListResponse 생성하여 반환
+        // 좋아요/팔로우 여부를 일괄 조회하여 대댓글이 포함된 CommentInfo 리스트 생성
         return new CommentResponseDto.CommentListResponse(
-                commentInfoList,
+                toCommentInfoListWithPreview(memberId, pageComments, preview),
                 hasNext,
                 nextCursor
         );
@@ -256,6 +346,7 @@ public class CommentService {
 
         // 대댓글 목록 조회
         List<Recomment> recomments = recommentRepository.findByRecommentIdWithCursor(commentId, pageRequest.cursor(), limit);
+        likeCountShardService.applyPendingRecommentLikeCounts(recomments);
 
         if (recomments.isEmpty()) {
             return new CommentResponseDto.RecommentListResponse(
@@ -279,8 +370,8 @@ public class CommentService {
         Set<Long> likedRecommentIdsSet = new HashSet<>(likedRecommentIds);
 
 
-        Member currentUser = em.getReference(Member.class, memberId);
-        Set<Long> followingIdSet = followRepository.findFollowingUserIdsByFollowerUser(currentUser);
+        Set<Long> followingIdSet = followGraphCache.filterFollowing(memberId,
+                recomments.stream().map(recomment -> recomment.getMember().getId()).collect(Collectors.toSet()));
 
         // 응답 DTO 생성
         return commentConverter.toRecommentListResponse(
@@ -297,23 +388,99 @@ public class CommentService {
     @Transactional(readOnly = true)
     public List<CommentResponseDto.CommentInfo> getUserCommentList(int limit, Long cursor, Long memberId) {
 
-        if(memberRepository.existsById(memberId)) {
+        if(!memberRepository.existsById(memberId)) {
             throw new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId");
         }
 
         Pageable pageable = PageRequest.of(0, limit);
 
-        // 댓글 목록 조회
-        List<Comment> comments = commentRepository.findByMemberIdWithCursor(memberId, cursor, pageable); // 다음 페이지 확인을 위해 limit + 1개 조회
+        // 댓글 목록 조회 (작성자 fetch join)
+        List<Comment> comments = likeCountShardService.toCommentsWithPendingLikeCount(
+                commentRepository.findByMemberIdWithCursor(memberId, cursor, pageable));
+
+        // 좋아요/팔로우 여부를 일괄 조회하여 CommentInfo 리스트 생성
+        return toCommentInfoList(memberId, comments);
+    }
 
+    /**
+     * 작성자가 로딩된 댓글 목록을 CommentInfo 목록으로 변환합니다.
+     * 좋아요 여부와 팔로우 여부는 각각 IN 쿼리 한 번으로 조회합니다.
+     *
+     * @param memberId 현재 로그인한 회원 ID
+     * @param comments 작성자가 fetch join 된 댓글 목록
+     * @return 댓글 정보 목록
+     */
+    private List<CommentResponseDto.CommentInfo> toCommentInfoList(Long memberId, List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-        // 개별 댓글 정보를 가져와서 CommentInfo 리스트 생성
-        List<CommentResponseDto.CommentInfo> commentInfoList = comments.stream()
-                .map(comment -> getCommentInfo(memberId, comment.getId()))
+        List<Long> commentIds = comments.stream()
+                .map(Comment::getId)
                 .collect(Collectors.toList());
 
-        // CommentListResponse 생성하여 반환
-        return commentInfoList;
+        Set<Long> authorIds = comments.stream()
+                .map(comment -> comment.getMember().getId())
+                .collect(Collectors.toSet());
+
+        Set<Long> likedCommentIds = new HashSet<>(
+                commentLikeRepository.findCommentIdsByMemberIdAndCommentIdIn(memberId, commentIds));
+
+        Set<Long> followingIds = followGraphCache.filterFollowing(memberId, authorIds);
+
+        return commentConverter.toCommentInfoList(comments, memberId, likedCommentIds, followingIds);
+    }
+
+    /**
+     * 댓글 목록을 댓글마다 앞에서부터 preview개의 대댓글이 포함된 CommentInfo 목록으로 변환합니다.
+     * 페이지 전체의 미리보기 대댓글은 윈도우 함수 쿼리 한 번으로 고르고,
+     * 좋아요/팔로우 여부는 댓글과 대댓글을 합쳐 일괄 조회합니다.
+     *
+     * @param memberId 현재 로그인한 회원 ID
+     * @param comments 작성자가 fetch join 된 댓글 목록
+     * @param preview 댓글당 대댓글 수
+     * @return 미리보기 대댓글이 포함된 댓글 정보 목록
+     */
+    private List<CommentResponseDto.CommentInfo> toCommentInfoListWithPreview(Long memberId, List<Comment> comments, int preview) {
+        List<Long> commentIds = comments.stream()
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+
+        // 대댓글이 있는 댓글만 미리보기 대상
+        List<Long> previewTargetIds = comments.stream()
+                .filter(comment -> comment.getRecommentCount() > 0)
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+
+        List<Recomment> recomments = Collections.emptyList();
+        if (!previewTargetIds.isEmpty()) {
+            List<Long> recommentIds = recommentRepository.findPreviewIdsByCommentIdIn(previewTargetIds, preview);
+            if (!recommentIds.isEmpty()) {
+                recomments = likeCountShardService.toRecommentsWithPendingLikeCount(
+                        recommentRepository.findWithMemberByIdIn(recommentIds));
+            }
+        }
+
+        Map<Long, List<Recomment>> previewRecomments = recomments.stream()
+                .collect(Collectors.groupingBy(recomment -> recomment.getComment().getId()));
+
+        Set<Long> likedRecommentIds = recomments.isEmpty()
+                ? Collections.emptySet()
+                : new HashSet<>(recommentRepository.findLikedRecommentIds(
+                        recomments.stream().map(Recomment::getId).collect(Collectors.toList()), memberId));
+
+        Set<Long> authorIds = comments.stream()
+                .map(comment -> comment.getMember().getId())
+                .collect(Collectors.toCollection(HashSet::new));
+        recomments.forEach(recomment -> authorIds.add(recomment.getMember().getId()));
+
+        Set<Long> likedCommentIds = new HashSet<>(
+                commentLikeRepository.findCommentIdsByMemberIdAndCommentIdIn(memberId, commentIds));
+
+        Set<Long> followingIds = followGraphCache.filterFollowing(memberId, authorIds);
+
+        return commentConverter.toCommentInfoListWithPreview(
+                comments, memberId, likedCommentIds, previewRecomments, likedRecommentIds, followingIds);
     }
 
     public CommentResponseDto.CommentDetailResponse getCommentDetail(Long memberId, Long commentId) {
@@ -332,6 +499,7 @@ public class CommentService {
         // 댓글 조회
         Comment comment = commentRepository.findByIdAndDeletedAtIsNull(commentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "commentId"));
+        likeCountShardService.applyPendingCommentLikeCounts(List.of(comment));
 
         // 댓글 좋아요 여부 확인
         boolean isLiked = commentLikeRepository.existsByMemberIdAndCommentId(memberId, commentId);
@@ -339,11 +507,8 @@ public class CommentService {
         // 댓글 작성자 확인 (본인 작성 여부)
         boolean isMine = comment.getMember().getId().equals(memberId);
 
-        Member follower = em.getReference(Member.class, memberId);
-        Member following = em.getReference(Member.class, comment.getMember().getId());
-
         //팔로우 여부 확인
-        boolean isFollowing = followRepository.existsByFollowerUserAndFollowingUser(follower, following);
+        boolean isFollowing = followGraphCache.isFollowing(memberId, comment.getMember().getId());
 
         // CommentInfo 생성
         CommentResponseDto.CommentInfo commentInfo = commentConverter.toCommentInfo(
@@ -356,6 +521,18 @@ public class CommentService {
         return commentInfo;
     }
 
+    /**
+     * 게시글 작성자 ID 와 게시판 유형을 조회합니다.
+     * 같은 요청의 권한 확인(AccessChecker)에서 이미 조회했으면 다시 조회하지 않습니다.
+     *
+     * @param postId 게시글 ID
+     * @return 게시글 권한 정보
+     */
+    private PostAccess findPostAccess(Long postId) {
+        return postAccessLoader.get(postId)
+                .orElseThrow(() -> new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId", "해당 게시글을 찾을 수 없습니다"));
+    }
+
     /**
      * 댓글 ID로 댓글을 조회합니다.
      *
@@ -0,0 +1,188 @@
+package com.kakaobase.snsapp.domain.comments.service;
+
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.entity.CommentLikeCountShard;
+import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.entity.RecommentLikeCountShard;
+import com.kakaobase.snsapp.domain.comments.repository.CommentLikeCountShardRepository;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentLikeCountShardRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글/대댓글 좋아요 수 샤드 카운터 서비스
+ *
+ * <p>인기 댓글에 좋아요가 몰릴 때 comments.like_count 한 행의 락 경합을 피하기 위해
+ * 좋아요 증감분을 댓글마다 {@value #SHARD_COUNT}개의 샤드 행 중 임의의 하나에 기록합니다.
+ * 조회 시에는 원본 컬럼과 샤드 합계를 더해서 사용하고,
+ * 주기적으로 샤드의 증감분을 원본 컬럼에 합산(압축)합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LikeCountShardService {
+
+    private static final int SHARD_COUNT = 16;
+    private static final int COMPACTION_BATCH_SIZE = 1000;
+
+    private final CommentRepository commentRepository;
+    private final RecommentRepository recommentRepository;
+    private final CommentLikeCountShardRepository commentLikeCountShardRepository;
+    private final RecommentLikeCountShardRepository recommentLikeCountShardRepository;
+
+    /**
+     * 댓글 좋아요 수 증감분을 샤드에 기록합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param delta 증감분 (+1 / -1)
+     */
+    @Transactional
+    public void addCommentLikeCount(Long commentId, int delta) {
+        commentLikeCountShardRepository.addDelta(commentId, randomShard(), delta);
+    }
+
+    /**
+     * 대댓글 좋아요 수 증감분을 샤드에 기록합니다.
+     *
+     * @param recommentId 대댓글 ID
+     * @param delta 증감분 (+1 / -1)
+     */
+    @Transactional
+    public void addRecommentLikeCount(Long recommentId, int delta) {
+        recommentLikeCountShardRepository.addDelta(recommentId, randomShard(), delta);
+    }
+
+    /**
+     * 댓글 목록에 샤드 카운터 합계를 반영합니다. (IN 쿼리 1회)
+     *
+     * @param comments 댓글 목록
+     */
+    public void applyPendingCommentLikeCounts(List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> pending = toPendingMap(commentLikeCountShardRepository.sumDeltaByCommentIdIn(
+                comments.stream().map(Comment::getId).collect(Collectors.toList())));
+        comments.forEach(comment -> comment.applyPendingLikeCount(pending.getOrDefault(comment.getId(), 0)));
+    }
+
+    /**
+     * 대댓글 목록에 샤드 카운터 합계를 반영합니다. (IN 쿼리 1회)
+     *
+     * @param recomments 대댓글 목록
+     */
+    public void applyPendingRecommentLikeCounts(List<Recomment> recomments) {
+        if (recomments.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> pending = toPendingMap(recommentLikeCountShardRepository.sumDeltaByRecommentIdIn(
+                recomments.stream().map(Recomment::getId).collect(Collectors.toList())));
+        recomments.forEach(recomment -> recomment.applyPendingLikeCount(pending.getOrDefault(recomment.getId(), 0)));
+    }
+
+    /**
+     * 댓글들의 현재 좋아요 수(원본 컬럼 + 샤드 합계)를 조회합니다. (IN 쿼리 1회)
+     *
+     * @param commentIds 댓글 ID 목록
+     * @return 댓글 ID별 좋아요 수
+     */
+    public Map<Long, Integer> getCommentLikeCounts(List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.findLikeCountsByIdIn(commentIds).stream()
+                .collect(Collectors.toMap(
+                        row -> ((Number) row[0]).longValue(),
+                        row -> Math.max(0, ((Number) row[1]).intValue())));
+    }
+
+    /**
+     * [댓글, 샤드 합계] 조회 결과에 샤드 합계를 반영하여 댓글 목록으로 변환합니다.
+     *
+     * @param rows [댓글, 샤드 합계] 목록
+     * @return 샤드 합계가 반영된 댓글 목록
+     */
+    public List<Comment> toCommentsWithPendingLikeCount(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> {
+                    Comment comment = (Comment) row[0];
+                    comment.applyPendingLikeCount(((Number) row[1]).intValue());
+                    return comment;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * [대댓글, 샤드 합계] 조회 결과에 샤드 합계를 반영하여 대댓글 목록으로 변환합니다.
+     *
+     * @param rows [대댓글, 샤드 합계] 목록
+     * @return 샤드 합계가 반영된 대댓글 목록
+     */
+    public List<Recomment> toRecommentsWithPendingLikeCount(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> {
+                    Recomment recomment = (Recomment) row[0];
+                    recomment.applyPendingLikeCount(((Number) row[1]).intValue());
+                    return recomment;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 샤드 카운터의 증감분을 원본 좋아요 수 컬럼에 합산합니다.
+     *
+     * <p>읽은 증감분만큼만 샤드에서 차감하므로 압축 중에 들어온 좋아요는 유실되지 않으며,
+     * 원본 컬럼 합산과 샤드 차감은 같은 트랜잭션에서 처리되어 조회 값이 이중 계산되지 않습니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.like-count.compaction-interval-millis:10000}")
+    @Transactional
+    public void compact() {
+        List<CommentLikeCountShard> commentShards =
+                commentLikeCountShardRepository.findPendingShards(PageRequest.of(0, COMPACTION_BATCH_SIZE));
+        commentShards.stream()
+                .collect(Collectors.groupingBy(shard -> shard.getId().getCommentId(),
+                        Collectors.summingInt(CommentLikeCountShard::getDelta)))
+                .forEach(commentRepository::addLikeCount);
+        commentShards.forEach(shard -> commentLikeCountShardRepository.subtractDelta(
+                shard.getId().getCommentId(), shard.getId().getShardId(), shard.getDelta()));
+
+        List<RecommentLikeCountShard> recommentShards =
+                recommentLikeCountShardRepository.findPendingShards(PageRequest.of(0, COMPACTION_BATCH_SIZE));
+        recommentShards.stream()
+                .collect(Collectors.groupingBy(shard -> shard.getId().getRecommentId(),
+                        Collectors.summingInt(RecommentLikeCountShard::getDelta)))
+                .forEach(recommentRepository::addLikeCount);
+        recommentShards.forEach(shard -> recommentLikeCountShardRepository.subtractDelta(
+                shard.getId().getRecommentId(), shard.getId().getShardId(), shard.getDelta()));
+
+        commentLikeCountShardRepository.deleteEmptyShards();
+        recommentLikeCountShardRepository.deleteEmptyShards();
+
+        if (!commentShards.isEmpty() || !recommentShards.isEmpty()) {
+            log.debug("좋아요 샤드 카운터 압축 완료: 댓글 샤드={}, 대댓글 샤드={}", commentShards.size(), recommentShards.size());
+        }
+    }
+
+    private static int randomShard() {
+        return ThreadLocalRandom.current().nextInt(SHARD_COUNT);
+    }
+
+    private static Map<Long, Integer> toPendingMap(List<Object[]> rows) {
+        return rows.stream()
+                .collect(Collectors.toMap(
+                        row -> ((Number) row[0]).longValue(),
+                        row -> ((Number) row[1]).intValue()));
+    }
+}
@@ -0,0 +1,268 @@
+package com.kakaobase.snsapp.domain.follow.cache;
+
+import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.global.common.cache.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+
+import static com.kakaobase.snsapp.global.common.cache.TransactionCallbacks.afterCommit;
+
+/**
+ * 회원별 팔로잉 그래프 캐시
+ *
+ * <p>회원마다 팔로우 중인 회원 ID 를 정렬된 long 배열로 보관하여,
+ * 팔로우 여부 확인을 DB 조회 없이 이진 탐색으로 처리합니다.
+ * 처음 조회될 때 적재하고, 오래 조회되지 않은 회원은 LRU 로, TTL 이 지난 항목은 조회 시점에 제거합니다.</p>
+ *
+ * <p>팔로우/언팔로우는 트랜잭션 커밋 이후 배열을 복사-갱신(copy-on-write)하고,
+ * {@link CacheInvalidationBus} 로 다른 노드의 해당 회원 항목을 무효화합니다.
+ * 적재 도중 같은 회원(같은 순번 슬롯의 회원)의 팔로우 변경이 커밋되면 해당 회원의 적재 결과는 캐시에 저장하지 않습니다.
+ * 호출하는 쪽 트랜잭션의 스냅샷이 변경 순번을 읽기 전에 만들어졌거나 다른 노드의 무효화가 유실되면
+ * 오래된 배열이 저장될 수 있으므로, TTL 이 지나면 DB 에서 다시 읽습니다.</p>
+ */
+@Component
+public class FollowGraphCache {
+
+    private static final String TOPIC = "follow-graph";
+    private static final long[] EMPTY = new long[0];
+    private static final int BATCH_LOAD_SIZE = 500;
+    private static final int SEQUENCE_SLOTS = 1024;
+
+    private final FollowRepository followRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final long ttlMillis;
+    private final Map<Long, CachedFollowings> followings;
+
+    // 회원 ID 별 슬롯의 팔로우 변경 순번, 적재 전후 값이 다르면 해당 회원의 적재 결과를 버림
+    private final AtomicLongArray mutationSequences = new AtomicLongArray(SEQUENCE_SLOTS);
+
+    public FollowGraphCache(
+            FollowRepository followRepository,
+            CacheInvalidationBus invalidationBus,
+            @Value("${app.follow-graph.max-members:10000}") int maxMembers,
+            @Value("${app.follow-graph.ttl-millis:60000}") long ttlMillis) {
+        this.followRepository = followRepository;
+        this.invalidationBus = invalidationBus;
+        this.ttlMillis = ttlMillis;
+        this.followings = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedFollowings> eldest) {
+                return size() > maxMembers;
+            }
+        });
+    }
+
+    @PostConstruct
+    void subscribe() {
+        invalidationBus.subscribe(TOPIC, this::evict);
+    }
+
+    /**
+     * 팔로우 여부를 확인합니다.
+     *
+     * @param followerId 팔로우하는 회원 ID (비로그인이면 null)
+     * @param followingId 팔로우 대상 회원 ID
+     * @return 팔로우 중이면 true
+     */
+    public boolean isFollowing(Long followerId, Long followingId) {
+        if (followerId == null || followingId == null) {
+            return false;
+        }
+        return Arrays.binarySearch(getFollowingIds(followerId), followingId) >= 0;
+    }
+
+    /**
+     * 주어진 회원 중 팔로우 중인 회원 ID 를 반환합니다.
+     *
+     * @param followerId 팔로우하는 회원 ID (비로그인이면 null)
+     * @param memberIds 확인할 회원 ID 목록
+     * @return 팔로우 중인 회원 ID 집합
+     */
+    public Set<Long> filterFollowing(Long followerId, Collection<Long> memberIds) {
+        if (followerId == null || memberIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        long[] followingIds = getFollowingIds(followerId);
+        Set<Long> result = new HashSet<>();
+        for (Long memberId : memberIds) {
+            if (memberId != null && Arrays.binarySearch(followingIds, memberId) >= 0) {
+                result.add(memberId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 회원이 팔로우 중인 회원 ID 를 오름차순 배열로 반환합니다.
+     * 반환된 배열은 공유되므로 수정하면 안 됩니다.
+     *
+     * @param followerId 팔로우하는 회원 ID
+     * @return 정렬된 팔로잉 회원 ID 배열
+     */
+    public long[] getFollowingIds(Long followerId) {
+        long[] cached = getCached(followerId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long sequence = mutationSequences.get(slot(followerId));
+        long[] loaded = followRepository.findFollowingUserIdsByFollowerId(followerId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+
+        synchronized (followings) {
+            if (mutationSequences.get(slot(followerId)) == sequence) {
+                followings.put(followerId, new CachedFollowings(loaded, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 여러 회원의 팔로잉 ID 배열을 조회합니다.
+     * 캐시에 없는 회원은 한 번의 쿼리(최대 {@value #BATCH_LOAD_SIZE}명 단위)로 함께 적재합니다.
+     *
+     * @param followerIds 팔로우하는 회원 ID 목록
+     * @return 회원 ID 별 정렬된 팔로잉 회원 ID 배열
+     */
+    public Map<Long, long[]> getFollowingIds(Collection<Long> followerIds) {
+        Map<Long, long[]> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long followerId : followerIds) {
+            long[] cached = getCached(followerId);
+            if (cached != null) {
+                result.put(followerId, cached);
+            } else {
+                missing.add(followerId);
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += BATCH_LOAD_SIZE) {
+            List<Long> batch = missing.subList(from, Math.min(from + BATCH_LOAD_SIZE, missing.size()));
+            Map<Long, Long> sequences = new HashMap<>();
+            Map<Long, List<Long>> loaded = new HashMap<>();
+            batch.forEach(followerId -> {
+                sequences.put(followerId, mutationSequences.get(slot(followerId)));
+                loaded.put(followerId, new ArrayList<>());
+            });
+            for (Object[] row : followRepository.findFollowPairsByFollowerIdIn(batch)) {
+                loaded.get(((Number) row[0]).longValue()).add(((Number) row[1]).longValue());
+            }
+
+            synchronized (followings) {
+                long expiresAt = System.currentTimeMillis() + ttlMillis;
+                loaded.forEach((followerId, ids) -> {
+                    long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+                    if (mutationSequences.get(slot(followerId)) == sequences.get(followerId)) {
+                        followings.put(followerId, new CachedFollowings(sorted, expiresAt));
+                    }
+                    result.put(followerId, sorted);
+                });
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 팔로우를 캐시에 반영합니다. (커밋 이후)
+     *
+     * @param followerId 팔로우하는 회원 ID
+     * @param followingId 팔로우 대상 회원 ID
+     */
+    public void onFollow(Long followerId, Long followingId) {
+        afterCommit(() -> {
+            mutate(followerId, ids -> insert(ids, followingId));
+            invalidationBus.publish(TOPIC, followerId);
+        });
+    }
+
+    /**
+     * 언팔로우를 캐시에 반영합니다. (커밋 이후)
+     *
+     * @param followerId 팔로우하는 회원 ID
+     * @param followingId 팔로우 대상 회원 ID
+     */
+    public void onUnfollow(Long followerId, Long followingId) {
+        afterCommit(() -> {
+            mutate(followerId, ids -> remove(ids, followingId));
+            invalidationBus.publish(TOPIC, followerId);
+        });
+    }
+
+    /**
+     * 회원의 캐시 항목을 제거합니다. 다음 조회 시 다시 적재됩니다.
+     *
+     * @param followerId 팔로우하는 회원 ID
+     */
+    public void evict(Long followerId) {
+        synchronized (followings) {
+            mutationSequences.incrementAndGet(slot(followerId));
+            followings.remove(followerId);
+        }
+    }
+
+    private long[] getCached(Long followerId) {
+        CachedFollowings cached = followings.get(followerId);
+        return cached != null && cached.expiresAt() > System.currentTimeMillis() ? cached.ids() : null;
+    }
+
+    private void mutate(Long followerId, UnaryOperator<long[]> mutation) {
+        synchronized (followings) {
+            mutationSequences.incrementAndGet(slot(followerId));
+            CachedFollowings cached = followings.get(followerId);
+            if (cached != null) {
+                followings.put(followerId, new CachedFollowings(mutation.apply(cached.ids()), cached.expiresAt()));
+            }
+        }
+    }
+
+    private static int slot(Long followerId) {
+        return Long.hashCode(followerId) & (SEQUENCE_SLOTS - 1);
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            return ids;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertAt);
+        updated[insertAt] = id;
+        System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        return updated;
+    }
+
+    private static long[] remove(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, index);
+        System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        return updated;
+    }
+
+    private record CachedFollowings(long[] ids, long expiresAt) {
+    }
+}
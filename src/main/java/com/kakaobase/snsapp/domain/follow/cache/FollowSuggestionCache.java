@@ -0,0 +1,99 @@
+package com.kakaobase.snsapp.domain.follow.cache;
+
+import com.kakaobase.snsapp.domain.follow.util.MutualFollowRanker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.kakaobase.snsapp.global.common.cache.TransactionCallbacks.afterCommit;
+
+/**
+ * 팔로우 추천 결과 캐시
+ *
+ * <p>최근 추천을 조회한 회원(활성 회원)의 추천 순위를 보관합니다.
+ * 오래 조회되지 않은 회원은 LRU 로 제거되고, 남아 있는 회원은 백그라운드에서 주기적으로 다시 계산됩니다.
+ * 팔로우 변경으로 순위가 달라질 수 있는 회원은 stale 로 표시되어 다음 갱신 때 우선 재계산됩니다.</p>
+ */
+@Component
+public class FollowSuggestionCache {
+
+    private final Map<Long, Entry> entries;
+
+    public FollowSuggestionCache(@Value("${app.follow-suggestion.max-members:5000}") int maxMembers) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxMembers;
+            }
+        });
+    }
+
+    /**
+     * 회원의 추천 결과를 조회합니다. (stale 이어도 반환)
+     *
+     * @param memberId 회원 ID
+     * @return 추천 결과, 없으면 null
+     */
+    public Entry get(Long memberId) {
+        return entries.get(memberId);
+    }
+
+    /**
+     * 회원의 추천 결과를 저장합니다.
+     *
+     * @param memberId 회원 ID
+     * @param candidates 추천 순위
+     */
+    public void put(Long memberId, List<MutualFollowRanker.Candidate> candidates) {
+        entries.put(memberId, new Entry(List.copyOf(candidates), System.currentTimeMillis(), false));
+    }
+
+    /**
+     * 회원의 추천 결과를 재계산 대상으로 표시합니다. (커밋 이후)
+     *
+     * @param memberId 회원 ID
+     */
+    public void markStale(Long memberId) {
+        afterCommit(() -> entries.computeIfPresent(memberId,
+                (id, entry) -> new Entry(entry.candidates(), entry.computedAt(), true)));
+    }
+
+    /**
+     * 재계산이 필요한 회원 ID 를 반환합니다.
+     * stale 로 표시된 회원을 먼저, 그다음 계산 시각이 오래된 회원을 반환합니다.
+     *
+     * @param computedBefore 이 시각 이전에 계산된 결과는 재계산 대상
+     * @param maxCount 최대 반환 수
+     * @return 재계산할 회원 ID 목록
+     */
+    public List<Long> findRefreshTargets(long computedBefore, int maxCount) {
+        List<Long> stale = new ArrayList<>();
+        List<Long> expired = new ArrayList<>();
+        synchronized (entries) {
+            entries.forEach((memberId, entry) -> {
+                if (entry.stale()) {
+                    stale.add(memberId);
+                } else if (entry.computedAt() < computedBefore) {
+                    expired.add(memberId);
+                }
+            });
+        }
+        stale.addAll(expired);
+        return stale.size() > maxCount ? stale.subList(0, maxCount) : stale;
+    }
+
+    /**
+     * 회원의 추천 결과
+     *
+     * @param candidates 추천 순위
+     * @param computedAt 계산 시각 (epoch millis)
+     * @param stale 재계산 필요 여부
+     */
+    public record Entry(List<MutualFollowRanker.Candidate> candidates, long computedAt, boolean stale) {
+    }
+}
@@ -3,8 +3,10 @@ package com.kakaobase.snsapp.domain.follow.controller;
 
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
 import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.follow.dto.FollowRequest;
 import com.kakaobase.snsapp.domain.follow.dto.FollowResponse;
 import com.kakaobase.snsapp.domain.follow.service.FollowService;
+import com.kakaobase.snsapp.domain.follow.service.FollowSuggestionService;
 import com.kakaobase.snsapp.global.common.response.CustomResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -28,6 +31,7 @@ import java.util.List;
 public class FollowController {
 
     private final FollowService followService;
+    private final FollowSuggestionService followSuggestionService;
 
     @PostMapping("{targetUserId}/follows")
     @Operation(
@@ -88,9 +92,11 @@ public class FollowController {
     public CustomResponse<List<FollowResponse.UserInfo>> getFollowerList(
             @PathVariable Long userId,
             @Parameter(description = "한 번에 불러올 팔로워 수 (기본값: 22)") @RequestParam(required = false, defaultValue = "22") Integer limit,
-            @Parameter(description = "페이지네이션 커서 (이전 응답의 next_cursor)") @RequestParam(required = false) Long cursor
+            @Parameter(description = "페이지네이션 커서 (이전 응답의 next_cursor)") @RequestParam(required = false) Long cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-            List<FollowResponse.UserInfo> response =followService.getFollowers(userId, limit, cursor);
+            List<FollowResponse.UserInfo> response =
+                    followService.getFollowers(userId, limit, cursor, Long.valueOf(userDetails.getId()));
 
             return CustomResponse.success("팔로워 목록이 정상적으로 조회되었습니다" , response);
     }
@@ -110,10 +116,52 @@ public class FollowController {
     public CustomResponse<List<FollowResponse.UserInfo>> getFollowingList(
             @PathVariable Long userId,
             @Parameter(description = "한 번에 불러올 팔로워 수 (기본값: 22)") @RequestParam(required = false, defaultValue = "22") Integer limit,
-            @Parameter(description = "페이지네이션 커서 (이전 응답의 next_cursor)") @RequestParam(required = false) Long cursor
+            @Parameter(description = "페이지네이션 커서 (이전 응답의 next_cursor)") @RequestParam(required = false) Long cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        List<FollowResponse.UserInfo> response =followService.getFollowings(userId, limit, cursor);
+        List<FollowResponse.UserInfo> response =
+                followService.getFollowings(userId, limit, cursor, Long.valueOf(userDetails.getId()));
 
         return CustomResponse.success("팔로잉 목록이 정상적으로 조회되었습니다" , response);
     }
+
+    @PostMapping("follow-status")
+    @Operation(
+            summary = "팔로우 여부 일괄 조회",
+            description = "여러 회원에 대한 현재 회원의 팔로우 여부를 한 번에 조회합니다 (최대 100명)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "팔로우 여부 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "로그인이 필요한 요청")
+    })
+    public CustomResponse<List<FollowResponse.FollowStatus>> getFollowStatuses(
+            @Valid @RequestBody FollowRequest.FollowStatusRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        List<FollowResponse.FollowStatus> response =
+                followService.getFollowStatuses(Long.valueOf(userDetails.getId()), request.userIds());
+
+        return CustomResponse.success("팔로우 여부가 정상적으로 조회되었습니다", response);
+    }
+
+    @GetMapping("follow-suggestions")
+    @Operation(
+            summary = "팔로우 추천 목록 요청",
+            description = "함께 아는 친구 수와 기수를 기준으로 팔로우할 만한 회원 목록을 요청합니다"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "팔로우 추천 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "로그인이 필요한 요청")
+    })
+    public CustomResponse<List<FollowResponse.SuggestedUser>> getFollowSuggestions(
+            @Parameter(description = "한 번에 불러올 추천 회원 수 (기본값: 10)") @RequestParam(required = false, defaultValue = "10") Integer limit,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        List<FollowResponse.SuggestedUser> response =
+                followSuggestionService.getSuggestions(Long.valueOf(userDetails.getId()), limit);
+
+        return CustomResponse.success("팔로우 추천 목록이 정상적으로 조회되었습니다", response);
+    }
 }
@@ -6,6 +6,7 @@ import com.kakaobase.snsapp.domain.members.entity.Member;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -19,14 +20,28 @@ public class FollowConverter {
                 .build();
     }
 
-    public List<FollowResponse.UserInfo> toUserInfoList(List<Object[]> rawDataList) {
+    public List<FollowResponse.UserInfo> toUserInfoList(List<Object[]> rawDataList, Set<Long> followedMemberIds) {
         return rawDataList.stream()
-                .map(row -> new FollowResponse.UserInfo(
-                        ((Number) row[0]).longValue(), // id
-                        (String) row[1],               // nickname
-                        (String) row[2],               // name
-                        (String) row[3]                // profile_image
-                ))
+                .map(row -> {
+                    long id = ((Number) row[0]).longValue();
+                    return new FollowResponse.UserInfo(
+                            id,                            // id
+                            (String) row[1],               // nickname
+                            (String) row[2],               // name
+                            (String) row[3],               // profile_image
+                            followedMemberIds.contains(id) // is_followed
+                    );
+                })
                 .collect(Collectors.toList());
     }
+
+    public FollowResponse.SuggestedUser toSuggestedUser(Member member, int mutualFollowCount) {
+        return new FollowResponse.SuggestedUser(
+                member.getId(),
+                member.getNickname(),
+                member.getName(),
+                member.getProfileImgUrl(),
+                mutualFollowCount
+        );
+    }
 }
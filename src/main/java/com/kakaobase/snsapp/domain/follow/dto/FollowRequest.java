@@ -0,0 +1,22 @@
+package com.kakaobase.snsapp.domain.follow.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "팔로우 관련 요청 DTO 클래스")
+public class FollowRequest {
+
+    @Schema(description = "팔로우 여부 일괄 조회 요청")
+    public record FollowStatusRequest(
+            @Schema(description = "팔로우 여부를 확인할 회원 ID 목록 (최대 100개)", example = "[10, 11, 12]")
+            @NotEmpty(message = "회원 ID 목록은 필수 입력값입니다.")
+            @Size(max = 100, message = "회원 ID는 한 번에 최대 100개까지 조회할 수 있습니다.")
+            @JsonProperty("user_ids")
+            List<@NotNull Long> userIds
+    ){}
+}
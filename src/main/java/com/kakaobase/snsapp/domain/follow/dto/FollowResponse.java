@@ -19,7 +19,42 @@ public class FollowResponse {
 
             @Schema(description = "회원 프로필 이미지 URL", example = "https://cdn.service.com/img1.jpg", nullable = true)
             @JsonProperty("image_url")
-            String imageUrl
+            String imageUrl,
+
+            @Schema(description = "현재 회원의 팔로우 여부", example = "true")
+            @JsonProperty("is_followed")
+            boolean isFollowed
+    ){}
+
+    @Schema(description = "팔로우 추천 회원 정보")
+    public record SuggestedUser(
+            @Schema(description = "회원 ID", example = "10")
+            Long id,
+
+            @Schema(description = "회원 닉네임", example = "kevin.hong")
+            String nickname,
+
+            @Schema(description = "회원 이름", example = "홍길동")
+            String name,
+
+            @Schema(description = "회원 프로필 이미지 URL", example = "https://cdn.service.com/img1.jpg", nullable = true)
+            @JsonProperty("image_url")
+            String imageUrl,
+
+            @Schema(description = "함께 아는 친구 수 (내가 팔로우하는 사람 중 이 회원을 팔로우하는 사람 수)", example = "3")
+            @JsonProperty("mutual_follow_count")
+            int mutualFollowCount
+    ){}
+
+    @Schema(description = "회원별 팔로우 여부")
+    public record FollowStatus(
+            @Schema(description = "회원 ID", example = "10")
+            @JsonProperty("user_id")
+            Long userId,
+
+            @Schema(description = "현재 회원의 팔로우 여부", example = "true")
+            @JsonProperty("is_followed")
+            boolean isFollowed
     ){}
 
 }
@@ -16,7 +16,7 @@ public class Follow extends BaseCreatedTimeEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(columnDefinition = "INT UNSIGNED AUTO_INCREMENT")
+    @Column(columnDefinition = "INT UNSIGNED")
     private Long id;
 
     //팔로잉 요청건 사람
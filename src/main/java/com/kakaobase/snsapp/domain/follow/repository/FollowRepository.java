@@ -4,10 +4,12 @@ package com.kakaobase.snsapp.domain.follow.repository;
 import com.kakaobase.snsapp.domain.follow.entity.Follow;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -17,6 +19,14 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     boolean existsByFollowerUserAndFollowingUser(Member followerUser, Member followingUser);
 
+    //회원 엔티티를 조회하지 않고 ID로 팔로우 여부 확인
+    boolean existsByFollowerUserIdAndFollowingUserId(Long followerId, Long followingId);
+
+    //회원 엔티티를 조회하지 않고 ID로 팔로우 관계 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.followerUser.id = :followerId AND f.followingUser.id = :followingId")
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
     Optional<Follow> findByFollowerUserAndFollowingUser(Member followerUser, Member followingUser);
 
     @Query(value = """
@@ -53,4 +63,19 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     @Query("SELECT f.followingUser.id FROM Follow f WHERE f.followerUser = :followerUser")
     Set<Long> findFollowingUserIdsByFollowerUser(@Param("followerUser") Member followerUser);
 
+    //팔로우 그래프 캐시 적재용 팔로잉 회원 ID 전체 조회
+    @Query("SELECT f.followingUser.id FROM Follow f WHERE f.followerUser.id = :followerId")
+    List<Long> findFollowingUserIdsByFollowerId(@Param("followerId") Long followerId);
+
+    //여러 회원의 팔로우 관계를 (팔로워 ID, 팔로잉 ID) 쌍으로 일괄 조회 (팔로우 그래프 캐시 일괄 적재용)
+    @Query("SELECT f.followerUser.id, f.followingUser.id FROM Follow f WHERE f.followerUser.id IN :followerIds")
+    List<Object[]> findFollowPairsByFollowerIdIn(@Param("followerIds") Collection<Long> followerIds);
+
+    //주어진 회원 목록 중 팔로우 중인 회원 ID 조회 (목록 조회 시 팔로우 여부 일괄 확인용)
+    @Query("SELECT f.followingUser.id FROM Follow f " +
+            "WHERE f.followerUser.id = :followerId AND f.followingUser.id IN :followingIds")
+    Set<Long> findFollowingUserIdsByFollowerIdAndFollowingIdIn(
+            @Param("followerId") Long followerId,
+            @Param("followingIds") Collection<Long> followingIds);
+
 }
@@ -2,6 +2,8 @@ package com.kakaobase.snsapp.domain.follow.service;
 
 
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.follow.cache.FollowGraphCache;
+import com.kakaobase.snsapp.domain.follow.cache.FollowSuggestionCache;
 import com.kakaobase.snsapp.domain.follow.converter.FollowConverter;
 import com.kakaobase.snsapp.domain.follow.dto.FollowResponse;
 import com.kakaobase.snsapp.domain.follow.entity.Follow;
@@ -10,6 +12,7 @@ import com.kakaobase.snsapp.domain.follow.exception.FollowException;
 import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.service.MemberStatsService;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
@@ -18,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Slf4j
@@ -28,6 +32,9 @@ public class FollowService {
     private final FollowConverter followConverter;
     private final MemberRepository memberRepository;
     private final EntityManager entityManager;
+    private final FollowGraphCache followGraphCache;
+    private final FollowSuggestionCache followSuggestionCache;
+    private final MemberStatsService memberStatsService;
 
 
     @Transactional
@@ -39,58 +46,81 @@ public class FollowService {
             throw new FollowException(GeneralErrorCode.INVALID_FORMAT, "스스로를 팔로잉 할 수 없습니다");
         }
 
-        //팔로잉 신청한 사람
-        Member followerUser = memberRepository.findById(currentUserId)
-                .orElseThrow(()-> new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId"));
-
-        //팔로잉 요청 받은 사람
-        Member followingUser = memberRepository.findById(targetUserId)
-                .orElseThrow(()-> new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "targetUserId"));
-
-        if(followRepository.existsByFollowerUserAndFollowingUser(followerUser, followingUser)){
+        if(followRepository.existsByFollowerUserIdAndFollowingUserId(currentUserId, targetUserId)){
             throw new FollowException(FollowErrorCode.ALREADY_FOLLOWING);
         }
 
-        followerUser.incrementFollowingCount();
-        followingUser.incrementFollowerCount();
+        if(!memberRepository.existsById(targetUserId)) {
+            throw new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "targetUserId");
+        }
 
-        Follow follow = followConverter.toFollowEntity(followerUser, followingUser);
+        Follow follow = followConverter.toFollowEntity(
+                entityManager.getReference(Member.class, currentUserId),
+                entityManager.getReference(Member.class, targetUserId));
         followRepository.save(follow);
+
+        //팔로우 수는 members 행을 갱신하지 않고 같은 트랜잭션에서 member_stats 샤드에 증감분으로 기록
+        memberStatsService.addFollowCount(currentUserId, targetUserId, 1);
+        followGraphCache.onFollow(currentUserId, targetUserId);
+        followSuggestionCache.markStale(currentUserId);
     }
 
     @Transactional
     public void removeFollowing(Long targetUserId, CustomUserDetails userDetails){
 
-        //팔로잉 신청한 사람
-        Member followerUser = memberRepository.findById(Long.valueOf(userDetails.getId()))
-                .orElseThrow(()-> new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId"));
-        //팔로잉 요청 받은 사람
-        Member followingUser = memberRepository.findById(targetUserId)
-                .orElseThrow(()-> new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "targetUserId"));
-
-        Follow follow = followRepository.findByFollowerUserAndFollowingUser(followerUser, followingUser)
-                .orElseThrow(()-> new FollowException(FollowErrorCode.ALREADY_UNFOLLOWING));
+        Long currentUserId = Long.valueOf(userDetails.getId());
 
-        followerUser.decrementFollowingCount();
-        followingUser.decrementFollowerCount();
+        if(followRepository.deleteByFollowerIdAndFollowingId(currentUserId, targetUserId) == 0) {
+            if(!memberRepository.existsById(targetUserId)) {
+                throw new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "targetUserId");
+            }
+            throw new FollowException(FollowErrorCode.ALREADY_UNFOLLOWING);
+        }
 
-        followRepository.delete(follow);
+        memberStatsService.addFollowCount(currentUserId, targetUserId, -1);
+        followGraphCache.onUnfollow(currentUserId, targetUserId);
+        followSuggestionCache.markStale(currentUserId);
     }
 
 
-    public List<FollowResponse.UserInfo> getFollowers(Long userId, Integer limit, Long cursor) {
+    public List<FollowResponse.UserInfo> getFollowers(Long userId, Integer limit, Long cursor, Long currentMemberId) {
         if(!memberRepository.existsById(userId)){
             throw new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId");
         }
 
-        return followConverter.toUserInfoList(followRepository.findFollowersByFollowingUserWithCursor(userId, limit, cursor));
+        List<Object[]> rows = followRepository.findFollowersByFollowingUserWithCursor(userId, limit, cursor);
+        return followConverter.toUserInfoList(rows, followGraphCache.filterFollowing(currentMemberId, extractIds(rows)));
     }
 
-    public List<FollowResponse.UserInfo> getFollowings(Long userId, Integer limit, Long cursor) {
+    public List<FollowResponse.UserInfo> getFollowings(Long userId, Integer limit, Long cursor, Long currentMemberId) {
         if(!memberRepository.existsById(userId)){
             throw new FollowException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId");
         }
 
-        return followConverter.toUserInfoList(followRepository.findFollowingsByFollowerUserWithCursor(userId, limit, cursor));
+        List<Object[]> rows = followRepository.findFollowingsByFollowerUserWithCursor(userId, limit, cursor);
+        return followConverter.toUserInfoList(rows, followGraphCache.filterFollowing(currentMemberId, extractIds(rows)));
+    }
+
+    /**
+     * 여러 회원에 대한 현재 회원의 팔로우 여부를 한 번에 조회합니다.
+     * 팔로우 그래프 캐시로 판별하므로 회원 수와 관계없이 최대 한 번의 쿼리로 처리됩니다.
+     *
+     * @param currentMemberId 현재 회원 ID
+     * @param userIds 팔로우 여부를 확인할 회원 ID 목록
+     * @return 요청 순서대로 정렬된 회원별 팔로우 여부
+     */
+    public List<FollowResponse.FollowStatus> getFollowStatuses(Long currentMemberId, List<Long> userIds) {
+        Set<Long> followedIds = followGraphCache.filterFollowing(currentMemberId, userIds);
+
+        return userIds.stream()
+                .distinct()
+                .map(userId -> new FollowResponse.FollowStatus(userId, followedIds.contains(userId)))
+                .toList();
+    }
+
+    private List<Long> extractIds(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .toList();
     }
 }
@@ -0,0 +1,168 @@
+package com.kakaobase.snsapp.domain.follow.service;
+
+import com.kakaobase.snsapp.domain.follow.cache.FollowGraphCache;
+import com.kakaobase.snsapp.domain.follow.cache.FollowSuggestionCache;
+import com.kakaobase.snsapp.domain.follow.converter.FollowConverter;
+import com.kakaobase.snsapp.domain.follow.dto.FollowResponse;
+import com.kakaobase.snsapp.domain.follow.exception.FollowException;
+import com.kakaobase.snsapp.domain.follow.util.MutualFollowRanker;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.loader.MemberBatchLoader;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 추천(함께 아는 친구) 서비스
+ *
+ * <p>팔로우 그래프 캐시의 정렬된 팔로잉 배열로 함께 아는 친구 수를 계산하고,
+ * 같은 수이면 같은 기수(ClassName) 회원을 우선합니다. 후보가 부족하면 같은 기수의 인기 회원으로 채웁니다.</p>
+ *
+ * <p>계산 결과는 {@link FollowSuggestionCache} 에 보관하여 조회 시 바로 응답하고,
+ * 캐시에 남아 있는 활성 회원의 결과는 백그라운드에서 주기적으로 다시 계산합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FollowSuggestionService {
+
+    private static final int CANDIDATE_FACTOR = 4;
+    private static final long[] NO_FOLLOWINGS = new long[0];
+
+    private final FollowGraphCache followGraphCache;
+    private final FollowSuggestionCache followSuggestionCache;
+    private final MemberRepository memberRepository;
+    private final MemberBatchLoader memberBatchLoader;
+    private final FollowConverter followConverter;
+
+    @Value("${app.follow-suggestion.size:30}")
+    private int suggestionSize;
+
+    @Value("${app.follow-suggestion.ttl-millis:600000}")
+    private long ttlMillis;
+
+    @Value("${app.follow-suggestion.refresh-batch-size:200}")
+    private int refreshBatchSize;
+
+    /**
+     * 팔로우 추천 목록을 조회합니다.
+     * 계산된 결과가 없으면 즉시 계산하고, 이후 팔로우한 회원은 응답에서 제외합니다.
+     *
+     * @param memberId 현재 회원 ID
+     * @param limit 최대 추천 수
+     * @return 추천 회원 목록
+     */
+    public List<FollowResponse.SuggestedUser> getSuggestions(Long memberId, int limit) {
+        if (limit < 1) {
+            throw new FollowException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
+        }
+
+        FollowSuggestionCache.Entry entry = followSuggestionCache.get(memberId);
+        List<MutualFollowRanker.Candidate> candidates = entry != null ? entry.candidates() : computeSuggestions(memberId);
+
+        List<MutualFollowRanker.Candidate> visible = candidates.stream()
+                .filter(candidate -> !followGraphCache.isFollowing(memberId, candidate.memberId()))
+                .limit(limit)
+                .toList();
+        if (visible.isEmpty()) {
+            return List.of();
+        }
+
+        // 추천 회원을 등록해 두고 첫 변환 때 한 번에 조회 (탈퇴한 회원은 제외)
+        memberBatchLoader.register(visible.stream().map(MutualFollowRanker.Candidate::memberId).toList());
+
+        return visible.stream()
+                .flatMap(candidate -> memberBatchLoader.get(candidate.memberId())
+                        .map(member -> followConverter.toSuggestedUser(member, candidate.mutualCount()))
+                        .stream())
+                .toList();
+    }
+
+    /**
+     * 회원의 추천 순위를 계산하여 캐시에 저장합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 추천 순위
+     */
+    public List<MutualFollowRanker.Candidate> computeSuggestions(Long memberId) {
+        Member.ClassName className = memberRepository.findClassNameById(memberId).orElse(null);
+        if (className == null) {
+            followSuggestionCache.put(memberId, List.of());
+            return List.of();
+        }
+
+        long[] followings = followGraphCache.getFollowingIds(memberId);
+        Map<Long, long[]> secondHops = followGraphCache.getFollowingIds(
+                Arrays.stream(followings).boxed().toList());
+
+        List<MutualFollowRanker.Candidate> candidates = MutualFollowRanker.countMutualFollows(
+                memberId, followings,
+                followingId -> secondHops.getOrDefault(followingId, NO_FOLLOWINGS),
+                suggestionSize * CANDIDATE_FACTOR);
+
+        Set<Long> sameCohortIds = candidates.isEmpty() ? Set.of() : new HashSet<>(
+                memberRepository.findIdsByClassNameAndIdIn(className,
+                        candidates.stream().map(MutualFollowRanker.Candidate::memberId).toList()));
+
+        List<MutualFollowRanker.Candidate> ranked =
+                new ArrayList<>(MutualFollowRanker.rank(candidates, sameCohortIds, suggestionSize));
+
+        // 함께 아는 친구로 채우지 못한 자리는 같은 기수의 인기 회원으로 보충
+        if (ranked.size() < suggestionSize) {
+            Set<Long> rankedIds = ranked.stream()
+                    .map(MutualFollowRanker.Candidate::memberId)
+                    .collect(Collectors.toCollection(HashSet::new));
+            for (Long cohortMemberId : memberRepository.findTopIdsByClassName(
+                    className, memberId, suggestionSize * CANDIDATE_FACTOR)) {
+                if (ranked.size() >= suggestionSize) {
+                    break;
+                }
+                if (!rankedIds.contains(cohortMemberId) && Arrays.binarySearch(followings, cohortMemberId) < 0) {
+                    ranked.add(new MutualFollowRanker.Candidate(cohortMemberId, 0));
+                }
+            }
+        }
+
+        followSuggestionCache.put(memberId, ranked);
+        return ranked;
+    }
+
+    /**
+     * 캐시에 남아 있는 활성 회원의 추천 순위를 다시 계산합니다.
+     * 팔로우 변경으로 stale 표시된 회원을 먼저, 그다음 오래 전에 계산된 회원을 처리합니다.
+     * 한 회원의 실패가 다른 회원의 갱신에 영향을 주지 않도록 트랜잭션으로 묶지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.follow-suggestion.refresh-interval-millis:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refreshActiveMembers() {
+        List<Long> targets = followSuggestionCache.findRefreshTargets(
+                System.currentTimeMillis() - ttlMillis, refreshBatchSize);
+
+        for (Long memberId : targets) {
+            try {
+                computeSuggestions(memberId);
+            } catch (Exception e) {
+                log.warn("팔로우 추천 갱신 실패: memberId={}, error={}", memberId, e.getMessage());
+            }
+        }
+
+        if (!targets.isEmpty()) {
+            log.debug("팔로우 추천 갱신 완료: 회원 수={}", targets.size());
+        }
+    }
+}
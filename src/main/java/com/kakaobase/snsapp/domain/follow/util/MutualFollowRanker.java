@@ -0,0 +1,101 @@
+package com.kakaobase.snsapp.domain.follow.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/**
+ * 함께 아는 친구(친구의 친구) 순위 계산기
+ *
+ * <p>회원 A 가 팔로우하는 회원들의 팔로잉 목록(정렬된 배열)을 모두 이어 붙여 정렬한 뒤 같은 값의 개수를 세면,
+ * 후보 C 마다 {@code |A의 팔로잉 ∩ C의 팔로워|} (= A 가 팔로우하는 사람 중 C 를 팔로우하는 사람 수)를
+ * 팔로워 역인덱스나 해시맵 없이 구할 수 있습니다.</p>
+ *
+ * <p>DB/Spring 에 의존하지 않으므로 추천 서비스와 벤치마크에서 함께 사용합니다.</p>
+ */
+public final class MutualFollowRanker {
+
+    private static final Comparator<Candidate> BY_MUTUAL_COUNT = Comparator
+            .comparingInt(Candidate::mutualCount).reversed()
+            .thenComparingLong(Candidate::memberId);
+
+    private MutualFollowRanker() {
+    }
+
+    /**
+     * 함께 아는 친구 수가 많은 후보를 구합니다.
+     * 본인과 이미 팔로우 중인 회원은 제외됩니다.
+     *
+     * @param memberId 기준 회원 ID
+     * @param followings 기준 회원의 팔로잉 ID (오름차순)
+     * @param followingsOf 회원 ID 별 팔로잉 ID (오름차순) 조회 함수
+     * @param maxCandidates 반환할 최대 후보 수
+     * @return 함께 아는 친구 수 내림차순, 같으면 ID 오름차순 후보 목록
+     */
+    public static List<Candidate> countMutualFollows(long memberId, long[] followings,
+                                                     LongFunction<long[]> followingsOf, int maxCandidates) {
+        long[][] secondHops = new long[followings.length][];
+        int total = 0;
+        for (int i = 0; i < followings.length; i++) {
+            secondHops[i] = followingsOf.apply(followings[i]);
+            total += secondHops[i].length;
+        }
+        if (total == 0 || maxCandidates <= 0) {
+            return List.of();
+        }
+
+        long[] merged = new long[total];
+        int offset = 0;
+        for (long[] secondHop : secondHops) {
+            System.arraycopy(secondHop, 0, merged, offset, secondHop.length);
+            offset += secondHop.length;
+        }
+        Arrays.sort(merged);
+
+        List<Candidate> candidates = new ArrayList<>();
+        int runStart = 0;
+        for (int i = 1; i <= merged.length; i++) {
+            if (i < merged.length && merged[i] == merged[runStart]) {
+                continue;
+            }
+            long candidateId = merged[runStart];
+            if (candidateId != memberId && Arrays.binarySearch(followings, candidateId) < 0) {
+                candidates.add(new Candidate(candidateId, i - runStart));
+            }
+            runStart = i;
+        }
+
+        candidates.sort(BY_MUTUAL_COUNT);
+        return candidates.size() > maxCandidates ? List.copyOf(candidates.subList(0, maxCandidates)) : candidates;
+    }
+
+    /**
+     * 후보를 최종 순위로 정렬합니다.
+     * 함께 아는 친구 수가 같으면 같은 기수(ClassName) 회원을 먼저 추천합니다.
+     *
+     * @param candidates 후보 목록
+     * @param sameCohortIds 후보 중 기준 회원과 같은 기수인 회원 ID
+     * @param limit 최대 추천 수
+     * @return 추천 순위 목록
+     */
+    public static List<Candidate> rank(List<Candidate> candidates, Set<Long> sameCohortIds, int limit) {
+        return candidates.stream()
+                .sorted(Comparator.comparingInt(Candidate::mutualCount).reversed()
+                        .thenComparing(candidate -> !sameCohortIds.contains(candidate.memberId()))
+                        .thenComparingLong(Candidate::memberId))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 추천 후보
+     *
+     * @param memberId 후보 회원 ID
+     * @param mutualCount 기준 회원이 팔로우하는 사람 중 후보를 팔로우하는 사람 수
+     */
+    public record Candidate(long memberId, int mutualCount) {
+    }
+}
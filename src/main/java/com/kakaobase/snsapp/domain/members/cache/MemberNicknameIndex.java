@@ -0,0 +1,192 @@
+package com.kakaobase.snsapp.domain.members.cache;
+
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.util.NicknameIndex;
+import com.kakaobase.snsapp.global.common.cache.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.kakaobase.snsapp.global.common.cache.TransactionCallbacks.afterCommit;
+
+/**
+ * 회원 닉네임 검색 인덱스 캐시
+ *
+ * <p>시작 시 DB 의 활성 회원 닉네임으로 {@link NicknameIndex} 를 만들고, 이후 가입/탈퇴는 커밋 이후
+ * 작은 변경분(추가/삭제)으로 보관하여 검색 시 스냅샷 결과와 합칩니다.
+ * 변경분이 일정 크기를 넘으면 스냅샷을 다시 만듭니다.</p>
+ *
+ * <p>상태는 불변 객체로 통째로 교체하므로 검색은 락 없이 처리되고,
+ * 다른 노드의 변경은 {@link CacheInvalidationBus} 로 전달받아 해당 회원만 DB 에서 다시 읽어 반영합니다.
+ * 인덱스가 준비되기 전에는 {@link #isReady()} 가 false 이며 호출자는 DB 검색을 사용합니다.</p>
+ */
+@Slf4j
+@Component
+public class MemberNicknameIndex {
+
+    private static final String TOPIC = "member-nickname";
+
+    private static final Comparator<NicknameIndex.Match> MATCH_ORDER = Comparator
+            .comparing(NicknameIndex.Match::prefix).reversed()
+            .thenComparing(NicknameIndex.Match::key)
+            .thenComparingLong(NicknameIndex.Match::memberId);
+
+    private final MemberRepository memberRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final int maxPending;
+
+    private volatile State state = new State(NicknameIndex.empty(), Map.of(), Set.of());
+    private volatile boolean ready;
+
+    public MemberNicknameIndex(
+            MemberRepository memberRepository,
+            CacheInvalidationBus invalidationBus,
+            @Value("${app.nickname-index.max-pending:512}") int maxPending) {
+        this.memberRepository = memberRepository;
+        this.invalidationBus = invalidationBus;
+        this.maxPending = maxPending;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        invalidationBus.subscribe(TOPIC, this::reload);
+    }
+
+    /**
+     * DB 의 활성 회원 닉네임으로 인덱스를 다시 만듭니다.
+     * 적재하는 동안 들어온 변경은 적재가 끝난 뒤 반영됩니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long startedAt = System.nanoTime();
+        Map<Long, String> nicknames = new HashMap<>();
+        for (Object[] row : memberRepository.findAllIdAndNickname()) {
+            nicknames.put(((Number) row[0]).longValue(), (String) row[1]);
+        }
+        state = new State(NicknameIndex.build(nicknames), Map.of(), Set.of());
+        ready = true;
+        log.info("닉네임 검색 인덱스 생성 완료: 회원 수={}, 소요 시간={}ms",
+                nicknames.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 닉네임으로 회원을 검색합니다.
+     * 접두사 일치를 먼저, 그다음 부분 일치를 닉네임 순으로 반환합니다. (대소문자 무시)
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 회원 ID 목록
+     */
+    public List<Long> search(String query, int limit) {
+        String normalized = query == null ? "" : NicknameIndex.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        State current = state;
+        List<NicknameIndex.Match> matches = new ArrayList<>(current.snapshot().search(normalized, limit,
+                memberId -> current.removed().contains(memberId) || current.added().containsKey(memberId)));
+        current.added().forEach((memberId, key) -> {
+            if (key.startsWith(normalized)) {
+                matches.add(new NicknameIndex.Match(key, memberId, true));
+            } else if (key.contains(normalized)) {
+                matches.add(new NicknameIndex.Match(key, memberId, false));
+            }
+        });
+
+        return matches.stream()
+                .sorted(MATCH_ORDER)
+                .limit(limit)
+                .map(NicknameIndex.Match::memberId)
+                .toList();
+    }
+
+    /**
+     * 가입하거나 닉네임이 바뀐 회원을 인덱스에 반영합니다. (커밋 이후)
+     *
+     * @param memberId 회원 ID
+     * @param nickname 닉네임
+     */
+    public void onSaved(Long memberId, String nickname) {
+        afterCommit(() -> {
+            put(memberId, nickname);
+            invalidationBus.publish(TOPIC, memberId);
+        });
+    }
+
+    /**
+     * 탈퇴한 회원을 인덱스에서 제외합니다. (커밋 이후)
+     *
+     * @param memberId 회원 ID
+     */
+    public void onRemoved(Long memberId) {
+        afterCommit(() -> {
+            remove(memberId);
+            invalidationBus.publish(TOPIC, memberId);
+        });
+    }
+
+    /**
+     * 다른 노드에서 변경된 회원을 DB 에서 다시 읽어 반영합니다.
+     */
+    private void reload(Long memberId) {
+        memberRepository.findNicknameById(memberId).ifPresentOrElse(
+                nickname -> put(memberId, nickname),
+                () -> remove(memberId));
+    }
+
+    private synchronized void put(Long memberId, String nickname) {
+        Map<Long, String> added = new HashMap<>(state.added());
+        added.put(memberId, NicknameIndex.normalize(nickname));
+        Set<Long> removed = new HashSet<>(state.removed());
+        removed.remove(memberId);
+        update(added, removed);
+    }
+
+    private synchronized void remove(Long memberId) {
+        Map<Long, String> added = new HashMap<>(state.added());
+        added.remove(memberId);
+        Set<Long> removed = new HashSet<>(state.removed());
+        removed.add(memberId);
+        update(added, removed);
+    }
+
+    private void update(Map<Long, String> added, Set<Long> removed) {
+        if (added.size() + removed.size() <= maxPending) {
+            state = new State(state.snapshot(), Map.copyOf(added), Set.copyOf(removed));
+            return;
+        }
+
+        // 변경분이 커지면 스냅샷에 합쳐 다시 생성
+        Map<Long, String> merged = state.snapshot().toMap();
+        removed.forEach(merged::remove);
+        merged.putAll(added);
+        state = new State(NicknameIndex.build(merged), Map.of(), Set.of());
+    }
+
+    /**
+     * 인덱스 상태 (스냅샷 + 스냅샷 이후 변경분)
+     *
+     * @param snapshot 닉네임 인덱스 스냅샷
+     * @param added 스냅샷 이후 추가/변경된 회원 ID -> 정규화된 닉네임
+     * @param removed 스냅샷 이후 제외된 회원 ID
+     */
+    private record State(NicknameIndex snapshot, Map<Long, String> added, Set<Long> removed) {
+    }
+}
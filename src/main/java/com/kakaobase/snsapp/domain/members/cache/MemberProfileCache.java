@@ -0,0 +1,159 @@
+package com.kakaobase.snsapp.domain.members.cache;
+
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.global.common.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.kakaobase.snsapp.global.common.cache.TransactionCallbacks.afterCommit;
+
+/**
+ * 회원 프로필 캐시
+ *
+ * <p>회원 정보 조회, 토큰 재발급, 소셜봇 대댓글 요청처럼 같은 회원 행을 반복해서 읽는 경로에서
+ * 닉네임/프로필 이미지/기수/권한/활성 여부만 메모리에 보관합니다.
+ * 최대 회원 수를 넘으면 가장 오래 사용하지 않은 회원부터, TTL 이 지난 항목은 조회 시점에 제거합니다.</p>
+ *
+ * <p>프로필 변경, 탈퇴, 정지 시 커밋 이후 {@link #evict(Long)} 로 제거하고,
+ * 다른 노드에는 {@link CacheInvalidationBus} 로 무효화를 전파합니다.
+ * 전파가 누락되더라도 TTL 이 지나면 DB 에서 다시 읽습니다.</p>
+ */
+@Component
+public class MemberProfileCache {
+
+    private static final String TOPIC = "member-profile";
+
+    private final MemberRepository memberRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final long ttlMillis;
+
+    private final Map<Long, CachedProfile> profiles;
+
+    // 적재 중 무효화가 일어나면 적재 결과를 캐시에 넣지 않기 위한 변경 순번
+    private final AtomicLong mutationSequence = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MemberProfileCache(
+            MemberRepository memberRepository,
+            CacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.member-profile-cache.max-members:10000}") int maxMembers,
+            @Value("${app.member-profile-cache.ttl-millis:60000}") long ttlMillis) {
+        this.memberRepository = memberRepository;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttlMillis;
+        this.profiles = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedProfile> eldest) {
+                return size() > maxMembers;
+            }
+        });
+    }
+
+    @PostConstruct
+    void init() {
+        invalidationBus.subscribe(TOPIC, this::evictLocal);
+
+        FunctionCounter.builder("member.profile.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("member.profile.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("member.profile.cache.hit.ratio", this, MemberProfileCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("member.profile.cache.size", profiles, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원 프로필을 조회합니다.
+     * 캐시에 없거나 만료되었으면 DB 에서 읽어 보관합니다. 없는 회원(탈퇴 포함)은 보관하지 않습니다.
+     *
+     * @param memberId 회원 ID
+     * @return 회원 프로필
+     */
+    public Optional<Profile> get(Long memberId) {
+        CachedProfile cached = profiles.get(memberId);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            hits.increment();
+            return Optional.of(cached.profile());
+        }
+        misses.increment();
+
+        long sequence = mutationSequence.get();
+        Optional<Profile> loaded = memberRepository.findById(memberId).map(Profile::from);
+
+        loaded.ifPresent(profile -> {
+            synchronized (profiles) {
+                if (mutationSequence.get() == sequence) {
+                    profiles.put(memberId, new CachedProfile(profile, System.currentTimeMillis() + ttlMillis));
+                }
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 회원 프로필을 캐시에서 제거하고 다른 노드에도 전파합니다. (커밋 이후)
+     * 프로필 변경, 탈퇴, 정지처럼 캐시된 값이 바뀌는 모든 경로에서 호출합니다.
+     *
+     * @param memberId 회원 ID
+     */
+    public void evict(Long memberId) {
+        afterCommit(() -> {
+            evictLocal(memberId);
+            invalidationBus.publish(TOPIC, memberId);
+        });
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private void evictLocal(Long memberId) {
+        synchronized (profiles) {
+            mutationSequence.incrementAndGet();
+            profiles.remove(memberId);
+        }
+    }
+
+    /**
+     * 캐시되는 회원 프로필
+     *
+     * @param id 회원 ID
+     * @param nickname 닉네임
+     * @param profileImgUrl 프로필 이미지 URL
+     * @param className 기수
+     * @param role 권한
+     * @param enabled 활성 여부 (탈퇴/정지가 아니면 true)
+     */
+    public record Profile(Long id, String nickname, String profileImgUrl, String className, String role,
+                          boolean enabled) {
+
+        public static Profile from(Member member) {
+            return new Profile(member.getId(), member.getNickname(), member.getProfileImgUrl(),
+                    member.getClassName(), member.getRole(), member.isEnabled());
+        }
+    }
+
+    private record CachedProfile(Profile profile, long expiresAt) {
+    }
+}
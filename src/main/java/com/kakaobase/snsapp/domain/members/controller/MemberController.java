@@ -78,6 +78,22 @@ public class MemberController {
         return CustomResponse.success("유저 마이페이지 조회에 성공하였습니다", response);
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "닉네임 자동완성 검색", description = "닉네임이 검색어로 시작하는 회원을 먼저, 그다음 검색어를 포함하는 회원을 반환합니다")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "닉네임 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "로그인 되지 않음")
+    })
+    public CustomResponse<List<MemberResponseDto.UserInfo>> searchUsers(
+            @Parameter(description = "검색할 닉네임") @RequestParam String nickname,
+            @Parameter(description = "최대 검색 결과 수") @RequestParam(defaultValue = "10") int limit
+    ) {
+        List<MemberResponseDto.UserInfo> response = memberService.searchUsersByNickname(nickname, limit);
+
+        return CustomResponse.success("닉네임 검색에 성공하였습니다", response);
+    }
+
     @GetMapping("/{userId}/posts")
     @Operation(summary = "유저가 작성한 게시글 목록 조회", description = "유저가 작성한 게시글 목록을 조회합니다.")
     public CustomResponse<List<PostResponseDto.PostDetails>> getUserPosts(
@@ -3,6 +3,7 @@ package com.kakaobase.snsapp.domain.members.converter;
 import com.kakaobase.snsapp.domain.members.dto.MemberRequestDto;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.service.MemberStatsService;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import com.kakaobase.snsapp.global.error.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -74,18 +76,25 @@ public class MemberConverter {
     }
 
     /**
-     * Member Entity 리스트를 UserInfo DTO 리스트로 변환합니다.
+     * Member Entity 리스트를 팔로우 여부가 포함된 UserInfo DTO 리스트로 변환합니다.
      *
      * @param members Member Entity 리스트
+     * @param followedMemberIds 현재 회원이 팔로우 중인 회원 ID 목록
      * @return UserInfo DTO 리스트
      */
-    public List<MemberResponseDto.UserInfo> convertToUserInfoList(List<Member> members) {
+    public List<MemberResponseDto.UserInfo> convertToUserInfoList(List<Member> members, Set<Long> followedMemberIds) {
         if (members == null) {
             return List.of();
         }
 
         return members.stream()
-                .map(this::convertToUserInfo)
+                .map(member -> MemberResponseDto.UserInfo.builder()
+                        .id(member.getId())
+                        .name(member.getName())
+                        .nickname(member.getNickname())
+                        .imageUrl(member.getProfileImgUrl())
+                        .isFollowed(followedMemberIds.contains(member.getId()))
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -102,7 +111,8 @@ public class MemberConverter {
                 .build();
     }
 
-    public MemberResponseDto.Mypage toMypage(Member member, Long postCount, Boolean isMe, boolean isFollowing) {
+    public MemberResponseDto.Mypage toMypage(Member member, MemberStatsService.Counts counts,
+                                             Boolean isMe, boolean isFollowing) {
         return MemberResponseDto.Mypage
                 .builder()
                 .id(member.getId())
@@ -110,9 +120,9 @@ public class MemberConverter {
                 .nickname(member.getNickname())
                 .imageUrl(member.getProfileImgUrl())
                 .className(member.getClassName())
-                .postCount(postCount)
-                .followerCount(member.getFollowerCount())
-                .followingCount(member.getFollowingCount())
+                .postCount((long) counts.postCount())
+                .followerCount(counts.followerCount())
+                .followingCount(counts.followingCount())
                 .isMe(isMe)
                 .isFollowed(isFollowing)
                 .build();
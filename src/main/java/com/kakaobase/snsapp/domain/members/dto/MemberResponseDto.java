@@ -1,5 +1,6 @@
 package com.kakaobase.snsapp.domain.members.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -78,7 +79,12 @@ public class MemberResponseDto {
 
             @Schema(description = "회원 프로필 이미지 URL", example = "https://cdn.service.com/img1.jpg", nullable = true)
             @JsonProperty("image_url")
-            String imageUrl
+            String imageUrl,
+
+            @Schema(description = "팔로우 여부 (유저 목록 조회에서만 포함)", example = "false", nullable = true)
+            @JsonProperty("is_followed")
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            Boolean isFollowed
     ){}
 
     //게시물 목록 조회, 상세조회에 사용
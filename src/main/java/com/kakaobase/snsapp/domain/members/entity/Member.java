@@ -20,6 +20,7 @@ import org.hibernate.annotations.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @DynamicInsert
+@DynamicUpdate
 @SQLDelete(sql = "UPDATE members SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
 public class Member extends BaseSoftDeletableEntity {
@@ -59,6 +60,7 @@ public class Member extends BaseSoftDeletableEntity {
     @ColumnDefault("false")
     private Boolean isBanned = false;
 
+    // 팔로워/팔로잉 수는 member_stats 로 이전됨. 통계 행이 아직 없는 회원의 기준값으로만 사용
     @Column(name = "following_count", nullable = false)
     @ColumnDefault("0")
     private Integer followingCount = 0;
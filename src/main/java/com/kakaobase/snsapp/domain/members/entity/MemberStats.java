@@ -0,0 +1,38 @@
+package com.kakaobase.snsapp.domain.members.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 통계 엔티티
+ * <p>
+ * 인기 회원에게 팔로우가 몰릴 때 프로필 정보를 담은 members 행에 갱신이 몰리지 않도록
+ * 팔로워/팔로잉 수와 작성한 게시글 수를 별도 테이블에 보관합니다.
+ * 행은 해당 회원의 통계가 처음 바뀌거나 정합성 보정 작업이 처리할 때
+ * follow 와 posts 의 실제 개수를 기준으로 생성됩니다.
+ * </p>
+ */
+@Entity
+@Table(name = "member_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberStats {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "follower_count", nullable = false)
+    private int followerCount;
+
+    @Column(name = "following_count", nullable = false)
+    private int followingCount;
+
+    @Column(name = "post_count", nullable = false)
+    private int postCount;
+}
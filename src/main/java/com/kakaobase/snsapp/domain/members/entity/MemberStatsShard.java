@@ -0,0 +1,82 @@
+package com.kakaobase.snsapp.domain.members.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 통계 샤드 카운터 엔티티
+ * <p>
+ * 인기 회원에게 팔로우가 몰릴 때 member_stats 한 행에 갱신이 몰리지 않도록
+ * 팔로워/팔로잉/게시글 수의 증감분(delta)을 회원마다 여러 샤드 행에 나누어 기록합니다.
+ * 조회 시 member_stats 의 값과 샤드 합계를 더해 사용하며, 주기적으로 member_stats 에 합산(압축)됩니다.
+ * </p>
+ */
+@Entity
+@Table(
+        name = "member_stats_shards",
+        indexes = {
+                // 조회/보정의 샤드 합계 서브쿼리: member_id = ?
+                @Index(name = "idx_member_stats_shards_member", columnList = "member_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberStatsShard {
+
+    @EmbeddedId
+    private MemberStatsShardId id;
+
+    @Column(name = "follower_delta", nullable = false)
+    private int followerDelta;
+
+    @Column(name = "following_delta", nullable = false)
+    private int followingDelta;
+
+    @Column(name = "post_delta", nullable = false)
+    private int postDelta;
+
+    /**
+     * MemberStatsShard 엔티티의 임베디드 복합 기본키 클래스
+     */
+    @Embeddable
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class MemberStatsShardId implements java.io.Serializable {
+
+        @Column(name = "member_id")
+        private Long memberId;
+
+        @Column(name = "shard_id")
+        private Integer shardId;
+
+        public MemberStatsShardId(Long memberId, Integer shardId) {
+            this.memberId = memberId;
+            this.shardId = shardId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            MemberStatsShardId that = (MemberStatsShardId) o;
+
+            if (!memberId.equals(that.memberId)) return false;
+            return shardId.equals(that.shardId);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = memberId.hashCode();
+            result = 31 * result + shardId.hashCode();
+            return result;
+        }
+    }
+}
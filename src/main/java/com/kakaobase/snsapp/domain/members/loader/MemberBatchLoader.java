@@ -0,0 +1,157 @@
+package com.kakaobase.snsapp.domain.members.loader;
+
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 회원 일괄 로더
+ *
+ * <p>응답을 조립하는 동안 필요한 회원 ID 를 {@link #register} 로 모아 두고,
+ * 처음 조회할 때 모인 ID 를 한 번의 {@code findAllByIdIn} 으로 함께 읽습니다.
+ * 읽은 회원(없는 회원 포함)은 요청이 끝날 때까지 보관하므로 같은 요청에서 같은 회원을 다시 읽지 않습니다.</p>
+ *
+ * <p>상태는 현재 HTTP 요청의 속성에 보관합니다. 비동기 작업처럼 요청 밖에서는 {@link #withinScope} 로 감싼 동안
+ * 현재 스레드에 보관하고, 감싸지 않고 호출되면 보관 없이 호출할 때마다 요청한 회원만 한 번의 쿼리로 읽습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberBatchLoader {
+
+    private static final String ATTRIBUTE = MemberBatchLoader.class.getName() + ".STATE";
+    private static final int BATCH_SIZE = 1000;
+
+    // 요청 밖에서 withinScope 로 감싼 작업의 상태
+    private static final ThreadLocal<State> SCOPE = new ThreadLocal<>();
+
+    private final MemberRepository memberRepository;
+
+    /**
+     * 요청 밖의 작업을 요청과 같은 단위로 묶어 실행합니다.
+     * 작업 안에서 등록한 회원은 첫 조회 때 함께 읽고 작업이 끝날 때까지 보관합니다.
+     * 이미 요청 안이거나 다른 작업으로 감싸져 있으면 그 상태를 그대로 사용합니다.
+     *
+     * @param work 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T withinScope(Supplier<T> work) {
+        if (currentState() != null) {
+            return work.get();
+        }
+        SCOPE.set(new State());
+        try {
+            return work.get();
+        } finally {
+            SCOPE.remove();
+        }
+    }
+
+    /**
+     * 이후 조회에서 함께 읽을 회원 ID 를 등록합니다.
+     *
+     * @param memberIds 회원 ID 목록
+     */
+    public void register(Collection<Long> memberIds) {
+        State state = currentState();
+        if (state != null) {
+            state.register(memberIds);
+        }
+    }
+
+    /**
+     * 회원을 조회합니다. 등록된 다른 회원도 함께 읽습니다.
+     *
+     * @param memberId 회원 ID
+     * @return 회원 (없거나 탈퇴한 회원이면 empty)
+     */
+    public Optional<Member> get(Long memberId) {
+        return Optional.ofNullable(getAll(List.of(memberId)).get(memberId));
+    }
+
+    /**
+     * 여러 회원을 조회합니다. 등록된 다른 회원도 함께 읽습니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @return 회원 ID 별 회원 (없거나 탈퇴한 회원은 제외)
+     */
+    public Map<Long, Member> getAll(Collection<Long> memberIds) {
+        State state = currentState();
+        if (state == null) {
+            return load(new LinkedHashSet<>(memberIds));
+        }
+
+        synchronized (state) {
+            state.register(memberIds);
+            if (!state.pending.isEmpty()) {
+                Map<Long, Member> loaded = load(state.pending);
+                state.pending.forEach(id -> state.members.put(id, loaded.get(id)));
+                state.pending.clear();
+            }
+
+            Map<Long, Member> result = new HashMap<>();
+            for (Long memberId : memberIds) {
+                Member member = state.members.get(memberId);
+                if (member != null) {
+                    result.put(memberId, member);
+                }
+            }
+            return result;
+        }
+    }
+
+    private Map<Long, Member> load(Set<Long> memberIds) {
+        Map<Long, Member> result = new HashMap<>();
+        List<Long> ids = new ArrayList<>(memberIds);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            for (Member member : memberRepository.findAllByIdIn(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())))) {
+                result.put(member.getId(), member);
+            }
+        }
+        return result;
+    }
+
+    private static State currentState() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return SCOPE.get();
+        }
+        State state = (State) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state == null) {
+            state = new State();
+            attributes.setAttribute(ATTRIBUTE, state, RequestAttributes.SCOPE_REQUEST);
+        }
+        return state;
+    }
+
+    /**
+     * 요청 단위 로더 상태
+     */
+    private static final class State {
+
+        // 아직 읽지 않은 등록된 회원 ID
+        private final Set<Long> pending = new LinkedHashSet<>();
+        // 읽은 회원 (없는 회원은 null 로 보관하여 다시 읽지 않음)
+        private final Map<Long, Member> members = new HashMap<>();
+
+        private synchronized void register(Collection<Long> memberIds) {
+            for (Long memberId : memberIds) {
+                if (memberId != null && !members.containsKey(memberId)) {
+                    pending.add(memberId);
+                }
+            }
+        }
+    }
+}
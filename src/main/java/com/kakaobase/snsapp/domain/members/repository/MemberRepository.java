@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -111,4 +112,57 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     List<Member> findAllByNicknameIn(List<String> nicknames);
 
     Optional<Member> findFirstByRole(Member.Role role);
-}
\ No newline at end of file
+
+    /**
+     * 모든 활성 회원의 ID 와 닉네임을 조회합니다. (닉네임 검색 인덱스 생성용)
+     *
+     * @return [회원 ID, 닉네임] 목록
+     */
+    @Query("SELECT m.id, m.nickname FROM Member m")
+    List<Object[]> findAllIdAndNickname();
+
+    /**
+     * 활성 회원의 닉네임만 조회합니다. (엔티티를 적재하지 않음)
+     *
+     * @param id 회원 ID
+     * @return 회원 닉네임, 탈퇴했거나 없으면 Optional.empty()
+     */
+    @Query("SELECT m.nickname FROM Member m WHERE m.id = :id")
+    Optional<String> findNicknameById(@Param("id") Long id);
+
+    /**
+     * 회원의 기수만 조회합니다. (엔티티를 적재하지 않음)
+     *
+     * @param id 회원 ID
+     * @return 회원 기수
+     */
+    @Query("SELECT m.className FROM Member m WHERE m.id = :id")
+    Optional<Member.ClassName> findClassNameById(@Param("id") Long id);
+
+    /**
+     * 주어진 회원 중 해당 기수인 회원 ID 를 조회합니다.
+     *
+     * @param className 기수명
+     * @param ids 확인할 회원 ID 목록
+     * @return 해당 기수인 회원 ID 목록
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.className = :className AND m.id IN :ids")
+    List<Long> findIdsByClassNameAndIdIn(@Param("className") Member.ClassName className,
+                                         @Param("ids") Collection<Long> ids);
+
+    /**
+     * 기수 내 팔로워가 많은 회원 ID 를 조회합니다. (팔로우 추천 후보 보충용)
+     * 팔로워 수는 member_stats 를 우선 사용하고, 통계 행이 없으면 members 의 기존 값을 사용합니다.
+     *
+     * @param className 기수명
+     * @param excludeId 제외할 회원 ID (본인)
+     * @param limit 최대 조회 수
+     * @return 팔로워 수 내림차순 회원 ID 목록
+     */
+    @Query("SELECT m.id FROM Member m LEFT JOIN MemberStats s ON s.memberId = m.id " +
+            "WHERE m.className = :className AND m.id <> :excludeId " +
+            "ORDER BY COALESCE(s.followerCount, m.followerCount) DESC, m.id ASC LIMIT :limit")
+    List<Long> findTopIdsByClassName(@Param("className") Member.ClassName className,
+                                     @Param("excludeId") Long excludeId,
+                                     @Param("limit") int limit);
+}
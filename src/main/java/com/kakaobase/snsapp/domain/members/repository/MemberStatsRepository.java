@@ -0,0 +1,147 @@
+package com.kakaobase.snsapp.domain.members.repository;
+
+import com.kakaobase.snsapp.domain.members.entity.MemberStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회원 통계(팔로우 수, 게시글 수)에 대한 데이터 액세스 객체
+ */
+@Repository
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+
+    /**
+     * 샤드에서 합산한 증감분을 통계 행에 더합니다. (압축 작업 전용)
+     * 샤드 합계와 더해 실제 개수가 되도록 0 미만으로 보정하지 않습니다.
+     *
+     * @param memberId 회원 ID
+     * @param followerDelta 팔로워 수 증감분
+     * @param followingDelta 팔로잉 수 증감분
+     * @param postDelta 게시글 수 증감분
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE MemberStats s SET " +
+            "s.followerCount = s.followerCount + :followerDelta, " +
+            "s.followingCount = s.followingCount + :followingDelta, " +
+            "s.postCount = s.postCount + :postDelta " +
+            "WHERE s.memberId = :memberId")
+    int addCounts(@Param("memberId") Long memberId,
+                  @Param("followerDelta") int followerDelta,
+                  @Param("followingDelta") int followingDelta,
+                  @Param("postDelta") int postDelta);
+
+    /**
+     * 통계 행이 없으면 주어진 값으로 생성합니다. 이미 있으면 아무것도 바꾸지 않습니다.
+     *
+     * @param memberId 회원 ID
+     * @param followerCount 팔로워 수
+     * @param followingCount 팔로잉 수
+     * @param postCount 게시글 수
+     * @return 영향받은 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO member_stats (member_id, follower_count, following_count, post_count) " +
+            "VALUES (:memberId, :followerCount, :followingCount, :postCount) " +
+            "ON DUPLICATE KEY UPDATE follower_count = follower_count",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId,
+                       @Param("followerCount") int followerCount,
+                       @Param("followingCount") int followingCount,
+                       @Param("postCount") int postCount);
+
+    /**
+     * 통계 행이 읽은 값 그대로일 때만 보정한 값으로 바꿉니다.
+     * 읽은 뒤 압축 작업이 값을 바꿨으면 갱신하지 않고 다음 보정에 맡깁니다.
+     *
+     * @param memberId 회원 ID
+     * @param followerCount 보정할 팔로워 수
+     * @param followingCount 보정할 팔로잉 수
+     * @param postCount 보정할 게시글 수
+     * @param expectedFollowerCount 읽은 팔로워 수
+     * @param expectedFollowingCount 읽은 팔로잉 수
+     * @param expectedPostCount 읽은 게시글 수
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MemberStats s SET " +
+            "s.followerCount = :followerCount, s.followingCount = :followingCount, s.postCount = :postCount " +
+            "WHERE s.memberId = :memberId AND s.followerCount = :expectedFollowerCount " +
+            "AND s.followingCount = :expectedFollowingCount AND s.postCount = :expectedPostCount")
+    int updateCountsIf(@Param("memberId") Long memberId,
+                       @Param("followerCount") int followerCount,
+                       @Param("followingCount") int followingCount,
+                       @Param("postCount") int postCount,
+                       @Param("expectedFollowerCount") int expectedFollowerCount,
+                       @Param("expectedFollowingCount") int expectedFollowingCount,
+                       @Param("expectedPostCount") int expectedPostCount);
+
+    /**
+     * 게시글 수를 주어진 값으로 바꿉니다.
+     *
+     * @param memberId 회원 ID
+     * @param postCount 게시글 수
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.postCount = :postCount WHERE s.memberId = :memberId")
+    int updatePostCount(@Param("memberId") Long memberId, @Param("postCount") int postCount);
+
+    /**
+     * 회원들의 팔로워/팔로잉/게시글 수를 조회합니다.
+     * 통계 행이 있으면 통계 행과 샤드 합계를 더하고, 아직 없는 회원은 follow/posts 의 실제 개수를 사용합니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @return [회원 ID, 팔로워 수, 팔로잉 수, 게시글 수] 목록
+     */
+    @Query("SELECT m.id, " +
+            "CASE WHEN s.memberId IS NULL THEN (SELECT COUNT(f) FROM Follow f WHERE f.followingUser.id = m.id) " +
+            "ELSE s.followerCount + COALESCE((SELECT SUM(d.followerDelta) FROM MemberStatsShard d WHERE d.id.memberId = m.id), 0) END, " +
+            "CASE WHEN s.memberId IS NULL THEN (SELECT COUNT(f) FROM Follow f WHERE f.followerUser.id = m.id) " +
+            "ELSE s.followingCount + COALESCE((SELECT SUM(d.followingDelta) FROM MemberStatsShard d WHERE d.id.memberId = m.id), 0) END, " +
+            "CASE WHEN s.memberId IS NULL THEN (SELECT COUNT(p) FROM Post p WHERE p.member.id = m.id AND p.deletedAt IS NULL) " +
+            "ELSE s.postCount + COALESCE((SELECT SUM(d.postDelta) FROM MemberStatsShard d WHERE d.id.memberId = m.id), 0) END " +
+            "FROM Member m LEFT JOIN MemberStats s ON s.memberId = m.id WHERE m.id IN :memberIds")
+    List<Object[]> findCountsByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * 보정에 필요한 값을 한 번의 조회로 읽습니다.
+     * 팔로우/게시글 변경은 원본 행과 샤드 증감분을 같은 트랜잭션에서 기록하므로,
+     * 한 문장이 보는 스냅샷 안에서는 (실제 개수 - 샤드 합계) 가 통계 행에 있어야 할 값입니다.
+     * 잠금 없이 읽으므로 팔로우 INSERT 를 막지 않습니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @return [회원 ID, 팔로워 수, 팔로잉 수, 게시글 수 (통계 행이 없으면 null),
+     *         실제 팔로워 수, 실제 팔로잉 수, 실제 게시글 수, 샤드 팔로워 합계, 샤드 팔로잉 합계, 샤드 게시글 합계] 목록
+     */
+    @Query("SELECT m.id, s.followerCount, s.followingCount, s.postCount, " +
+            "(SELECT COUNT(f) FROM Follow f WHERE f.followingUser.id = m.id), " +
+            "(SELECT COUNT(f) FROM Follow f WHERE f.followerUser.id = m.id), " +
+            "(SELECT COUNT(p) FROM Post p WHERE p.member.id = m.id AND p.deletedAt IS NULL), " +
+            "COALESCE((SELECT SUM(d.followerDelta) FROM MemberStatsShard d WHERE d.id.memberId = m.id), 0), " +
+            "COALESCE((SELECT SUM(d.followingDelta) FROM MemberStatsShard d WHERE d.id.memberId = m.id), 0), " +
+            "COALESCE((SELECT SUM(d.postDelta) FROM MemberStatsShard d WHERE d.id.memberId = m.id), 0) " +
+            "FROM Member m LEFT JOIN MemberStats s ON s.memberId = m.id WHERE m.id IN :memberIds")
+    List<Object[]> findReconcileRows(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * 주어진 ID 이후의 회원 ID 를 오름차순으로 조회합니다. (정합성 보정 배치 커서)
+     *
+     * @param afterId 마지막으로 처리한 회원 ID
+     * @param pageable 조회할 개수
+     * @return 회원 ID 목록
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.id > :afterId ORDER BY m.id")
+    List<Long> findMemberIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,88 @@
+package com.kakaobase.snsapp.domain.members.repository;
+
+import com.kakaobase.snsapp.domain.members.entity.MemberStatsShard;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 회원 통계 샤드 카운터에 대한 데이터 액세스 객체
+ */
+@Repository
+public interface MemberStatsShardRepository extends JpaRepository<MemberStatsShard, MemberStatsShard.MemberStatsShardId> {
+
+    /**
+     * 샤드에 증감분을 더합니다. 샤드 행이 없으면 새로 생성합니다.
+     *
+     * @param memberId 회원 ID
+     * @param shardId 샤드 번호
+     * @param followerDelta 팔로워 수 증감분
+     * @param followingDelta 팔로잉 수 증감분
+     * @param postDelta 게시글 수 증감분
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO member_stats_shards (member_id, shard_id, follower_delta, following_delta, post_delta) " +
+            "VALUES (:memberId, :shardId, :followerDelta, :followingDelta, :postDelta) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "follower_delta = follower_delta + :followerDelta, " +
+            "following_delta = following_delta + :followingDelta, " +
+            "post_delta = post_delta + :postDelta",
+            nativeQuery = true)
+    void addDeltas(@Param("memberId") Long memberId,
+                   @Param("shardId") int shardId,
+                   @Param("followerDelta") int followerDelta,
+                   @Param("followingDelta") int followingDelta,
+                   @Param("postDelta") int postDelta);
+
+    /**
+     * member_stats 에 합산할 샤드를 조회합니다.
+     * 통계 행이 없는 회원의 샤드는 보정 작업이 통계 행을 만들 때까지 그대로 둡니다.
+     *
+     * @param pageable 한 번에 압축할 샤드 수
+     * @return 증감분이 남아 있는 샤드 목록 (회원 ID, 샤드 번호 순)
+     */
+    @Query("SELECT d FROM MemberStatsShard d " +
+            "WHERE (d.followerDelta <> 0 OR d.followingDelta <> 0 OR d.postDelta <> 0) " +
+            "AND EXISTS (SELECT 1 FROM MemberStats s WHERE s.memberId = d.id.memberId) " +
+            "ORDER BY d.id.memberId, d.id.shardId")
+    List<MemberStatsShard> findPendingShards(Pageable pageable);
+
+    /**
+     * member_stats 에 합산한 만큼 샤드의 증감분을 차감합니다.
+     * 압축 중에 들어온 증감분은 그대로 남습니다.
+     *
+     * @param memberId 회원 ID
+     * @param shardId 샤드 번호
+     * @param followerDelta 합산한 팔로워 수 증감분
+     * @param followingDelta 합산한 팔로잉 수 증감분
+     * @param postDelta 합산한 게시글 수 증감분
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE MemberStatsShard d SET " +
+            "d.followerDelta = d.followerDelta - :followerDelta, " +
+            "d.followingDelta = d.followingDelta - :followingDelta, " +
+            "d.postDelta = d.postDelta - :postDelta " +
+            "WHERE d.id.memberId = :memberId AND d.id.shardId = :shardId")
+    int subtractDeltas(@Param("memberId") Long memberId,
+                       @Param("shardId") int shardId,
+                       @Param("followerDelta") int followerDelta,
+                       @Param("followingDelta") int followingDelta,
+                       @Param("postDelta") int postDelta);
+
+    /**
+     * 증감분이 모두 0인 샤드를 삭제합니다.
+     *
+     * @return 삭제된 샤드 수
+     */
+    @Modifying
+    @Query("DELETE FROM MemberStatsShard d WHERE d.followerDelta = 0 AND d.followingDelta = 0 AND d.postDelta = 0")
+    int deleteEmptyShards();
+}
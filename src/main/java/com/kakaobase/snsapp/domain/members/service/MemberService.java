@@ -2,7 +2,9 @@ package com.kakaobase.snsapp.domain.members.service;
 
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
 import com.kakaobase.snsapp.domain.comments.dto.BotRecommentRequestDto;
-import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.follow.cache.FollowGraphCache;
+import com.kakaobase.snsapp.domain.members.cache.MemberNicknameIndex;
+import com.kakaobase.snsapp.domain.members.cache.MemberProfileCache;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
 import com.kakaobase.snsapp.domain.members.dto.MemberRequestDto;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
@@ -10,10 +12,9 @@ import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.exception.MemberErrorCode;
 import com.kakaobase.snsapp.domain.members.exception.MemberException;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
-import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
 import com.kakaobase.snsapp.global.common.email.service.EmailVerificationService;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
-import jakarta.persistence.EntityManager;
+import com.kakaobase.snsapp.global.security.jwt.AccessTokenDenyList;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -40,9 +42,11 @@ public class MemberService {
     private final MemberConverter memberConverter;
     private final EmailVerificationService emailVerificationService;
     private final PasswordEncoder passwordEncoder;
-    private final PostRepository postRepository;
-    private final FollowRepository followRepository;
-    private final EntityManager em;
+    private final FollowGraphCache followGraphCache;
+    private final MemberStatsService memberStatsService;
+    private final MemberNicknameIndex memberNicknameIndex;
+    private final MemberProfileCache memberProfileCache;
+    private final AccessTokenDenyList accessTokenDenyList;
 
     /**
      * 회원 가입 처리
@@ -67,12 +71,13 @@ public class MemberService {
         // Member 엔티티 생성 및 저장
         Member member = memberConverter.toEntity(request);
         memberRepository.save(member);
+        memberNicknameIndex.onSaved(member.getId(), member.getNickname());
 
         log.info("회원가입 완료: {} (ID: {})", request.email(), member.getId());
     }
 
     /**
-     * 회원 ID로 회원 정보를 조회합니다.
+     * 회원 ID로 회원 정보를 조회합니다. (회원 프로필 캐시 사용)
      *
      * @param memberId 회원 ID
      * @return 회원 정보 (닉네임, 프로필 이미지)
@@ -80,12 +85,12 @@ public class MemberService {
      */
     @Transactional(readOnly = true)
     public Map<String, String> getMemberInfo(Long memberId) {
-        Member member = memberRepository.findById(memberId)
+        MemberProfileCache.Profile profile = memberProfileCache.get(memberId)
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND, "memberId"));
 
         Map<String, String> memberInfo = new HashMap<>();
-        memberInfo.put("nickname", member.getNickname());
-        memberInfo.put("imageUrl", member.getProfileImgUrl());
+        memberInfo.put("nickname", profile.nickname());
+        memberInfo.put("imageUrl", profile.profileImgUrl());
 
         return memberInfo;
     }
@@ -114,19 +119,51 @@ public class MemberService {
 
     /**
      * 닉네임으로 회원을 검색합니다.
+     * 닉네임 검색 인덱스를 사용하며, 인덱스가 준비되기 전에는 DB 에서 검색합니다.
      *
-     * @param nickname 검색할 닉네임 (부분 일치)
+     * @param nickname 검색할 닉네임 (접두사 일치 우선, 부분 일치)
      * @param limit 최대 검색 결과 수
      * @return 검색된 회원 ID 목록
      */
     @Transactional(readOnly = true)
     public List<Long> searchMembersByNickname(String nickname, int limit) {
+        if (memberNicknameIndex.isReady()) {
+            return memberNicknameIndex.search(nickname, limit);
+        }
         return memberRepository.findByNicknameContainingLimit(nickname, limit)
                 .stream()
                 .map(Member::getId)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 닉네임 자동완성(typeahead) 검색 결과를 조회합니다.
+     *
+     * @param nickname 검색할 닉네임
+     * @param limit 최대 검색 결과 수
+     * @return 검색 순서대로 정렬된 회원 정보 목록
+     */
+    @Transactional(readOnly = true)
+    public List<MemberResponseDto.UserInfo> searchUsersByNickname(String nickname, int limit) {
+        if (limit < 1) {
+            throw new MemberException(GeneralErrorCode.INVALID_QUERY_PARAMETER, "limit", "limit는 1 이상이어야 합니다.");
+        }
+
+        List<Long> memberIds = searchMembersByNickname(nickname, limit);
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Member> members = memberRepository.findAllByIdIn(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, member -> member));
+
+        return memberIds.stream()
+                .map(members::get)
+                .filter(Objects::nonNull)
+                .map(memberConverter::convertToUserInfo)
+                .toList();
+    }
+
     /**
      * 닉네임으로 회원을 조회합니다.
      *
@@ -220,6 +257,10 @@ public class MemberService {
 
         // Member 엔티티 삭제
         member.softDelete();
+        memberNicknameIndex.onRemoved(member.getId());
+        memberProfileCache.evict(member.getId());
+        // JWT 인증은 DB 를 읽지 않으므로 남은 Access Token 을 차단 목록으로 거부
+        accessTokenDenyList.deny(member.getId());
 
     }
 
@@ -252,8 +293,10 @@ public class MemberService {
                 .orElseThrow(() -> new MemberException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId"));
 
         member.updateGithubUrl(request.githubUrl());
+        memberProfileCache.evict(member.getId());
     }
 
+    @Transactional
     public MemberResponseDto.ProfileImageChange changProfileImageUrl(MemberRequestDto.@Valid ProfileImageChange request) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         CustomUserDetails userDetails = (CustomUserDetails) auth.getPrincipal();
@@ -262,6 +305,7 @@ public class MemberService {
                 .orElseThrow(() -> new MemberException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId"));
 
         member.updateProfile(request.imageUrl());
+        memberProfileCache.evict(member.getId());
 
         return new MemberResponseDto.ProfileImageChange(request.imageUrl());
     }
@@ -272,10 +316,7 @@ public class MemberService {
         Member tagetMember = memberRepository.findById(userId)
                 .orElseThrow(() -> new MemberException(GeneralErrorCode.RESOURCE_NOT_FOUND, "userId"));
 
-        Long postCount = postRepository.countByMemberId(tagetMember.getId());
-
         Long currentUserId = getCurrentUserId();
-        Member currentMember = em.getReference(Member.class, currentUserId);
 
         boolean isMine = false;
         boolean isFollowing = false;
@@ -283,10 +324,13 @@ public class MemberService {
         if (currentUserId.equals(tagetMember.getId())) {
             isMine = true;
         } else {
-            isFollowing = followRepository.existsByFollowerUserAndFollowingUser(currentMember, tagetMember);
+            isFollowing = followGraphCache.isFollowing(currentUserId, tagetMember.getId());
         }
 
-        MemberResponseDto.Mypage response = memberConverter.toMypage(tagetMember, postCount, isMine, isFollowing);
+        // 팔로우 수와 게시글 수는 member_stats 를 기본 키로 조회 (게시글을 세지 않음)
+        MemberStatsService.Counts counts = memberStatsService.getCounts(tagetMember.getId());
+
+        MemberResponseDto.Mypage response = memberConverter.toMypage(tagetMember, counts, isMine, isFollowing);
         return response;
     }
 
@@ -0,0 +1,238 @@
+package com.kakaobase.snsapp.domain.members.service;
+
+import com.kakaobase.snsapp.domain.members.entity.MemberStatsShard;
+import com.kakaobase.snsapp.domain.members.repository.MemberStatsRepository;
+import com.kakaobase.snsapp.domain.members.repository.MemberStatsShardRepository;
+import com.kakaobase.snsapp.global.common.lock.service.SchedulerLockManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 회원 통계(팔로우 수, 게시글 수) 서비스
+ *
+ * <p>팔로우/언팔로우, 게시글 작성/삭제 트랜잭션은 member_stats 행을 갱신하지 않고
+ * 회원마다 {@value #SHARD_COUNT}개의 샤드 행 중 임의의 하나에 증감분을 기록합니다.
+ * 인기 회원에게 팔로우가 몰려도 같은 행을 기다리지 않으며, 증감분은 원본 행과 함께 커밋되므로 장애가 나도 유실되지 않습니다.
+ * 조회 시에는 통계 행과 샤드 합계를 더하고, {@link #compactCounts()} 가 주기적으로 샤드 합계를 통계 행에 합산합니다.</p>
+ *
+ * <p>통계 행이 생기기 전의 값이나 직접 수정된 값처럼 어긋난 개수는
+ * {@link #reconcileCounts()} 가 회원 ID 순으로 조금씩 follow/posts 의 실제 개수로 보정합니다.
+ * 두 작업 모두 스케줄러 잠금을 가진 한 노드만 실행합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberStatsService {
+
+    private static final int SHARD_COUNT = 16;
+    private static final String COMPACTION_LOCK = "member-stats-compaction";
+    private static final String RECONCILE_LOCK = "member-stats-reconcile";
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final MemberStatsShardRepository memberStatsShardRepository;
+    private final SchedulerLockManager schedulerLockManager;
+
+    @Value("${app.member-stats.compaction-interval-millis:10000}")
+    private long compactionIntervalMillis;
+
+    @Value("${app.member-stats.compaction-batch-size:1000}")
+    private int compactionBatchSize;
+
+    @Value("${app.member-stats.reconcile-interval-millis:60000}")
+    private long reconcileIntervalMillis;
+
+    @Value("${app.member-stats.reconcile-batch-size:100}")
+    private int reconcileBatchSize;
+
+    /**
+     * 팔로우 수 증감분을 샤드에 기록합니다. 호출한 트랜잭션 안에서 실행되어 팔로우/언팔로우와 함께 커밋됩니다.
+     *
+     * @param followerId 팔로우하는 회원 ID (팔로잉 수 변경)
+     * @param followingId 팔로우 대상 회원 ID (팔로워 수 변경)
+     * @param delta 증감분 (+1 / -1)
+     */
+    public void addFollowCount(Long followerId, Long followingId, int delta) {
+        // 서로를 팔로우하는 두 트랜잭션이 교착되지 않도록 회원 ID 순으로 샤드 행을 잠금
+        if (followerId < followingId) {
+            addDeltas(followerId, 0, delta, 0);
+            addDeltas(followingId, delta, 0, 0);
+        } else {
+            addDeltas(followingId, delta, 0, 0);
+            addDeltas(followerId, 0, delta, 0);
+        }
+    }
+
+    /**
+     * 게시글 수 증감분을 샤드에 기록합니다. 호출한 트랜잭션 안에서 실행되어 게시글 작성/삭제와 함께 커밋됩니다.
+     *
+     * @param memberId 게시글 작성자 ID
+     * @param delta 증감분 (+1 / -1)
+     */
+    public void addPostCount(Long memberId, int delta) {
+        addDeltas(memberId, 0, 0, delta);
+    }
+
+    /**
+     * 회원의 팔로워/팔로잉/게시글 수를 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 회원 통계
+     */
+    public Counts getCounts(Long memberId) {
+        return getCounts(List.of(memberId)).getOrDefault(memberId, Counts.EMPTY);
+    }
+
+    /**
+     * 여러 회원의 팔로워/팔로잉/게시글 수를 한 번에 조회합니다. (IN 쿼리 1회)
+     *
+     * @param memberIds 회원 ID 목록
+     * @return 회원 ID별 통계 (존재하지 않는 회원은 제외)
+     */
+    public Map<Long, Counts> getCounts(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Counts> result = new HashMap<>();
+        for (Object[] row : memberStatsRepository.findCountsByMemberIdIn(memberIds)) {
+            result.put(((Number) row[0]).longValue(), new Counts(
+                    Math.max(0, ((Number) row[1]).intValue()),
+                    Math.max(0, ((Number) row[2]).intValue()),
+                    Math.max(0, ((Number) row[3]).intValue())));
+        }
+        return result;
+    }
+
+    /**
+     * 샤드의 증감분을 member_stats 에 합산합니다.
+     *
+     * <p>읽은 증감분만큼만 샤드에서 차감하므로 압축 중에 들어온 팔로우는 유실되지 않으며,
+     * 통계 행 합산과 샤드 차감은 같은 트랜잭션에서 처리되어 조회 값이 이중 계산되지 않습니다.
+     * 통계 행과 샤드는 회원 ID 순으로 잠가 팔로우 트랜잭션과 교착되지 않습니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.member-stats.compaction-interval-millis:10000}")
+    @Transactional
+    public void compactCounts() {
+        if (!schedulerLockManager.tryLock(COMPACTION_LOCK, Duration.ofMillis(compactionIntervalMillis))) {
+            return;
+        }
+
+        List<MemberStatsShard> shards =
+                memberStatsShardRepository.findPendingShards(PageRequest.of(0, compactionBatchSize));
+        Map<Long, int[]> sums = new TreeMap<>();
+        for (MemberStatsShard shard : shards) {
+            int[] sum = sums.computeIfAbsent(shard.getId().getMemberId(), id -> new int[3]);
+            sum[0] += shard.getFollowerDelta();
+            sum[1] += shard.getFollowingDelta();
+            sum[2] += shard.getPostDelta();
+        }
+        sums.forEach((memberId, sum) -> memberStatsRepository.addCounts(memberId, sum[0], sum[1], sum[2]));
+        shards.forEach(shard -> memberStatsShardRepository.subtractDeltas(
+                shard.getId().getMemberId(), shard.getId().getShardId(),
+                shard.getFollowerDelta(), shard.getFollowingDelta(), shard.getPostDelta()));
+        memberStatsShardRepository.deleteEmptyShards();
+
+        if (!shards.isEmpty()) {
+            log.debug("회원 통계 샤드 카운터 압축 완료: 회원 수={}, 샤드 수={}", sums.size(), shards.size());
+        }
+    }
+
+    /**
+     * 저장된 팔로워/팔로잉/게시글 수를 follow/posts 의 실제 개수와 비교하여 보정합니다.
+     *
+     * <p>한 번에 회원 ID 순으로 최대 reconcile-batch-size 명만 처리하고, 처리한 위치를 스케줄러 잠금에 남겨
+     * 다음 실행(다른 노드여도)이 이어서 처리하며, 마지막 회원까지 처리하면 처음부터 다시 시작합니다.
+     * 실제 개수와 샤드 합계는 잠금 없이 한 번에 읽고, 통계 행은 읽은 값 그대로일 때만 조건부로 고쳐
+     * 팔로우 INSERT 나 압축 작업과 잠금을 다투지 않습니다. 통계 행이 없는 회원은 이때 행을 생성합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${app.member-stats.reconcile-interval-millis:60000}")
+    public void reconcileCounts() {
+        if (!schedulerLockManager.tryLock(RECONCILE_LOCK, Duration.ofMillis(reconcileIntervalMillis))) {
+            return;
+        }
+
+        try {
+            long cursor = schedulerLockManager.getProgress(RECONCILE_LOCK);
+            List<Long> memberIds = memberStatsRepository.findMemberIdsAfter(
+                    cursor, PageRequest.of(0, reconcileBatchSize));
+            if (memberIds.isEmpty()) {
+                schedulerLockManager.saveProgress(RECONCILE_LOCK, 0);
+                return;
+            }
+
+            int repaired = 0;
+            for (Object[] row : memberStatsRepository.findReconcileRows(memberIds)) {
+                if (reconcile(row)) {
+                    repaired++;
+                }
+            }
+            schedulerLockManager.saveProgress(RECONCILE_LOCK, memberIds.get(memberIds.size() - 1));
+
+            if (repaired > 0) {
+                log.info("회원 통계 보정 완료: 보정된 회원 수={}", repaired);
+            }
+        } catch (RuntimeException e) {
+            schedulerLockManager.unlock(RECONCILE_LOCK);
+            throw e;
+        }
+    }
+
+    /**
+     * 통계 행을 (실제 개수 - 샤드 합계) 로 맞춥니다.
+     *
+     * @param row {@link MemberStatsRepository#findReconcileRows} 의 한 행
+     * @return 통계 행을 만들거나 고쳤으면 true
+     */
+    private boolean reconcile(Object[] row) {
+        Long memberId = ((Number) row[0]).longValue();
+        int followerCount = intValue(row[4]) - intValue(row[7]);
+        int followingCount = intValue(row[5]) - intValue(row[8]);
+        int postCount = intValue(row[6]) - intValue(row[9]);
+
+        if (row[1] == null) {
+            return memberStatsRepository.insertIfAbsent(memberId, followerCount, followingCount, postCount) > 0;
+        }
+        int storedFollowerCount = intValue(row[1]);
+        int storedFollowingCount = intValue(row[2]);
+        int storedPostCount = intValue(row[3]);
+        if (storedFollowerCount == followerCount && storedFollowingCount == followingCount
+                && storedPostCount == postCount) {
+            return false;
+        }
+        return memberStatsRepository.updateCountsIf(memberId, followerCount, followingCount, postCount,
+                storedFollowerCount, storedFollowingCount, storedPostCount) > 0;
+    }
+
+    private void addDeltas(Long memberId, int followerDelta, int followingDelta, int postDelta) {
+        memberStatsShardRepository.addDeltas(memberId, ThreadLocalRandom.current().nextInt(SHARD_COUNT),
+                followerDelta, followingDelta, postDelta);
+    }
+
+    private static int intValue(Object value) {
+        return ((Number) value).intValue();
+    }
+
+    /**
+     * 회원의 팔로워/팔로잉/게시글 수
+     *
+     * @param followerCount 팔로워 수
+     * @param followingCount 팔로잉 수
+     * @param postCount 게시글 수
+     */
+    public record Counts(int followerCount, int followingCount, int postCount) {
+        static final Counts EMPTY = new Counts(0, 0, 0);
+    }
+}
@@ -0,0 +1,276 @@
+package com.kakaobase.snsapp.domain.members.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * 닉네임 검색 인덱스 (불변 스냅샷)
+ *
+ * <p>소문자로 정규화한 닉네임을 정렬된 배열로 보관하여 접두사 검색은 이진 탐색 한 번과 연속 구간 순회로,
+ * 부분 일치 검색은 3글자(trigram)별 위치 목록(int 배열)의 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인합니다.
+ * trigram 보다 짧은 검색어는 후보를 좁힐 수 없으므로 전체 닉네임을 순서대로 확인하여 DB 의 부분 일치 검색과 결과를 맞춥니다.
+ * 정렬된 배열은 트라이를 평탄화한 것과 같아서 노드 객체 없이 같은 접두사 구간을 찾을 수 있습니다.</p>
+ *
+ * <p>DB/Spring 에 의존하지 않으므로 닉네임 인덱스 캐시와 벤치마크에서 함께 사용합니다.</p>
+ */
+public final class NicknameIndex {
+
+    private static final int GRAM = 3;
+
+    private static final NicknameIndex EMPTY = new NicknameIndex(new String[0], new long[0], Map.of());
+
+    // 정규화된 닉네임 오름차순 (같으면 회원 ID 오름차순)
+    private final String[] keys;
+    private final long[] ids;
+    // trigram -> 해당 trigram 을 포함하는 keys 위치 (오름차순)
+    private final Map<Long, int[]> postings;
+
+    private NicknameIndex(String[] keys, long[] ids, Map<Long, int[]> postings) {
+        this.keys = keys;
+        this.ids = ids;
+        this.postings = postings;
+    }
+
+    public static NicknameIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 회원 ID 별 닉네임으로 인덱스를 생성합니다.
+     *
+     * @param nicknames 회원 ID -> 닉네임
+     * @return 생성된 인덱스
+     */
+    public static NicknameIndex build(Map<Long, String> nicknames) {
+        if (nicknames.isEmpty()) {
+            return EMPTY;
+        }
+
+        Entry[] entries = nicknames.entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .map(entry -> new Entry(normalize(entry.getValue()), entry.getKey()))
+                .sorted()
+                .toArray(Entry[]::new);
+
+        String[] keys = new String[entries.length];
+        long[] ids = new long[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            keys[i] = entries[i].key();
+            ids[i] = entries[i].id();
+        }
+        return new NicknameIndex(keys, ids, buildPostings(keys));
+    }
+
+    /**
+     * 검색어를 인덱스 키와 같은 형태로 정규화합니다. (앞뒤 공백 제거, 소문자)
+     *
+     * @param nickname 닉네임 또는 검색어
+     * @return 정규화된 문자열
+     */
+    public static String normalize(String nickname) {
+        return nickname.strip().toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * 닉네임을 검색합니다.
+     *
+     * <p>접두사 일치 결과와 부분 일치 결과를 각각 닉네임 순으로 최대 limit 개씩 반환합니다.
+     * 호출자는 두 목록을 접두사 일치 우선으로 이어 붙여 사용합니다.</p>
+     *
+     * @param normalizedQuery 정규화된 검색어
+     * @param limit 종류별 최대 결과 수
+     * @param excluded 결과에서 제외할 회원 ID 판별 함수
+     * @return 접두사 일치, 부분 일치 순서의 검색 결과
+     */
+    public List<Match> search(String normalizedQuery, int limit, LongPredicate excluded) {
+        if (normalizedQuery.isEmpty() || limit <= 0 || keys.length == 0) {
+            return List.of();
+        }
+
+        List<Match> matches = new ArrayList<>();
+        int prefixCount = 0;
+        for (int i = lowerBound(normalizedQuery); i < keys.length && prefixCount < limit; i++) {
+            if (!keys[i].startsWith(normalizedQuery)) {
+                break;
+            }
+            if (!excluded.test(ids[i])) {
+                matches.add(new Match(keys[i], ids[i], true));
+                prefixCount++;
+            }
+        }
+
+        // trigram 보다 짧은 검색어는 전체 닉네임을 순서대로 확인
+        int[] candidates = normalizedQuery.length() < GRAM ? null : candidatePositions(normalizedQuery);
+        int candidateCount = candidates == null ? keys.length : candidates.length;
+        int infixCount = 0;
+        for (int i = 0; i < candidateCount && infixCount < limit; i++) {
+            int position = candidates == null ? i : candidates[i];
+            String key = keys[position];
+            if (!key.startsWith(normalizedQuery) && key.contains(normalizedQuery) && !excluded.test(ids[position])) {
+                matches.add(new Match(key, ids[position], false));
+                infixCount++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 인덱스의 모든 항목을 회원 ID -> 정규화된 닉네임으로 반환합니다. (인덱스 재생성용)
+     *
+     * @return 회원 ID -> 정규화된 닉네임
+     */
+    public Map<Long, String> toMap() {
+        Map<Long, String> result = new HashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            result.put(ids[i], keys[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 검색어의 모든 trigram 을 포함하는 위치 (오름차순), 가장 짧은 위치 목록부터 교집합을 구함
+     */
+    private int[] candidatePositions(String query) {
+        int gramCount = query.length() - GRAM + 1;
+        int[][] lists = new int[gramCount][];
+        for (int i = 0; i < gramCount; i++) {
+            int[] list = postings.get(trigram(query, i));
+            if (list == null) {
+                return new int[0];
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private int lowerBound(String query) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * trigram 마다 밀집 번호를 붙이고 개수를 센 뒤 위치 배열을 한 번에 채움 (박싱은 trigram 당 한 번)
+     */
+    private static Map<Long, int[]> buildPostings(String[] keys) {
+        Map<Long, Integer> gramIds = new HashMap<>();
+        int[][] keyGramIds = new int[keys.length][];
+        int[] counts = new int[1024];
+
+        for (int position = 0; position < keys.length; position++) {
+            long[] grams = distinctTrigrams(keys[position]);
+            int[] ids = new int[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                Integer id = gramIds.get(grams[i]);
+                if (id == null) {
+                    id = gramIds.size();
+                    gramIds.put(grams[i], id);
+                    if (id == counts.length) {
+                        counts = Arrays.copyOf(counts, counts.length * 2);
+                    }
+                }
+                ids[i] = id;
+                counts[id]++;
+            }
+            keyGramIds[position] = ids;
+        }
+
+        int[][] lists = new int[gramIds.size()][];
+        for (int id = 0; id < lists.length; id++) {
+            lists[id] = new int[counts[id]];
+        }
+        int[] filled = new int[lists.length];
+        for (int position = 0; position < keys.length; position++) {
+            for (int id : keyGramIds[position]) {
+                lists[id][filled[id]++] = position;
+            }
+        }
+
+        Map<Long, int[]> postings = new HashMap<>(gramIds.size() * 2);
+        gramIds.forEach((gram, id) -> postings.put(gram, lists[id]));
+        return postings;
+    }
+
+    private static long[] distinctTrigrams(String key) {
+        int gramCount = key.length() - GRAM + 1;
+        if (gramCount <= 0) {
+            return new long[0];
+        }
+        long[] grams = new long[gramCount];
+        for (int i = 0; i < gramCount; i++) {
+            grams[i] = trigram(key, i);
+        }
+        Arrays.sort(grams);
+        int size = 1;
+        for (int i = 1; i < grams.length; i++) {
+            if (grams[i] != grams[size - 1]) {
+                grams[size++] = grams[i];
+            }
+        }
+        return size == grams.length ? grams : Arrays.copyOf(grams, size);
+    }
+
+    private static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param key 정규화된 닉네임
+     * @param memberId 회원 ID
+     * @param prefix 접두사 일치 여부 (false 면 부분 일치)
+     */
+    public record Match(String key, long memberId, boolean prefix) {
+    }
+
+    private record Entry(String key, long id) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int compared = key.compareTo(other.key);
+            return compared != 0 ? compared : Long.compare(id, other.id);
+        }
+    }
+}
@@ -176,10 +176,13 @@ public class PostController {
     public CustomResponse<List<MemberResponseDto.UserInfo>> getLikedMemberList(
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
             @Parameter(description = "한 페이지에 표시할 유저 수") @RequestParam(defaultValue = "12") int limit,
-            @Parameter(description = "마지막으로 조회한 유저 ID") @RequestParam(required = false) Long cursor
+            @Parameter(description = "마지막으로 조회한 유저 ID") @RequestParam(required = false) Long cursor,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
 
-        List<MemberResponseDto.UserInfo> response= postLikeService.getLikedMembers(postId, limit, cursor);
+        Long memberId = Long.valueOf(userDetails.getId());
+
+        List<MemberResponseDto.UserInfo> response= postLikeService.getLikedMembers(postId, limit, cursor, memberId);
 
         return CustomResponse.success("좋아요 유저 목록을 성공적으로 불러왔습니다", response);
     }
@@ -1,9 +1,9 @@
 package com.kakaobase.snsapp.domain.posts.converter;
 
-import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.follow.cache.FollowGraphCache;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
-import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.loader.MemberBatchLoader;
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
 import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
@@ -13,6 +13,7 @@ import com.kakaobase.snsapp.domain.posts.repository.PostImageRepository;
 import com.kakaobase.snsapp.domain.posts.repository.PostLikeRepository;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -25,10 +26,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PostConverter {
 
-    private final MemberRepository memberRepository;
     private final PostImageRepository postImageRepository;
-    private final FollowRepository followRepository;
+    private final FollowGraphCache followGraphCache;
     private final PostLikeRepository postLikeRepository;
+    private final MemberBatchLoader memberBatchLoader;
 
     /**
      * 게시글 생성 요청 DTO를 Post 엔티티로 변환합니다.
@@ -79,7 +80,8 @@ public class PostConverter {
                 .distinct()
                 .toList();
 
-        // 2. 배치로 추가 데이터 조회 (기존 Repository 메서드 활용)
+        // 2. 작성자는 회원 로더에 등록해 두고 첫 변환 때 한 번에 조회, 나머지는 배치로 조회
+        registerAuthors(posts);
         Map<Long, String> postImageMap = getFirstImagesByPostIds(postIds);
         Set<Long> likedPostIds = currentMemberId != null ?
                 getLikedPostIds(currentMemberId, postIds) : Collections.emptySet();
@@ -96,7 +98,7 @@ public class PostConverter {
                                                             Map<Long, String> imageMap,
                                                             Set<Long> likedPostIds,
                                                             Set<Long> followedMemberIds) {
-        Member member = post.getMember();
+        Member member = author(post);
 
         return new PostResponseDto.PostDetails(
                 post.getId(),
@@ -117,7 +119,8 @@ public class PostConverter {
                                                             String imageUrl,
                                                             Boolean isLiked,
                                                             Boolean isFollowed) {
-        Member member = post.getMember();
+        registerAuthors(List.of(post));
+        Member member = author(post);
 
         return new PostResponseDto.PostDetails(
                 post.getId(),
@@ -155,6 +158,29 @@ public class PostConverter {
                 .build();
     }
 
+    /**
+     * 작성자가 아직 로딩되지 않은 게시글의 작성자 ID 를 요청 단위 회원 로더에 등록
+     * (fetch join 으로 이미 로딩된 작성자는 등록하지 않음)
+     */
+    private void registerAuthors(List<Post> posts) {
+        memberBatchLoader.register(posts.stream()
+                .map(Post::getMember)
+                .filter(member -> !Hibernate.isInitialized(member))
+                .map(Member::getId)
+                .toList());
+    }
+
+    /**
+     * 게시글 작성자를 반환합니다. 로딩되지 않은 작성자는 회원 로더에서 등록된 작성자와 함께 한 번에 조회합니다.
+     */
+    private Member author(Post post) {
+        Member member = post.getMember();
+        if (Hibernate.isInitialized(member)) {
+            return member;
+        }
+        return memberBatchLoader.get(member.getId()).orElse(member);
+    }
+
     /**
      * 게시글들의 첫 번째 이미지 조회 (기존 PostImageRepository 메서드 활용)
      */
@@ -188,28 +214,14 @@ public class PostConverter {
     }
 
     /**
-     * 현재 회원이 팔로우한 회원 ID들 조회 (기존 FollowRepository 메서드 활용)
+     * 현재 회원이 팔로우한 회원 ID들 조회 (팔로우 그래프 캐시 활용)
      */
     private Set<Long> getFollowedMemberIds(Long currentMemberId, List<Long> memberIds) {
         if (memberIds.isEmpty()) {
             return Collections.emptySet();
         }
 
-        // 현재 회원 Entity 조회
-        Member currentMember = memberRepository.findById(currentMemberId)
-                .orElse(null);
-
-        if (currentMember == null) {
-            return Collections.emptySet();
-        }
-
-        // 기존 FollowRepository.findFollowingUserIdsByFollowerUser() 사용
-        Set<Long> allFollowedIds = followRepository.findFollowingUserIdsByFollowerUser(currentMember);
-
-        // memberIds와 교집합만 반환 (성능 최적화)
-        return allFollowedIds.stream()
-                .filter(memberIds::contains)
-                .collect(Collectors.toSet());
+        return followGraphCache.filterFollowing(currentMemberId, memberIds);
     }
 
     /**
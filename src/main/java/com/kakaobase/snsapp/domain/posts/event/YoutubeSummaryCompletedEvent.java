@@ -0,0 +1,30 @@
+package com.kakaobase.snsapp.domain.posts.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유튜브 요약 완료 이벤트
+ *
+ * <p>AI 서버의 요약 처리가 끝났을 때(성공/실패 모두) 발행됩니다.
+ * 트랜잭션 커밋 이후 SSE로 게시글 작성자에게 전달됩니다.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class YoutubeSummaryCompletedEvent {
+
+    /**
+     * 요약 대상 게시글 ID
+     */
+    private final Long postId;
+
+    /**
+     * 게시글 작성자 ID (SSE 수신 대상)
+     */
+    private final Long memberId;
+
+    /**
+     * 요약 결과 (실패 시 YoutubeSummaryStatus 이름)
+     */
+    private final String youtubeSummary;
+}
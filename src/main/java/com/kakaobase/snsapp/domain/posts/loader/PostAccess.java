@@ -0,0 +1,13 @@
+package com.kakaobase.snsapp.domain.posts.loader;
+
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+
+/**
+ * 게시글 권한 확인에 필요한 값만 담은 조회 결과 (엔티티를 읽지 않음)
+ *
+ * @param postId 게시글 ID
+ * @param memberId 게시글 작성자 ID
+ * @param boardType 게시판 유형
+ */
+public record PostAccess(Long postId, Long memberId, Post.BoardType boardType) {
+}
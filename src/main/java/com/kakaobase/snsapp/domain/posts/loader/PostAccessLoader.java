@@ -0,0 +1,60 @@
+package com.kakaobase.snsapp.domain.posts.loader;
+
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청 단위 게시글 권한 정보 로더
+ *
+ * <p>게시글 작성자 ID 와 게시판 유형만 조회하여 요청이 끝날 때까지 보관합니다.
+ * {@code @PreAuthorize} 의 {@code AccessChecker} 와 이후 서비스가 같은 요청에서 같은 게시글을 다시 조회하지 않습니다.
+ * 없는 게시글도 보관합니다.</p>
+ *
+ * <p>상태는 현재 HTTP 요청의 속성에 보관합니다. 요청 밖에서 호출되면 보관 없이 호출할 때마다 조회합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostAccessLoader {
+
+    private static final String ATTRIBUTE = PostAccessLoader.class.getName() + ".STATE";
+
+    private final PostRepository postRepository;
+
+    /**
+     * 게시글 권한 정보를 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 게시글 권한 정보 (없거나 삭제된 게시글이면 empty)
+     */
+    public Optional<PostAccess> get(Long postId) {
+        Map<Long, Optional<PostAccess>> state = currentState();
+        if (state == null) {
+            return postRepository.findAccessById(postId);
+        }
+        synchronized (state) {
+            return state.computeIfAbsent(postId, postRepository::findAccessById);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Optional<PostAccess>> currentState() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<Long, Optional<PostAccess>> state =
+                (Map<Long, Optional<PostAccess>>) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (state == null) {
+            state = new HashMap<>();
+            attributes.setAttribute(ATTRIBUTE, state, RequestAttributes.SCOPE_REQUEST);
+        }
+        return state;
+    }
+}
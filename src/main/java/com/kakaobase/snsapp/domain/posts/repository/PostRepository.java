@@ -1,6 +1,7 @@
 package com.kakaobase.snsapp.domain.posts.repository;
 
 import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.loader.PostAccess;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -35,6 +36,16 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     long countByMemberId(Long memberId);
 
+    /**
+     * 게시글 작성자 ID 와 게시판 유형만 조회합니다. (권한 확인용, 엔티티를 읽지 않음)
+     *
+     * @param postId 게시글 ID
+     * @return 게시글 권한 정보 (Optional)
+     */
+    @Query("SELECT new com.kakaobase.snsapp.domain.posts.loader.PostAccess(p.id, p.member.id, p.boardType) " +
+            "FROM Post p WHERE p.id = :postId")
+    Optional<PostAccess> findAccessById(@Param("postId") Long postId);
+
 
     /**
      * 특정 게시판의 최신 게시글을 생성일시와 ID 기준으로 내림차순 정렬하여 조회합니다.
@@ -90,4 +101,15 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             @Param("memberId") Long memberId,
             @Param("cursor") Long cursor,
             Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 댓글 수를 DB에서 원자적으로 증감합니다. (0 미만으로 내려가지 않음)
+     *
+     * @param postId 게시글 ID
+     * @param delta 증감분 (+1 / -1)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = GREATEST(p.commentCount + :delta, 0) WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+}
@@ -1,6 +1,7 @@
 package com.kakaobase.snsapp.domain.posts.service;
 
 import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.loader.MemberBatchLoader;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
 import com.kakaobase.snsapp.domain.posts.converter.PostConverter;
 import com.kakaobase.snsapp.domain.posts.dto.BotRequestDto;
@@ -9,15 +10,18 @@ import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
 import com.kakaobase.snsapp.global.common.constant.BotConstants;
+import com.kakaobase.snsapp.global.common.client.AiRequestExecutor;
+import com.kakaobase.snsapp.global.common.client.AiWebClients;
+import com.kakaobase.snsapp.global.common.constant.AiEndpoint;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.time.ZoneId;
@@ -36,10 +40,12 @@ public class BotPostService {
 
     private final PostService postService;
     private final PostRepository postRepository;
-    private final WebClient webClient;
+    private final AiWebClients aiWebClients;
+    private final AiRequestExecutor aiRequestExecutor;
     private final MemberRepository memberRepository;
     private final EntityManager em;
     private final PostConverter postConverter;
+    private final MemberBatchLoader memberBatchLoader;
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
@@ -155,49 +161,43 @@ public class BotPostService {
      * @return AI 서버 요청 DTO
      */
     private BotRequestDto.CreatePostRequest createBotRequest(Post.BoardType boardType, List<Post> posts) {
-        // 게시글 작성자들의 정보를 한 번에 조회
-        Map<Long, Map<String, String>> memberInfoMap = getMemberInfoByPosts(posts);
+        // 요청 밖의 비동기 작업이므로 회원 로더 범위를 열고, 로딩되지 않은 작성자를 등록해 두어 첫 조회 때 한 번에 조회
+        return memberBatchLoader.withinScope(() -> {
+            memberBatchLoader.register(posts.stream()
+                    .map(Post::getMember)
+                    .filter(member -> !Hibernate.isInitialized(member))
+                    .map(Member::getId)
+                    .toList());
+            return new BotRequestDto.CreatePostRequest(boardType.name(), toBotPosts(posts));
+        });
+    }
 
-        List<BotRequestDto.PostDto> botPosts = posts.stream()
+    /**
+     * 게시글 목록을 AI 서버 요청용 게시글 목록으로 변환합니다.
+     *
+     * @param posts 최근 게시글 목록
+     * @return AI 서버 요청용 게시글 목록
+     */
+    private List<BotRequestDto.PostDto> toBotPosts(List<Post> posts) {
+        return posts.stream()
                 .map(post -> {
-                    Map<String, String> memberInfo = memberInfoMap.get(post.getMember().getId());
-                    if (memberInfo == null) {
-                        throw new IllegalStateException("회원 정보를 찾을 수 없습니다. memberId: " + post.getMember().getId());
-                    }
+                    Member author = Hibernate.isInitialized(post.getMember())
+                            ? post.getMember()
+                            : memberBatchLoader.get(post.getMember().getId())
+                                    .orElseThrow(() -> new IllegalStateException("회원 정보를 찾을 수 없습니다. memberId: " + post.getMember().getId()));
 
-                    String className = post.getMember().getClassName();
-                    log.debug("게시글 작성자 정보: {}, {}", memberInfo.get("nickname"), className);
+                    log.debug("게시글 작성자 정보: {}, {}", author.getNickname(), author.getClassName());
 
                     return new BotRequestDto.PostDto(
                             new BotRequestDto.UserDto(
-                                    memberInfo.get("nickname"),
-                                    className
+                                    author.getNickname(),
+                                    author.getClassName()
                             ),
                             post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toString(),
                             post.getContent()
                     );
                 })
                 .collect(Collectors.toList());
-
-        return new BotRequestDto.CreatePostRequest(boardType.name(), botPosts);
-    }
-
-    /**
-     * 게시글 목록으로부터 작성자들의 정보를 조회합니다.
-     *
-     * @param posts 게시글 목록
-     * @return 회원 ID를 키로 하는 회원 정보 맵
-     */
-    private Map<Long, Map<String, String>> getMemberInfoByPosts(List<Post> posts) {
-        Set<Long> memberIds = posts.stream()
-                .map(post -> post.getMember().getId())
-                .collect(Collectors.toSet());
-
-        return memberIds.stream()
-                .collect(Collectors.toMap(
-                        memberId -> memberId,
-                        postService::getMemberInfo
-                ));
     }
 
     /**
@@ -208,11 +208,12 @@ public class BotPostService {
      */
     private BotRequestDto.AiPostResponse callAiServer(BotRequestDto.CreatePostRequest request) {
         try {
-            return webClient.post()
-                    .uri(aiServerUrl + "/posts/bot")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(BotRequestDto.AiPostResponse.class)
+            return aiRequestExecutor.execute(AiEndpoint.BOT_POST,
+                            () -> aiWebClients.get(AiEndpoint.BOT_POST).post()
+                                    .uri(aiServerUrl + AiEndpoint.BOT_POST.getPath())
+                                    .bodyValue(request)
+                                    .retrieve()
+                                    .bodyToMono(BotRequestDto.AiPostResponse.class))
                     .block();
         } catch (WebClientResponseException e) {
             log.error("AI 서버 요청 실패 - Status: {}, Body: {}", e.getStatusCode(), e.getResponseBodyAsString());
@@ -1,5 +1,6 @@
 package com.kakaobase.snsapp.domain.posts.service;
 
+import com.kakaobase.snsapp.domain.follow.cache.FollowGraphCache;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
@@ -21,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -36,6 +38,7 @@ public class PostLikeService {
     private final PostRepository postRepository;
     private final EntityManager em;
     private final MemberConverter memberConverter;
+    private final FollowGraphCache followGraphCache;
 
     /**
      * 게시글에 좋아요를 추가합니다.
@@ -130,7 +133,7 @@ public class PostLikeService {
     }
 
     @Transactional(readOnly = true)
-    public List<MemberResponseDto.UserInfo> getLikedMembers(Long postId, int limit, Long cursor) {
+    public List<MemberResponseDto.UserInfo> getLikedMembers(Long postId, int limit, Long cursor, Long currentMemberId) {
 
         if(!postRepository.existsById(postId)){
             throw new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND);
@@ -138,7 +141,10 @@ public class PostLikeService {
 
         List<Member> members = postLikeRepository.findMembersByPostIdWithCursor(postId, cursor, limit);
 
-        List<MemberResponseDto.UserInfo> result = memberConverter.convertToUserInfoList(members);
+        Set<Long> followedMemberIds = followGraphCache.filterFollowing(currentMemberId,
+                members.stream().map(Member::getId).collect(Collectors.toList()));
+
+        List<MemberResponseDto.UserInfo> result = memberConverter.convertToUserInfoList(members, followedMemberIds);
 
         return result;
     }
@@ -1,8 +1,10 @@
 package com.kakaobase.snsapp.domain.posts.service;
 
-import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.comments.cache.CommentPageCache;
+import com.kakaobase.snsapp.domain.follow.cache.FollowGraphCache;
 import com.kakaobase.snsapp.domain.members.entity.Member;
 import com.kakaobase.snsapp.domain.members.service.MemberService;
+import com.kakaobase.snsapp.domain.members.service.MemberStatsService;
 import com.kakaobase.snsapp.domain.posts.converter.PostConverter;
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
 import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
@@ -48,9 +50,11 @@ public class PostService {
     private final YouTubeSummaryService youtubeSummaryService;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final PostLikeService postLikeService;
-    private final FollowRepository followRepository;
+    private final FollowGraphCache followGraphCache;
     private final EntityManager em;
     private final PostConverter postConverter;
+    private final CommentPageCache commentPageCache;
+    private final MemberStatsService memberStatsService;
 
     /**
      * 게시글을 생성합니다.
@@ -75,6 +79,7 @@ public class PostService {
 
         // 게시글 저장
         postRepository.save(post);
+        memberStatsService.addPostCount(memberId, 1);
 
         if (StringUtils.hasText(requestDto.image_url())) {
             PostImage postImage = PostConverter.toPostImage(post, 0, requestDto.image_url());
@@ -113,10 +118,7 @@ public class PostService {
         // 좋아요 여부 확인
         boolean isLiked = memberId != null && postLikeService.isLikedByMember(postId, memberId);
 
-        Member follower = em.getReference(Member.class, memberId);
-        Member following = em.getReference(Member.class, post.getMember().getId());
-
-        boolean isFollowing = followRepository.existsByFollowerUserAndFollowingUser(follower, following);
+        boolean isFollowing = followGraphCache.isFollowing(memberId, post.getMember().getId());
 
         // 이미지 조회
         String postImage = null;
@@ -153,6 +155,10 @@ public class PostService {
 
         // 소프트 삭제 처리
         postRepository.delete(post);
+        memberStatsService.addPostCount(post.getMember().getId(), -1);
+
+        // 삭제된 게시글의 댓글 페이지 캐시 제거
+        commentPageCache.evictPost(postId);
 
         log.info("게시글 삭제 완료: 게시글 ID={}, 삭제자 ID={}", postId, memberId);
     }
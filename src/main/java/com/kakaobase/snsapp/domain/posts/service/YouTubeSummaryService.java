@@ -2,20 +2,24 @@ package com.kakaobase.snsapp.domain.posts.service;
 
 import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.event.YoutubeSummaryCompletedEvent;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
 import com.kakaobase.snsapp.domain.posts.exception.YoutubeSummaryStatus;
 import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
 import com.kakaobase.snsapp.global.error.exception.AiServerException;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import com.kakaobase.snsapp.global.error.handler.WebClientErrorHandler;
+import com.kakaobase.snsapp.global.common.client.AiRequestExecutor;
+import com.kakaobase.snsapp.global.common.client.AiWebClients;
+import com.kakaobase.snsapp.global.common.constant.AiEndpoint;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
@@ -29,8 +33,10 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 @RequiredArgsConstructor
 public class YouTubeSummaryService {
 
-    private final WebClient webClient;
+    private final AiWebClients aiWebClients;
+    private final AiRequestExecutor aiRequestExecutor;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
@@ -50,6 +56,10 @@ public class YouTubeSummaryService {
             String summaryStatus = YoutubeSummaryStatus.fromAiErrorCode(e.getErrorCode()).name();
             post.updateYoutubeSummary(summaryStatus);
         }
+
+        // 커밋 이후 SSE로 작성자에게 요약 완료 알림
+        eventPublisher.publishEvent(new YoutubeSummaryCompletedEvent(
+                post.getId(), post.getMember().getId(), post.getYoutubeSummary()));
     }
 
     /**
@@ -69,13 +79,14 @@ public class YouTubeSummaryService {
             // AI 서버 요청 DTO 생성
             PostRequestDto.YouTubeAiRequest request = new PostRequestDto.YouTubeAiRequest(youtubeUrl);
 
-            // AI 서버에 요약 요청
-            PostRequestDto.YouTubeAiResponse response = webClient.post()
-                    .uri(aiServerUrl + "/posts/youtube/summary")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(PostRequestDto.YouTubeAiResponse.class)
+            // AI 서버에 요약 요청 (멱등 요청이므로 꼬리 지연 시 헤지 요청 허용)
+            PostRequestDto.YouTubeAiResponse response = aiRequestExecutor.executeHedged(AiEndpoint.YOUTUBE_SUMMARY,
+                            () -> aiWebClients.get(AiEndpoint.YOUTUBE_SUMMARY).post()
+                                    .uri(aiServerUrl + AiEndpoint.YOUTUBE_SUMMARY.getPath())
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(request)
+                                    .retrieve()
+                                    .bodyToMono(PostRequestDto.YouTubeAiResponse.class))
                     .block(); // 동기식 처리를 위해 block() 사용
 
             // 응답에서 요약 내용 추출
@@ -88,7 +99,8 @@ public class YouTubeSummaryService {
             throw WebClientErrorHandler.parseAiServerException(e);
         } catch (WebClientRequestException e) {
             throw new AiServerException("internal_server_error", "Ai서버에서 응답이 없습니다", e);
-
+        } catch (AiServerException e) {
+            throw e;
         } catch (Exception e) {
             log.error("WebClientResponseException안터짐 에러코드: {}", e);
             throw new PostException(GeneralErrorCode.INTERNAL_SERVER_ERROR, "요약도중 예기치못한 에러 발행");
@@ -0,0 +1,29 @@
+package com.kakaobase.snsapp.global.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 로컬 캐시 무효화 메시지 버스
+ *
+ * <p>각 노드는 자신의 로컬 캐시를 직접 갱신한 뒤 변경된 키를 발행하고,
+ * 다른 노드들은 구독한 토픽의 키를 받아 해당 캐시 항목을 무효화합니다.
+ * 자신이 발행한 메시지는 다시 전달되지 않습니다.</p>
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 다른 노드에 캐시 무효화 키를 발행합니다.
+     *
+     * @param topic 캐시 토픽
+     * @param key 무효화할 키
+     */
+    void publish(String topic, Long key);
+
+    /**
+     * 다른 노드에서 발행한 캐시 무효화 키를 구독합니다.
+     *
+     * @param topic 캐시 토픽
+     * @param listener 무효화할 키를 받는 리스너
+     */
+    void subscribe(String topic, Consumer<Long> listener);
+}
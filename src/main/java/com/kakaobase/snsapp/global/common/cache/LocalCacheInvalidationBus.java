@@ -0,0 +1,20 @@
+package com.kakaobase.snsapp.global.common.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 캐시 무효화 버스
+ *
+ * <p>다른 노드가 없으므로 발행/구독 모두 아무 일도 하지 않습니다.
+ * (로컬 캐시는 발행하는 쪽에서 이미 갱신됨)</p>
+ */
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    @Override
+    public void publish(String topic, Long key) {
+    }
+
+    @Override
+    public void subscribe(String topic, Consumer<Long> listener) {
+    }
+}
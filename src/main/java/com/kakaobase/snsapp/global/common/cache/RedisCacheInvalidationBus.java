@@ -0,0 +1,58 @@
+package com.kakaobase.snsapp.global.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 캐시 무효화 버스
+ *
+ * <p>메시지는 {@code 발행 노드 ID:키} 형태로 {@code cache-invalidation:{topic}} 채널에 발행되며,
+ * 자신이 발행한 메시지는 무시합니다. Pub/Sub 은 유실된 메시지를 다시 전달하지 않으므로,
+ * 구독하는 캐시는 TTL 등으로 오래된 항목이 남아 있는 시간을 스스로 제한해야 합니다.</p>
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final String CHANNEL_PREFIX = "cache-invalidation:";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void publish(String topic, Long key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + topic, nodeId + ":" + key);
+        } catch (Exception e) {
+            // 무효화 실패가 요청을 실패시키지 않도록 하고, 다른 노드는 각 캐시의 TTL 이 지나면 다시 읽도록 둔다
+            log.warn("캐시 무효화 메시지 발행 실패: topic={}, key={}, error={}", topic, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(String topic, Consumer<Long> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(':');
+            if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+                return;
+            }
+            try {
+                listener.accept(Long.valueOf(body.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 캐시 무효화 메시지: topic={}, body={}", topic, body);
+            }
+        }, new ChannelTopic(CHANNEL_PREFIX + topic));
+    }
+}
@@ -0,0 +1,34 @@
+package com.kakaobase.snsapp.global.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 유틸리티
+ *
+ * <p>로컬 캐시 갱신과 무효화 발행이 롤백된 변경을 반영하지 않도록 커밋 이후로 미룹니다.
+ * 트랜잭션 밖에서 호출되면 바로 실행합니다.</p>
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 작업을 실행합니다.
+     *
+     * @param action 커밋 이후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
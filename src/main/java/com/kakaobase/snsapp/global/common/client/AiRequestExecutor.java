@@ -0,0 +1,220 @@
+package com.kakaobase.snsapp.global.common.client;
+
+import com.kakaobase.snsapp.global.common.constant.AiEndpoint;
+import com.kakaobase.snsapp.global.error.exception.AiServerException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버 요청 실행기
+ *
+ * <p>엔드포인트별로 관측된 지연 시간을 기반으로 타임아웃을 조정하고,
+ * 멱등 요청에 대해서는 헤지(중복) 요청으로 꼬리 지연을 줄입니다.</p>
+ *
+ * <ul>
+ *     <li>타임아웃 = clamp(p99 × {@value #TIMEOUT_MULTIPLIER}, 하한, 상한). 표본이 부족하면 상한을 사용합니다.</li>
+ *     <li>헤지 요청은 p95 지연 이후에도 응답이 없을 때 한 번만 추가로 보내며,
+ *     최근 윈도우 요청의 {@value #MAX_HEDGE_RATIO} 비율을 넘지 않도록 제한합니다.</li>
+ *     <li>타임아웃은 {@link AiServerException}(internal_server_error)으로 변환됩니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AiRequestExecutor {
+
+    private static final long WINDOW_MILLIS = 60_000;
+    private static final int MIN_SAMPLES = 20;
+    private static final double TIMEOUT_MULTIPLIER = 1.5;
+    private static final double MAX_HEDGE_RATIO = 0.1;
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    // 타임아웃과 헤지 지연을 예약하는 스케줄러
+    private final Scheduler scheduler;
+    // 응답 시간 측정과 히스토그램 윈도우 교체에 사용하는 시계 (나노초)
+    private final LongSupplier nanoClock;
+
+    private final Map<AiEndpoint, EndpointState> states = new EnumMap<>(AiEndpoint.class);
+
+    @Autowired
+    public AiRequestExecutor(Environment environment, MeterRegistry meterRegistry) {
+        this(environment, meterRegistry, Schedulers.parallel(), System::nanoTime);
+    }
+
+    AiRequestExecutor(Environment environment, MeterRegistry meterRegistry,
+                      Scheduler scheduler, LongSupplier nanoClock) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = scheduler;
+        this.nanoClock = nanoClock;
+    }
+
+    @PostConstruct
+    public void init() {
+        for (AiEndpoint endpoint : AiEndpoint.values()) {
+            String prefix = "ai.client." + endpoint.getKey() + ".";
+            long floor = environment.getProperty(
+                    prefix + "timeout-floor-millis", Long.class, endpoint.getDefaultTimeoutFloorMillis());
+            long ceiling = environment.getProperty(
+                    prefix + "timeout-ceiling-millis", Long.class, endpoint.getDefaultTimeoutCeilingMillis());
+            boolean hedgeEnabled = endpoint.isIdempotent()
+                    && environment.getProperty(prefix + "hedge-enabled", Boolean.class, true);
+
+            EndpointState state = new EndpointState(floor, ceiling, hedgeEnabled,
+                    new LatencyHistogram(WINDOW_MILLIS, nanoClock),
+                    new HedgeBudget(MAX_HEDGE_RATIO, WINDOW_MILLIS, nanoClock));
+            states.put(endpoint, state);
+
+            Gauge.builder("ai.client.timeout", state, s -> s.currentTimeoutMillis())
+                    .tag("endpoint", endpoint.getKey())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("ai.client.latency.p99", state, s -> s.histogram.percentile(0.99))
+                    .tag("endpoint", endpoint.getKey())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("ai.client.hedged.requests", state, s -> s.hedges.get())
+                    .tag("endpoint", endpoint.getKey())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 적응형 타임아웃을 적용하여 요청을 실행합니다.
+     *
+     * @param endpoint AI 서버 엔드포인트
+     * @param request 구독할 때마다 새 요청을 보내는 Mono 공급자
+     * @return 타임아웃이 적용된 응답 Mono
+     */
+    public <T> Mono<T> execute(AiEndpoint endpoint, Supplier<Mono<T>> request) {
+        EndpointState state = states.get(endpoint);
+        state.hedgeBudget.recordRequest();
+        return timed(endpoint, state, request);
+    }
+
+    /**
+     * 적응형 타임아웃과 헤지 요청을 적용하여 요청을 실행합니다.
+     * 멱등이 아닌 엔드포인트이거나 표본이 부족하면 {@link #execute}와 동일하게 동작합니다.
+     *
+     * @param endpoint AI 서버 엔드포인트 (멱등 요청)
+     * @param request 구독할 때마다 새 요청을 보내는 Mono 공급자
+     * @return 먼저 성공한 응답 Mono
+     */
+    public <T> Mono<T> executeHedged(AiEndpoint endpoint, Supplier<Mono<T>> request) {
+        EndpointState state = states.get(endpoint);
+        state.hedgeBudget.recordRequest();
+
+        long hedgeDelayMillis = state.histogram.percentile(0.95);
+        if (!state.hedgeEnabled || state.histogram.count() < MIN_SAMPLES || hedgeDelayMillis <= 0) {
+            return timed(endpoint, state, request);
+        }
+
+        AtomicBoolean hedgeLaunched = new AtomicBoolean();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+        // 헤지 요청이 나간 뒤의 첫 실패는 숨기고 나머지 요청의 결과를 기다린다
+        Mono<T> primary = timed(endpoint, state, request)
+                .onErrorResume(e -> hedgeLaunched.get() && firstError.compareAndSet(null, e)
+                        ? Mono.<T>never()
+                        : Mono.<T>error(e));
+
+        Mono<T> hedge = Mono.delay(Duration.ofMillis(hedgeDelayMillis), scheduler)
+                .filter(tick -> state.tryAcquireHedge())
+                .doOnNext(tick -> {
+                    hedgeLaunched.set(true);
+                    log.debug("AI [{}] 헤지 요청 전송 - delay: {}ms", endpoint.getKey(), hedgeDelayMillis);
+                })
+                .flatMap(tick -> timed(endpoint, state, request))
+                .switchIfEmpty(Mono.never())
+                .onErrorResume(e -> firstError.compareAndSet(null, e)
+                        ? Mono.<T>never()
+                        : Mono.<T>error(e));
+
+        return Mono.firstWithSignal(primary, hedge);
+    }
+
+    /**
+     * 엔드포인트의 현재 타임아웃을 반환합니다.
+     */
+    public Duration currentTimeout(AiEndpoint endpoint) {
+        return Duration.ofMillis(states.get(endpoint).currentTimeoutMillis());
+    }
+
+    private <T> Mono<T> timed(AiEndpoint endpoint, EndpointState state, Supplier<Mono<T>> request) {
+        return Mono.defer(() -> {
+            long timeoutMillis = state.currentTimeoutMillis();
+            long startedAt = nanoClock.getAsLong();
+
+            return request.get()
+                    .timeout(Duration.ofMillis(timeoutMillis), scheduler)
+                    .doOnSuccess(response -> state.histogram.record(elapsedMillis(startedAt)))
+                    .onErrorMap(TimeoutException.class, e -> {
+                        // 타임아웃은 관측 하한값으로 기록하여 지연 증가 시 타임아웃이 따라 늘어나도록 한다
+                        state.histogram.record(timeoutMillis);
+                        log.warn("AI [{}] 응답 시간 초과 - timeout: {}ms", endpoint.getKey(), timeoutMillis);
+                        return new AiServerException("internal_server_error", "AI 서버 응답 시간이 초과되었습니다.", e);
+                    });
+        });
+    }
+
+    private long elapsedMillis(long startedAt) {
+        return (nanoClock.getAsLong() - startedAt) / 1_000_000;
+    }
+
+    /**
+     * 엔드포인트별 지연 시간 및 헤지 상태
+     */
+    private static final class EndpointState {
+
+        private final long floorMillis;
+        private final long ceilingMillis;
+        private final boolean hedgeEnabled;
+        private final LatencyHistogram histogram;
+        private final HedgeBudget hedgeBudget;
+        private final AtomicLong hedges = new AtomicLong();
+
+        private EndpointState(long floorMillis, long ceilingMillis, boolean hedgeEnabled,
+                              LatencyHistogram histogram, HedgeBudget hedgeBudget) {
+            this.floorMillis = floorMillis;
+            this.ceilingMillis = ceilingMillis;
+            this.hedgeEnabled = hedgeEnabled;
+            this.histogram = histogram;
+            this.hedgeBudget = hedgeBudget;
+        }
+
+        private long currentTimeoutMillis() {
+            if (histogram.count() < MIN_SAMPLES) {
+                return ceilingMillis;
+            }
+            long p99 = histogram.percentile(0.99);
+            long adaptive = (long) (p99 * TIMEOUT_MULTIPLIER);
+            return Math.max(floorMillis, Math.min(ceilingMillis, adaptive));
+        }
+
+        private boolean tryAcquireHedge() {
+            if (!hedgeBudget.tryAcquire()) {
+                return false;
+            }
+            hedges.incrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kakaobase.snsapp.global.common.client;
+
+import com.kakaobase.snsapp.global.common.constant.AiEndpoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * AI 서버 엔드포인트별 WebClient 묶음
+ *
+ * <p>엔드포인트마다 독립된 커넥션 풀({@link ConnectionProvider})을 가진 WebClient를 제공합니다.
+ * 애플리케이션 종료 시 커넥션 풀을 정리합니다.</p>
+ */
+@Slf4j
+public class AiWebClients implements DisposableBean {
+
+    private final Map<AiEndpoint, WebClient> clients;
+    private final Collection<ConnectionProvider> connectionProviders;
+
+    public AiWebClients(Map<AiEndpoint, WebClient> clients, Collection<ConnectionProvider> connectionProviders) {
+        this.clients = clients;
+        this.connectionProviders = connectionProviders;
+    }
+
+    /**
+     * 엔드포인트 전용 WebClient를 반환합니다.
+     *
+     * @param endpoint AI 서버 엔드포인트
+     * @return 해당 엔드포인트 전용 WebClient
+     */
+    public WebClient get(AiEndpoint endpoint) {
+        return clients.get(endpoint);
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+        log.info("AI 서버 커넥션 풀 정리 완료");
+    }
+}
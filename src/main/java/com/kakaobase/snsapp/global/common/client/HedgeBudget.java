@@ -0,0 +1,84 @@
+package com.kakaobase.snsapp.global.common.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 슬라이딩 윈도우 헤지 예산
+ *
+ * <p>{@link LatencyHistogram} 과 같이 현재 윈도우와 직전 윈도우 두 개의 요청 수/헤지 수만 유지하고,
+ * 최근 1~2 윈도우 동안의 요청 수 × 비율까지만 헤지를 허용합니다.
+ * 헤지가 없던 과거 요청의 허용량은 윈도우가 지나면 사라지므로, 지연이 튀는 순간 헤지가 몰리지 않습니다.</p>
+ */
+class HedgeBudget {
+
+    private final double maxRatio;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile Window current = new Window();
+    private volatile Window previous = new Window();
+    private volatile long windowStartedAt;
+
+    /**
+     * @param maxRatio 요청 수 대비 최대 헤지 비율
+     * @param windowMillis 윈도우 길이
+     * @param nanoClock 윈도우 교체 시점을 판단할 시계 (나노초)
+     */
+    HedgeBudget(double maxRatio, long windowMillis, LongSupplier nanoClock) {
+        this.maxRatio = maxRatio;
+        this.windowNanos = windowMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+        this.windowStartedAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * 요청 한 건을 기록합니다.
+     */
+    void recordRequest() {
+        rotateIfNeeded();
+        current.requests.incrementAndGet();
+    }
+
+    /**
+     * 최근 윈도우의 허용량이 남아 있으면 헤지 한 건을 차감합니다.
+     *
+     * @return 헤지를 보내도 되면 true
+     */
+    boolean tryAcquire() {
+        rotateIfNeeded();
+        Window cur = current;
+        Window prev = previous;
+        long allowed = (long) ((cur.requests.get() + prev.requests.get()) * maxRatio) - prev.hedges.get();
+        while (true) {
+            long used = cur.hedges.get();
+            if (used >= allowed) {
+                return false;
+            }
+            if (cur.hedges.compareAndSet(used, used + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void rotateIfNeeded() {
+        long now = nanoClock.getAsLong();
+        if (now - windowStartedAt < windowNanos) {
+            return;
+        }
+        synchronized (this) {
+            if (now - windowStartedAt < windowNanos) {
+                return;
+            }
+            // 두 윈도우 이상 비어 있었다면 직전 윈도우도 오래된 값이므로 버린다
+            previous = (now - windowStartedAt < 2 * windowNanos) ? current : new Window();
+            current = new Window();
+            windowStartedAt = now;
+        }
+    }
+
+    private static final class Window {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong hedges = new AtomicLong();
+    }
+}
@@ -0,0 +1,139 @@
+package com.kakaobase.snsapp.global.common.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 슬라이딩 윈도우 지연 시간 히스토그램
+ *
+ * <p>1ms ~ 10분 구간을 약 10% 간격의 로그 스케일 버킷으로 나누어 지연 시간을 집계합니다.
+ * 현재 윈도우와 직전 윈도우 두 개만 유지하므로 메모리 사용량이 고정되어 있고,
+ * 기록은 lock-free 로 처리됩니다. 백분위 값은 버킷 상한값으로 근사합니다 (상대 오차 약 10%).</p>
+ */
+public class LatencyHistogram {
+
+    private static final long MAX_TRACKABLE_MILLIS = 600_000;
+    private static final double BUCKET_GROWTH = 1.1;
+    private static final long[] UPPER_BOUNDS = createUpperBounds();
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile AtomicLongArray current = new AtomicLongArray(UPPER_BOUNDS.length);
+    private volatile AtomicLongArray previous = new AtomicLongArray(UPPER_BOUNDS.length);
+    private volatile long windowStartedAt;
+
+    /**
+     * @param windowMillis 윈도우 길이. 백분위는 최근 1~2 윈도우 구간의 표본으로 계산됩니다.
+     */
+    public LatencyHistogram(long windowMillis) {
+        this(windowMillis, System::nanoTime);
+    }
+
+    /**
+     * @param windowMillis 윈도우 길이
+     * @param nanoClock 윈도우 교체 시점을 판단할 시계 (나노초)
+     */
+    LatencyHistogram(long windowMillis, LongSupplier nanoClock) {
+        this.windowNanos = windowMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+        this.windowStartedAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * 지연 시간을 기록합니다.
+     *
+     * @param millis 지연 시간(ms)
+     */
+    public void record(long millis) {
+        rotateIfNeeded();
+        current.incrementAndGet(indexOf(millis));
+    }
+
+    /**
+     * 최근 윈도우의 표본 수를 반환합니다.
+     */
+    public long count() {
+        rotateIfNeeded();
+        AtomicLongArray cur = current;
+        AtomicLongArray prev = previous;
+        long total = 0;
+        for (int i = 0; i < UPPER_BOUNDS.length; i++) {
+            total += cur.get(i) + prev.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * 최근 윈도우의 백분위 지연 시간을 반환합니다.
+     *
+     * @param percentile 0.0 ~ 1.0 (예: 0.99)
+     * @return 백분위 지연 시간(ms), 표본이 없으면 -1
+     */
+    public long percentile(double percentile) {
+        rotateIfNeeded();
+        AtomicLongArray cur = current;
+        AtomicLongArray prev = previous;
+
+        long[] counts = new long[UPPER_BOUNDS.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = cur.get(i) + prev.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return -1;
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return UPPER_BOUNDS[i];
+            }
+        }
+        return UPPER_BOUNDS[UPPER_BOUNDS.length - 1];
+    }
+
+    private void rotateIfNeeded() {
+        long now = nanoClock.getAsLong();
+        if (now - windowStartedAt < windowNanos) {
+            return;
+        }
+        synchronized (this) {
+            if (now - windowStartedAt < windowNanos) {
+                return;
+            }
+            // 두 윈도우 이상 비어 있었다면 직전 윈도우도 오래된 값이므로 버린다
+            previous = (now - windowStartedAt < 2 * windowNanos)
+                    ? current
+                    : new AtomicLongArray(UPPER_BOUNDS.length);
+            current = new AtomicLongArray(UPPER_BOUNDS.length);
+            windowStartedAt = now;
+        }
+    }
+
+    private static int indexOf(long millis) {
+        int index = Arrays.binarySearch(UPPER_BOUNDS, Math.max(1, millis));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, UPPER_BOUNDS.length - 1);
+    }
+
+    private static long[] createUpperBounds() {
+        long[] bounds = new long[256];
+        int size = 0;
+        double bound = 1;
+        long last = 0;
+        while (last < MAX_TRACKABLE_MILLIS) {
+            long ceil = Math.max(last + 1, (long) Math.ceil(bound));
+            bounds[size++] = ceil;
+            last = ceil;
+            bound *= BUCKET_GROWTH;
+        }
+        return Arrays.copyOf(bounds, size);
+    }
+}
@@ -0,0 +1,55 @@
+package com.kakaobase.snsapp.global.common.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI 서버 엔드포인트 정의
+ *
+ * <p>엔드포인트마다 전용 커넥션 풀을 사용하여, 느린 엔드포인트(요약)가
+ * 다른 엔드포인트(봇 대댓글)의 커넥션을 고갈시키지 않도록 합니다.
+ * 풀 크기 기본값은 {@code ai.client.<key>.*} 설정으로 덮어쓸 수 있습니다.</p>
+ */
+@Getter
+@AllArgsConstructor
+public enum AiEndpoint {
+
+    YOUTUBE_SUMMARY("youtube-summary", "/posts/youtube/summary", 20, 100, 5_000, 120_000, true),
+    BOT_POST("bot-post", "/posts/bot", 5, 20, 5_000, 120_000, false),
+    BOT_RECOMMENT("bot-recomment", "/recomments/bot", 10, 50, 5_000, 120_000, false);
+
+    /**
+     * 설정 키 및 커넥션 풀 이름에 사용되는 식별자
+     */
+    private final String key;
+
+    /**
+     * AI 서버 기준 요청 경로
+     */
+    private final String path;
+
+    /**
+     * 기본 최대 커넥션 수
+     */
+    private final int defaultMaxConnections;
+
+    /**
+     * 기본 커넥션 획득 대기열 최대 길이
+     */
+    private final int defaultPendingAcquireMaxCount;
+
+    /**
+     * 적응형 타임아웃 하한(ms)
+     */
+    private final long defaultTimeoutFloorMillis;
+
+    /**
+     * 적응형 타임아웃 상한(ms). 응답 타임아웃의 최대값으로도 사용됩니다.
+     */
+    private final long defaultTimeoutCeilingMillis;
+
+    /**
+     * 멱등 요청 여부. 멱등 요청만 헤지(중복) 요청을 보낼 수 있습니다.
+     */
+    private final boolean idempotent;
+}
@@ -0,0 +1,39 @@
+package com.kakaobase.snsapp.global.common.lock.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 잠금 엔티티
+ * <p>
+ * 여러 노드에서 같은 스케줄 작업이 동시에 실행되지 않도록 작업 이름별로 한 행을 두고,
+ * locked_until 이 지난 행만 다른 노드가 가져갈 수 있습니다.
+ * 나누어 처리하는 작업은 다음 실행이 이어서 처리할 위치를 progress 에 남겨, 어느 노드가 잠금을 가져가도 이어서 처리합니다.
+ * </p>
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+    @Id
+    @Column(name = "lock_name", length = 64)
+    private String lockName;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "locked_by", nullable = false, length = 64)
+    private String lockedBy;
+
+    @Column(name = "progress", nullable = false)
+    private long progress;
+}
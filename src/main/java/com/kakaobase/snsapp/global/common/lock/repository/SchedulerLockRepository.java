@@ -0,0 +1,92 @@
+package com.kakaobase.snsapp.global.common.lock.repository;
+
+import com.kakaobase.snsapp.global.common.lock.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 스케줄러 잠금에 대한 데이터 액세스 객체
+ */
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 잠금 행이 없으면 이미 만료된 잠금으로 생성합니다. 이미 있으면 아무것도 바꾸지 않습니다.
+     *
+     * @param lockName 잠금 이름
+     * @param expiredAt 생성할 행의 만료 시각 (현재보다 이전)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_locks (lock_name, locked_until, locked_by, progress) " +
+            "VALUES (:lockName, :expiredAt, '', 0) " +
+            "ON DUPLICATE KEY UPDATE locked_by = locked_by",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("lockName") String lockName, @Param("expiredAt") LocalDateTime expiredAt);
+
+    /**
+     * 만료된 잠금을 가져옵니다. 조건 확인과 갱신을 한 문장에서 처리하므로 한 노드만 성공합니다.
+     *
+     * @param lockName 잠금 이름
+     * @param lockedBy 잠금을 가져가는 노드
+     * @param now 현재 시각
+     * @param lockedUntil 잠금 만료 시각
+     * @return 갱신된 행 수 (다른 노드가 잠금을 가지고 있으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedBy = :lockedBy, l.lockedUntil = :lockedUntil " +
+            "WHERE l.lockName = :lockName AND l.lockedUntil <= :now")
+    int acquire(@Param("lockName") String lockName,
+                @Param("lockedBy") String lockedBy,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 가지고 있는 잠금을 바로 만료시킵니다.
+     *
+     * @param lockName 잠금 이름
+     * @param lockedBy 잠금을 가진 노드
+     * @param now 현재 시각
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :now " +
+            "WHERE l.lockName = :lockName AND l.lockedBy = :lockedBy")
+    int release(@Param("lockName") String lockName,
+                @Param("lockedBy") String lockedBy,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * 작업이 마지막으로 처리한 위치를 조회합니다.
+     *
+     * @param lockName 잠금 이름
+     * @return 처리 위치 (잠금 행이 없으면 빈 값)
+     */
+    @Query("SELECT l.progress FROM SchedulerLock l WHERE l.lockName = :lockName")
+    Optional<Long> findProgress(@Param("lockName") String lockName);
+
+    /**
+     * 잠금을 가진 노드가 처리한 위치를 기록합니다.
+     *
+     * @param lockName 잠금 이름
+     * @param lockedBy 잠금을 가진 노드
+     * @param progress 처리 위치
+     * @return 갱신된 행 수 (잠금을 잃었으면 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.progress = :progress " +
+            "WHERE l.lockName = :lockName AND l.lockedBy = :lockedBy")
+    int updateProgress(@Param("lockName") String lockName,
+                       @Param("lockedBy") String lockedBy,
+                       @Param("progress") long progress);
+}
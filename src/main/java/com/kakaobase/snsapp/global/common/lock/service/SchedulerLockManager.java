@@ -0,0 +1,71 @@
+package com.kakaobase.snsapp.global.common.lock.service;
+
+import com.kakaobase.snsapp.global.common.lock.repository.SchedulerLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스케줄러 잠금 서비스
+ *
+ * <p>모든 노드에서 실행되는 {@code @Scheduled} 작업 중 한 노드만 실행해야 하는 작업을 위해
+ * scheduler_locks 행을 기간(lease)만큼 잠급니다. 잠금을 가진 노드가 중단되어도 기간이 지나면 다른 노드가 가져갈 수 있습니다.
+ * 만료 여부는 각 노드의 시각으로 판단하므로 기간은 노드 간 시각 차이보다 충분히 길어야 합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockManager {
+
+    // 잠금 행이 처음 생성될 때의 만료 시각 (바로 가져갈 수 있도록 과거로 지정)
+    private static final LocalDateTime EXPIRED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    // 이 노드를 구분하는 값
+    private final String owner = UUID.randomUUID().toString();
+
+    /**
+     * 잠금이 만료되었으면 기간만큼 가져옵니다.
+     *
+     * @param lockName 잠금 이름
+     * @param leaseTime 잠금 기간
+     * @return 잠금을 가져왔으면 true, 다른 노드가 가지고 있으면 false
+     */
+    public boolean tryLock(String lockName, Duration leaseTime) {
+        LocalDateTime now = LocalDateTime.now();
+        schedulerLockRepository.insertIfAbsent(lockName, EXPIRED);
+        return schedulerLockRepository.acquire(lockName, owner, now, now.plus(leaseTime)) == 1;
+    }
+
+    /**
+     * 가지고 있는 잠금을 기간 전에 해제합니다.
+     *
+     * @param lockName 잠금 이름
+     */
+    public void unlock(String lockName) {
+        schedulerLockRepository.release(lockName, owner, LocalDateTime.now());
+    }
+
+    /**
+     * 나누어 처리하는 작업이 마지막으로 처리한 위치를 조회합니다.
+     *
+     * @param lockName 잠금 이름
+     * @return 처리 위치 (기록이 없으면 0)
+     */
+    public long getProgress(String lockName) {
+        return schedulerLockRepository.findProgress(lockName).orElse(0L);
+    }
+
+    /**
+     * 다음 실행이 이어서 처리할 위치를 기록합니다. 잠금을 가진 노드만 기록할 수 있습니다.
+     *
+     * @param lockName 잠금 이름
+     * @param progress 처리 위치
+     */
+    public void saveProgress(String lockName, long progress) {
+        schedulerLockRepository.updateProgress(lockName, owner, progress);
+    }
+}
@@ -0,0 +1,51 @@
+package com.kakaobase.snsapp.global.common.sse.controller;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.global.common.sse.service.SseSubscriptionRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * SSE 구독 API 컨트롤러
+ * 유튜브 요약 완료, 봇 대댓글 생성 등 비동기 처리 결과를 실시간으로 전달합니다.
+ */
+@Slf4j
+@Tag(name = "SSE API", description = "비동기 처리 결과 실시간 수신 API")
+@RestController
+@RequestMapping("/api/sse")
+@RequiredArgsConstructor
+public class SseController {
+
+    private final SseSubscriptionRegistry sseSubscriptionRegistry;
+
+    /**
+     * 로그인한 사용자의 이벤트 스트림을 구독합니다.
+     *
+     * <p>이벤트 종류: {@code connected}, {@code youtube_summary}, {@code bot_recomment}.
+     * 연결 유지를 위해 주기적으로 heartbeat 주석이 전송됩니다.
+     * 로그인하지 않은 요청은 스트림을 열지 않고 401 로 응답합니다.</p>
+     */
+    @Operation(summary = "이벤트 스트림 구독", description = "유튜브 요약 완료 및 봇 대댓글 이벤트를 SSE로 수신합니다")
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<Object>>> subscribe(@AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        Long memberId = Long.valueOf(userDetails.getId());
+
+        return ResponseEntity.ok(sseSubscriptionRegistry.subscribe(memberId));
+    }
+}
@@ -0,0 +1,37 @@
+package com.kakaobase.snsapp.global.common.sse.dto;
+
+import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * SSE로 전송되는 이벤트 페이로드 DTO 모음 클래스입니다.
+ */
+public class SseResponseDto {
+
+    /**
+     * 유튜브 요약 완료 이벤트 페이로드
+     */
+    @Schema(description = "유튜브 요약 완료 이벤트")
+    public record YoutubeSummary(
+            @Schema(description = "게시글 ID", example = "1")
+            Long post_id,
+
+            @Schema(description = "요약 결과 또는 실패 상태", example = "영상 요약 내용...")
+            String youtube_summary
+    ) {}
+
+    /**
+     * 봇 대댓글 생성 이벤트 페이로드
+     */
+    @Schema(description = "봇 대댓글 생성 이벤트")
+    public record BotRecomment(
+            @Schema(description = "게시글 ID", example = "1")
+            Long post_id,
+
+            @Schema(description = "댓글 ID", example = "1")
+            Long comment_id,
+
+            @Schema(description = "생성된 대댓글 정보")
+            CommentResponseDto.RecommentInfo recomment
+    ) {}
+}
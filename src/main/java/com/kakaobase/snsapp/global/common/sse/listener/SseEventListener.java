@@ -0,0 +1,59 @@
+package com.kakaobase.snsapp.global.common.sse.listener;
+
+import com.kakaobase.snsapp.domain.comments.event.BotRecommentCreatedEvent;
+import com.kakaobase.snsapp.domain.posts.event.YoutubeSummaryCompletedEvent;
+import com.kakaobase.snsapp.global.common.sse.dto.SseResponseDto;
+import com.kakaobase.snsapp.global.common.sse.service.SseSubscriptionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 비동기 처리 완료 이벤트를 SSE 구독자에게 전달하는 리스너
+ *
+ * <p>커밋 이후에만 전송하여, 클라이언트가 이벤트를 받고 재조회했을 때 결과가 보이도록 보장합니다.
+ * 트랜잭션 밖에서 발행된 이벤트는 즉시 전송합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEventListener {
+
+    public static final String YOUTUBE_SUMMARY_EVENT = "youtube_summary";
+    public static final String BOT_RECOMMENT_EVENT = "bot_recomment";
+
+    private final SseSubscriptionRegistry sseSubscriptionRegistry;
+
+    /**
+     * 유튜브 요약 완료 이벤트 처리
+     *
+     * @param event 유튜브 요약 완료 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleYoutubeSummaryCompleted(YoutubeSummaryCompletedEvent event) {
+        log.debug("SSE 유튜브 요약 이벤트 전송 - postId: {}, memberId: {}", event.getPostId(), event.getMemberId());
+
+        sseSubscriptionRegistry.send(
+                event.getMemberId(),
+                YOUTUBE_SUMMARY_EVENT,
+                new SseResponseDto.YoutubeSummary(event.getPostId(), event.getYoutubeSummary())
+        );
+    }
+
+    /**
+     * 봇 대댓글 생성 이벤트 처리
+     *
+     * @param event 봇 대댓글 생성 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBotRecommentCreated(BotRecommentCreatedEvent event) {
+        log.debug("SSE 봇 대댓글 이벤트 전송 - commentId: {}, memberId: {}", event.getCommentId(), event.getCommentAuthorId());
+
+        sseSubscriptionRegistry.send(
+                event.getCommentAuthorId(),
+                BOT_RECOMMENT_EVENT,
+                new SseResponseDto.BotRecomment(event.getPostId(), event.getCommentId(), event.getRecomment())
+        );
+    }
+}
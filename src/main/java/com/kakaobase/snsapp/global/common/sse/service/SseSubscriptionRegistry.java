@@ -0,0 +1,187 @@
+package com.kakaobase.snsapp.global.common.sse.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 SSE 구독 레지스트리
+ *
+ * <p>회원 ID별로 열린 SSE 연결을 관리하고 비동기 처리 결과(유튜브 요약, 봇 대댓글)를 전달합니다.</p>
+ *
+ * <ul>
+ *     <li>연결마다 스레드를 점유하지 않고 Reactor Sink와 서블릿 비동기 요청으로 처리합니다.</li>
+ *     <li>하트비트는 모든 연결이 공유하는 하나의 타이머에서 발행됩니다.</li>
+ *     <li>연결별 버퍼는 {@link #BUFFER_SIZE}로 제한되며, 가득 차면 느린 소비자로 판단하여 연결을 끊습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SseSubscriptionRegistry {
+
+    /** 연결별 최대 대기 이벤트 수 */
+    private static final int BUFFER_SIZE = 32;
+
+    /** 회원당 최대 동시 연결 수 (탭/기기) */
+    private static final int MAX_CONNECTIONS_PER_MEMBER = 5;
+
+    /** 하트비트 전송 주기 (프록시 idle timeout 보다 짧게 유지) */
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private final Map<Long, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * 모든 연결이 공유하는 하트비트 스트림
+     */
+    private final Flux<ServerSentEvent<Object>> heartbeat = Flux.interval(HEARTBEAT_INTERVAL)
+            .map(tick -> ServerSentEvent.builder().comment("heartbeat").build())
+            .onBackpressureDrop()
+            .share();
+
+    /**
+     * 회원의 이벤트 스트림을 구독합니다.
+     *
+     * @param memberId 구독하는 회원 ID
+     * @return SSE 이벤트 스트림
+     */
+    public Flux<ServerSentEvent<Object>> subscribe(Long memberId) {
+        Subscription subscription = new Subscription(memberId, sequence.incrementAndGet());
+
+        // 마지막 연결을 정리하며 집합을 지우는 remove 와 겹쳐도 지워질 집합에 추가되지 않도록 compute 안에서 추가
+        Set<Subscription> memberSubscriptions = subscriptions.compute(memberId, (k, existing) -> {
+            Set<Subscription> set = existing != null ? existing : ConcurrentHashMap.newKeySet();
+            set.add(subscription);
+            return set;
+        });
+        connectionCount.incrementAndGet();
+        evictOverflowConnections(memberSubscriptions);
+
+        log.debug("SSE 구독 시작 - memberId: {}, 전체 연결 수: {}", memberId, connectionCount.get());
+
+        ServerSentEvent<Object> connected = ServerSentEvent.builder()
+                .event("connected")
+                .data((Object) memberId)
+                .build();
+
+        return Flux.merge(subscription.sink.asFlux(), heartbeat)
+                .startWith(connected)
+                .takeUntilOther(subscription.closeSignal.asMono())
+                // 소켓 쓰기가 느린 연결이 이벤트 발행 스레드를 막지 않도록 분리
+                .publishOn(Schedulers.boundedElastic(), 1)
+                .doFinally(signal -> remove(subscription));
+    }
+
+    /**
+     * 특정 회원의 모든 연결에 이벤트를 전송합니다.
+     * 버퍼가 가득 찬 연결은 느린 소비자로 간주하여 즉시 종료합니다.
+     *
+     * @param memberId 수신 회원 ID
+     * @param eventName SSE 이벤트 이름
+     * @param data 이벤트 데이터
+     */
+    public void send(Long memberId, String eventName, Object data) {
+        Set<Subscription> memberSubscriptions = subscriptions.get(memberId);
+        if (memberSubscriptions == null || memberSubscriptions.isEmpty()) {
+            log.debug("SSE 구독자 없음 - memberId: {}, event: {}", memberId, eventName);
+            return;
+        }
+
+        ServerSentEvent<Object> event = ServerSentEvent.builder()
+                .event(eventName)
+                .data(data)
+                .build();
+
+        for (Subscription subscription : memberSubscriptions) {
+            if (!subscription.emit(event)) {
+                log.warn("SSE 느린 소비자 연결 종료 - memberId: {}, event: {}", memberId, eventName);
+                subscription.close();
+                remove(subscription);
+            }
+        }
+    }
+
+    /**
+     * 현재 열린 전체 SSE 연결 수를 반환합니다.
+     *
+     * @return 연결 수
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * 회원당 연결 수 상한을 넘으면 가장 오래된 연결부터 종료합니다.
+     */
+    private void evictOverflowConnections(Set<Subscription> memberSubscriptions) {
+        while (memberSubscriptions.size() > MAX_CONNECTIONS_PER_MEMBER) {
+            memberSubscriptions.stream()
+                    .min(Comparator.comparingLong(Subscription::getSeq))
+                    .ifPresent(oldest -> {
+                        oldest.close();
+                        remove(oldest);
+                    });
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscriptions.computeIfPresent(subscription.memberId, (k, set) -> {
+            removed.set(set.remove(subscription));
+            return set.isEmpty() ? null : set;
+        });
+        if (removed.get()) {
+            connectionCount.decrementAndGet();
+            log.debug("SSE 구독 종료 - memberId: {}, 전체 연결 수: {}", subscription.memberId, connectionCount.get());
+        }
+    }
+
+    /**
+     * 단일 SSE 연결 상태
+     */
+    private static final class Subscription {
+
+        private final Long memberId;
+        private final long seq;
+        private final Sinks.Many<ServerSentEvent<Object>> sink =
+                Sinks.many().unicast().onBackpressureBuffer(Queues.<ServerSentEvent<Object>>get(BUFFER_SIZE).get());
+        private final Sinks.One<Boolean> closeSignal = Sinks.one();
+
+        private Subscription(Long memberId, long seq) {
+            this.memberId = memberId;
+            this.seq = seq;
+        }
+
+        private long getSeq() {
+            return seq;
+        }
+
+        /**
+         * 이벤트를 버퍼에 넣습니다. 여러 스레드에서 호출될 수 있으므로 직렬화합니다.
+         *
+         * @return 버퍼에 넣었으면 true, 버퍼 초과면 false
+         */
+        private synchronized boolean emit(ServerSentEvent<Object> event) {
+            Sinks.EmitResult result = sink.tryEmitNext(event);
+            return result != Sinks.EmitResult.FAIL_OVERFLOW;
+        }
+
+        private void close() {
+            closeSignal.tryEmitValue(Boolean.TRUE);
+        }
+    }
+}
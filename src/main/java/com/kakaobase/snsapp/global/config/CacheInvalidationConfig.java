@@ -0,0 +1,45 @@
+package com.kakaobase.snsapp.global.config;
+
+import com.kakaobase.snsapp.global.common.cache.CacheInvalidationBus;
+import com.kakaobase.snsapp.global.common.cache.LocalCacheInvalidationBus;
+import com.kakaobase.snsapp.global.common.cache.RedisCacheInvalidationBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 로컬 캐시 무효화 버스 설정
+ *
+ * <p>{@code app.cache.invalidation.redis.enabled=true} 이면 Redis Pub/Sub 으로 노드 간 무효화를 전파하고,
+ * 그렇지 않으면 (단일 노드, 테스트 환경) 로컬 전용 버스를 사용합니다.</p>
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    private static final String REDIS_ENABLED = "app.cache.invalidation.redis.enabled";
+
+    @Bean
+    @ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = REDIS_ENABLED, havingValue = "true")
+    public CacheInvalidationBus redisCacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                                          RedisMessageListenerContainer cacheInvalidationListenerContainer) {
+        return new RedisCacheInvalidationBus(redisTemplate, cacheInvalidationListenerContainer);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationBus.class)
+    public CacheInvalidationBus localCacheInvalidationBus() {
+        return new LocalCacheInvalidationBus();
+    }
+}
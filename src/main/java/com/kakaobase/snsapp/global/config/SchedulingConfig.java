@@ -0,0 +1,17 @@
+package com.kakaobase.snsapp.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * <p>Spring의 @Scheduled 어노테이션을 위한 설정입니다.
+ * {@code app.scheduling.enabled=false} 로 비활성화할 수 있습니다 (테스트 환경 등).</p>
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
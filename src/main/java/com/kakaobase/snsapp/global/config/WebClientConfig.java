@@ -1,20 +1,28 @@
 package com.kakaobase.snsapp.global.config;
 
+import com.kakaobase.snsapp.global.common.client.AiWebClients;
+import com.kakaobase.snsapp.global.common.constant.AiEndpoint;
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
-import org.springframework.http.codec.LoggingCodecSupport;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -24,68 +32,117 @@ import java.util.concurrent.TimeUnit;
  */
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
+    private final Environment environment;
+
+    /**
+     * 요청/응답 로그 샘플링 비율 (0.0 ~ 1.0). 에러 응답은 항상 기록합니다.
+     */
+    @Value("${ai.client.log-sample-rate:0.01}")
+    private double logSampleRate;
+
     /**
-     * WebClient 빈 생성
+     * AI 서버 엔드포인트별 WebClient 빈 생성
      *
-     * <p>AI 서버와의 통신을 위한 WebClient를 설정합니다.</p>
+     * <p>엔드포인트마다 이름 붙은 커넥션 풀을 사용하며, 풀 지표(active, idle, pending, 획득 시간)는
+     * Micrometer로 노출됩니다 ({@code reactor.netty.connection.provider.*}, 태그 name=ai-{key}).</p>
      *
-     * @return 설정된 WebClient 인스턴스
+     * @return 엔드포인트별 WebClient 묶음
      */
     @Bean
-    public WebClient webClient() {
+    public AiWebClients aiWebClients() {
         // Exchange 전략 설정 (최대 메모리 사이즈 등)
         ExchangeStrategies exchangeStrategies = ExchangeStrategies.builder()
-                .codecs(configurer -> {
-                    configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024); // 10MB
-                    configurer.defaultCodecs().enableLoggingRequestDetails(true);
-                })
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024)) // 10MB
                 .build();
 
-        // HttpClient 설정
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000) // 연결 타임아웃 10초
-                .responseTimeout(Duration.ofSeconds(120)) // 응답 타임아웃 120초(2분)
-                .followRedirect(true)
-                .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(30, TimeUnit.SECONDS))
-                                .addHandlerLast(new WriteTimeoutHandler(30, TimeUnit.SECONDS))
-                );
-
-        return WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .exchangeStrategies(exchangeStrategies)
-                .filter(logRequest())
-                .filter(logResponse())
-                .build();
+        Map<AiEndpoint, WebClient> clients = new EnumMap<>(AiEndpoint.class);
+        List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
+        for (AiEndpoint endpoint : AiEndpoint.values()) {
+            ConnectionProvider connectionProvider = connectionProvider(endpoint);
+            connectionProviders.add(connectionProvider);
+
+            // 응답 대기 시간은 AiRequestExecutor 의 적응형 타임아웃이 관리하며, 여기서는 상한만 설정
+            long timeoutCeilingMillis = environment.getProperty(
+                    "ai.client." + endpoint.getKey() + ".timeout-ceiling-millis",
+                    Long.class, endpoint.getDefaultTimeoutCeilingMillis());
+
+            // HttpClient 설정
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10000) // 연결 타임아웃 10초
+                    .responseTimeout(Duration.ofMillis(timeoutCeilingMillis)) // 응답 타임아웃 상한
+                    .followRedirect(true)
+                    .doOnConnected(conn ->
+                            conn.addHandlerLast(new WriteTimeoutHandler(30, TimeUnit.SECONDS))
+                    );
+
+            WebClient webClient = WebClient.builder()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .exchangeStrategies(exchangeStrategies)
+                    .filter(sampledLogging(endpoint))
+                    .build();
+
+            clients.put(endpoint, webClient);
+        }
+
+        return new AiWebClients(clients, connectionProviders);
     }
 
     /**
-     * 요청 로깅 필터
+     * 엔드포인트 전용 커넥션 풀 생성
      *
-     * @return 요청 로깅을 위한 ExchangeFilterFunction
+     * @param endpoint AI 서버 엔드포인트
+     * @return 최대 커넥션/대기열 제한과 유휴 커넥션 정리가 설정된 커넥션 풀
      */
-    private ExchangeFilterFunction logRequest() {
-        return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-            log.info("=== Request: {} {}", clientRequest.method(), clientRequest.url());
-            clientRequest.headers().forEach((name, values) -> values.forEach(value ->
-                    log.debug("Request Header: {}={}", name, value)));
-            return Mono.just(clientRequest);
-        });
+    private ConnectionProvider connectionProvider(AiEndpoint endpoint) {
+        String prefix = "ai.client." + endpoint.getKey() + ".";
+
+        int maxConnections = environment.getProperty(
+                prefix + "max-connections", Integer.class, endpoint.getDefaultMaxConnections());
+        int pendingAcquireMaxCount = environment.getProperty(
+                prefix + "pending-acquire-max-count", Integer.class, endpoint.getDefaultPendingAcquireMaxCount());
+
+        return ConnectionProvider.builder("ai-" + endpoint.getKey())
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofSeconds(10)) // 커넥션 획득 대기 10초
+                .maxIdleTime(Duration.ofSeconds(30)) // AI 서버/LB idle timeout 보다 짧게 유지
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
     }
 
     /**
-     * 응답 로깅 필터
+     * 샘플링 로깅 필터
      *
-     * @return 응답 로깅을 위한 ExchangeFilterFunction
+     * <p>모든 요청의 헤더를 기록하던 방식 대신, 일부 요청만 샘플링하여 소요 시간과 상태를 기록합니다.
+     * 4xx/5xx 응답과 통신 오류는 샘플링과 무관하게 항상 기록합니다.</p>
+     *
+     * @param endpoint AI 서버 엔드포인트
+     * @return 로깅을 위한 ExchangeFilterFunction
      */
-    private ExchangeFilterFunction logResponse() {
-        return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            log.info("=== Response Status: {}", clientResponse.statusCode());
-            clientResponse.headers().asHttpHeaders().forEach((name, values) -> values.forEach(value ->
-                    log.debug("Response Header: {}={}", name, value)));
-            return Mono.just(clientResponse);
-        });
+    private ExchangeFilterFunction sampledLogging(AiEndpoint endpoint) {
+        return (request, next) -> {
+            boolean sampled = ThreadLocalRandom.current().nextDouble() < logSampleRate;
+            long startedAt = System.nanoTime();
+
+            return next.exchange(request)
+                    .doOnNext(response -> {
+                        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                        if (response.statusCode().isError()) {
+                            log.warn("=== AI [{}] {} {} -> {} ({}ms)",
+                                    endpoint.getKey(), request.method(), request.url(), response.statusCode(), elapsedMillis);
+                        } else if (sampled) {
+                            log.info("=== AI [{}] {} {} -> {} ({}ms)",
+                                    endpoint.getKey(), request.method(), request.url(), response.statusCode(), elapsedMillis);
+                        }
+                    })
+                    .doOnError(e -> log.warn("=== AI [{}] {} {} 통신 실패: {}",
+                            endpoint.getKey(), request.method(), request.url(), e.getMessage()));
+        };
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,14 @@
 package com.kakaobase.snsapp.global.security;
 
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
-import com.kakaobase.snsapp.domain.comments.entity.Recomment;
 import com.kakaobase.snsapp.domain.comments.exception.CommentException;
 import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
 import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
 import com.kakaobase.snsapp.domain.posts.converter.PostConverter;
 import com.kakaobase.snsapp.domain.posts.entity.Post;
 import com.kakaobase.snsapp.domain.posts.exception.PostException;
-import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.domain.posts.loader.PostAccess;
+import com.kakaobase.snsapp.domain.posts.loader.PostAccessLoader;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
 import com.kakaobase.snsapp.global.error.exception.CustomException;
 import lombok.RequiredArgsConstructor;
@@ -26,7 +26,7 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class AccessChecker {
 
-    private final PostRepository postRepository;
+    private final PostAccessLoader postAccessLoader;
     private final CommentRepository commentRepository;
     private final RecommentRepository recommentRepository;
 
@@ -91,10 +91,11 @@ public class AccessChecker {
             return false;
         }
 
-        Post post = postRepository.findById(postId)
+        // 작성자 ID 만 조회
+        PostAccess post = postAccessLoader.get(postId)
                 .orElseThrow(() -> new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND,"postId"));
 
-        if(!post.getMember().getId().equals(memberId)) {
+        if(!post.memberId().equals(memberId)) {
             throw new CustomException(GeneralErrorCode.FORBIDDEN);
         }
 
@@ -138,11 +139,12 @@ public class AccessChecker {
      */
     public boolean canAccessOnComments(Long postId, CustomUserDetails userDetails) {
 
-        Post post = postRepository.findById(postId)
+        // 게시판 유형만 조회하며, 조회 결과는 같은 요청의 CommentService 에서 재사용됨
+        PostAccess post = postAccessLoader.get(postId)
                 .orElseThrow(() -> new PostException(GeneralErrorCode.RESOURCE_NOT_FOUND, "postId"));
 
         // 게시글이 속한 게시판에 접근 권한이 있는지 확인
-        return hasAccessToBoard(post.getBoardType().name(), userDetails);
+        return hasAccessToBoard(post.boardType().name(), userDetails);
     }
 
     /**
@@ -164,10 +166,11 @@ public class AccessChecker {
             return false;
         }
 
-        Recomment recomment = recommentRepository.findById(recommentId)
+        // 작성자 ID 만 조회
+        Long authorId = recommentRepository.findMemberIdById(recommentId)
                 .orElseThrow(() -> new CommentException(GeneralErrorCode.RESOURCE_NOT_FOUND, "recommentId"));
 
-        if(!recomment.getMember().getId().equals(memberId)) {
+        if(!authorId.equals(memberId)) {
             throw new CustomException(GeneralErrorCode.FORBIDDEN);
         }
 
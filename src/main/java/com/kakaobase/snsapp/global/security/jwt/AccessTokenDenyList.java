@@ -0,0 +1,141 @@
+package com.kakaobase.snsapp.global.security.jwt;
+
+import com.kakaobase.snsapp.global.common.cache.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.kakaobase.snsapp.global.common.cache.TransactionCallbacks.afterCommit;
+
+/**
+ * Access Token 차단 목록
+ *
+ * <p>JWT 인증은 DB 를 읽지 않고 토큰의 클레임만으로 인증 객체를 만들기 때문에,
+ * 탈퇴/정지된 회원의 남은 Access Token 과 로그아웃한 Access Token 을 이 목록으로 거부합니다.
+ * 회원은 차단 시각을 보관하여 그 이전에 발급된 토큰만 거부하고,
+ * 로그아웃한 토큰은 토큰 원문의 64비트 해시로 보관하여 그 토큰만 거부합니다.</p>
+ *
+ * <p>차단 이전에 발급된 토큰은 Access Token 유효 시간이 지나면 모두 만료되므로,
+ * 항목도 그 시간만큼만 보관합니다. 다른 노드에는 {@link CacheInvalidationBus} 로 전파하며,
+ * 회원 차단 시에는 각 노드가 {@link VerifiedTokenCache} 에서 해당 회원의 토큰도 제거합니다.
+ * 다른 기기의 Access Token 은 서버가 알 수 없으므로 다른 기기 로그아웃은 리프레시 토큰만 취소하고,
+ * 그 기기의 Access Token 은 만료될 때까지 유효합니다.</p>
+ */
+@Component
+public class AccessTokenDenyList {
+
+    private static final String TOPIC = "access-token-deny";
+    private static final String TOKEN_TOPIC = "access-token-deny-token";
+
+    private final CacheInvalidationBus invalidationBus;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final long ttlMillis;
+
+    // 회원 ID -> 차단 시각
+    private final Map<Long, Long> deniedAt = new ConcurrentHashMap<>();
+    // 로그아웃한 토큰 해시 -> 보관 만료 시각
+    private final Map<Long, Long> deniedTokens = new ConcurrentHashMap<>();
+
+    public AccessTokenDenyList(
+            CacheInvalidationBus invalidationBus,
+            VerifiedTokenCache verifiedTokenCache,
+            @Value("${app.jwt.access.expiration-time}") long accessTokenValidityInMilliseconds) {
+        this.invalidationBus = invalidationBus;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.ttlMillis = accessTokenValidityInMilliseconds;
+    }
+
+    @PostConstruct
+    void init() {
+        invalidationBus.subscribe(TOPIC, this::denyLocal);
+        invalidationBus.subscribe(TOKEN_TOPIC, this::denyTokenLocal);
+    }
+
+    /**
+     * 회원의 기존 Access Token 을 거부하고 다른 노드에도 전파합니다. (커밋 이후)
+     * 탈퇴, 정지처럼 더 이상 인증되면 안 되는 모든 경로에서 호출합니다.
+     *
+     * @param memberId 회원 ID
+     */
+    public void deny(Long memberId) {
+        afterCommit(() -> {
+            denyLocal(memberId);
+            invalidationBus.publish(TOPIC, memberId);
+        });
+    }
+
+    /**
+     * 로그아웃한 Access Token 을 만료될 때까지 거부하고 다른 노드에도 전파합니다. (커밋 이후)
+     *
+     * @param token Access Token 원문
+     */
+    public void denyToken(String token) {
+        long tokenHash = VerifiedTokenCache.hash(token);
+        afterCommit(() -> {
+            denyTokenLocal(tokenHash);
+            invalidationBus.publish(TOKEN_TOPIC, tokenHash);
+        });
+    }
+
+    /**
+     * 로그아웃한 토큰인지 확인합니다.
+     * 검증 캐시에 적중한 토큰도 거부할 수 있도록 필터가 매 요청 확인합니다.
+     *
+     * @param token Access Token 원문
+     * @return 거부해야 하는 토큰이면 true
+     */
+    public boolean isDenied(String token) {
+        if (deniedTokens.isEmpty()) {
+            return false;
+        }
+        long tokenHash = VerifiedTokenCache.hash(token);
+        Long expiresAt = deniedTokens.get(tokenHash);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            deniedTokens.remove(tokenHash, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 토큰이 회원 차단 이전에 발급되었는지 확인합니다.
+     * 토큰의 발급 시각은 초 단위이므로 차단과 같은 초에 발급된 토큰도 거부합니다.
+     *
+     * @param memberId 회원 ID
+     * @param issuedAt 토큰 발급 시각
+     * @return 거부해야 하는 토큰이면 true
+     */
+    public boolean isDenied(Long memberId, Date issuedAt) {
+        Long at = deniedAt.get(memberId);
+        if (at == null) {
+            return false;
+        }
+        if (at + ttlMillis <= System.currentTimeMillis()) {
+            deniedAt.remove(memberId, at);
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() <= at;
+    }
+
+    private void denyLocal(Long memberId) {
+        long now = System.currentTimeMillis();
+        deniedAt.values().removeIf(at -> at + ttlMillis <= now);
+        deniedAt.put(memberId, now);
+        // 캐시 적중 시에는 차단 목록을 보지 않으므로 차단 등록 이후 캐시에서 제거
+        verifiedTokenCache.evictMemberLocal(memberId);
+    }
+
+    private void denyTokenLocal(Long tokenHash) {
+        long now = System.currentTimeMillis();
+        deniedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        // 토큰의 남은 유효 시간은 유효 시간 전체를 넘지 않으므로 그만큼만 보관
+        deniedTokens.put(tokenHash, now + ttlMillis);
+    }
+}
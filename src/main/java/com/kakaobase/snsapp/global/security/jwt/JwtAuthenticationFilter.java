@@ -1,8 +1,7 @@
 package com.kakaobase.snsapp.global.security.jwt;
 
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
-import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetailsService;
-import com.kakaobase.snsapp.global.error.exception.CustomException;
+import io.jsonwebtoken.Claims;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -27,7 +26,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final JwtTokenValidator jwtTokenValidator;
-    private final CustomUserDetailsService userDetailsService;
+    private final AccessTokenDenyList accessTokenDenyList;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     // 필터를 적용하지 않을 전체 경로 목록 (풀 패스 + 와일드카드)
@@ -82,11 +82,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (StringUtils.hasText(token)
                 && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // 로그아웃한 토큰은 검증 캐시에 남아 있어도 인증하지 않음
+            if (accessTokenDenyList.isDenied(token)) {
+                log.debug("로그아웃한 JWT 토큰입니다.");
+                filterChain.doFilter(request, response);
+                return;
+            }
             try {
-                if (jwtTokenValidator.validateToken(token)) {
-                    String userId = jwtUtil.getSubject(token);
-                    CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserById(userId);
+                // 같은 토큰은 만료 전까지 캐시된 인증 객체를 사용하고, 처음 보는 토큰만 검증
+                CustomUserDetails userDetails = verifiedTokenCache.get(token, this::verify);
 
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken auth =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -94,9 +100,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     userDetails.getAuthorities()
                             );
                     SecurityContextHolder.getContext().setAuthentication(auth);
-                    log.debug("JWT 인증 성공: {}", userId);
+                    log.debug("JWT 인증 성공: {}", userDetails.getId());
                 }
-            } catch (CustomException e) {
+            } catch (NumberFormatException e) {
                 log.error("JWT 인증 실패: {}", e.getMessage());
                 SecurityContextHolder.clearContext();
             }
@@ -104,4 +110,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 토큰을 한 번만 파싱하여 검증하고, DB 를 읽지 않고 클레임으로 인증 객체를 만듭니다.
+     *
+     * @param token Access Token
+     * @return 검증된 토큰 (차단된 회원의 토큰이면 null)
+     */
+    private VerifiedTokenCache.VerifiedToken verify(String token) {
+        Claims claims = jwtTokenValidator.validateAndGetClaims(token);
+        String userId = claims.getSubject();
+
+        if (accessTokenDenyList.isDenied(Long.valueOf(userId), claims.getIssuedAt())) {
+            log.debug("차단된 회원의 JWT 토큰입니다: {}", userId);
+            return null;
+        }
+        return new VerifiedTokenCache.VerifiedToken(
+                jwtUtil.getUserDetails(claims),
+                claims.getExpiration().getTime());
+    }
 }
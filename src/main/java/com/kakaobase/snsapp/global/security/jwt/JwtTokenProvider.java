@@ -1,26 +1,37 @@
 package com.kakaobase.snsapp.global.security.jwt;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.util.Date;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
 
 /**
  * JWT 토큰 생성을 담당하는 클래스입니다.
  * 사용자 ID와 역할 정보를 기반으로 Access Token을 생성합니다.
+ *
+ * <p>헤더는 항상 같으므로 인코딩한 값을 미리 만들어 두고, 페이로드는 JSON 을 직접 조립하며,
+ * 서명용 Mac 은 스레드별로 하나씩 만들어 재사용합니다. JJWT 로 만든 토큰과 같은 형식({"alg":"HS256"}, 초 단위 iat/exp)이므로
+ * {@link JwtUtil} 의 파서로 그대로 검증됩니다.</p>
  */
 @Component
 public class JwtTokenProvider {
 
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    // base64url({"alg":"HS256"}) + "."
+    private static final String HEADER_SEGMENT =
+            ENCODER.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + ".";
+
     private final SecretKey secretKey;
     private final long accessTokenValidityInMilliseconds;
+    private final ThreadLocal<Mac> mac;
 
     /**
      * 설정 값을 주입받아 JWT 토큰 제공자를 초기화합니다.
@@ -33,6 +44,9 @@ public class JwtTokenProvider {
             @Value("${app.jwt.access.expiration-time}") long accessTokenValidityTime) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidityInMilliseconds = accessTokenValidityTime;
+        this.mac = ThreadLocal.withInitial(this::newMac);
+        // 잘못된 키는 첫 로그인이 아니라 시작 시 드러나도록 미리 초기화
+        this.mac.get();
     }
 
     /**
@@ -46,17 +60,43 @@ public class JwtTokenProvider {
         String role = customUserDetail.getRole();
         String className = customUserDetail.getClassName();
 
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + accessTokenValidityInMilliseconds);
-
-        return Jwts.builder()
-                .setSubject(userId)
-                .claim("role", role)
-                .claim("class_name", className)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
-                .compact();
+        long nowMillis = System.currentTimeMillis();
+        long issuedAt = nowMillis / 1000;
+        long expiration = (nowMillis + accessTokenValidityInMilliseconds) / 1000;
+
+        StringBuilder payload = new StringBuilder(128).append('{');
+        appendString(payload, "sub", userId);
+        appendString(payload, "role", role);
+        appendString(payload, "class_name", className);
+        payload.append("\"iat\":").append(issuedAt)
+                .append(",\"exp\":").append(expiration)
+                .append('}');
+
+        String signingInput = HEADER_SEGMENT + ENCODER.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+        // doFinal() 이 완료되면 다음 사용을 위해 초기화됨
+        byte[] signature = mac.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + '.' + ENCODER.encodeToString(signature);
+    }
+
+    /**
+     * 값이 있는 문자열 클레임만 추가합니다. (JJWT 와 동일하게 null 클레임은 생략)
+     */
+    private static void appendString(StringBuilder payload, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        payload.append('"').append(name).append("\":\"");
+        JsonStringEncoder.getInstance().quoteAsString(value, payload);
+        payload.append("\",");
     }
 
-}
\ No newline at end of file
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(secretKey);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명용 Mac 을 초기화할 수 없습니다.", e);
+        }
+    }
+}
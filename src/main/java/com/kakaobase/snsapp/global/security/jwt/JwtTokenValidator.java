@@ -1,8 +1,8 @@
 package com.kakaobase.snsapp.global.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -31,12 +31,23 @@ public class JwtTokenValidator {
      * @throws JwtException 토큰이 유효하지 않을 경우 발생
      */
     public boolean validateToken(String token) {
+        validateAndGetClaims(token);
+        return true;
+    }
+
+    /**
+     * JWT 토큰을 한 번만 파싱하여 서명/만료를 검증하고 클레임을 반환합니다.
+     * 검증과 클레임 추출을 위해 토큰을 두 번 파싱하지 않도록 인증 필터에서 사용합니다.
+     *
+     * @param token 검증할 JWT 토큰
+     * @return 검증된 토큰의 클레임
+     * @throws JwtException 토큰이 유효하지 않을 경우 발생
+     */
+    public Claims validateAndGetClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(jwtUtil.getSecretKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return jwtUtil.getParser()
+                    .parseClaimsJws(token)
+                    .getBody();
         } catch (ExpiredJwtException e) {
             log.debug("만료된 JWT 토큰입니다: {}", e.getMessage());
             throw e; // Spring Security에서 처리하도록 예외를 그대로 전파
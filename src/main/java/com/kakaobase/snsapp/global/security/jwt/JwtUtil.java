@@ -1,7 +1,9 @@
 package com.kakaobase.snsapp.global.security.jwt;
 
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +25,8 @@ import java.util.Date;
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    // 불변이며 스레드 안전하므로 요청마다 새로 만들지 않고 공유
+    private final JwtParser parser;
 
     /**
      * 설정 값을 주입받아 JWT 유틸리티를 초기화합니다.
@@ -31,6 +35,9 @@ public class JwtUtil {
      */
     public JwtUtil(@Value("${app.jwt.secret}") String secret) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     /**
@@ -57,10 +64,7 @@ public class JwtUtil {
      */
     public Claims getClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
+            return parser.parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
             // 만료된 토큰에서도 클레임을 읽을 수 있도록 처리
@@ -127,9 +131,33 @@ public class JwtUtil {
     }
 
     /**
-     * 토큰 파싱에 사용되는 SecretKey를 반환합니다.
+     * 이미 검증된 클레임으로 JWT 인증 객체를 생성합니다.
+     * 역할과 기수는 토큰 발급 시점의 값이며, 탈퇴/정지 여부는 AccessTokenDenyList 로 확인합니다.
+     *
+     * @param claims 서명과 만료 검증을 마친 클레임
+     * @return 인증 객체
+     */
+    public CustomUserDetails getUserDetails(Claims claims) {
+        return new CustomUserDetails(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get("class_name", String.class),
+                true);
+    }
+
+    /**
+     * 서명 검증에 사용되는 공유 JwtParser를 반환합니다.
      * JwtTokenValidator에서 사용됩니다.
      *
+     * @return 서명 키가 설정된 JwtParser
+     */
+    public JwtParser getParser() {
+        return this.parser;
+    }
+
+    /**
+     * 토큰 파싱에 사용되는 SecretKey를 반환합니다.
+     *
      * @return JWT 서명 검증에 사용되는 SecretKey
      */
     public SecretKey getSecretKey() {
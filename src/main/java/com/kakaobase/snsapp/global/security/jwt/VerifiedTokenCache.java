@@ -0,0 +1,157 @@
+package com.kakaobase.snsapp.global.security.jwt;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 검증된 Access Token 캐시
+ *
+ * <p>같은 클라이언트는 만료 전까지 같은 Access Token 을 반복해서 보내므로,
+ * 서명 검증과 클레임 파싱을 마친 인증 객체를 토큰의 만료 시각까지 보관합니다.
+ * 토큰 원문의 64비트 해시를 키로 사용하고, 해시 충돌에 대비해 원문도 함께 비교합니다.
+ * 최대 항목 수를 넘으면 가장 오래 사용하지 않은 토큰부터 제거합니다.</p>
+ *
+ * <p>캐시 적중 여부와 관계없이 {@link JwtAuthenticationFilter} 가 매 요청 {@link AccessTokenDenyList} 를 먼저 확인하므로,
+ * 로그아웃한 토큰이나 탈퇴/정지된 회원의 토큰이 캐시에 남아 있어도 인증되지 않습니다.
+ * 회원이 차단되면 {@link AccessTokenDenyList} 가 각 노드에서 해당 회원의 토큰을 제거합니다.</p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, CachedToken> tokens;
+
+    // 검증 중 무효화가 일어나면 검증 결과를 캐시에 넣지 않기 위한 변경 순번
+    private final AtomicLong mutationSequence = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.verified-token-cache.max-entries:10000}") int maxEntries) {
+        this.meterRegistry = meterRegistry;
+        this.tokens = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedToken> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    @PostConstruct
+    void init() {
+        FunctionCounter.builder("jwt.verified.token.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.verified.token.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified.token.cache.hit.ratio", this, VerifiedTokenCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified.token.cache.size", tokens, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰의 인증 객체를 조회합니다.
+     * 캐시에 없거나 만료되었으면 verifier 로 검증하여 토큰 만료 시각까지 보관합니다.
+     *
+     * @param token Access Token 원문
+     * @param verifier 토큰을 검증하고 인증 객체를 만드는 함수 (거부할 토큰이면 null, 유효하지 않으면 예외)
+     * @return 인증 객체 (거부된 토큰이면 null)
+     */
+    public CustomUserDetails get(String token, Function<String, VerifiedToken> verifier) {
+        long key = hash(token);
+        CachedToken cached = tokens.get(key);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis() && matches(cached.token(), token)) {
+            hits.increment();
+            return cached.userDetails();
+        }
+        misses.increment();
+
+        long sequence = mutationSequence.get();
+        VerifiedToken verified = verifier.apply(token);
+        if (verified == null) {
+            return null;
+        }
+
+        synchronized (tokens) {
+            if (mutationSequence.get() == sequence) {
+                tokens.put(key, new CachedToken(token, Long.valueOf(verified.userDetails().getId()),
+                        verified.userDetails(), verified.expiresAt()));
+            }
+        }
+        return verified.userDetails();
+    }
+
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * 이 노드의 캐시에서 회원의 검증된 토큰을 제거합니다.
+     * 차단 목록이 각 노드에서 차단을 등록할 때 호출합니다.
+     */
+    void evictMemberLocal(Long memberId) {
+        synchronized (tokens) {
+            mutationSequence.incrementAndGet();
+            tokens.values().removeIf(cached -> cached.memberId().equals(memberId));
+        }
+    }
+
+    /**
+     * 토큰 원문의 64비트 FNV-1a 해시
+     */
+    static long hash(String token) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * 일치하지 않는 위치에 따라 비교 시간이 달라지지 않도록 끝까지 비교
+     */
+    private static boolean matches(String cached, String token) {
+        if (cached.length() != token.length()) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < token.length(); i++) {
+            diff |= cached.charAt(i) ^ token.charAt(i);
+        }
+        return diff == 0;
+    }
+
+    /**
+     * 검증을 마친 토큰
+     *
+     * @param userDetails 토큰 클레임으로 만든 인증 객체
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public record VerifiedToken(CustomUserDetails userDetails, long expiresAt) {
+    }
+
+    private record CachedToken(String token, Long memberId, CustomUserDetails userDetails, long expiresAt) {
+    }
+}
@@ -0,0 +1,30 @@
+// QueryCountTest.java
+package com.kakaobase.snsapp.annotation;
+
+import com.kakaobase.snsapp.config.DatabaseCleanupListener;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestExecutionListeners;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 쿼리 수 검증 테스트용 커스텀 어노테이션
+ *
+ * 포함 기능:
+ * - 전체 Spring Context 로딩
+ * - Hibernate 통계 수집 활성화 (SessionFactory#getStatistics 로 실행한 쿼리 수 확인)
+ * - 테스트 프로파일 활성화
+ * - 테스트마다 모든 테이블 비우기 (트랜잭션 롤백 이후)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@TestExecutionListeners(listeners = DatabaseCleanupListener.class,
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+public @interface QueryCountTest {
+}
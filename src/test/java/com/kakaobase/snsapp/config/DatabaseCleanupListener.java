@@ -0,0 +1,40 @@
+package com.kakaobase.snsapp.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+import org.springframework.test.context.transaction.TransactionalTestExecutionListener;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 테스트용 데이터베이스 정리 리스너
+ *
+ * 테스트 메서드가 끝날 때마다 현재 스키마의 모든 테이블을 비워
+ * 트랜잭션 밖에서 커밋한 데이터가 다음 테스트에 남지 않도록 함
+ * (트랜잭션 롤백 이후에 실행되도록 TransactionalTestExecutionListener 보다 앞 순서로 등록, 식별자 값은 이어서 사용)
+ */
+public class DatabaseCleanupListener extends AbstractTestExecutionListener {
+
+    @Override
+    public int getOrder() {
+        return TransactionalTestExecutionListener.ORDER - 1;
+    }
+
+    @Override
+    public void afterTestMethod(TestContext testContext) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(testContext.getApplicationContext().getBean(DataSource.class));
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES " +
+                        "WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_TYPE = 'BASE TABLE'",
+                String.class);
+
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            tables.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE \"" + table + "\" CONTINUE IDENTITY"));
+        } finally {
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kakaobase.snsapp.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트용 SQL 수집기
+ *
+ * Hibernate 가 실제로 실행하는 SQL 을 현재 스레드에 모아 두어
+ * 레포지토리 메서드가 만든 SQL 그대로 실행 계획(EXPLAIN)을 확인할 수 있도록 함
+ * (spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록)
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        CAPTURED.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * 수집한 SQL 을 비웁니다.
+     */
+    public static void clear() {
+        CAPTURED.get().clear();
+    }
+
+    /**
+     * 마지막으로 수집한 SQL 을 반환합니다.
+     *
+     * @return 마지막으로 실행한 SQL
+     */
+    public static String last() {
+        List<String> captured = CAPTURED.get();
+        if (captured.isEmpty()) {
+            throw new IllegalStateException("수집된 SQL 이 없습니다.");
+        }
+        return captured.get(captured.size() - 1);
+    }
+}
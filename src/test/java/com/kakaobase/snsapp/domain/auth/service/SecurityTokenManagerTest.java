@@ -0,0 +1,196 @@
+package com.kakaobase.snsapp.domain.auth.service;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.auth.exception.AuthErrorCode;
+import com.kakaobase.snsapp.domain.auth.exception.AuthException;
+import com.kakaobase.snsapp.domain.auth.repository.RevokedRefreshTokenRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리프레시 토큰 검증 테스트
+ *
+ * 운영 기본값인 auth_tokens 세션 저장소로 실행하여,
+ * 취소되지 않은 토큰은 블룸 필터로 취소 목록 조회를 건너뛰어 한 번의 쿼리로 검증되고,
+ * 취소된 토큰은 취소로 판정되며, 다른 기기의 세션은 한 번에 취소되고,
+ * 유효 시간이 지난 취소 목록은 정리 작업으로 삭제되는지 검증
+ */
+@QueryCountTest
+@TestPropertySource(properties = "app.auth.session-store=jpa")
+@Transactional
+@DisplayName("리프레시 토큰 검증 테스트")
+class SecurityTokenManagerTest {
+
+    // 세션과 취소 목록이 테스트 사이에 섞이지 않도록 테스트마다 다른 회원 ID 사용
+    private static final Long VALIDATE_MEMBER_ID = 1L;
+    private static final Long REVOKED_MEMBER_ID = 2L;
+    private static final Long REVOKE_ALL_MEMBER_ID = 3L;
+    private static final Long PURGE_MEMBER_ID = 4L;
+    private static final String USER_AGENT = "Mozilla/5.0 (SecurityTokenManagerTest)";
+
+    @Autowired
+    private SecurityTokenManager securityTokenManager;
+
+    @Autowired
+    private RevokedRefreshTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("취소되지 않은 토큰은 취소 목록을 조회하지 않고 한 번의 쿼리로 검증한다")
+    void validateRefreshToken_NotRevoked_SingleQuery() {
+        // given
+        String rawToken = securityTokenManager.createRefreshToken(VALIDATE_MEMBER_ID, USER_AGENT);
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        Long memberId = securityTokenManager.validateRefreshTokenAndGetUserId(rawToken);
+
+        // then
+        assertThat(memberId).isEqualTo(VALIDATE_MEMBER_ID);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("취소된 토큰은 취소된 토큰으로 판정한다")
+    void validateRefreshToken_Revoked_Throws() {
+        // given
+        String rawToken = securityTokenManager.createRefreshToken(REVOKED_MEMBER_ID, USER_AGENT);
+        securityTokenManager.revokeRefreshToken(rawToken);
+        em.flush();
+        em.clear();
+
+        // when & then
+        assertThatThrownBy(() -> securityTokenManager.validateRefreshTokenAndGetUserId(rawToken))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.REFRESH_TOKEN_REVOKED);
+    }
+
+    @Test
+    @DisplayName("현재 토큰을 제외한 모든 기기의 토큰을 한 번에 취소한다")
+    void revokeAllTokensExcept_KeepsCurrentOnly() {
+        // given
+        String currentToken = securityTokenManager.createRefreshToken(REVOKE_ALL_MEMBER_ID, USER_AGENT);
+        String otherToken1 = securityTokenManager.createRefreshToken(REVOKE_ALL_MEMBER_ID, USER_AGENT);
+        String otherToken2 = securityTokenManager.createRefreshToken(REVOKE_ALL_MEMBER_ID, USER_AGENT);
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        securityTokenManager.revokeAllTokensExcept(REVOKE_ALL_MEMBER_ID, currentToken);
+        em.flush();
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+        // 세션 조회 1회와 일괄 삭제 1회, 취소 목록은 기존 행 조회 없이 INSERT 만 실행
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(securityTokenManager.validateRefreshTokenAndGetUserId(currentToken)).isEqualTo(REVOKE_ALL_MEMBER_ID);
+        assertThatThrownBy(() -> securityTokenManager.validateRefreshTokenAndGetUserId(otherToken1))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.REFRESH_TOKEN_REVOKED);
+        assertThatThrownBy(() -> securityTokenManager.validateRefreshTokenAndGetUserId(otherToken2))
+                .isInstanceOf(AuthException.class)
+                .extracting("errorCode")
+                .isEqualTo(AuthErrorCode.REFRESH_TOKEN_REVOKED);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 유효 시간이 지난 취소 목록만 삭제한다")
+    void purgeExpiredRevocations_DeletesOnlyExpired() {
+        // given
+        securityTokenManager.revokeRefreshToken(securityTokenManager.createRefreshToken(PURGE_MEMBER_ID, USER_AGENT));
+        securityTokenManager.revokeRefreshToken(securityTokenManager.createRefreshToken(PURGE_MEMBER_ID, USER_AGENT));
+        em.flush();
+        em.clear();
+        String expiredHash = revokedTokenRepository.findByMemberId(PURGE_MEMBER_ID).get(0).getRefreshTokenHash();
+        String recentHash = revokedTokenRepository.findByMemberId(PURGE_MEMBER_ID).get(1).getRefreshTokenHash();
+        setRevokedAt(expiredHash, LocalDateTime.now().minusDays(30));
+        setRevokedAt(recentHash, LocalDateTime.now());
+
+        // when
+        securityTokenManager.purgeExpiredRevocations();
+        em.clear();
+
+        // then
+        assertThat(revokedTokenRepository.existsById(expiredHash)).isFalse();
+        assertThat(revokedTokenRepository.existsById(recentHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 정리 잠금을 가지고 있으면 취소 목록을 삭제하지 않는다")
+    void purgeExpiredRevocations_LockedByOtherNode_Skips() {
+        // given
+        securityTokenManager.revokeRefreshToken(securityTokenManager.createRefreshToken(PURGE_MEMBER_ID, USER_AGENT));
+        em.flush();
+        em.clear();
+        String expiredHash = revokedTokenRepository.findByMemberId(PURGE_MEMBER_ID).get(0).getRefreshTokenHash();
+        setRevokedAt(expiredHash, LocalDateTime.now().minusDays(30));
+        jdbcTemplate.update("INSERT INTO scheduler_locks (lock_name, locked_until, locked_by, progress) VALUES (?, ?, ?, 0)",
+                "revoked-refresh-token-purge", Timestamp.valueOf(LocalDateTime.now().plusHours(1)), "other-node");
+
+        // when
+        securityTokenManager.purgeExpiredRevocations();
+        em.clear();
+
+        // then
+        assertThat(revokedTokenRepository.existsById(expiredHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("정리한 노드가 잠금을 가지고 있는 동안에는 다시 정리하지 않는다")
+    void purgeExpiredRevocations_SecondRunWithinInterval_Skips() {
+        // given
+        securityTokenManager.purgeExpiredRevocations();
+        securityTokenManager.revokeRefreshToken(securityTokenManager.createRefreshToken(PURGE_MEMBER_ID, USER_AGENT));
+        em.flush();
+        em.clear();
+        String expiredHash = revokedTokenRepository.findByMemberId(PURGE_MEMBER_ID).get(0).getRefreshTokenHash();
+        setRevokedAt(expiredHash, LocalDateTime.now().minusDays(30));
+
+        // when
+        securityTokenManager.purgeExpiredRevocations();
+        em.clear();
+
+        // then
+        assertThat(revokedTokenRepository.existsById(expiredHash)).isTrue();
+    }
+
+    private void setRevokedAt(String refreshTokenHash, LocalDateTime revokedAt) {
+        jdbcTemplate.update("UPDATE revoked_refresh_tokens SET revoked_at = ? WHERE revoked_refresh_token_hash = ?",
+                Timestamp.valueOf(revokedAt), refreshTokenHash);
+    }
+}
@@ -0,0 +1,54 @@
+package com.kakaobase.snsapp.domain.auth.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 타임 휠 메모리 세션 저장소 테스트
+ *
+ * 만료 시각이 지난 세션은 해당 칸을 지날 때 제거되고,
+ * 휠 한 바퀴보다 먼 세션은 칸을 지나도 만료 전까지 남는지 검증
+ */
+@DisplayName("타임 휠 메모리 세션 저장소 테스트")
+class InMemoryRefreshSessionStoreTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Test
+    @DisplayName("만료 시각이 지난 세션은 타임 휠이 지나면서 제거된다")
+    void advance_RemovesExpiredSession() throws InterruptedException {
+        // given
+        InMemoryRefreshSessionStore store = new InMemoryRefreshSessionStore(10, 8);
+        store.save(session("short", LocalDateTime.now().plusNanos(30_000_000)));
+        store.save(session("long", LocalDateTime.now().plusHours(1)));
+
+        // when
+        Thread.sleep(100);
+
+        // then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.findByRefreshTokenHash("short")).isEmpty();
+        assertThat(store.findByRefreshTokenHash("long")).isPresent();
+    }
+
+    @Test
+    @DisplayName("삭제한 세션만 반환하고 같은 세션을 다시 삭제하면 빈 값을 반환한다")
+    void remove_ReturnsOnlyOnce() {
+        // given
+        InMemoryRefreshSessionStore store = new InMemoryRefreshSessionStore(1000, 60);
+        store.save(session("token", LocalDateTime.now().plusHours(1)));
+
+        // when & then
+        assertThat(store.remove("token")).isPresent();
+        assertThat(store.remove("token")).isEmpty();
+        assertThat(store.removeAllByMemberIdExcept(MEMBER_ID, "none")).isEmpty();
+    }
+
+    private static RefreshSession session(String refreshTokenHash, LocalDateTime expiresAt) {
+        return new RefreshSession(refreshTokenHash, MEMBER_ID, refreshTokenHash + "-device", "JUnit", expiresAt);
+    }
+}
@@ -0,0 +1,93 @@
+package com.kakaobase.snsapp.domain.auth.store;
+
+import com.kakaobase.snsapp.domain.auth.repository.AuthTokenRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * auth_tokens 기반 세션 저장소 테스트
+ *
+ * 만료된 세션이 배치 크기만큼 나누어 삭제되고 다른 기기의 세션이 한 번에 삭제되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("auth_tokens 세션 저장소 테스트")
+class JpaRefreshSessionStoreTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Autowired
+    private AuthTokenRepository authTokenRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private JpaRefreshSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new JpaRefreshSessionStore(authTokenRepository);
+    }
+
+    @Test
+    @DisplayName("만료된 세션을 배치 크기만큼 나누어 삭제한다")
+    void sweepExpired_DeletesInBatches() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            store.save(session("expired-" + i, now.minusMinutes(1)));
+        }
+        store.save(session("active", now.plusHours(1)));
+        em.flush();
+        em.clear();
+
+        // when
+        int first = store.sweepExpired(now, 3);
+        int second = store.sweepExpired(now, 3);
+        int third = store.sweepExpired(now, 3);
+
+        // then
+        assertThat(List.of(first, second, third)).containsExactly(3, 2, 0);
+        assertThat(store.findByRefreshTokenHash("active")).isPresent();
+        assertThat(authTokenRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("현재 세션을 제외한 회원의 세션을 모두 삭제하고 삭제한 세션을 반환한다")
+    void removeAllByMemberIdExcept_KeepsCurrent() {
+        // given
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        store.save(session("current", expiresAt));
+        store.save(session("other-1", expiresAt));
+        store.save(session("other-2", expiresAt));
+        em.flush();
+        em.clear();
+
+        // when
+        List<RefreshSession> removed = store.removeAllByMemberIdExcept(MEMBER_ID, "current");
+        em.clear();
+
+        // then
+        assertThat(removed).extracting(RefreshSession::refreshTokenHash)
+                .containsExactlyInAnyOrder("other-1", "other-2");
+        assertThat(store.findByRefreshTokenHash("current")).isPresent();
+        assertThat(store.findByRefreshTokenHash("other-1")).isEmpty();
+        assertThat(store.remove("other-2")).isEmpty();
+    }
+
+    private static RefreshSession session(String refreshTokenHash, LocalDateTime expiresAt) {
+        return new RefreshSession(refreshTokenHash, MEMBER_ID, refreshTokenHash + "-device", "JUnit", expiresAt);
+    }
+}
@@ -0,0 +1,133 @@
+package com.kakaobase.snsapp.domain.auth.store;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 세션 저장소 테스트
+ *
+ * 세션과 회원별 목록에 만료 시각이 TTL 로 지정되고,
+ * 다른 기기의 세션은 한 번에 삭제되며 삭제한 세션만 반환되는지 검증
+ * (Docker 가 없는 환경에서는 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Redis 세션 저장소 테스트")
+class RedisRefreshSessionStoreTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:latest")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisRefreshSessionStore store;
+
+    @BeforeAll
+    static void startClient() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopClient() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        store = new RedisRefreshSessionStore(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("저장한 세션을 조회하고 세션과 회원별 목록에 TTL 이 지정된다")
+    void save_FindsSessionWithTtl() {
+        // given
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1).withNano(0);
+
+        // when
+        store.save(session("token", expiresAt));
+
+        // then
+        RefreshSession found = store.findByRefreshTokenHash("token").orElseThrow();
+        assertThat(found.memberId()).isEqualTo(MEMBER_ID);
+        assertThat(found.deviceId()).isEqualTo("device-token");
+        assertThat(found.expiresAt()).isEqualTo(expiresAt);
+        assertThat(redisTemplate.getExpire("refresh-session:token")).isPositive();
+        assertThat(redisTemplate.getExpire("refresh-session:member:" + MEMBER_ID)).isPositive();
+    }
+
+    @Test
+    @DisplayName("삭제한 세션만 반환하고 같은 세션을 다시 삭제하면 빈 값을 반환한다")
+    void remove_ReturnsOnlyOnce() {
+        // given
+        store.save(session("token", LocalDateTime.now().plusHours(1)));
+
+        // when & then
+        assertThat(store.remove("token")).isPresent();
+        assertThat(store.remove("token")).isEmpty();
+        assertThat(store.findByRefreshTokenHash("token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("현재 세션을 제외한 회원의 세션을 한 번에 삭제한다")
+    void removeAllByMemberIdExcept_KeepsCurrentOnly() {
+        // given
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        store.save(session("current", expiresAt));
+        store.save(session("other-1", expiresAt));
+        store.save(session("other-2", expiresAt));
+
+        // when
+        List<RefreshSession> removed = store.removeAllByMemberIdExcept(MEMBER_ID, "current");
+
+        // then
+        assertThat(removed).extracting(RefreshSession::refreshTokenHash)
+                .containsExactlyInAnyOrder("other-1", "other-2");
+        assertThat(store.findByRefreshTokenHash("current")).isPresent();
+        assertThat(store.findByRefreshTokenHash("other-1")).isEmpty();
+        assertThat(redisTemplate.opsForSet().members("refresh-session:member:" + MEMBER_ID))
+                .containsExactly("current");
+    }
+
+    @Test
+    @DisplayName("목록에 남은 만료된 세션은 반환하지 않는다")
+    void removeAllByMemberIdExcept_SkipsExpiredSession() {
+        // given
+        store.save(session("current", LocalDateTime.now().plusHours(1)));
+        redisTemplate.opsForSet().add("refresh-session:member:" + MEMBER_ID, "expired");
+
+        // when
+        List<RefreshSession> removed = store.removeAllByMemberIdExcept(MEMBER_ID, "current");
+
+        // then
+        assertThat(removed).isEmpty();
+    }
+
+    private static RefreshSession session(String refreshTokenHash, LocalDateTime expiresAt) {
+        return new RefreshSession(refreshTokenHash, MEMBER_ID, "device-" + refreshTokenHash,
+                "Mozilla/5.0 (RedisRefreshSessionStoreTest)", expiresAt);
+    }
+}
@@ -0,0 +1,65 @@
+package com.kakaobase.snsapp.domain.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리프레시 토큰 생성/해싱 테스트
+ *
+ * 공유 SecureRandom 으로 만든 토큰이 서로 다르고,
+ * 스레드별 MessageDigest 로 여러 스레드에서 동시에 해싱해도 결과가 매번 새로 만든 MessageDigest 와 같은지 검증
+ */
+@DisplayName("리프레시 토큰 생성/해싱 테스트")
+class RefreshTokenCodecTest {
+
+    private final RefreshTokenCodec codec = new RefreshTokenCodec();
+
+    @Test
+    @DisplayName("32바이트 토큰을 매번 다르게 생성한다")
+    void generate_Unique() {
+        // when
+        List<String> tokens = IntStream.range(0, 1000).mapToObj(i -> codec.generate()).toList();
+
+        // then
+        assertThat(tokens).doesNotHaveDuplicates();
+        assertThat(Base64.getUrlDecoder().decode(tokens.get(0))).hasSize(32);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 해싱해도 SHA-256 결과와 같다")
+    void hash_Concurrent_SameAsSha256() throws Exception {
+        // given
+        List<String> tokens = IntStream.range(0, 2000).mapToObj(i -> codec.generate()).toList();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // when
+            List<Future<String>> hashes = tokens.stream()
+                    .map(token -> executor.submit(() -> codec.hash(token)))
+                    .toList();
+
+            // then
+            for (int i = 0; i < tokens.size(); i++) {
+                assertThat(hashes.get(i).get()).isEqualTo(sha256(tokens.get(i)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String sha256(String rawToken) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+}
@@ -0,0 +1,117 @@
+package com.kakaobase.snsapp.domain.comments.cache;
+
+import com.kakaobase.snsapp.global.common.cache.CacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 페이지 캐시 노드 간 무효화 테스트
+ *
+ * 댓글 변경이 게시글 ID 로 다른 노드에 전파되고,
+ * 전파를 받은 노드는 해당 게시글의 캐시된 페이지를 모두 버리는지 검증
+ * (트랜잭션 밖에서 호출하여 변경은 바로 반영됨)
+ */
+@DisplayName("댓글 페이지 캐시 노드 간 무효화 테스트")
+class CommentPageCacheInvalidationTest {
+
+    private static final Long POST_ID = 1L;
+    private static final Long OTHER_POST_ID = 2L;
+    private static final int LIMIT = 10;
+
+    private RecordingBus bus;
+    private CommentPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        bus = new RecordingBus();
+        cache = new CommentPageCache(bus, 30_000, 100);
+        cache.init();
+    }
+
+    @Test
+    @DisplayName("댓글 작성/삭제/대댓글 수 변경/게시글 제거를 게시글 ID 로 다른 노드에 전파한다")
+    void changes_PublishPostId() {
+        // when
+        cache.invalidateTail(POST_ID);
+        cache.removeComment(POST_ID, 10L);
+        cache.addRecommentCount(POST_ID, 10L, 1);
+        cache.evictPost(POST_ID);
+
+        // then
+        assertThat(bus.published).containsExactly(POST_ID, POST_ID, POST_ID, POST_ID);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경을 받으면 해당 게시글의 캐시된 페이지만 모두 제거한다")
+    void remoteInvalidation_EvictsPostPages() {
+        // given
+        cachePage(POST_ID, null);
+        cachePage(POST_ID, 100L);
+        cachePage(OTHER_POST_ID, null);
+
+        // when
+        bus.deliver(POST_ID);
+
+        // then
+        assertThat(cache.get(POST_ID, null, LIMIT)).isNull();
+        assertThat(cache.get(POST_ID, 100L, LIMIT)).isNull();
+        assertThat(cache.get(OTHER_POST_ID, null, LIMIT)).isNotNull();
+        assertThat(bus.published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경 전에 시작한 조회 결과는 캐시에 저장하지 않는다")
+    void remoteInvalidation_DiscardsInFlightLoad() {
+        // given
+        long loadVersion = cache.beginLoad(POST_ID);
+
+        // when
+        bus.deliver(POST_ID);
+        cache.put(POST_ID, null, LIMIT, List.of(comment(1L)), false, null, loadVersion);
+
+        // then
+        assertThat(cache.get(POST_ID, null, LIMIT)).isNull();
+    }
+
+    private void cachePage(Long postId, Long cursor) {
+        long loadVersion = cache.beginLoad(postId);
+        cache.put(postId, cursor, LIMIT, List.of(comment(1L)), false, null, loadVersion);
+    }
+
+    private static CommentPageCache.CachedComment comment(Long id) {
+        return new CommentPageCache.CachedComment(id, 1L, "작성자", null, "댓글", LocalDateTime.now(), 0);
+    }
+
+    /**
+     * 발행한 키를 기록하고 구독자에게 다른 노드의 메시지를 직접 전달하는 버스
+     */
+    private static final class RecordingBus implements CacheInvalidationBus {
+
+        private final List<Long> published = new ArrayList<>();
+        private final Map<String, Consumer<Long>> listeners = new HashMap<>();
+
+        @Override
+        public void publish(String topic, Long key) {
+            published.add(key);
+        }
+
+        @Override
+        public void subscribe(String topic, Consumer<Long> listener) {
+            listeners.put(topic, listener);
+        }
+
+        private void deliver(Long key) {
+            listeners.values().forEach(listener -> listener.accept(key));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.kakaobase.snsapp.domain.comments.repository;
+
+import com.kakaobase.snsapp.annotation.RepositoryTest;
+import com.kakaobase.snsapp.config.SqlCaptureInspector;
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.entity.CommentLike;
+import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.entity.RecommentLike;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글/대댓글 페이지네이션 실행 계획 테스트
+ *
+ * 레포지토리 메서드를 실행하여 Hibernate 가 실제로 만든 커서 조회와 좋아요 여부 조회 SQL 을 수집하고,
+ * 그 SQL 의 EXPLAIN 결과로 설계한 인덱스를 사용하고 전체 스캔(tableScan)으로 돌아가지 않는지 검증
+ * (H2 MySQL 호환 모드, 바인딩 파라미터는 실행할 때와 같은 값으로 다시 바인딩)
+ */
+@RepositoryTest
+@TestPropertySource(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.kakaobase.snsapp.config.SqlCaptureInspector")
+@DisplayName("댓글/대댓글 페이지네이션 실행 계획 테스트")
+class CommentPaginationPlanTest {
+
+    private static final int POST_COUNT = 3;
+    private static final int COMMENTS_PER_POST = 30;
+    private static final int RECOMMENTS_PER_COMMENT = 3;
+    private static final String FULL_SCAN = "tableScan";
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private RecommentRepository recommentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    private Member member;
+    private Post post;
+    private Comment comment;
+    private List<Long> recommentIds;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = MemberFixture.createMembers(5);
+        members.forEach(testEntityManager::persist);
+        member = members.get(0);
+
+        List<Comment> comments = new ArrayList<>();
+        recommentIds = new ArrayList<>();
+        for (int p = 0; p < POST_COUNT; p++) {
+            Post savedPost = testEntityManager.persist(Post.builder()
+                    .member(member)
+                    .boardType(Post.BoardType.ALL)
+                    .content("실행 계획 테스트 게시글 " + p)
+                    .build());
+            if (p == 0) {
+                post = savedPost;
+            }
+
+            for (int c = 0; c < COMMENTS_PER_POST; c++) {
+                Comment savedComment = testEntityManager.persist(Comment.builder()
+                        .post(savedPost)
+                        .member(members.get(c % members.size()))
+                        .content("댓글 " + c)
+                        .build());
+                comments.add(savedComment);
+
+                for (int r = 0; r < RECOMMENTS_PER_COMMENT; r++) {
+                    Recomment recomment = testEntityManager.persist(Recomment.builder()
+                            .comment(savedComment)
+                            .member(members.get(r % members.size()))
+                            .content("대댓글 " + r)
+                            .build());
+                    recommentIds.add(recomment.getId());
+                    if (c % 2 == 0) {
+                        testEntityManager.persist(new RecommentLike(member, recomment));
+                    }
+                }
+                if (c % 2 == 0) {
+                    testEntityManager.persist(new CommentLike(member, savedComment));
+                }
+            }
+        }
+        comment = comments.get(0);
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // 목록 조회 SQL 에 포함된 좋아요 샤드 합계 서브쿼리도 실제처럼 샤드 행이 있는 상태로 계획을 세우도록 함
+        testEntityManager.getEntityManager().createNativeQuery(
+                "INSERT INTO comment_like_count_shards (comment_id, shard_id, delta) SELECT id, 0, 1 FROM comments")
+                .executeUpdate();
+        testEntityManager.getEntityManager().createNativeQuery(
+                "INSERT INTO recomment_like_count_shards (recomment_id, shard_id, delta) SELECT id, 0, 1 FROM recomments")
+                .executeUpdate();
+
+        // 통계 갱신 후 옵티마이저가 실제 데이터 분포로 계획을 세우도록 함
+        testEntityManager.getEntityManager().createNativeQuery("ANALYZE").executeUpdate();
+        SqlCaptureInspector.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 커서 조회는 (post_id, deleted_at, id) 인덱스를 사용한다")
+    void findWithMemberByPostIdWithCursor_UsesPostIndex() {
+        commentRepository.findWithMemberByPostIdWithCursor(post.getId(), comment.getId(), PageRequest.of(0, 13));
+
+        String plan = explainLast(post.getId(), comment.getId(), comment.getId(), 13);
+
+        assertThat(plan).doesNotContainIgnoringCase(FULL_SCAN).containsIgnoringCase("idx_comments_post_deleted_id");
+    }
+
+    @Test
+    @DisplayName("유저 댓글 커서 조회는 (member_id, deleted_at, created_at, id) 인덱스를 사용한다")
+    void findByMemberIdWithCursor_UsesMemberIndex() {
+        commentRepository.findByMemberIdWithCursor(member.getId(), null, PageRequest.of(0, 12));
+
+        String plan = explainLast(member.getId(), null, null, 12);
+
+        assertThat(plan).doesNotContainIgnoringCase(FULL_SCAN).containsIgnoringCase("idx_comments_member_deleted_created");
+    }
+
+    @Test
+    @DisplayName("대댓글 커서 조회는 (comment_id, deleted_at, id) 인덱스를 사용한다")
+    void findByRecommentIdWithCursor_UsesCommentIndex() {
+        recommentRepository.findByRecommentIdWithCursor(comment.getId(), 0L, 12);
+
+        String plan = explainLast(comment.getId(), 0L, 0L, 12);
+
+        assertThat(plan).doesNotContainIgnoringCase(FULL_SCAN).containsIgnoringCase("idx_recomments_comment_deleted_id");
+    }
+
+    @Test
+    @DisplayName("대댓글 미리보기 조회는 전체 스캔하지 않는다")
+    void findPreviewIdsByCommentIdIn_NoFullScan() {
+        recommentRepository.findPreviewIdsByCommentIdIn(List.of(comment.getId(), comment.getId() + 1), 3);
+
+        String plan = explainLast(comment.getId(), comment.getId() + 1, 3);
+
+        assertThat(plan).doesNotContainIgnoringCase(FULL_SCAN);
+    }
+
+    @Test
+    @DisplayName("미리보기 대댓글을 작성자와 함께 조회할 때 전체 스캔하지 않는다")
+    void findWithMemberByIdIn_NoFullScan() {
+        List<Long> previewIds = recommentIds.subList(0, 3);
+        recommentRepository.findWithMemberByIdIn(previewIds);
+
+        String plan = explainLast(previewIds.get(0), previewIds.get(1), previewIds.get(2));
+
+        assertThat(plan).doesNotContainIgnoringCase(FULL_SCAN);
+    }
+
+    @Test
+    @DisplayName("댓글/대댓글 좋아요 여부 일괄 조회는 전체 스캔하지 않는다")
+    void likedIdsLookup_NoFullScan() {
+        List<Long> commentIds = List.of(comment.getId(), comment.getId() + 1);
+        List<Long> likedRecommentIds = recommentIds.subList(0, 3);
+
+        commentLikeRepository.findCommentIdsByMemberIdAndCommentIdIn(member.getId(), commentIds);
+        String commentLikePlan = explainLast(member.getId(), commentIds.get(0), commentIds.get(1));
+
+        recommentRepository.findLikedRecommentIds(likedRecommentIds, member.getId());
+        String recommentLikePlan = explainLast(
+                likedRecommentIds.get(0), likedRecommentIds.get(1), likedRecommentIds.get(2), member.getId());
+
+        assertThat(commentLikePlan).doesNotContainIgnoringCase(FULL_SCAN);
+        assertThat(recommentLikePlan).doesNotContainIgnoringCase(FULL_SCAN);
+    }
+
+    /**
+     * 마지막으로 실행된 SQL 을 같은 파라미터로 바인딩하여 실행 계획을 조회합니다.
+     *
+     * @param parameters 실행할 때 바인딩된 순서대로의 파라미터
+     * @return 실행 계획
+     */
+    private String explainLast(Object... parameters) {
+        String sql = SqlCaptureInspector.last();
+        return testEntityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
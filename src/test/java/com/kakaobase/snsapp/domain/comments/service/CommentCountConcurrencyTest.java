@@ -0,0 +1,151 @@
+package com.kakaobase.snsapp.domain.comments.service;
+
+import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
+import com.kakaobase.snsapp.domain.comments.repository.RecommentRepository;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글/대댓글 수 동시성 테스트
+ *
+ * 같은 게시글/댓글에 동시에 댓글과 대댓글을 작성해도
+ * 원자적 UPDATE 로 처리되어 댓글 수와 대댓글 수가 유실되지 않는지 검증
+ */
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=8")
+@ActiveProfiles("test")
+@DisplayName("댓글/대댓글 수 동시성 테스트")
+class CommentCountConcurrencyTest {
+
+    private static final int WRITER_COUNT = 32;
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private RecommentRepository recommentRepository;
+
+    private Member author;
+    private List<Member> writers;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        author = memberRepository.save(MemberFixture.createMemberWithUniqueEmail("count_author"));
+        writers = memberRepository.saveAll(IntStream.rangeClosed(1, WRITER_COUNT)
+                .mapToObj(i -> MemberFixture.createMemberWithUniqueEmail("count_writer" + i))
+                .toList());
+        post = postRepository.save(Post.builder()
+                .member(author)
+                .boardType(Post.BoardType.ALL)
+                .content("카운터 테스트 게시글")
+                .build());
+        comment = commentRepository.save(Comment.builder()
+                .post(post)
+                .member(author)
+                .content("부모 댓글")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        recommentRepository.deleteAll();
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        memberRepository.deleteAll(writers);
+        memberRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("같은 게시글에 동시에 댓글을 작성해도 댓글 수가 정확하다")
+    void createComment_Concurrently_ExactCommentCount() throws Exception {
+        // when
+        runConcurrently(writer -> commentService.createComment(writer.getId(), post.getId(),
+                new CommentRequestDto.CreateCommentRequest("동시 댓글", null)));
+
+        // then
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getCommentCount()).isEqualTo(WRITER_COUNT);
+    }
+
+    @Test
+    @DisplayName("같은 댓글에 동시에 대댓글을 작성하고 삭제해도 대댓글 수가 정확하다")
+    void createAndDeleteRecomment_Concurrently_ExactRecommentCount() throws Exception {
+        // given
+        runConcurrently(writer -> commentService.createComment(writer.getId(), post.getId(),
+                new CommentRequestDto.CreateCommentRequest("동시 대댓글", comment.getId())));
+        assertThat(commentRepository.findById(comment.getId()).orElseThrow().getRecommentCount()).isEqualTo(WRITER_COUNT);
+
+        // when - 절반의 대댓글을 동시에 삭제
+        List<Long> recommentIds = recommentRepository.findAll().stream()
+                .limit(WRITER_COUNT / 2)
+                .map(Recomment::getId)
+                .toList();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long recommentId : recommentIds) {
+            futures.add(executor.submit(() -> commentService.deleteRecomment(author.getId(), recommentId)));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(commentRepository.findById(comment.getId()).orElseThrow().getRecommentCount())
+                .isEqualTo(WRITER_COUNT - recommentIds.size());
+    }
+
+    private void runConcurrently(Consumer<Member> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Member writer : writers) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                action.accept(writer);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
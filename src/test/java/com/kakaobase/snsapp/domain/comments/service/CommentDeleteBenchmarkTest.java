@@ -0,0 +1,149 @@
+package com.kakaobase.snsapp.domain.comments.service;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.entity.RecommentLike;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 삭제 벤치마크
+ *
+ * 대댓글 수를 늘려가며 댓글 삭제 시 실행되는 SQL 수와 소요 시간을 측정하고,
+ * 대댓글/좋아요 일괄 삭제로 SQL 수가 대댓글 수와 무관하게 고정되는지 검증한다.
+ */
+@Slf4j
+@QueryCountTest
+@Transactional
+@DisplayName("댓글 삭제 벤치마크")
+class CommentDeleteBenchmarkTest {
+
+    private static final List<Integer> REPLY_COUNTS = List.of(1, 50, 500);
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member author;
+    private Member replier;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        author = MemberFixture.createMemberWithNickname("author");
+        replier = MemberFixture.createMemberWithNickname("replier");
+        em.persist(author);
+        em.persist(replier);
+
+        post = Post.builder()
+                .member(author)
+                .boardType(Post.BoardType.ALL)
+                .content("삭제 벤치마크 게시글")
+                .build();
+        em.persist(post);
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 SQL 수는 대댓글 수와 무관하게 일정하다")
+    void deleteComment_StatementCountIndependentOfReplies() {
+        // given
+        Map<Integer, Long> statementCounts = new LinkedHashMap<>();
+        Map<Integer, Long> elapsedMicros = new LinkedHashMap<>();
+
+        for (int replyCount : REPLY_COUNTS) {
+            Long commentId = createCommentWithReplies(replyCount);
+            statistics.clear();
+
+            // when
+            long startedAt = System.nanoTime();
+            commentService.deleteComment(author.getId(), commentId);
+            em.flush();
+            elapsedMicros.put(replyCount, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt));
+            statementCounts.put(replyCount, statistics.getPrepareStatementCount());
+            em.clear();
+
+            // then
+            assertDeleted(commentId);
+        }
+
+        StringBuilder sb = new StringBuilder("\n===== 댓글 삭제 벤치마크 =====\n");
+        REPLY_COUNTS.forEach(replyCount -> sb.append(String.format("대댓글 %4d개: SQL %d개, %d us%n",
+                replyCount, statementCounts.get(replyCount), elapsedMicros.get(replyCount))));
+        log.info(sb.toString());
+
+        assertThat(statementCounts.values()).containsOnly(statementCounts.get(REPLY_COUNTS.get(0)));
+    }
+
+    private Long createCommentWithReplies(int replyCount) {
+        Post managedPost = em.find(Post.class, post.getId());
+        Comment comment = Comment.builder()
+                .post(managedPost)
+                .member(em.getReference(Member.class, author.getId()))
+                .content("삭제할 댓글")
+                .build();
+        em.persist(comment);
+        managedPost.increaseCommentCount();
+
+        Member managedReplier = em.getReference(Member.class, replier.getId());
+        for (int i = 0; i < replyCount; i++) {
+            Recomment recomment = Recomment.builder()
+                    .comment(comment)
+                    .member(managedReplier)
+                    .content("대댓글 " + i)
+                    .build();
+            em.persist(recomment);
+            em.persist(new RecommentLike(em.getReference(Member.class, author.getId()), recomment));
+            comment.increaseRecommentCount();
+        }
+
+        em.flush();
+        em.clear();
+        return comment.getId();
+    }
+
+    private void assertDeleted(Long commentId) {
+        Comment deleted = em.find(Comment.class, commentId);
+        assertThat(deleted.getDeletedAt()).isNotNull();
+        assertThat(deleted.getRecommentCount()).isZero();
+
+        Long remainingReplies = em.createQuery(
+                        "SELECT COUNT(r) FROM Recomment r WHERE r.comment.id = :commentId AND r.deletedAt IS NULL", Long.class)
+                .setParameter("commentId", commentId)
+                .getSingleResult();
+        Long remainingLikes = em.createQuery(
+                        "SELECT COUNT(rl) FROM RecommentLike rl WHERE rl.recomment.comment.id = :commentId", Long.class)
+                .setParameter("commentId", commentId)
+                .getSingleResult();
+
+        assertThat(remainingReplies).isZero();
+        assertThat(remainingLikes).isZero();
+        em.clear();
+    }
+}
@@ -0,0 +1,171 @@
+package com.kakaobase.snsapp.domain.comments.service;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
+import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 댓글 페이지 캐시 테스트
+ *
+ * 캐시 적중 시 좋아요 수와 조회자별 좋아요 여부만 조회하고,
+ * 댓글 작성/삭제가 커밋 후 캐시된 페이지에 반영되며, 좋아요는 캐시된 페이지를 무효화하지 않는지 검증
+ */
+@QueryCountTest
+@DisplayName("게시글 댓글 페이지 캐시 테스트")
+class CommentPageCacheTest {
+
+    private static final int PAGE_SIZE = 3;
+    // 좋아요 수 1, 조회자 좋아요 여부 1
+    private static final int MAX_STATEMENTS_PER_CACHED_PAGE = 2;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentLikeService commentLikeService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member author;
+    private Member viewer;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        author = memberRepository.save(MemberFixture.createMemberWithUniqueEmail("cache_author"));
+        viewer = memberRepository.save(MemberFixture.createMemberWithUniqueEmail("cache_viewer"));
+        post = postRepository.save(Post.builder()
+                .member(author)
+                .boardType(Post.BoardType.ALL)
+                .content("댓글 캐시 테스트 게시글")
+                .build());
+
+        for (int i = 0; i < PAGE_SIZE + 1; i++) {
+            writeComment("댓글 " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("캐시된 페이지는 좋아요 수와 조회자별 좋아요 여부 쿼리만 실행한다")
+    void getCommentsByPostId_CacheHit_OverlaysViewerState() {
+        // given
+        CommentResponseDto.CommentListResponse first = firstPage(author);
+        commentLikeService.addCommentLike(viewer.getId(), first.comments().get(0).id());
+        firstPage(viewer);
+        statistics.clear();
+
+        // when
+        CommentResponseDto.CommentListResponse byViewer = firstPage(viewer);
+        CommentResponseDto.CommentListResponse byAuthor = firstPage(author);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_CACHED_PAGE * 2);
+        assertThat(byViewer.comments().get(0).is_liked()).isTrue();
+        assertThat(byViewer.comments().get(0).is_mine()).isFalse();
+        assertThat(byViewer.comments().get(0).like_count()).isEqualTo(1);
+        assertThat(byAuthor.comments().get(0).is_liked()).isFalse();
+        assertThat(byAuthor.comments().get(0).is_mine()).isTrue();
+        assertThat(byAuthor.comments().get(0).like_count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요는 캐시된 페이지를 무효화하지 않고 좋아요 수는 요청마다 반영된다")
+    void addCommentLike_KeepsCachedPage() {
+        // given
+        CommentResponseDto.CommentListResponse first = firstPage(author);
+        firstPage(author);
+
+        // when
+        commentLikeService.addCommentLike(viewer.getId(), first.comments().get(0).id());
+        statistics.clear();
+        CommentResponseDto.CommentListResponse afterLike = firstPage(author);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_CACHED_PAGE);
+        assertThat(afterLike.comments().get(0).like_count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("새 댓글은 마지막 페이지만 무효화하여 반영한다")
+    void createComment_InvalidatesTailPageOnly() {
+        // given
+        CommentResponseDto.CommentListResponse head = firstPage(viewer);
+        CommentResponseDto.CommentListResponse tail = page(viewer, head.next_cursor());
+        assertThat(head.has_next()).isTrue();
+        assertThat(tail.comments()).hasSize(1);
+        assertThat(tail.has_next()).isFalse();
+
+        // when
+        Long newCommentId = writeComment("새 댓글");
+        statistics.clear();
+        CommentResponseDto.CommentListResponse cachedHead = firstPage(viewer);
+        long headStatements = statistics.getPrepareStatementCount();
+        CommentResponseDto.CommentListResponse reloadedTail = page(viewer, head.next_cursor());
+
+        // then
+        assertThat(headStatements).isLessThanOrEqualTo(MAX_STATEMENTS_PER_CACHED_PAGE);
+        assertThat(ids(cachedHead)).isEqualTo(ids(head));
+        assertThat(ids(reloadedTail)).hasSize(2).endsWith(newCommentId);
+    }
+
+    @Test
+    @DisplayName("삭제된 댓글은 캐시된 페이지에서 제거되고 다음 커서는 유지된다")
+    void deleteComment_PatchesCachedPage() {
+        // given
+        CommentResponseDto.CommentListResponse head = firstPage(viewer);
+        Long deletedId = head.comments().get(1).id();
+
+        // when
+        commentService.deleteComment(author.getId(), deletedId);
+        CommentResponseDto.CommentListResponse patched = firstPage(viewer);
+
+        // then
+        assertThat(ids(patched)).hasSize(PAGE_SIZE - 1).doesNotContain(deletedId);
+        assertThat(patched.next_cursor()).isEqualTo(head.next_cursor());
+        assertThat(patched.has_next()).isTrue();
+    }
+
+    private CommentResponseDto.CommentListResponse firstPage(Member requester) {
+        return page(requester, null);
+    }
+
+    private CommentResponseDto.CommentListResponse page(Member requester, Long cursor) {
+        return commentService.getCommentsByPostId(requester.getId(), post.getId(),
+                new CommentRequestDto.CommentPageRequest(PAGE_SIZE, cursor));
+    }
+
+    private Long writeComment(String content) {
+        return commentService.createComment(author.getId(), post.getId(),
+                new CommentRequestDto.CreateCommentRequest(content, null)).id();
+    }
+
+    private static List<Long> ids(CommentResponseDto.CommentListResponse response) {
+        return response.comments().stream().map(CommentResponseDto.CommentInfo::id).toList();
+    }
+}
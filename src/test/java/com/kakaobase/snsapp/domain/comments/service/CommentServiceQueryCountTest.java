@@ -0,0 +1,266 @@
+package com.kakaobase.snsapp.domain.comments.service;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
+import com.kakaobase.snsapp.domain.comments.dto.CommentResponseDto;
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.entity.CommentLike;
+import com.kakaobase.snsapp.domain.comments.entity.Recomment;
+import com.kakaobase.snsapp.domain.comments.entity.RecommentLike;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.fixture.FollowFixture;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import com.kakaobase.snsapp.global.security.AccessChecker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 목록 조회 쿼리 수 테스트
+ *
+ * 댓글 목록 조립 시 댓글 수와 무관하게 쿼리 수가 고정되는지 검증
+ * (작성자 fetch join + 좋아요/팔로우 여부 IN 쿼리)
+ * 댓글 작성 시에는 관련 회원을 지연 로딩 없이 한 번에 조회하고,
+ * 권한 확인(AccessChecker)에서 조회한 게시글 작성자/게시판 유형을 같은 요청에서 재사용하는지 검증
+ */
+@QueryCountTest
+@Transactional
+@DisplayName("댓글 목록 조회 쿼리 수 테스트")
+class CommentServiceQueryCountTest {
+
+    private static final int PAGE_SIZE = 12;
+    private static final int MAX_STATEMENTS_PER_PAGE = 4;
+    private static final int MAX_STATEMENTS_PER_PREVIEW_PAGE = 7;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private AccessChecker accessChecker;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member viewer;
+    private List<Member> authors;
+    private List<Comment> comments;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        viewer = MemberFixture.createMemberWithNickname("viewer");
+        em.persist(viewer);
+
+        authors = MemberFixture.createMembers(PAGE_SIZE);
+        authors.forEach(em::persist);
+
+        post = Post.builder()
+                .member(viewer)
+                .boardType(Post.BoardType.ALL)
+                .content("쿼리 수 테스트 게시글")
+                .build();
+        em.persist(post);
+
+        // 작성자 절반은 팔로우, 댓글 절반은 좋아요
+        comments = new ArrayList<>();
+        for (int i = 0; i < authors.size(); i++) {
+            Member author = authors.get(i);
+            Comment comment = Comment.builder()
+                    .post(post)
+                    .member(author)
+                    .content("댓글 " + i)
+                    .build();
+            em.persist(comment);
+            comments.add(comment);
+
+            if (i % 2 == 0) {
+                em.persist(FollowFixture.createFollow(viewer, author));
+                em.persist(new CommentLike(viewer, comment));
+            }
+        }
+
+        // 영속성 컨텍스트에 남은 엔티티로 지연 로딩 쿼리가 가려지지 않도록 비운다
+        em.flush();
+        em.clear();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 목록 한 페이지를 쿼리 4개 이하로 조회한다")
+    void getCommentsByPostId_BatchesAssociations() {
+        // given
+        CommentRequestDto.CommentPageRequest pageRequest = new CommentRequestDto.CommentPageRequest(PAGE_SIZE, null);
+        statistics.clear();
+
+        // when
+        CommentResponseDto.CommentListResponse response =
+                commentService.getCommentsByPostId(viewer.getId(), post.getId(), pageRequest);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(response.comments()).hasSize(PAGE_SIZE);
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            CommentResponseDto.CommentInfo info = response.comments().get(i);
+            assertThat(info.user().id()).isEqualTo(authors.get(i).getId());
+            assertThat(info.user().nickname()).isEqualTo(authors.get(i).getNickname());
+            assertThat(info.user().isFollowed()).isEqualTo(i % 2 == 0);
+            assertThat(info.is_liked()).isEqualTo(i % 2 == 0);
+            assertThat(info.is_mine()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("preview 요청 시 댓글마다 대댓글을 포함한 한 페이지를 쿼리 7개 이하로 조회한다")
+    void getCommentsByPostId_WithPreview_BatchesRecomments() {
+        // given
+        int recommentsPerComment = 4;
+        int preview = 3;
+        for (Comment detached : comments) {
+            Comment comment = em.find(Comment.class, detached.getId());
+            for (int j = 0; j < recommentsPerComment; j++) {
+                Recomment recomment = Recomment.builder()
+                        .comment(comment)
+                        .member(em.getReference(Member.class, authors.get(j).getId()))
+                        .content("대댓글 " + j)
+                        .build();
+                em.persist(recomment);
+                comment.increaseRecommentCount();
+
+                if (j == 0) {
+                    em.persist(new RecommentLike(em.getReference(Member.class, viewer.getId()), recomment));
+                }
+            }
+        }
+        em.flush();
+        em.clear();
+
+        CommentRequestDto.CommentPageRequest pageRequest =
+                new CommentRequestDto.CommentPageRequest(PAGE_SIZE, null, preview);
+        statistics.clear();
+
+        // when
+        CommentResponseDto.CommentListResponse response =
+                commentService.getCommentsByPostId(viewer.getId(), post.getId(), pageRequest);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PREVIEW_PAGE);
+        assertThat(response.comments()).hasSize(PAGE_SIZE);
+        assertThat(response.comments()).allSatisfy(info -> {
+            assertThat(info.recomment_count()).isEqualTo(recommentsPerComment);
+            assertThat(info.recomments()).hasSize(preview);
+            assertThat(info.recomments()).extracting(CommentResponseDto.RecommentInfo::id).isSorted();
+
+            for (int j = 0; j < preview; j++) {
+                CommentResponseDto.RecommentInfo recommentInfo = info.recomments().get(j);
+                assertThat(recommentInfo.user().id()).isEqualTo(authors.get(j).getId());
+                assertThat(recommentInfo.user().isFollowed()).isEqualTo(j % 2 == 0);
+                assertThat(recommentInfo.is_liked()).isEqualTo(j == 0);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("유저 댓글 목록 한 페이지를 쿼리 4개 이하로 조회한다")
+    void getUserCommentList_BatchesAssociations() {
+        // given
+        Member author = authors.get(0);
+        List<Long> commentIds = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Comment comment = Comment.builder()
+                    .post(em.getReference(Post.class, post.getId()))
+                    .member(em.getReference(Member.class, author.getId()))
+                    .content("유저 댓글 " + i)
+                    .build();
+            em.persist(comment);
+            commentIds.add(comment.getId());
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        List<CommentResponseDto.CommentInfo> response =
+                commentService.getUserCommentList(PAGE_SIZE, null, author.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(response).hasSize(PAGE_SIZE);
+        assertThat(response)
+                .allSatisfy(info -> {
+                    assertThat(info.is_mine()).isTrue();
+                    assertThat(info.user().id()).isEqualTo(author.getId());
+                });
+        assertThat(response).extracting(CommentResponseDto.CommentInfo::id)
+                .containsAnyElementsOf(commentIds);
+    }
+
+    @Test
+    @DisplayName("댓글 작성 시 댓글 작성자와 게시글 작성자를 한 번의 쿼리로 함께 조회한다")
+    void createComment_LoadsMembersTogether() {
+        // given
+        Member author = authors.get(0);
+        CommentRequestDto.CreateCommentRequest request = new CommentRequestDto.CreateCommentRequest("새 댓글", null);
+        statistics.clear();
+
+        // when
+        commentService.createComment(author.getId(), post.getId(), request);
+
+        // then
+        assertThat(statistics.getEntityStatistics(Member.class.getName()).getFetchCount()).isZero();
+        assertThat(statistics.getEntityStatistics(Member.class.getName()).getLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("댓글 작성 권한 확인과 댓글 작성이 게시글 조회 한 번을 공유하고 게시글 엔티티는 읽지 않는다")
+    void canAccessOnComments_SharesPostLookupWithCreateComment() {
+        // given
+        Member author = authors.get(0);
+        CustomUserDetails userDetails = new CustomUserDetails(String.valueOf(author.getId()), "USER", null, true);
+        CommentRequestDto.CreateCommentRequest request = new CommentRequestDto.CreateCommentRequest("새 댓글", null);
+        statistics.clear();
+
+        // when
+        boolean canAccess = accessChecker.canAccessOnComments(post.getId(), userDetails);
+        commentService.createComment(author.getId(), post.getId(), request);
+
+        // then
+        assertThat(canAccess).isTrue();
+        assertThat(statistics.getEntityStatistics(Post.class.getName()).getLoadCount()).isZero();
+        long postAccessQueries = Arrays.stream(statistics.getQueries())
+                .filter(query -> query.contains("PostAccess"))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+        assertThat(postAccessQueries).isEqualTo(1);
+    }
+}
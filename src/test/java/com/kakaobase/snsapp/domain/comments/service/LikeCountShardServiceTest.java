@@ -0,0 +1,154 @@
+package com.kakaobase.snsapp.domain.comments.service;
+
+import com.kakaobase.snsapp.domain.comments.entity.Comment;
+import com.kakaobase.snsapp.domain.comments.repository.CommentLikeCountShardRepository;
+import com.kakaobase.snsapp.domain.comments.repository.CommentLikeRepository;
+import com.kakaobase.snsapp.domain.comments.repository.CommentRepository;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 샤드 카운터 동시성 테스트
+ *
+ * 같은 댓글에 동시에 좋아요를 눌러도 좋아요 수가 유실되지 않고,
+ * 압축 후 원본 컬럼에 정확히 합산되는지 검증
+ */
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=8")
+@ActiveProfiles("test")
+@DisplayName("좋아요 샤드 카운터 동시성 테스트")
+class LikeCountShardServiceTest {
+
+    private static final int LIKER_COUNT = 32;
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private CommentLikeService commentLikeService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private LikeCountShardService likeCountShardService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private CommentLikeCountShardRepository commentLikeCountShardRepository;
+
+    private Member author;
+    private List<Member> likers;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        author = memberRepository.save(MemberFixture.createMemberWithUniqueEmail("shard_author"));
+        likers = memberRepository.saveAll(IntStream.rangeClosed(1, LIKER_COUNT)
+                .mapToObj(i -> MemberFixture.createMemberWithUniqueEmail("shard_liker" + i))
+                .toList());
+        post = postRepository.save(Post.builder()
+                .member(author)
+                .boardType(Post.BoardType.ALL)
+                .content("샤드 카운터 테스트 게시글")
+                .build());
+        comment = commentRepository.save(Comment.builder()
+                .post(post)
+                .member(author)
+                .content("인기 댓글")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentLikeCountShardRepository.deleteAll();
+        commentLikeRepository.deleteAll();
+        commentRepository.deleteAll();
+        postRepository.deleteAll();
+        memberRepository.deleteAll(likers);
+        memberRepository.delete(author);
+    }
+
+    @Test
+    @DisplayName("같은 댓글에 동시에 좋아요를 눌러도 좋아요 수가 유실되지 않는다")
+    void addCommentLike_Concurrently_NoLostUpdates() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (Member liker : likers) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                commentLikeService.addCommentLike(liker.getId(), comment.getId());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then - 압축 전에는 샤드 합계로 조회된다
+        Comment stored = commentRepository.findById(comment.getId()).orElseThrow();
+        assertThat(stored.getLikeCount()).isZero();
+        assertThat(commentService.getCommentInfo(author.getId(), comment.getId()).like_count()).isEqualTo(LIKER_COUNT);
+
+        // then - 압축 후에는 원본 컬럼에 합산되고 샤드는 비워진다
+        likeCountShardService.compact();
+
+        Comment compacted = commentRepository.findById(comment.getId()).orElseThrow();
+        assertThat(compacted.getLikeCount()).isEqualTo(LIKER_COUNT);
+        assertThat(commentLikeCountShardRepository.count()).isZero();
+        assertThat(commentService.getCommentInfo(author.getId(), comment.getId()).like_count()).isEqualTo(LIKER_COUNT);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 샤드에 음수 증감분으로 기록되어 압축 시 차감된다")
+    void removeCommentLike_AfterCompaction_Decreases() {
+        // given
+        likers.subList(0, 3).forEach(liker -> commentLikeService.addCommentLike(liker.getId(), comment.getId()));
+        likeCountShardService.compact();
+
+        // when
+        commentLikeService.removeCommentLike(likers.get(0).getId(), comment.getId());
+
+        // then
+        assertThat(commentService.getCommentInfo(author.getId(), comment.getId()).like_count()).isEqualTo(2);
+
+        likeCountShardService.compact();
+        assertThat(commentRepository.findById(comment.getId()).orElseThrow().getLikeCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,204 @@
+package com.kakaobase.snsapp.domain.follow.cache;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.follow.entity.Follow;
+import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.follow.service.FollowService;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.fixture.auth.CustomUserDetailsFixture;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import com.kakaobase.snsapp.global.common.cache.CacheInvalidationBus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 팔로우 그래프 캐시 테스트
+ *
+ * 적재된 회원의 팔로우 여부 확인이 DB 조회 없이 처리되고,
+ * 팔로우/언팔로우가 커밋 이후 캐시에 즉시 반영되며, TTL 이 지난 항목은 다시 적재되고,
+ * 적재 도중의 변경은 해당 회원의 적재 결과만 버리는지 검증
+ */
+@QueryCountTest
+@DisplayName("팔로우 그래프 캐시 테스트")
+class FollowGraphCacheTest {
+
+    private static final int TARGET_COUNT = 5;
+
+    @Autowired
+    private FollowGraphCache followGraphCache;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private CacheInvalidationBus invalidationBus;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final CustomUserDetailsFixture userDetailsFixture = new CustomUserDetailsFixture();
+
+    private Statistics statistics;
+    private Member viewer;
+    private List<Member> targets;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        viewer = memberRepository.save(MemberFixture.createMemberWithUniqueEmail("graph_viewer"));
+        targets = memberRepository.saveAll(IntStream.rangeClosed(1, TARGET_COUNT)
+                .mapToObj(i -> MemberFixture.createMemberWithUniqueEmail("graph_target" + i))
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        followGraphCache.evict(viewer.getId());
+    }
+
+    @Test
+    @DisplayName("적재된 회원의 팔로우 여부 확인은 쿼리를 실행하지 않는다")
+    void isFollowing_Warm_NoQuery() {
+        // given
+        follow(targets.get(0));
+        follow(targets.get(2));
+        followGraphCache.evict(viewer.getId());
+        followGraphCache.getFollowingIds(viewer.getId());
+        statistics.clear();
+
+        // when
+        List<Boolean> followed = targets.stream()
+                .map(target -> followGraphCache.isFollowing(viewer.getId(), target.getId()))
+                .toList();
+
+        // then
+        assertThat(followed).containsExactly(true, false, true, false, false);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("팔로우/언팔로우는 다시 적재하지 않고 캐시에 반영된다")
+    void followAndUnfollow_AppliedToCache() {
+        // given
+        followGraphCache.getFollowingIds(viewer.getId());
+        Member target = targets.get(1);
+
+        // when
+        follow(target);
+        statistics.clear();
+        boolean followedAfterFollow = followGraphCache.isFollowing(viewer.getId(), target.getId());
+
+        followService.removeFollowing(target.getId(), userDetailsFixture.createJwtUserWithId(viewer.getId()));
+        statistics.clear();
+        boolean followedAfterUnfollow = followGraphCache.isFollowing(viewer.getId(), target.getId());
+
+        // then
+        assertThat(followedAfterFollow).isTrue();
+        assertThat(followedAfterUnfollow).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화된 회원은 다음 조회 시 DB 에서 다시 적재한다")
+    void evict_ReloadsFromDatabase() {
+        // given
+        followGraphCache.getFollowingIds(viewer.getId());
+        follow(targets.get(3));
+
+        // when
+        followGraphCache.evict(viewer.getId());
+        statistics.clear();
+        boolean followed = followGraphCache.isFollowing(viewer.getId(), targets.get(3).getId());
+
+        // then
+        assertThat(followed).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(followGraphCache.filterFollowing(viewer.getId(),
+                targets.stream().map(Member::getId).toList()))
+                .containsExactly(targets.get(3).getId());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 캐시를 거치지 않은 팔로우도 DB 에서 다시 적재한다")
+    void expired_ReloadsFromDatabase() {
+        // given
+        FollowGraphCache expiringCache = new FollowGraphCache(followRepository, invalidationBus, 100, 0);
+        expiringCache.getFollowingIds(viewer.getId());
+        followRepository.save(Follow.builder()
+                .followerUser(viewer)
+                .followingUser(targets.get(4))
+                .build());
+
+        // when
+        boolean followed = expiringCache.isFollowing(viewer.getId(), targets.get(4).getId());
+
+        // then
+        assertThat(followed).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재 도중 다른 회원의 팔로우가 변경되어도 적재 결과를 캐시에 저장한다")
+    void load_UnrelatedMutation_KeepsResult() {
+        // given
+        FollowRepository repository = mock(FollowRepository.class);
+        FollowGraphCache cache = new FollowGraphCache(repository, invalidationBus, 100, 60_000);
+        given(repository.findFollowingUserIdsByFollowerId(anyLong())).willAnswer(invocation -> {
+            cache.evict(2L);
+            return List.of(10L);
+        });
+
+        // when
+        cache.getFollowingIds(1L);
+        cache.getFollowingIds(1L);
+
+        // then
+        verify(repository, times(1)).findFollowingUserIdsByFollowerId(1L);
+    }
+
+    @Test
+    @DisplayName("적재 도중 같은 회원의 팔로우가 변경되면 적재 결과를 캐시에 저장하지 않는다")
+    void load_SameMemberMutation_DiscardsResult() {
+        // given
+        FollowRepository repository = mock(FollowRepository.class);
+        FollowGraphCache cache = new FollowGraphCache(repository, invalidationBus, 100, 60_000);
+        given(repository.findFollowingUserIdsByFollowerId(anyLong())).willAnswer(invocation -> {
+            cache.evict(1L);
+            return List.of(10L);
+        });
+
+        // when
+        cache.getFollowingIds(1L);
+        cache.getFollowingIds(1L);
+
+        // then
+        verify(repository, times(2)).findFollowingUserIdsByFollowerId(1L);
+    }
+
+    private void follow(Member target) {
+        followService.addFollowing(target.getId(), userDetailsFixture.createJwtUserWithId(viewer.getId()));
+    }
+}
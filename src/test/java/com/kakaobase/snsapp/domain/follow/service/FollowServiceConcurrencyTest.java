@@ -0,0 +1,245 @@
+package com.kakaobase.snsapp.domain.follow.service;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.follow.repository.FollowRepository;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.repository.MemberStatsRepository;
+import com.kakaobase.snsapp.domain.members.repository.MemberStatsShardRepository;
+import com.kakaobase.snsapp.domain.members.service.MemberStatsService;
+import com.kakaobase.snsapp.fixture.auth.CustomUserDetailsFixture;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로우 카운터 동시성 테스트
+ *
+ * 같은 회원을 동시에 팔로우/언팔로우해도 팔로워 수가 유실되지 않고,
+ * 쓰기 경로가 회원 조회나 통계 행 갱신 없이 팔로우 INSERT 와 샤드 증감분 기록만으로 처리되며,
+ * 압축 작업이 샤드 합계를 통계 행에 옮기고, 보정 작업이 잠금을 가진 노드에서만 어긋난 개수를 고치는지 검증
+ */
+@QueryCountTest
+@TestPropertySource(properties = "spring.datasource.hikari.maximum-pool-size=8")
+@DisplayName("팔로우 카운터 동시성 테스트")
+class FollowServiceConcurrencyTest {
+
+    private static final int FOLLOWER_COUNT = 32;
+    private static final int THREAD_COUNT = 8;
+    // 팔로우 여부/회원 존재 확인 2, 팔로우 INSERT 1, 샤드 증감분 기록 2
+    private static final int MAX_STATEMENTS_PER_FOLLOW = 5;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private MemberStatsService memberStatsService;
+
+    @Autowired
+    private MemberStatsRepository memberStatsRepository;
+
+    @Autowired
+    private MemberStatsShardRepository memberStatsShardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final CustomUserDetailsFixture userDetailsFixture = new CustomUserDetailsFixture();
+
+    private Member celebrity;
+    private List<Member> followers;
+
+    @BeforeEach
+    void setUp() {
+        celebrity = memberRepository.save(MemberFixture.createMemberWithUniqueEmail("counter_celebrity"));
+        followers = memberRepository.saveAll(IntStream.rangeClosed(1, FOLLOWER_COUNT)
+                .mapToObj(i -> MemberFixture.createMemberWithUniqueEmail("counter_follower" + i))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("같은 회원을 동시에 팔로우해도 통계 행을 갱신하지 않고 팔로워/팔로잉 수가 정확하다")
+    void addFollowing_Concurrently_ExactCounts() throws Exception {
+        // given
+        createStatsRows();
+
+        // when
+        runConcurrently(follower -> followService.addFollowing(
+                celebrity.getId(), userDetailsFixture.createJwtUserWithId(follower.getId())));
+
+        // then
+        assertThat(memberStatsService.getCounts(celebrity.getId()).followerCount()).isEqualTo(FOLLOWER_COUNT);
+        assertThat(memberStatsRepository.findById(celebrity.getId()).orElseThrow().getFollowerCount()).isZero();
+        assertThat(memberStatsService.getCounts(followerIds()).values())
+                .hasSize(FOLLOWER_COUNT)
+                .allSatisfy(counts -> assertThat(counts.followingCount()).isEqualTo(1));
+        assertThat(followRepository.count()).isEqualTo(FOLLOWER_COUNT);
+    }
+
+    @Test
+    @DisplayName("같은 회원을 동시에 언팔로우해도 팔로워 수가 정확히 0이 된다")
+    void removeFollowing_Concurrently_ExactCounts() throws Exception {
+        // given
+        createStatsRows();
+        followers.forEach(follower -> followService.addFollowing(
+                celebrity.getId(), userDetailsFixture.createJwtUserWithId(follower.getId())));
+        compactCounts();
+
+        // when
+        runConcurrently(follower -> followService.removeFollowing(
+                celebrity.getId(), userDetailsFixture.createJwtUserWithId(follower.getId())));
+
+        // then
+        assertThat(memberStatsService.getCounts(celebrity.getId()).followerCount()).isZero();
+        assertThat(memberStatsService.getCounts(followerIds()).values())
+                .hasSize(FOLLOWER_COUNT)
+                .allSatisfy(counts -> assertThat(counts.followingCount()).isZero());
+        assertThat(followRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("압축 작업은 샤드 합계를 통계 행에 옮기고 조회 값은 그대로 유지된다")
+    void compactCounts_MovesShardDeltasToStatsRow() throws Exception {
+        // given
+        createStatsRows();
+        runConcurrently(follower -> followService.addFollowing(
+                celebrity.getId(), userDetailsFixture.createJwtUserWithId(follower.getId())));
+
+        // when
+        compactCounts();
+
+        // then
+        assertThat(memberStatsRepository.findById(celebrity.getId()).orElseThrow().getFollowerCount())
+                .isEqualTo(FOLLOWER_COUNT);
+        assertThat(memberStatsShardRepository.count()).isZero();
+        assertThat(memberStatsService.getCounts(celebrity.getId()).followerCount()).isEqualTo(FOLLOWER_COUNT);
+    }
+
+    @Test
+    @DisplayName("팔로우는 회원을 조회하거나 갱신하지 않고 쿼리 5개 이하로 처리한다")
+    void addFollowing_WithoutLoadingMembers() {
+        // given
+        createStatsRows();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        followService.addFollowing(celebrity.getId(), userDetailsFixture.createJwtUserWithId(followers.get(0).getId()));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_FOLLOW);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보정 작업은 어긋난 팔로워/팔로잉 수를 follow 의 실제 개수로 고친다")
+    void reconcileCounts_RepairsFollowDrift() {
+        // given
+        followService.addFollowing(celebrity.getId(), userDetailsFixture.createJwtUserWithId(followers.get(0).getId()));
+        memberStatsRepository.insertIfAbsent(celebrity.getId(), 50, 0, 0);
+        memberStatsRepository.insertIfAbsent(followers.get(0).getId(), 0, 7, 0);
+
+        // when
+        reconcileFrom(Math.min(celebrity.getId(), followers.get(0).getId()));
+
+        // then
+        assertThat(memberStatsService.getCounts(celebrity.getId()).followerCount()).isEqualTo(1);
+        assertThat(memberStatsService.getCounts(followers.get(0).getId()).followingCount()).isEqualTo(1);
+
+        // 샤드에 남은 증감분을 압축해도 실제 개수와 같다
+        compactCounts();
+        assertThat(memberStatsRepository.findById(celebrity.getId()).orElseThrow().getFollowerCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 보정 잠금을 가지고 있으면 보정하지 않는다")
+    void reconcileCounts_LockedByOtherNode_Skips() {
+        // given
+        memberStatsRepository.insertIfAbsent(celebrity.getId(), 50, 0, 0);
+        jdbcTemplate.update("INSERT INTO scheduler_locks (lock_name, locked_until, locked_by, progress) VALUES (?, ?, ?, ?)",
+                "member-stats-reconcile", Timestamp.valueOf(LocalDateTime.now().plusHours(1)), "other-node",
+                celebrity.getId() - 1);
+
+        // when
+        memberStatsService.reconcileCounts();
+
+        // then
+        assertThat(memberStatsRepository.findById(celebrity.getId()).orElseThrow().getFollowerCount()).isEqualTo(50);
+    }
+
+    private void createStatsRows() {
+        memberStatsRepository.insertIfAbsent(celebrity.getId(), 0, 0, 0);
+        followers.forEach(follower -> memberStatsRepository.insertIfAbsent(follower.getId(), 0, 0, 0));
+    }
+
+    /**
+     * 이전 실행이 남긴 잠금을 지우고 압축 작업을 실행
+     */
+    private void compactCounts() {
+        jdbcTemplate.update("DELETE FROM scheduler_locks WHERE lock_name = 'member-stats-compaction'");
+        memberStatsService.compactCounts();
+    }
+
+    /**
+     * 보정 위치를 회원 바로 앞으로 옮겨 해당 회원부터 보정
+     */
+    private void reconcileFrom(Long memberId) {
+        jdbcTemplate.update("DELETE FROM scheduler_locks WHERE lock_name = 'member-stats-reconcile'");
+        jdbcTemplate.update("INSERT INTO scheduler_locks (lock_name, locked_until, locked_by, progress) VALUES (?, ?, ?, ?)",
+                "member-stats-reconcile", Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)), "", memberId - 1);
+        memberStatsService.reconcileCounts();
+    }
+
+    private List<Long> followerIds() {
+        return followers.stream().map(Member::getId).toList();
+    }
+
+    private void runConcurrently(Consumer<Member> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (Member follower : followers) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                action.accept(follower);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
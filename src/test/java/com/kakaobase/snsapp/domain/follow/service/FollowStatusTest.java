@@ -0,0 +1,138 @@
+package com.kakaobase.snsapp.domain.follow.service;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.follow.cache.FollowGraphCache;
+import com.kakaobase.snsapp.domain.follow.dto.FollowResponse;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.fixture.auth.CustomUserDetailsFixture;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.assertj.core.groups.Tuple;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 팔로우 여부 일괄 조회 테스트
+ *
+ * 목록 응답의 is_followed 값과 일괄 조회 API 결과가 정확하고,
+ * 회원 수와 관계없이 한 페이지당 최대 한 번의 쿼리로 처리되는지 검증
+ */
+@QueryCountTest
+@DisplayName("팔로우 여부 일괄 조회 테스트")
+class FollowStatusTest {
+
+    private static final int TARGET_COUNT = 6;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private FollowGraphCache followGraphCache;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final CustomUserDetailsFixture userDetailsFixture = new CustomUserDetailsFixture();
+
+    private Statistics statistics;
+    private Member viewer;
+    private Member owner;
+    private List<Member> targets;
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        viewer = memberRepository.save(MemberFixture.createMemberWithUniqueEmail("status_viewer"));
+        owner = memberRepository.save(MemberFixture.createMemberWithUniqueEmail("status_owner"));
+        targets = memberRepository.saveAll(IntStream.rangeClosed(1, TARGET_COUNT)
+                .mapToObj(i -> MemberFixture.createMemberWithUniqueEmail("status_target" + i))
+                .toList());
+        members = new ArrayList<>(targets);
+        members.add(viewer);
+        members.add(owner);
+
+        // 모든 대상이 owner 를 팔로우하고, viewer 는 짝수 번째 대상만 팔로우
+        targets.forEach(target -> follow(target, owner));
+        for (int i = 1; i < TARGET_COUNT; i += 2) {
+            follow(viewer, targets.get(i));
+        }
+        followGraphCache.evict(viewer.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        members.forEach(member -> followGraphCache.evict(member.getId()));
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 요청 순서대로 팔로우 여부를 반환하고 한 번의 쿼리만 실행한다")
+    void getFollowStatuses_OneQuery() {
+        // given
+        List<Long> userIds = targets.stream().map(Member::getId).toList();
+        statistics.clear();
+
+        // when
+        List<FollowResponse.FollowStatus> statuses = followService.getFollowStatuses(viewer.getId(), userIds);
+        long coldStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        followService.getFollowStatuses(viewer.getId(), userIds);
+        long warmStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(statuses).extracting(FollowResponse.FollowStatus::userId, FollowResponse.FollowStatus::isFollowed)
+                .containsExactly(IntStream.range(0, TARGET_COUNT)
+                        .mapToObj(i -> tuple(targets.get(i).getId(), i % 2 == 1))
+                        .toArray(Tuple[]::new));
+        assertThat(coldStatements).isEqualTo(1);
+        assertThat(warmStatements).isZero();
+    }
+
+    @Test
+    @DisplayName("팔로워 목록의 is_followed 는 현재 회원 기준으로 채워지고 팔로우 판별은 한 번만 조회한다")
+    void getFollowers_IsFollowedResolvedPerPage() {
+        // given
+        statistics.clear();
+
+        // when
+        List<FollowResponse.UserInfo> followers =
+                followService.getFollowers(owner.getId(), TARGET_COUNT, null, viewer.getId());
+
+        // then
+        assertThat(followers).hasSize(TARGET_COUNT);
+        assertThat(followers).allSatisfy(follower ->
+                assertThat(follower.isFollowed()).isEqualTo(followedIds().contains(follower.id())));
+        // 회원 존재 확인 + 팔로워 페이지 + 팔로우 여부 판별
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    private Set<Long> followedIds() {
+        return IntStream.range(0, TARGET_COUNT)
+                .filter(i -> i % 2 == 1)
+                .mapToObj(i -> targets.get(i).getId())
+                .collect(Collectors.toSet());
+    }
+
+    private void follow(Member follower, Member following) {
+        followService.addFollowing(following.getId(), userDetailsFixture.createJwtUserWithId(follower.getId()));
+    }
+}
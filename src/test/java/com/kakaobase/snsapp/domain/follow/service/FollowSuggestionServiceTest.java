@@ -0,0 +1,144 @@
+package com.kakaobase.snsapp.domain.follow.service;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.follow.cache.FollowGraphCache;
+import com.kakaobase.snsapp.domain.follow.dto.FollowResponse;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.fixture.auth.CustomUserDetailsFixture;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로우 추천 서비스 테스트
+ *
+ * 함께 아는 친구 수, 같은 기수 우선 순위로 추천되고
+ * 팔로우한 회원은 즉시 제외되며 백그라운드 갱신 후에도 반영되는지 검증
+ * 캐시된 추천을 조회할 때는 추천 회원을 한 번의 쿼리로 함께 조회하는지 검증
+ */
+@QueryCountTest
+@DisplayName("팔로우 추천 서비스 테스트")
+class FollowSuggestionServiceTest {
+
+    @Autowired
+    private FollowSuggestionService followSuggestionService;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private FollowGraphCache followGraphCache;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final CustomUserDetailsFixture userDetailsFixture = new CustomUserDetailsFixture();
+
+    private Member viewer;
+    private Member friendA;
+    private Member friendB;
+    private Member sharedFriend;
+    private Member otherCohortFriend;
+    private Member sameCohortFriend;
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        viewer = member("viewer", Member.ClassName.PANGYO_1);
+        friendA = member("friend_a", Member.ClassName.JEJU_3);
+        friendB = member("friend_b", Member.ClassName.JEJU_3);
+        sharedFriend = member("shared", Member.ClassName.JEJU_2);
+        otherCohortFriend = member("other_cohort", Member.ClassName.JEJU_1);
+        sameCohortFriend = member("same_cohort", Member.ClassName.PANGYO_1);
+        members = List.of(viewer, friendA, friendB, sharedFriend, otherCohortFriend, sameCohortFriend);
+
+        follow(viewer, friendA);
+        follow(viewer, friendB);
+        follow(friendA, sharedFriend);
+        follow(friendA, otherCohortFriend);
+        follow(friendB, sharedFriend);
+        follow(friendB, sameCohortFriend);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        members.forEach(member -> followGraphCache.evict(member.getId()));
+    }
+
+    @Test
+    @DisplayName("함께 아는 친구 수가 많은 순, 같으면 같은 기수 회원 순으로 추천한다")
+    void getSuggestions_RankedByMutualCountThenCohort() {
+        // when
+        List<FollowResponse.SuggestedUser> suggestions = followSuggestionService.getSuggestions(viewer.getId(), 3);
+
+        // then
+        assertThat(suggestions).extracting(FollowResponse.SuggestedUser::id)
+                .containsExactly(sharedFriend.getId(), sameCohortFriend.getId(), otherCohortFriend.getId());
+        assertThat(suggestions).extracting(FollowResponse.SuggestedUser::mutualFollowCount)
+                .containsExactly(2, 1, 1);
+    }
+
+    @Test
+    @DisplayName("팔로우한 회원은 바로 제외되고 백그라운드 갱신 후에도 추천되지 않는다")
+    void getSuggestions_ExcludesNewlyFollowed() {
+        // given
+        followSuggestionService.getSuggestions(viewer.getId(), 3);
+
+        // when
+        follow(viewer, sharedFriend);
+        List<FollowResponse.SuggestedUser> beforeRefresh = followSuggestionService.getSuggestions(viewer.getId(), 3);
+        followSuggestionService.refreshActiveMembers();
+        List<FollowResponse.SuggestedUser> afterRefresh = followSuggestionService.getSuggestions(viewer.getId(), 3);
+
+        // then
+        assertThat(beforeRefresh).extracting(FollowResponse.SuggestedUser::id)
+                .startsWith(sameCohortFriend.getId(), otherCohortFriend.getId())
+                .doesNotContain(sharedFriend.getId());
+        assertThat(afterRefresh).extracting(FollowResponse.SuggestedUser::id)
+                .startsWith(sameCohortFriend.getId(), otherCohortFriend.getId())
+                .doesNotContain(sharedFriend.getId(), friendA.getId(), friendB.getId(), viewer.getId());
+    }
+
+    @Test
+    @DisplayName("캐시된 추천을 조회할 때 추천 회원을 한 번의 쿼리로 함께 조회한다")
+    void getSuggestions_Cached_LoadsMembersInOneQuery() {
+        // given
+        followSuggestionService.getSuggestions(viewer.getId(), 3);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<FollowResponse.SuggestedUser> suggestions = followSuggestionService.getSuggestions(viewer.getId(), 3);
+
+        // then
+        assertThat(suggestions).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Member member(String nickname, Member.ClassName className) {
+        return memberRepository.save(MemberFixture.createMemberWithUniqueEmail("suggest_" + nickname, className));
+    }
+
+    private void follow(Member follower, Member following) {
+        followService.addFollowing(following.getId(), userDetailsFixture.createJwtUserWithId(follower.getId()));
+    }
+}
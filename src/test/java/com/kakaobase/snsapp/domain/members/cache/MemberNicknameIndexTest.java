@@ -0,0 +1,111 @@
+package com.kakaobase.snsapp.domain.members.cache;
+
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 닉네임 검색 인덱스 테스트
+ *
+ * 접두사 일치가 부분 일치보다 먼저, 대소문자 구분 없이 검색되고 (trigram 보다 짧은 검색어 포함)
+ * 가입/탈퇴 변경분이 인덱스 재생성 없이 바로 반영되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("닉네임 검색 인덱스 테스트")
+class MemberNicknameIndexTest {
+
+    @Autowired
+    private MemberNicknameIndex memberNicknameIndex;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final List<Member> members = new ArrayList<>();
+
+    // 다른 테스트 데이터와 겹치지 않는 검색어
+    private String token;
+    private Member prefixAlpha;
+    private Member prefixBeta;
+    private Member infix;
+
+    @BeforeEach
+    void setUp() {
+        token = "nk" + UUID.randomUUID().toString().substring(0, 6);
+        prefixBeta = save(token + "beta");
+        prefixAlpha = save(token.toUpperCase() + "Alpha");
+        infix = save("x" + token);
+        save("unrelated" + token.substring(0, 2));
+
+        memberNicknameIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll(members);
+        memberNicknameIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("접두사 일치를 닉네임 순으로 먼저, 그다음 부분 일치를 대소문자 구분 없이 반환한다")
+    void search_PrefixBeforeInfix_CaseInsensitive() {
+        // when
+        List<Long> result = memberNicknameIndex.search(token.toUpperCase(), 10);
+
+        // then
+        assertThat(result).containsExactly(prefixAlpha.getId(), prefixBeta.getId(), infix.getId());
+        assertThat(memberNicknameIndex.search(token, 2)).containsExactly(prefixAlpha.getId(), prefixBeta.getId());
+    }
+
+    @Test
+    @DisplayName("가입/탈퇴한 회원은 인덱스를 다시 만들지 않아도 바로 반영된다")
+    void search_ReflectsSavedAndRemovedMembers() {
+        // given
+        Member joined = save(token + "aaa");
+
+        // when
+        memberNicknameIndex.onSaved(joined.getId(), joined.getNickname());
+        memberNicknameIndex.onRemoved(prefixAlpha.getId());
+
+        // then
+        assertThat(memberNicknameIndex.search(token, 10))
+                .containsExactly(joined.getId(), prefixBeta.getId(), infix.getId());
+    }
+
+    @Test
+    @DisplayName("trigram 보다 짧은 검색어도 DB 검색처럼 부분 일치를 반환한다")
+    void search_ShortQuery_MatchesInfix() {
+        // given (다른 테스트 데이터와 겹치지 않는 두 글자)
+        String shortQuery = "뷁쀍";
+        Member shortPrefix = save(shortQuery + token);
+        Member shortInfix = save("a" + shortQuery + token);
+        memberNicknameIndex.rebuild();
+        Member joined = save("b" + shortQuery + token);
+
+        // when
+        memberNicknameIndex.onSaved(joined.getId(), joined.getNickname());
+
+        // then
+        assertThat(memberNicknameIndex.search(shortQuery, 10))
+                .containsExactly(shortPrefix.getId(), shortInfix.getId(), joined.getId());
+    }
+
+    private Member save(String nickname) {
+        Member member = memberRepository.save(MemberFixture.createMemberWithUniqueEmail(nickname));
+        members.add(member);
+        return member;
+    }
+}
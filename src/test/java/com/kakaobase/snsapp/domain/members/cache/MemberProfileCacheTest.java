@@ -0,0 +1,142 @@
+package com.kakaobase.snsapp.domain.members.cache;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetailsService;
+import com.kakaobase.snsapp.domain.members.dto.MemberRequestDto;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.service.MemberService;
+import com.kakaobase.snsapp.fixture.auth.CustomUserDetailsFixture;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 프로필 캐시 테스트
+ *
+ * JWT 인증 경로의 회원 조회가 캐시 적중 시 쿼리 없이 처리되고,
+ * 프로필 변경/삭제 후에는 무효화되어 새 값을 읽으며, 적중/미스가 메트릭으로 집계되는지 검증
+ */
+@QueryCountTest
+@DisplayName("회원 프로필 캐시 테스트")
+class MemberProfileCacheTest {
+
+    private static final String NEW_IMAGE_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/profile/new.jpg";
+
+    @Autowired
+    private MemberProfileCache memberProfileCache;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        member = memberRepository.save(MemberFixture.createMemberWithUniqueEmail("profile_cache"));
+        memberProfileCache.evict(member.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        memberProfileCache.evict(member.getId());
+    }
+
+    @Test
+    @DisplayName("JWT 인증 회원 조회는 캐시 적중 시 쿼리를 실행하지 않는다")
+    void loadUserById_CacheHit_NoQuery() {
+        // given
+        customUserDetailsService.loadUserById(member.getId().toString());
+        statistics.clear();
+
+        // when
+        CustomUserDetails userDetails =
+                (CustomUserDetails) customUserDetailsService.loadUserById(member.getId().toString());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(userDetails.getId()).isEqualTo(member.getId().toString());
+        assertThat(userDetails.getRole()).isEqualTo(member.getRole());
+        assertThat(userDetails.getClassName()).isEqualTo(member.getClassName());
+        assertThat(userDetails.isEnabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("프로필 이미지를 변경하면 캐시가 무효화되어 새 이미지를 조회한다")
+    void changProfileImageUrl_EvictsProfile() {
+        // given
+        assertThat(memberService.getMemberInfo(member.getId()).get("imageUrl")).isNull();
+        CustomUserDetails principal = new CustomUserDetailsFixture().createJwtUserWithId(member.getId());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // when
+        memberService.changProfileImageUrl(new MemberRequestDto.ProfileImageChange(NEW_IMAGE_URL));
+
+        // then
+        assertThat(memberService.getMemberInfo(member.getId()).get("imageUrl")).isEqualTo(NEW_IMAGE_URL);
+    }
+
+    @Test
+    @DisplayName("삭제된 회원은 무효화 이후 조회되지 않는다")
+    void evict_DeletedMember_NotFound() {
+        // given
+        assertThat(memberProfileCache.get(member.getId())).isPresent();
+
+        // when
+        memberRepository.deleteById(member.getId());
+        memberProfileCache.evict(member.getId());
+
+        // then
+        assertThat(memberProfileCache.get(member.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 적중/미스가 메트릭으로 집계된다")
+    void get_RecordsHitAndMissMetrics() {
+        // given
+        double hitsBefore = requests("hit");
+        double missesBefore = requests("miss");
+
+        // when
+        memberProfileCache.get(member.getId());
+        memberProfileCache.get(member.getId());
+        memberProfileCache.get(member.getId());
+
+        // then
+        assertThat(requests("miss") - missesBefore).isEqualTo(1.0);
+        assertThat(requests("hit") - hitsBefore).isEqualTo(2.0);
+        assertThat(meterRegistry.get("member.profile.cache.hit.ratio").gauge().value()).isBetween(0.0, 1.0);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("member.profile.cache.requests").tag("result", result).functionCounter().count();
+    }
+}
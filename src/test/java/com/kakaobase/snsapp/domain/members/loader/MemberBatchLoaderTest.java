@@ -0,0 +1,144 @@
+package com.kakaobase.snsapp.domain.members.loader;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 단위 회원 일괄 로더 테스트
+ *
+ * 등록된 회원을 첫 조회 때 한 번의 쿼리로 읽고, 같은 요청에서는 다시 읽지 않으며,
+ * 요청 밖에서는 보관 없이 호출마다 읽고, withinScope 로 감싸면 요청처럼 보관하는지 검증
+ */
+@QueryCountTest
+@Transactional
+@DisplayName("요청 단위 회원 일괄 로더 테스트")
+class MemberBatchLoaderTest {
+
+    private static final long MISSING_MEMBER_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private MemberBatchLoader memberBatchLoader;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        members = MemberFixture.createMembers(3);
+        members.forEach(em::persist);
+        em.flush();
+        em.clear();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("등록된 회원은 첫 조회 때 한 번의 쿼리로 함께 읽고 이후에는 다시 읽지 않는다")
+    void get_LoadsRegisteredMembersOnce() {
+        // given
+        memberBatchLoader.register(ids());
+        statistics.clear();
+
+        // when
+        Member first = memberBatchLoader.get(members.get(0).getId()).orElseThrow();
+        long firstStatements = statistics.getPrepareStatementCount();
+        Map<Long, Member> all = memberBatchLoader.getAll(ids());
+
+        // then
+        assertThat(firstStatements).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(first.getNickname()).isEqualTo(members.get(0).getNickname());
+        assertThat(all).containsOnlyKeys(ids());
+    }
+
+    @Test
+    @DisplayName("없는 회원도 기억하여 같은 요청에서 다시 조회하지 않는다")
+    void get_MissingMember_Memoized() {
+        // given
+        statistics.clear();
+
+        // when
+        boolean firstPresent = memberBatchLoader.get(MISSING_MEMBER_ID).isPresent();
+        boolean secondPresent = memberBatchLoader.get(MISSING_MEMBER_ID).isPresent();
+
+        // then
+        assertThat(firstPresent).isFalse();
+        assertThat(secondPresent).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서는 보관하지 않고 호출할 때마다 한 번의 쿼리로 읽는다")
+    void getAll_OutsideRequest_LoadsEachCall() {
+        // given
+        RequestContextHolder.resetRequestAttributes();
+        statistics.clear();
+
+        // when
+        Map<Long, Member> first = memberBatchLoader.getAll(ids());
+        Map<Long, Member> second = memberBatchLoader.getAll(ids());
+
+        // then
+        assertThat(first).containsOnlyKeys(ids());
+        assertThat(second).containsOnlyKeys(ids());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 밖에서도 withinScope 안에서는 등록된 회원을 한 번만 읽는다")
+    void withinScope_OutsideRequest_LoadsRegisteredMembersOnce() {
+        // given
+        RequestContextHolder.resetRequestAttributes();
+        statistics.clear();
+
+        // when
+        Map<Long, Member> all = memberBatchLoader.withinScope(() -> {
+            memberBatchLoader.register(ids());
+            ids().forEach(memberBatchLoader::get);
+            return memberBatchLoader.getAll(ids());
+        });
+        long scopedStatements = statistics.getPrepareStatementCount();
+        memberBatchLoader.getAll(ids());
+
+        // then
+        assertThat(all).containsOnlyKeys(ids());
+        assertThat(scopedStatements).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private List<Long> ids() {
+        return members.stream().map(Member::getId).toList();
+    }
+}
@@ -2,6 +2,7 @@ package com.kakaobase.snsapp.domain.members.service;
 
 import com.kakaobase.snsapp.annotation.ServiceTest;
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.members.cache.MemberProfileCache;
 import com.kakaobase.snsapp.domain.members.dto.MemberRequestDto;
 import com.kakaobase.snsapp.domain.members.dto.MemberResponseDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
@@ -10,7 +11,9 @@ import com.kakaobase.snsapp.domain.members.exception.MemberException;
 import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
 import com.kakaobase.snsapp.fixture.auth.CustomUserDetailsFixture;
 import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import com.kakaobase.snsapp.global.common.cache.LocalCacheInvalidationBus;
 import com.kakaobase.snsapp.global.error.code.GeneralErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -58,6 +61,9 @@ class MemberServiceProfileTest {
         member = MemberFixture.createDefaultMember();
         ReflectionTestUtils.setField(member, "id", 1L); // Mock 테스트용 ID 설정
         userDetails = new CustomUserDetailsFixture().createDefaultJwtUser();
+        // 프로필 캐시는 Mock 저장소를 그대로 읽도록 실제 객체를 주입 (테스트마다 빈 캐시)
+        ReflectionTestUtils.setField(memberService, "memberProfileCache", new MemberProfileCache(
+                memberRepository, new LocalCacheInvalidationBus(), new SimpleMeterRegistry(), 100, 60_000));
     }
 
     // === SecurityContext가 필요하지 않은 조회 기능 테스트 ===
@@ -1,6 +1,7 @@
 package com.kakaobase.snsapp.domain.members.service;
 
 import com.kakaobase.snsapp.annotation.ServiceTest;
+import com.kakaobase.snsapp.domain.members.cache.MemberNicknameIndex;
 import com.kakaobase.snsapp.domain.members.converter.MemberConverter;
 import com.kakaobase.snsapp.domain.members.dto.MemberRequestDto;
 import com.kakaobase.snsapp.domain.members.entity.Member;
@@ -42,6 +43,9 @@ class MemberServiceSignUpTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private MemberNicknameIndex memberNicknameIndex;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -0,0 +1,151 @@
+package com.kakaobase.snsapp.domain.members.service;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.members.repository.MemberStatsRepository;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.repository.PostRepository;
+import com.kakaobase.snsapp.domain.posts.service.PostService;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 게시글 수 통계 테스트
+ *
+ * 게시글 수가 posts 를 세지 않고 member_stats 와 샤드 합계 한 번의 조회로 응답되고,
+ * 게시글 삭제가 같은 트랜잭션에서 샤드에 반영되며, 보정 작업이 어긋난 값과 누락된 통계 행을 바로잡는지 검증
+ */
+@QueryCountTest
+@DisplayName("회원 게시글 수 통계 테스트")
+class MemberStatsPostCountTest {
+
+    private static final int POST_COUNT = 3;
+
+    @Autowired
+    private MemberStatsService memberStatsService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberStatsRepository memberStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member author;
+    private List<Post> posts;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        author = memberRepository.save(MemberFixture.createMemberWithUniqueEmail("stats_author"));
+        posts = postRepository.saveAll(IntStream.range(0, POST_COUNT)
+                .mapToObj(i -> Post.builder()
+                        .member(author)
+                        .boardType(Post.BoardType.ALL)
+                        .content("게시글 수 테스트 " + i)
+                        .build())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("게시글을 삭제하면 같은 트랜잭션에서 게시글 수가 줄고 한 번의 조회로 응답한다")
+    void deletePost_DecrementsPostCount() {
+        // given
+        reconcileFrom(author);
+        assertThat(memberStatsRepository.existsById(author.getId())).isTrue();
+
+        // when
+        postService.deletePost(posts.get(0).getId(), author.getId());
+        statistics.clear();
+        MemberStatsService.Counts counts = memberStatsService.getCounts(author.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(counts.postCount()).isEqualTo(POST_COUNT - 1);
+        assertThat(memberStatsRepository.findById(author.getId()))
+                .hasValueSatisfying(stats -> assertThat(stats.getPostCount()).isEqualTo(POST_COUNT));
+    }
+
+    @Test
+    @DisplayName("통계 행이 없는 회원의 게시글을 삭제하면 보정 작업이 샤드 증감분을 뺀 개수로 통계 행을 만든다")
+    void deletePost_ReconcileCreatesMissingRow() {
+        // given
+        assertThat(memberStatsRepository.existsById(author.getId())).isFalse();
+        postService.deletePost(posts.get(0).getId(), author.getId());
+
+        // when
+        reconcileFrom(author);
+
+        // then
+        assertThat(memberStatsRepository.findById(author.getId()))
+                .hasValueSatisfying(stats -> assertThat(stats.getPostCount()).isEqualTo(POST_COUNT));
+        assertThat(memberStatsService.getCounts(author.getId()).postCount()).isEqualTo(POST_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("통계 행이 없는 회원은 실제 게시글 수로 응답하고 보정 작업이 통계 행을 만든다")
+    void reconcileCounts_CreatesMissingRow() {
+        // given
+        assertThat(memberStatsRepository.existsById(author.getId())).isFalse();
+        assertThat(memberStatsService.getCounts(author.getId()).postCount()).isEqualTo(POST_COUNT);
+
+        // when
+        reconcileFrom(author);
+
+        // then
+        assertThat(memberStatsRepository.findById(author.getId()))
+                .hasValueSatisfying(stats -> assertThat(stats.getPostCount()).isEqualTo(POST_COUNT));
+    }
+
+    @Test
+    @DisplayName("보정 작업은 어긋난 게시글 수를 실제 개수로 고친다")
+    void reconcileCounts_RepairsDrift() {
+        // given
+        reconcileFrom(author);
+        memberStatsRepository.updatePostCount(author.getId(), 99);
+
+        // when
+        reconcileFrom(author);
+
+        // then
+        assertThat(memberStatsService.getCounts(author.getId()).postCount()).isEqualTo(POST_COUNT);
+    }
+
+    /**
+     * 보정 위치를 회원 바로 앞으로 옮겨 해당 회원부터 보정
+     */
+    private void reconcileFrom(Member member) {
+        jdbcTemplate.update("DELETE FROM scheduler_locks WHERE lock_name = 'member-stats-reconcile'");
+        jdbcTemplate.update("INSERT INTO scheduler_locks (lock_name, locked_until, locked_by, progress) VALUES (?, ?, ?, ?)",
+                "member-stats-reconcile", Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)), "", member.getId() - 1);
+        memberStatsService.reconcileCounts();
+    }
+}
@@ -0,0 +1,92 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import com.kakaobase.snsapp.global.common.client.AiRequestExecutor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * 봇 게시글 요청 조립 쿼리 수 테스트
+ *
+ * AI 서버에 보낼 최근 게시글을 조립할 때 작성자 수와 무관하게
+ * 게시글 조회 한 번으로 끝나고 작성자를 게시글마다 조회하지 않는지 검증
+ * (AI 서버 호출은 시점의 쿼리 수만 기록하고 빈 응답을 반환)
+ */
+@QueryCountTest
+@Transactional
+@DisplayName("봇 게시글 요청 조립 쿼리 수 테스트")
+class BotPostServiceQueryCountTest {
+
+    private static final int AUTHOR_COUNT = 5;
+
+    @Autowired
+    private BotPostService botPostService;
+
+    @MockitoBean
+    private AiRequestExecutor aiRequestExecutor;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<Member> authors = MemberFixture.createMembers(AUTHOR_COUNT);
+        authors.forEach(em::persist);
+        for (Member author : authors) {
+            em.persist(Post.builder()
+                    .member(author)
+                    .boardType(Post.BoardType.JEJU_1)
+                    .content(author.getNickname() + "의 게시글")
+                    .build());
+        }
+
+        // 영속성 컨텍스트에 남은 엔티티로 지연 로딩 쿼리가 가려지지 않도록 비운다
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("AI 서버 요청을 조립할 때 작성자를 게시글마다 조회하지 않는다")
+    void createBotPost_DoesNotLoadAuthorPerPost() {
+        // given
+        AtomicLong statementsBeforeAiCall = new AtomicLong(-1);
+        when(aiRequestExecutor.execute(any(), any())).thenAnswer(invocation -> {
+            statementsBeforeAiCall.set(statistics.getPrepareStatementCount());
+            return Mono.empty();
+        });
+        statistics.clear();
+
+        // when
+        botPostService.createBotPost(Post.BoardType.JEJU_1);
+
+        // then
+        assertThat(statementsBeforeAiCall.get()).isEqualTo(1);
+        assertThat(statistics.getEntityStatistics(Member.class.getName()).getFetchCount()).isZero();
+    }
+}
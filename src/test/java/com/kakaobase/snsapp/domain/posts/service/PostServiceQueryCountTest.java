@@ -0,0 +1,167 @@
+package com.kakaobase.snsapp.domain.posts.service;
+
+import com.kakaobase.snsapp.annotation.QueryCountTest;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.entity.PostLike;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 조회 쿼리 수 테스트
+ *
+ * 게시글 목록/상세 조립 시 작성자 수와 무관하게 쿼리 수가 고정되고
+ * 작성자를 게시글마다 지연 로딩하지 않는지 검증
+ */
+@QueryCountTest
+@Transactional
+@DisplayName("게시글 조회 쿼리 수 테스트")
+class PostServiceQueryCountTest {
+
+    private static final int AUTHOR_COUNT = 8;
+    private static final int MAX_STATEMENTS_PER_PAGE = 5;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member viewer;
+    private List<Member> authors;
+    private List<Post> posts;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        viewer = MemberFixture.createMemberWithNickname("viewer");
+        em.persist(viewer);
+
+        authors = MemberFixture.createMembers(AUTHOR_COUNT);
+        authors.forEach(em::persist);
+
+        // 작성자마다 게시글 하나씩, viewer 는 모든 게시글에 좋아요
+        posts = new ArrayList<>();
+        for (Member author : authors) {
+            Post post = Post.builder()
+                    .member(author)
+                    .boardType(Post.BoardType.ALL)
+                    .content(author.getNickname() + "의 게시글")
+                    .build();
+            em.persist(post);
+            em.persist(new PostLike(viewer, post));
+            posts.add(post);
+        }
+
+        // 영속성 컨텍스트에 남은 엔티티로 지연 로딩 쿼리가 가려지지 않도록 비운다
+        em.flush();
+        em.clear();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("좋아요한 게시글 목록은 작성자를 한 번의 쿼리로 함께 조회한다")
+    void getLikedPostList_BatchesAuthors() {
+        // given
+        statistics.clear();
+
+        // when
+        List<PostResponseDto.PostDetails> response = postService.getLikedPostList(AUTHOR_COUNT, null, viewer.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(memberFetchCount()).isZero();
+        assertThat(response).hasSize(AUTHOR_COUNT);
+        assertThat(response).extracting(details -> details.user().nickname())
+                .containsExactlyInAnyOrderElementsOf(authors.stream().map(Member::getNickname).toList());
+    }
+
+    @Test
+    @DisplayName("게시판 게시글 목록은 fetch join 한 작성자를 다시 조회하지 않는다")
+    void getPostList_DoesNotReloadFetchedAuthors() {
+        // given
+        statistics.clear();
+
+        // when
+        List<PostResponseDto.PostDetails> response = postService.getPostList("all", AUTHOR_COUNT, null, viewer.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE - 1);
+        assertThat(memberFetchCount()).isZero();
+        assertThat(response).hasSize(AUTHOR_COUNT);
+    }
+
+    @Test
+    @DisplayName("유저 게시글 목록은 작성자를 게시글마다 조회하지 않는다")
+    void getUserPostList_DoesNotLoadAuthorPerPost() {
+        // given
+        Member author = authors.get(0);
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            em.persist(Post.builder()
+                    .member(em.getReference(Member.class, author.getId()))
+                    .boardType(Post.BoardType.ALL)
+                    .content("유저 게시글 " + i)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        // when
+        List<PostResponseDto.PostDetails> response = postService.getUserPostList(AUTHOR_COUNT, null, author.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(memberFetchCount()).isZero();
+        assertThat(response).hasSize(AUTHOR_COUNT);
+        assertThat(response).allSatisfy(details -> assertThat(details.user().nickname()).isEqualTo(author.getNickname()));
+    }
+
+    @Test
+    @DisplayName("게시글 상세는 작성자를 지연 로딩하지 않고 회원 로더로 조회한다")
+    void getPostDetail_LoadsAuthorWithLoader() {
+        // given
+        Post post = posts.get(0);
+        statistics.clear();
+
+        // when
+        PostResponseDto.PostDetails response = postService.getPostDetail(post.getId(), viewer.getId());
+
+        // then
+        assertThat(memberFetchCount()).isZero();
+        assertThat(response.user().nickname()).isEqualTo(authors.get(0).getNickname());
+    }
+
+    private long memberFetchCount() {
+        return statistics.getEntityStatistics(Member.class.getName()).getFetchCount();
+    }
+}
@@ -4,6 +4,7 @@ import com.kakaobase.snsapp.domain.members.entity.Member;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.IntStream;
 
 /**
@@ -63,6 +64,36 @@ public class MemberFixture {
                 .build();
     }
 
+    /**
+     * 이메일이 겹치지 않는 Member 객체 생성
+     * 회원 삭제는 soft delete 라서 커밋하는(비트랜잭션) 테스트에서 같은 이메일로 다시 저장하면
+     * 유니크 제약에 걸리므로, 이메일에 임의 값을 붙여 테스트 메서드마다 새 회원을 만들 수 있게 합니다
+     *
+     * @param nickname 설정할 닉네임
+     * @return 이메일이 고유한 Member 객체
+     */
+    public static Member createMemberWithUniqueEmail(String nickname) {
+        return createMemberWithUniqueEmail(nickname, DEFAULT_CLASS_NAME);
+    }
+
+    /**
+     * 이메일이 겹치지 않고 기수가 지정된 Member 객체 생성
+     *
+     * @param nickname 설정할 닉네임
+     * @param className 설정할 기수
+     * @return 이메일이 고유한 Member 객체
+     */
+    public static Member createMemberWithUniqueEmail(String nickname, Member.ClassName className) {
+        return Member.builder()
+                .email(nickname + "." + UUID.randomUUID() + "@example.com")
+                .name(DEFAULT_NAME)
+                .nickname(nickname)
+                .password(DEFAULT_PASSWORD)
+                .className(className)
+                .githubUrl("https://github.com/" + nickname)
+                .build();
+    }
+
     /**
      * 지정된 이메일을 가진 Member 객체 생성
      * ID는 저장 시점에 자동 생성됩니다
@@ -0,0 +1,199 @@
+package com.kakaobase.snsapp.global.common.client;
+
+import com.kakaobase.snsapp.global.common.constant.AiEndpoint;
+import com.kakaobase.snsapp.global.error.exception.AiServerException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 서버 요청 실행기 테스트
+ *
+ * 가짜 시계와 스케줄러로 시간을 직접 흘려 보내며
+ * p99 기반 타임아웃의 하한/상한 보정, p95 이후의 헤지 요청, 윈도우 단위 헤지 비율 제한을 검증
+ */
+@DisplayName("AI 서버 요청 실행기 테스트")
+class AiRequestExecutorTest {
+
+    private static final AiEndpoint ENDPOINT = AiEndpoint.YOUTUBE_SUMMARY;
+    private static final long FLOOR_MILLIS = 100;
+    private static final long CEILING_MILLIS = 1_000;
+    private static final int MIN_SAMPLES = 20;
+
+    private ManualScheduler scheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private AiRequestExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("ai.client.youtube-summary.timeout-floor-millis", String.valueOf(FLOOR_MILLIS))
+                .withProperty("ai.client.youtube-summary.timeout-ceiling-millis", String.valueOf(CEILING_MILLIS));
+        scheduler = new ManualScheduler();
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new AiRequestExecutor(environment, meterRegistry, scheduler, scheduler::nanoTime);
+        executor.init();
+    }
+
+    @Test
+    @DisplayName("표본이 부족하면 타임아웃 상한을 사용한다")
+    void currentTimeout_NotEnoughSamples_UsesCeiling() {
+        // given
+        recordResponses(MIN_SAMPLES - 1, 10);
+
+        // when & then
+        assertThat(executor.currentTimeout(ENDPOINT)).isEqualTo(Duration.ofMillis(CEILING_MILLIS));
+    }
+
+    @Test
+    @DisplayName("p99 × 1.5 가 하한보다 작으면 하한을 사용한다")
+    void currentTimeout_BelowFloor_ClampsToFloor() {
+        // given
+        recordResponses(MIN_SAMPLES, 10);
+
+        // when & then
+        assertThat(executor.currentTimeout(ENDPOINT)).isEqualTo(Duration.ofMillis(FLOOR_MILLIS));
+    }
+
+    @Test
+    @DisplayName("p99 × 1.5 가 상한보다 크면 상한을 사용한다")
+    void currentTimeout_AboveCeiling_ClampsToCeiling() {
+        // given
+        recordResponses(MIN_SAMPLES, 900);
+
+        // when & then
+        assertThat(executor.currentTimeout(ENDPOINT)).isEqualTo(Duration.ofMillis(CEILING_MILLIS));
+    }
+
+    @Test
+    @DisplayName("하한과 상한 사이이면 p99 × 1.5 를 사용한다")
+    void currentTimeout_BetweenBounds_UsesScaledP99() {
+        // given
+        recordResponses(MIN_SAMPLES, 200);
+
+        // when & then (p99 는 200ms 가 속한 버킷의 상한값, 최대 10% 오차)
+        assertThat(executor.currentTimeout(ENDPOINT).toMillis()).isBetween(300L, 330L);
+    }
+
+    @Test
+    @DisplayName("타임아웃까지 응답이 없으면 AiServerException 으로 실패한다")
+    void execute_NoResponse_FailsWithAiServerException() {
+        // given
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        executor.execute(ENDPOINT, Mono::never).subscribe(response -> { }, error::set);
+
+        // when
+        scheduler.advanceTimeBy(Duration.ofMillis(CEILING_MILLIS - 1));
+        Throwable beforeTimeout = error.get();
+        scheduler.advanceTimeBy(Duration.ofMillis(1));
+
+        // then
+        assertThat(beforeTimeout).isNull();
+        assertThat(error.get()).isInstanceOf(AiServerException.class);
+    }
+
+    @Test
+    @DisplayName("p95 지연이 지나기 전에는 헤지 요청을 보내지 않고 지난 뒤 한 번 보낸다")
+    void executeHedged_AfterP95_SendsOneHedge() {
+        // given
+        recordResponses(MIN_SAMPLES, 100);
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicReference<String> result = new AtomicReference<>();
+        executor.executeHedged(ENDPOINT, () -> subscriptions.incrementAndGet() == 1
+                ? Mono.<String>never()
+                : Mono.just("hedge")).subscribe(result::set);
+
+        // when & then (p95 는 100ms 가 속한 버킷의 상한값, 100~110ms)
+        scheduler.advanceTimeBy(Duration.ofMillis(99));
+        assertThat(subscriptions.get()).isEqualTo(1);
+        assertThat(result.get()).isNull();
+
+        scheduler.advanceTimeBy(Duration.ofMillis(11));
+        assertThat(subscriptions.get()).isEqualTo(2);
+        assertThat(result.get()).isEqualTo("hedge");
+    }
+
+    @Test
+    @DisplayName("표본이 부족하면 헤지 요청을 보내지 않는다")
+    void executeHedged_NotEnoughSamples_DoesNotHedge() {
+        // given
+        recordResponses(MIN_SAMPLES - 1, 100);
+        AtomicInteger subscriptions = new AtomicInteger();
+        executor.executeHedged(ENDPOINT, () -> {
+            subscriptions.incrementAndGet();
+            return Mono.<String>never();
+        }).subscribe(response -> { }, error -> { });
+
+        // when
+        scheduler.advanceTimeBy(Duration.ofMillis(CEILING_MILLIS - 1));
+
+        // then
+        assertThat(subscriptions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤지 요청은 전체 요청 수의 10% 를 넘지 않는다")
+    void executeHedged_CapsHedgeRatio() {
+        // given (표본 20건 + 헤지 대상 10건 = 전체 30건, 헤지 허용 3건)
+        recordResponses(MIN_SAMPLES, 100);
+        AtomicInteger subscriptions = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            executor.executeHedged(ENDPOINT, () -> {
+                subscriptions.incrementAndGet();
+                return Mono.<String>never();
+            }).subscribe(response -> { }, error -> { });
+        }
+
+        // when
+        scheduler.advanceTimeBy(Duration.ofMillis(110));
+
+        // then
+        assertThat(subscriptions.get()).isEqualTo(10 + 3);
+        assertThat(meterRegistry.get("ai.client.hedged.requests")
+                .tag("endpoint", ENDPOINT.getKey())
+                .gauge()
+                .value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("지난 윈도우의 쓰지 않은 헤지 허용량은 이월되지 않는다")
+    void executeHedged_UnusedBudgetExpires() {
+        // given (헤지 없이 200건을 처리한 뒤 두 윈도우가 지남)
+        recordResponses(200, 100);
+        scheduler.advanceTimeBy(Duration.ofMinutes(2));
+        recordResponses(MIN_SAMPLES, 100);
+        AtomicInteger subscriptions = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            executor.executeHedged(ENDPOINT, () -> {
+                subscriptions.incrementAndGet();
+                return Mono.<String>never();
+            }).subscribe(response -> { }, error -> { });
+        }
+
+        // when
+        scheduler.advanceTimeBy(Duration.ofMillis(110));
+
+        // then (최근 윈도우 30건의 10% 만 허용)
+        assertThat(subscriptions.get()).isEqualTo(10 + 3);
+    }
+
+    /**
+     * 주어진 지연 시간 뒤 응답하는 요청을 차례로 실행하여 지연 시간 표본을 쌓습니다.
+     */
+    private void recordResponses(int count, long latencyMillis) {
+        for (int i = 0; i < count; i++) {
+            executor.execute(ENDPOINT, () -> Mono.delay(Duration.ofMillis(latencyMillis), scheduler).thenReturn("ok"))
+                    .subscribe();
+            scheduler.advanceTimeBy(Duration.ofMillis(latencyMillis));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.kakaobase.snsapp.global.common.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연 시간 히스토그램 테스트
+ *
+ * 백분위가 버킷 상한값(약 10% 오차)으로 근사되고,
+ * 윈도우가 지나면 직전 윈도우까지만 표본으로 사용하는지 가짜 시계로 검증
+ */
+@DisplayName("지연 시간 히스토그램 테스트")
+class LatencyHistogramTest {
+
+    private static final long WINDOW_MILLIS = 1_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram(WINDOW_MILLIS, clock::get);
+    }
+
+    @Test
+    @DisplayName("표본이 없으면 백분위는 -1 이다")
+    void percentile_Empty_ReturnsMinusOne() {
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.percentile(0.99)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("백분위는 해당 순위 표본이 속한 버킷의 상한값이다")
+    void percentile_ReturnsBucketUpperBound() {
+        // given
+        for (long millis = 1; millis <= 100; millis++) {
+            histogram.record(millis);
+        }
+
+        // when & then
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.percentile(0.5)).isBetween(50L, 55L);
+        assertThat(histogram.percentile(0.95)).isBetween(95L, 105L);
+        assertThat(histogram.percentile(0.99)).isBetween(99L, 109L);
+        assertThat(histogram.percentile(1.0)).isBetween(100L, 110L);
+    }
+
+    @Test
+    @DisplayName("윈도우가 한 번 지나면 직전 윈도우 표본을 함께 사용하고 두 번 지나면 버린다")
+    void count_RotatesWindows() {
+        // given
+        histogram.record(10);
+
+        // when & then
+        advance(WINDOW_MILLIS);
+        histogram.record(20);
+        assertThat(histogram.count()).isEqualTo(2);
+
+        advance(WINDOW_MILLIS);
+        assertThat(histogram.count()).isEqualTo(1);
+        assertThat(histogram.percentile(1.0)).isBetween(20L, 22L);
+
+        advance(2 * WINDOW_MILLIS);
+        assertThat(histogram.count()).isZero();
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
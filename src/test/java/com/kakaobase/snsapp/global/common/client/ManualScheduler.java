@@ -0,0 +1,126 @@
+package com.kakaobase.snsapp.global.common.client;
+
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트용 수동 스케줄러
+ *
+ * 시간은 {@link #advanceTimeBy(Duration)} 를 호출할 때만 흐르고,
+ * 예약된 작업은 호출한 스레드에서 예약 시각 순서대로 실행됨
+ * ({@link #nanoTime()} 을 시계로 함께 사용하여 지연 시간 측정도 결정적으로 만듦)
+ */
+class ManualScheduler implements Scheduler {
+
+    private final PriorityQueue<Task> tasks = new PriorityQueue<>();
+    private long nanos;
+    private long sequence;
+
+    /**
+     * 현재 가상 시각(나노초)을 반환합니다.
+     */
+    long nanoTime() {
+        return nanos;
+    }
+
+    /**
+     * 가상 시각을 앞당기고 그 사이 예약된 작업을 실행합니다.
+     *
+     * @param duration 앞당길 시간
+     */
+    void advanceTimeBy(Duration duration) {
+        long target = nanos + duration.toNanos();
+        Task task;
+        while ((task = tasks.peek()) != null && task.dueAt <= target) {
+            tasks.poll();
+            nanos = task.dueAt;
+            if (!task.disposed) {
+                task.runnable.run();
+            }
+        }
+        nanos = target;
+    }
+
+    @Override
+    public Disposable schedule(Runnable runnable) {
+        return schedule(runnable, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Disposable schedule(Runnable runnable, long delay, TimeUnit unit) {
+        Task task = new Task(nanos + unit.toNanos(delay), sequence++, runnable);
+        if (delay <= 0) {
+            runnable.run();
+            task.disposed = true;
+            return task;
+        }
+        tasks.add(task);
+        return task;
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        return unit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new Worker() {
+            private boolean disposed;
+
+            @Override
+            public Disposable schedule(Runnable runnable) {
+                return ManualScheduler.this.schedule(runnable);
+            }
+
+            @Override
+            public Disposable schedule(Runnable runnable, long delay, TimeUnit unit) {
+                return ManualScheduler.this.schedule(runnable, delay, unit);
+            }
+
+            @Override
+            public void dispose() {
+                disposed = true;
+            }
+
+            @Override
+            public boolean isDisposed() {
+                return disposed;
+            }
+        };
+    }
+
+    private static final class Task implements Disposable, Comparable<Task> {
+
+        private final long dueAt;
+        private final long sequence;
+        private final Runnable runnable;
+        private boolean disposed;
+
+        private Task(long dueAt, long sequence, Runnable runnable) {
+            this.dueAt = dueAt;
+            this.sequence = sequence;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            int byDue = Long.compare(dueAt, other.dueAt);
+            return byDue != 0 ? byDue : Long.compare(sequence, other.sequence);
+        }
+    }
+}
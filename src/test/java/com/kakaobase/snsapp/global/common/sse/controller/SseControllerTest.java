@@ -0,0 +1,51 @@
+package com.kakaobase.snsapp.global.common.sse.controller;
+
+import com.kakaobase.snsapp.annotation.SecurityTest;
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SSE 구독 API 테스트
+ *
+ * 인증 정보가 없는 요청은 스트림을 열지 않고 401 로 응답하고,
+ * 로그인한 요청만 비동기 스트림을 시작하는지 검증
+ */
+@SecurityTest
+@DisplayName("SSE 구독 API 테스트")
+class SseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("로그인하지 않은 요청은 401 로 응답한다")
+    void subscribe_Unauthenticated_Returns401() throws Exception {
+        mockMvc.perform(get("/api/sse/subscribe").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("로그인한 요청은 이벤트 스트림을 시작한다")
+    void subscribe_Authenticated_StartsStream() throws Exception {
+        // given
+        CustomUserDetails userDetails = new CustomUserDetails("7", "USER", "PANGYO_2", true);
+
+        // when & then
+        mockMvc.perform(get("/api/sse/subscribe")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .with(authentication(new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities()))))
+                .andExpect(request().asyncStarted());
+    }
+}
@@ -0,0 +1,84 @@
+package com.kakaobase.snsapp.global.common.sse.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * SSE 구독 레지스트리 테스트
+ *
+ * 같은 회원의 연결이 동시에 열리고 닫혀도 구독이 지워진 집합에 남지 않아
+ * 마지막에 열린 연결이 이벤트를 받는지 검증
+ */
+@DisplayName("SSE 구독 레지스트리 테스트")
+class SseSubscriptionRegistryTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private SseSubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SseSubscriptionRegistry();
+    }
+
+    @Test
+    @DisplayName("마지막 연결이 닫힌 뒤 새로 연 연결도 이벤트를 받는다")
+    void subscribe_AfterLastConnectionClosed_ReceivesEvents() {
+        // given
+        registry.subscribe(MEMBER_ID).subscribe().dispose();
+        List<String> received = new CopyOnWriteArrayList<>();
+        Disposable connection = registry.subscribe(MEMBER_ID)
+                .subscribe(event -> received.add(event.event()));
+
+        // when
+        registry.send(MEMBER_ID, "bot_recomment", "data");
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.contains("bot_recomment"));
+        assertThat(registry.getConnectionCount()).isEqualTo(1);
+        connection.dispose();
+    }
+
+    @Test
+    @DisplayName("같은 회원의 연결이 동시에 열리고 닫혀도 닫힌 연결이 연결 수에 남지 않는다")
+    void subscribe_ConcurrentOpenClose_DoesNotOrphanSubscriptions() throws Exception {
+        // given
+        int threads = 8;
+        int rounds = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < rounds; i++) {
+                    registry.subscribe(MEMBER_ID).subscribe().dispose();
+                }
+                done.countDown();
+            });
+        }
+
+        // when
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        assertThat(registry.getConnectionCount()).isZero();
+        List<String> received = new CopyOnWriteArrayList<>();
+        Disposable connection = registry.subscribe(MEMBER_ID)
+                .subscribe(event -> received.add(event.event()));
+        registry.send(MEMBER_ID, "bot_recomment", "data");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.contains("bot_recomment"));
+        connection.dispose();
+    }
+}
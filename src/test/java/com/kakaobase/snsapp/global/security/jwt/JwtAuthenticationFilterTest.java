@@ -0,0 +1,176 @@
+package com.kakaobase.snsapp.global.security.jwt;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.global.common.cache.LocalCacheInvalidationBus;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 인증 필터 테스트
+ *
+ * DB 조회 없이 토큰 클레임(role, class_name)만으로 인증 객체를 만들고,
+ * 차단된 회원의 차단 이전 토큰은 거부하되 이후 발급된 토큰은 허용하며,
+ * 같은 토큰은 검증 캐시에 적중하되 로그아웃/차단된 토큰은 캐시에 적중해도 인증하지 않는지 검증
+ */
+@DisplayName("JWT 인증 필터 테스트")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-filter-testing-with-sufficient-length-to-meet-requirements";
+    private static final long ACCESS_TOKEN_VALIDITY = 1800000L;
+
+    private JwtUtil jwtUtil;
+    private JwtTokenProvider jwtTokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private AccessTokenDenyList accessTokenDenyList;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, ACCESS_TOKEN_VALIDITY);
+        verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), 100);
+        accessTokenDenyList = new AccessTokenDenyList(new LocalCacheInvalidationBus(), verifiedTokenCache, ACCESS_TOKEN_VALIDITY);
+        filter = new JwtAuthenticationFilter(jwtUtil, new JwtTokenValidator(jwtUtil), accessTokenDenyList, verifiedTokenCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("토큰 클레임으로 인증 객체를 만든다")
+    void doFilter_ValidToken_AuthenticatesFromClaims() throws Exception {
+        // given
+        String token = jwtTokenProvider.createAccessToken(new CustomUserDetails("7", "USER", "PANGYO_2", true));
+
+        // when
+        doFilter(token);
+
+        // then
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(auth).isNotNull();
+        CustomUserDetails userDetails = (CustomUserDetails) auth.getPrincipal();
+        assertThat(userDetails.getId()).isEqualTo("7");
+        assertThat(userDetails.getRole()).isEqualTo("USER");
+        assertThat(userDetails.getClassName()).isEqualTo("PANGYO_2");
+        assertThat(userDetails.isEnabled()).isTrue();
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("차단된 회원의 기존 토큰은 인증하지 않는다")
+    void doFilter_DeniedMember_NotAuthenticated() throws Exception {
+        // given
+        String token = jwtTokenProvider.createAccessToken(new CustomUserDetails("8", "USER", "PANGYO_2", true));
+        accessTokenDenyList.deny(8L);
+
+        // when
+        doFilter(token);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("차단 이후 발급된 토큰은 인증한다")
+    void doFilter_TokenIssuedAfterDeny_Authenticated() throws Exception {
+        // given
+        accessTokenDenyList.deny(9L);
+        Date issuedAt = new Date(System.currentTimeMillis() + 2000);
+        String token = Jwts.builder()
+                .setSubject("9")
+                .claim("role", "USER")
+                .claim("class_name", "PANGYO_2")
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + ACCESS_TOKEN_VALIDITY))
+                .signWith(jwtUtil.getSecretKey(), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        doFilter(token);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 두 번째 요청은 검증 캐시에 적중한다")
+    void doFilter_SameToken_CacheHit() throws Exception {
+        // given
+        String token = jwtTokenProvider.createAccessToken(new CustomUserDetails("10", "USER", "PANGYO_2", true));
+        doFilter(token);
+        SecurityContextHolder.clearContext();
+
+        // when
+        doFilter(token);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(verifiedTokenCache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 검증 캐시에 남아 있어도 인증하지 않고 같은 회원의 다른 토큰은 인증한다")
+    void doFilter_CachedTokenAfterLogout_NotAuthenticated() throws Exception {
+        // given
+        String token = jwtTokenProvider.createAccessToken(new CustomUserDetails("11", "USER", "PANGYO_2", true));
+        Date issuedAt = new Date(System.currentTimeMillis() - 1000);
+        String otherDeviceToken = Jwts.builder()
+                .setSubject("11")
+                .claim("role", "USER")
+                .claim("class_name", "PANGYO_2")
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + ACCESS_TOKEN_VALIDITY))
+                .signWith(jwtUtil.getSecretKey(), SignatureAlgorithm.HS256)
+                .compact();
+        doFilter(token);
+        SecurityContextHolder.clearContext();
+
+        // when
+        accessTokenDenyList.denyToken(token);
+        doFilter(token);
+        Authentication loggedOut = SecurityContextHolder.getContext().getAuthentication();
+        doFilter(otherDeviceToken);
+
+        // then
+        assertThat(loggedOut).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 회원이 차단되면 인증하지 않는다")
+    void doFilter_CachedTokenOfDeniedMember_NotAuthenticated() throws Exception {
+        // given
+        String token = jwtTokenProvider.createAccessToken(new CustomUserDetails("12", "USER", "PANGYO_2", true));
+        doFilter(token);
+        SecurityContextHolder.clearContext();
+
+        // when
+        accessTokenDenyList.deny(12L);
+        doFilter(token);
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private void doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
@@ -0,0 +1,69 @@
+package com.kakaobase.snsapp.global.security.jwt;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT Access Token 생성 테스트
+ *
+ * 미리 인코딩한 헤더와 직접 조립한 페이로드로 만든 토큰이 JJWT 로 만든 토큰과 같은 형식이며,
+ * 서명 검증과 클레임 추출(특수 문자, null 클레임 포함)이 그대로 동작하는지 검증
+ */
+@DisplayName("JWT Access Token 생성 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-provider-testing-with-sufficient-length-to-meet-requirements";
+    private static final long ACCESS_TOKEN_VALIDITY = 1800000L;
+
+    private JwtUtil jwtUtil;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, ACCESS_TOKEN_VALIDITY);
+    }
+
+    @Test
+    @DisplayName("JJWT 로 만든 토큰과 같은 헤더를 사용하고 서명이 검증된다")
+    void createAccessToken_SameHeaderAsJjwt() {
+        // given
+        String jjwtToken = Jwts.builder()
+                .setSubject("7")
+                .setIssuedAt(new Date())
+                .signWith(jwtUtil.getSecretKey(), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        String token = jwtTokenProvider.createAccessToken(new CustomUserDetails("7", "USER", "PANGYO_2", true));
+
+        // then
+        assertThat(token.substring(0, token.indexOf('.'))).isEqualTo(jjwtToken.substring(0, jjwtToken.indexOf('.')));
+        Claims claims = new JwtTokenValidator(jwtUtil).validateAndGetClaims(token);
+        assertThat(claims.getSubject()).isEqualTo("7");
+        assertThat(claims.get("role", String.class)).isEqualTo("USER");
+        assertThat(claims.get("class_name", String.class)).isEqualTo("PANGYO_2");
+        assertThat(claims.getExpiration().getTime() - claims.getIssuedAt().getTime()).isEqualTo(ACCESS_TOKEN_VALIDITY);
+    }
+
+    @Test
+    @DisplayName("특수 문자는 JSON 으로 이스케이프하고 null 클레임은 생략한다")
+    void createAccessToken_EscapesAndOmitsNull() {
+        // when
+        String token = jwtTokenProvider.createAccessToken(new CustomUserDetails("8", "\"ADMIN\"\\\n한글", null, true));
+
+        // then
+        Claims claims = jwtUtil.getClaims(token);
+        assertThat(claims.get("role", String.class)).isEqualTo("\"ADMIN\"\\\n한글");
+        assertThat(claims).doesNotContainKey("class_name");
+    }
+}
@@ -0,0 +1,272 @@
+package com.kakaobase.snsapp.loadtest;
+
+import com.kakaobase.snsapp.domain.comments.dto.CommentRequestDto;
+import com.kakaobase.snsapp.domain.comments.service.CommentService;
+import com.kakaobase.snsapp.domain.members.entity.Member;
+import com.kakaobase.snsapp.domain.members.repository.MemberRepository;
+import com.kakaobase.snsapp.domain.posts.dto.PostRequestDto;
+import com.kakaobase.snsapp.domain.posts.dto.PostResponseDto;
+import com.kakaobase.snsapp.domain.posts.entity.Post;
+import com.kakaobase.snsapp.domain.posts.service.PostService;
+import com.kakaobase.snsapp.fixture.members.MemberFixture;
+import com.kakaobase.snsapp.stub.StubAiServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.kakaobase.snsapp.global.common.cache.TransactionCallbacks.afterCommit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 연동 비동기 파이프라인 부하 테스트
+ *
+ * StubAiServer 를 AI 서버로 사용하여 게시글(유튜브 요약)/봇 게시글 댓글(봇 대댓글)을 대량 생성하고
+ * 다음 지표를 리포트한다.
+ * - 라우트별 AI 호출 처리량, 에러/타임아웃 수, 최대 동시 요청 수
+ * - 큐잉 지연 (게시글 트랜잭션 커밋 콜백 시점 → AI 서버 요청 도착 시점)
+ * - DB 커넥션 풀 점유율, 비동기 executor 큐 길이
+ *
+ * 일반 빌드에서는 실행되지 않으며 아래처럼 명시적으로 실행한다.
+ * ./gradlew test --tests "*AiPipelineLoadTest" -Dloadtest=true
+ * 옵션: -Dloadtest.posts=200 -Dloadtest.comments=100 -Dloadtest.concurrency=16 -Dloadtest.pool=10
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("AI 파이프라인 부하 테스트")
+class AiPipelineLoadTest {
+
+    private static final int POST_COUNT = Integer.getInteger("loadtest.posts", 200);
+    private static final int COMMENT_COUNT = Integer.getInteger("loadtest.comments", 100);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+    private static final long DRAIN_TIMEOUT_SECONDS = 180;
+
+    private static final StubAiServer aiServer = new StubAiServer().start();
+
+    @DynamicPropertySource
+    static void aiServerProperties(DynamicPropertyRegistry registry) {
+        registry.add("ai.server.url", aiServer::getBaseUrl);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> Integer.getInteger("loadtest.pool", 10));
+    }
+
+    @AfterAll
+    static void stopAiServer() {
+        aiServer.stop();
+    }
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    private final List<Integer> activeConnectionSamples = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> pendingConnectionSamples = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> executorQueueSamples = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        aiServer.reset();
+        aiServer.configure(StubAiServer.YOUTUBE_SUMMARY, StubAiServer.RouteBehavior.of(
+                StubAiServer.LatencyDistribution.logNormal(800, 0.6), 0.05, 0.01));
+        aiServer.configure(StubAiServer.BOT_POST, StubAiServer.RouteBehavior.of(
+                StubAiServer.LatencyDistribution.logNormal(1500, 0.5), 0.02, 0.0));
+        aiServer.configure(StubAiServer.BOT_RECOMMENT, StubAiServer.RouteBehavior.of(
+                StubAiServer.LatencyDistribution.logNormal(1200, 0.5), 0.02, 0.0));
+    }
+
+    @Test
+    @DisplayName("게시글/댓글 대량 생성 시 AI 호출 처리량과 자원 점유를 리포트한다")
+    void aiPipeline_UnderLoad_Report() throws Exception {
+        // given
+        List<Member> members = memberRepository.saveAll(MemberFixture.createMembers(CONCURRENCY));
+        Member bot = MemberFixture.createMemberWithNickname("loadtest_bot");
+        bot.updateRole(Member.Role.BOT);
+        bot = memberRepository.save(bot);
+
+        PostResponseDto.PostDetails botPost = postService.createPost(
+                Post.BoardType.ALL,
+                new PostRequestDto.PostCreateRequestDto("봇 게시글", null, null),
+                bot.getId());
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(this::sampleResources, 0, 100, TimeUnit.MILLISECONDS);
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        Map<String, Long> committedAtNanos = new ConcurrentHashMap<>();
+
+        // when
+        long startedAt = System.nanoTime();
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            final int index = i;
+            final Long memberId = members.get(i % members.size()).getId();
+            clients.submit(() -> {
+                String youtubeUrl = "https://www.youtube.com/watch?v=loadtest" + index;
+                // 요약 요청을 예약하는 커밋 콜백보다 먼저 등록하여 커밋 직후 시각을 기록
+                transactionTemplate.executeWithoutResult(status -> {
+                    afterCommit(() -> committedAtNanos.put(youtubeUrl, System.nanoTime()));
+                    postService.createPost(
+                            Post.BoardType.ALL,
+                            new PostRequestDto.PostCreateRequestDto("부하 테스트 " + index, null, youtubeUrl),
+                            memberId);
+                });
+            });
+        }
+
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            final int index = i;
+            final Long memberId = members.get(i % members.size()).getId();
+            clients.submit(() -> commentService.createComment(
+                    memberId,
+                    botPost.id(),
+                    new CommentRequestDto.CreateCommentRequest("부하 테스트 댓글 " + index, null)));
+        }
+
+        clients.shutdown();
+        clients.awaitTermination(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        long submittedAt = System.nanoTime();
+
+        awaitDrain(StubAiServer.YOUTUBE_SUMMARY, POST_COUNT);
+        awaitDrain(StubAiServer.BOT_RECOMMENT, COMMENT_COUNT);
+        long drainedAt = System.nanoTime();
+
+        sampler.shutdownNow();
+
+        // then
+        List<Long> queueDelaysMillis = aiServer.getReceivedRequests().stream()
+                .filter(r -> r.route().equals(StubAiServer.YOUTUBE_SUMMARY))
+                .map(r -> {
+                    Long committed = committedAtNanos.get(extractUrl(r.body()));
+                    return committed == null ? null : TimeUnit.NANOSECONDS.toMillis(r.arrivedAtNanos() - committed);
+                })
+                .toList();
+
+        report(startedAt, submittedAt, drainedAt,
+                queueDelaysMillis.stream().filter(Objects::nonNull).sorted().toList());
+
+        // 모든 요약 요청이 커밋 시각과 짝지어지고 커밋 이후에 도착해야 한다 (표본을 버리지 않음)
+        assertThat(committedAtNanos).hasSize(POST_COUNT);
+        assertThat(queueDelaysMillis)
+                .as("커밋 시각이 없는 요약 요청")
+                .doesNotContainNull();
+        assertThat(queueDelaysMillis)
+                .as("커밋 이전에 도착한 요약 요청")
+                .allSatisfy(delay -> assertThat(delay).isNotNegative());
+
+        // 유튜브 요약은 헤지 요청이 허용되므로 최대 10%까지 추가 도착할 수 있다
+        assertThat(aiServer.getStats(StubAiServer.YOUTUBE_SUMMARY).getArrivals())
+                .isBetween((long) POST_COUNT, (long) (POST_COUNT * 1.1));
+    }
+
+    private void awaitDrain(String route, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DRAIN_TIMEOUT_SECONDS);
+        StubAiServer.RouteStats stats = aiServer.getStats(route);
+        while (stats.getCompleted() + stats.getTimeouts() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+    }
+
+    private void sampleResources() {
+        if (dataSource instanceof HikariDataSource hikari && hikari.getHikariPoolMXBean() != null) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            activeConnectionSamples.add(pool.getActiveConnections());
+            pendingConnectionSamples.add(pool.getThreadsAwaitingConnection());
+        }
+        if (taskExecutor instanceof ThreadPoolTaskExecutor executor) {
+            executorQueueSamples.add(executor.getThreadPoolExecutor().getQueue().size());
+        }
+    }
+
+    private void report(long startedAt, long submittedAt, long drainedAt, List<Long> queueDelaysMillis) {
+        double elapsedSeconds = (drainedAt - startedAt) / 1_000_000_000.0;
+
+        StringBuilder sb = new StringBuilder("\n===== AI 파이프라인 부하 테스트 결과 =====\n");
+        sb.append(String.format("게시글 %d건, 댓글 %d건, 동시성 %d%n", POST_COUNT, COMMENT_COUNT, CONCURRENCY));
+        sb.append(String.format("요청 제출 %.2fs, 전체 소요 %.2fs%n",
+                (submittedAt - startedAt) / 1_000_000_000.0, elapsedSeconds));
+
+        for (String route : List.of(StubAiServer.YOUTUBE_SUMMARY, StubAiServer.BOT_POST, StubAiServer.BOT_RECOMMENT)) {
+            StubAiServer.RouteStats stats = aiServer.getStats(route);
+            sb.append(String.format("[%s] 도착 %d, 성공 %d, 에러 %d, 타임아웃 %d, 최대 동시 %d, 처리량 %.1f req/s%n",
+                    route, stats.getArrivals(), stats.getSuccesses(), stats.getErrors(), stats.getTimeouts(),
+                    stats.getMaxInFlight(), stats.getCompleted() / elapsedSeconds));
+        }
+
+        sb.append(String.format("큐잉 지연(ms) p50=%d, p95=%d, p99=%d, max=%d%n",
+                percentile(queueDelaysMillis, 0.50), percentile(queueDelaysMillis, 0.95),
+                percentile(queueDelaysMillis, 0.99), percentile(queueDelaysMillis, 1.0)));
+        sb.append(String.format("DB 커넥션 active 평균=%.1f, 최대=%d / 대기 스레드 최대=%d%n",
+                average(activeConnectionSamples), max(activeConnectionSamples), max(pendingConnectionSamples)));
+        sb.append(String.format("비동기 executor 큐 평균=%.1f, 최대=%d%n",
+                average(executorQueueSamples), max(executorQueueSamples)));
+
+        log.info(sb.toString());
+    }
+
+    private static String extractUrl(String body) {
+        int start = body.indexOf("https://");
+        int end = body.indexOf('"', start);
+        return start < 0 || end < 0 ? "" : body.substring(start, end);
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private static double average(List<Integer> samples) {
+        synchronized (samples) {
+            return samples.stream().mapToInt(Integer::intValue).average().orElse(0);
+        }
+    }
+
+    private static int max(List<Integer> samples) {
+        synchronized (samples) {
+            return samples.stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+    }
+}
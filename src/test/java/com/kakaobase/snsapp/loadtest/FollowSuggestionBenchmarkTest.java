@@ -0,0 +1,149 @@
+package com.kakaobase.snsapp.loadtest;
+
+import com.kakaobase.snsapp.domain.follow.util.MutualFollowRanker;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로우 추천(함께 아는 친구) 계산 벤치마크
+ *
+ * 인기 회원에게 팔로우가 몰리는 합성 팔로우 그래프(기본 10만 명 / 500만 팔로우)를 메모리에 만들고,
+ * 팔로우 그래프 캐시와 같은 정렬된 long 배열로 회원별 추천 순위를 계산하는 시간을 리포트한다.
+ * 일부 회원은 해시맵으로 센 결과와 비교하여 함께 아는 친구 수가 정확한지 함께 검증한다.
+ *
+ * 일반 빌드에서는 실행되지 않으며 아래처럼 명시적으로 실행한다.
+ * ./gradlew test --tests "*FollowSuggestionBenchmarkTest" -Dloadtest=true
+ * 옵션: -Dloadtest.members=100000 -Dloadtest.edges=5000000 -Dloadtest.samples=1000
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("팔로우 추천 계산 벤치마크")
+class FollowSuggestionBenchmarkTest {
+
+    private static final int MEMBER_COUNT = Integer.getInteger("loadtest.members", 100_000);
+    private static final long EDGE_COUNT = Long.getLong("loadtest.edges", 5_000_000L);
+    private static final int SAMPLE_COUNT = Integer.getInteger("loadtest.samples", 1000);
+    private static final int COHORT_COUNT = 6;
+    private static final int SUGGESTION_SIZE = 30;
+    private static final int CANDIDATE_FACTOR = 4;
+    private static final int VERIFY_COUNT = 20;
+
+    @Test
+    @DisplayName("10만 명 / 500만 팔로우 그래프에서 회원별 추천 계산 시간을 리포트한다")
+    void mutualFollowRanking_LargeGraph_Report() {
+        // given
+        Random random = new Random(42);
+        long buildStartedAt = System.nanoTime();
+        long[][] followings = buildGraph(random);
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStartedAt);
+        long edges = Arrays.stream(followings).mapToLong(ids -> ids.length).sum();
+
+        // when
+        long[] elapsedMicros = new long[SAMPLE_COUNT];
+        long totalSecondHops = 0;
+        int emptyResults = 0;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            long memberId = random.nextInt(MEMBER_COUNT);
+            long[] memberFollowings = followings[(int) memberId];
+            for (long followingId : memberFollowings) {
+                totalSecondHops += followings[(int) followingId].length;
+            }
+
+            long startedAt = System.nanoTime();
+            List<MutualFollowRanker.Candidate> ranked = suggest(memberId, followings);
+            elapsedMicros[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+
+            if (ranked.isEmpty()) {
+                emptyResults++;
+            }
+            if (i < VERIFY_COUNT) {
+                assertMutualCounts(memberId, followings, ranked);
+            }
+        }
+
+        // then
+        Arrays.sort(elapsedMicros);
+        StringBuilder sb = new StringBuilder("\n===== 팔로우 추천 계산 벤치마크 =====\n");
+        sb.append(String.format("회원 %,d명, 팔로우 %,d개 (그래프 생성 %,d ms)%n", MEMBER_COUNT, edges, buildMillis));
+        sb.append(String.format("샘플 %,d명, 평균 2-hop 후보 %,d개%n", SAMPLE_COUNT, totalSecondHops / SAMPLE_COUNT));
+        sb.append(String.format("계산 시간 p50=%,d us, p90=%,d us, p99=%,d us, max=%,d us%n",
+                percentile(elapsedMicros, 0.50), percentile(elapsedMicros, 0.90),
+                percentile(elapsedMicros, 0.99), elapsedMicros[elapsedMicros.length - 1]));
+        sb.append(String.format("추천 결과가 없는 회원 %d명%n", emptyResults));
+        log.info(sb.toString());
+
+        assertThat(edges).isGreaterThan(EDGE_COUNT * 9 / 10);
+        assertThat(emptyResults).isLessThan(SAMPLE_COUNT);
+    }
+
+    private List<MutualFollowRanker.Candidate> suggest(long memberId, long[][] followings) {
+        List<MutualFollowRanker.Candidate> candidates = MutualFollowRanker.countMutualFollows(
+                memberId, followings[(int) memberId], id -> followings[(int) id], SUGGESTION_SIZE * CANDIDATE_FACTOR);
+        Set<Long> sameCohortIds = candidates.stream()
+                .map(MutualFollowRanker.Candidate::memberId)
+                .filter(id -> id % COHORT_COUNT == memberId % COHORT_COUNT)
+                .collect(Collectors.toSet());
+        return MutualFollowRanker.rank(candidates, sameCohortIds, SUGGESTION_SIZE);
+    }
+
+    /**
+     * 해시맵으로 센 함께 아는 친구 수와 비교
+     */
+    private void assertMutualCounts(long memberId, long[][] followings, List<MutualFollowRanker.Candidate> ranked) {
+        long[] memberFollowings = followings[(int) memberId];
+        Map<Long, Integer> expected = new HashMap<>();
+        for (long followingId : memberFollowings) {
+            for (long candidateId : followings[(int) followingId]) {
+                if (candidateId != memberId && Arrays.binarySearch(memberFollowings, candidateId) < 0) {
+                    expected.merge(candidateId, 1, Integer::sum);
+                }
+            }
+        }
+
+        int maxExpected = expected.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        assertThat(ranked).allSatisfy(candidate ->
+                assertThat(candidate.mutualCount()).isEqualTo(expected.get(candidate.memberId())));
+        if (!ranked.isEmpty()) {
+            assertThat(ranked.get(0).mutualCount()).isEqualTo(maxExpected);
+        }
+    }
+
+    /**
+     * 인기 회원(작은 ID)에게 팔로우가 몰리도록 제곱 분포로 팔로우 대상을 뽑아 회원별 정렬된 팔로잉 배열 생성
+     */
+    private long[][] buildGraph(Random random) {
+        int degree = (int) (EDGE_COUNT / MEMBER_COUNT);
+        long[][] followings = new long[MEMBER_COUNT][];
+        long[] buffer = new long[degree * 2];
+
+        for (int memberId = 0; memberId < MEMBER_COUNT; memberId++) {
+            int size = 0;
+            while (size < buffer.length) {
+                double skewed = random.nextDouble();
+                long target = (long) (skewed * skewed * MEMBER_COUNT);
+                if (target != memberId) {
+                    buffer[size++] = target;
+                }
+            }
+            followings[memberId] = Arrays.stream(buffer).distinct().limit(degree).sorted().toArray();
+        }
+        return followings;
+    }
+
+    private long percentile(long[] sorted, double ratio) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(ratio * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,162 @@
+package com.kakaobase.snsapp.loadtest;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.global.common.cache.LocalCacheInvalidationBus;
+import com.kakaobase.snsapp.global.security.jwt.AccessTokenDenyList;
+import com.kakaobase.snsapp.global.security.jwt.JwtTokenProvider;
+import com.kakaobase.snsapp.global.security.jwt.JwtTokenValidator;
+import com.kakaobase.snsapp.global.security.jwt.JwtUtil;
+import com.kakaobase.snsapp.global.security.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 인증 경로 벤치마크
+ *
+ * 요청마다 JwtParser 를 새로 만들어 검증과 클레임 추출에 토큰을 두 번 파싱하던 기존 경로와,
+ * 공유 JwtParser 로 한 번만 파싱하고 클레임으로 인증 객체를 만드는 경로, 검증된 토큰 캐시에 적중하는 경로의
+ * 토큰당 처리 시간을 비교하여 리포트한다.
+ * 기존 경로의 회원 조회(DB 또는 프로필 캐시)는 현재 경로에서 사라지므로 측정에 포함하지 않는다.
+ *
+ * 일반 빌드에서는 실행되지 않으며 아래처럼 명시적으로 실행한다.
+ * ./gradlew test --tests "*JwtAuthenticationBenchmarkTest" -Dloadtest=true
+ * 옵션: -Dloadtest.tokens=1000 -Dloadtest.samples=100000 -Dloadtest.warmup=20000
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("JWT 인증 경로 벤치마크")
+class JwtAuthenticationBenchmarkTest {
+
+    private static final int TOKEN_COUNT = Integer.getInteger("loadtest.tokens", 1_000);
+    private static final int SAMPLE_COUNT = Integer.getInteger("loadtest.samples", 100_000);
+    private static final int WARMUP_COUNT = Integer.getInteger("loadtest.warmup", 20_000);
+    private static final String SECRET = "loadtest-secret-key-for-jwt-authentication-benchmark-with-sufficient-length";
+    private static final long ACCESS_TOKEN_VALIDITY = 1800000L;
+
+    @Test
+    @DisplayName("토큰 검증 후 인증 객체 생성까지의 시간을 기존 경로와 비교하여 리포트한다")
+    void authenticate_Report() {
+        // given
+        JwtUtil jwtUtil = new JwtUtil(SECRET);
+        JwtTokenValidator jwtTokenValidator = new JwtTokenValidator(jwtUtil);
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), TOKEN_COUNT);
+        AccessTokenDenyList accessTokenDenyList = new AccessTokenDenyList(
+                new LocalCacheInvalidationBus(), verifiedTokenCache, ACCESS_TOKEN_VALIDITY);
+        Function<String, VerifiedTokenCache.VerifiedToken> verifier = token -> {
+            CustomUserDetails userDetails = singleParsePath(jwtUtil, jwtTokenValidator, accessTokenDenyList, token);
+            return userDetails == null ? null : new VerifiedTokenCache.VerifiedToken(
+                    userDetails, jwtUtil.getExpiration(token).getTime());
+        };
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, ACCESS_TOKEN_VALIDITY);
+
+        String[] tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = jwtTokenProvider.createAccessToken(
+                    new CustomUserDetails(String.valueOf(i + 1), "USER", "PANGYO_2", true));
+        }
+        // 차단 목록 조회가 빈 맵 조회로 끝나지 않도록 일부 회원을 차단
+        for (long memberId = TOKEN_COUNT + 1; memberId <= TOKEN_COUNT + 100; memberId++) {
+            accessTokenDenyList.deny(memberId);
+        }
+
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            legacyPath(jwtUtil, tokens[i % TOKEN_COUNT]);
+            singleParsePath(jwtUtil, jwtTokenValidator, accessTokenDenyList, tokens[i % TOKEN_COUNT]);
+            verifiedTokenCache.get(tokens[i % TOKEN_COUNT], verifier);
+        }
+
+        // when
+        long[] legacyNanos = new long[SAMPLE_COUNT];
+        long[] singleParseNanos = new long[SAMPLE_COUNT];
+        long[] cachedNanos = new long[SAMPLE_COUNT];
+        long authenticated = 0;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            String token = tokens[i % TOKEN_COUNT];
+
+            long startedAt = System.nanoTime();
+            String legacyUserId = legacyPath(jwtUtil, token);
+            legacyNanos[i] = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            CustomUserDetails userDetails = singleParsePath(jwtUtil, jwtTokenValidator, accessTokenDenyList, token);
+            singleParseNanos[i] = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            CustomUserDetails cached = verifiedTokenCache.get(token, verifier);
+            cachedNanos[i] = System.nanoTime() - startedAt;
+
+            if (userDetails != null && userDetails.getId().equals(legacyUserId)
+                    && cached != null && cached.getId().equals(legacyUserId)) {
+                authenticated++;
+            }
+        }
+
+        // then
+        long legacyTotal = Arrays.stream(legacyNanos).sum();
+        long singleParseTotal = Arrays.stream(singleParseNanos).sum();
+        long cachedTotal = Arrays.stream(cachedNanos).sum();
+        Arrays.sort(legacyNanos);
+        Arrays.sort(singleParseNanos);
+        Arrays.sort(cachedNanos);
+        StringBuilder sb = new StringBuilder("\n===== JWT 인증 경로 벤치마크 =====\n");
+        sb.append(String.format("토큰 %,d개, 인증 %,d회 (워밍업 %,d회)%n", TOKEN_COUNT, SAMPLE_COUNT, WARMUP_COUNT));
+        sb.append(String.format("기존(파서 생성 + 2회 파싱) p50=%,d ns, p99=%,d ns, 처리량=%,.0f/s%n",
+                percentile(legacyNanos, 0.50), percentile(legacyNanos, 0.99), throughput(legacyTotal)));
+        sb.append(String.format("현재(공유 파서 + 1회 파싱) p50=%,d ns, p99=%,d ns, 처리량=%,.0f/s%n",
+                percentile(singleParseNanos, 0.50), percentile(singleParseNanos, 0.99), throughput(singleParseTotal)));
+        sb.append(String.format("캐시 적중            p50=%,d ns, p99=%,d ns, 처리량=%,.0f/s, 적중률=%.3f%n",
+                percentile(cachedNanos, 0.50), percentile(cachedNanos, 0.99), throughput(cachedTotal),
+                verifiedTokenCache.hitRatio()));
+        sb.append(String.format("개선 비율 1회 파싱 %.2fx, 캐시 %.2fx (기존 경로의 회원 조회 쿼리 1회는 별도로 제거됨)%n",
+                (double) legacyTotal / singleParseTotal, (double) legacyTotal / cachedTotal));
+        log.info(sb.toString());
+
+        assertThat(authenticated).isEqualTo(SAMPLE_COUNT);
+    }
+
+    /**
+     * 기존 필터 경로: 검증용 파서와 클레임 추출용 파서를 각각 만들어 두 번 파싱
+     */
+    private String legacyPath(JwtUtil jwtUtil, String token) {
+        Jwts.parserBuilder()
+                .setSigningKey(jwtUtil.getSecretKey())
+                .build()
+                .parseClaimsJws(token);
+        return Jwts.parserBuilder()
+                .setSigningKey(jwtUtil.getSecretKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    /**
+     * 현재 필터 경로: 한 번 파싱한 클레임으로 차단 여부 확인 후 인증 객체 생성
+     */
+    private CustomUserDetails singleParsePath(JwtUtil jwtUtil, JwtTokenValidator jwtTokenValidator,
+                                              AccessTokenDenyList accessTokenDenyList, String token) {
+        Claims claims = jwtTokenValidator.validateAndGetClaims(token);
+        if (accessTokenDenyList.isDenied(Long.valueOf(claims.getSubject()), claims.getIssuedAt())) {
+            return null;
+        }
+        return jwtUtil.getUserDetails(claims);
+    }
+
+    private long percentile(long[] sortedNanos, double ratio) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, (int) Math.ceil(ratio * sortedNanos.length) - 1)];
+    }
+
+    private double throughput(long totalNanos) {
+        return SAMPLE_COUNT / (totalNanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,139 @@
+package com.kakaobase.snsapp.loadtest;
+
+import com.kakaobase.snsapp.domain.members.util.NicknameIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 닉네임 검색 인덱스 벤치마크
+ *
+ * 합성 닉네임(기본 10만 개)으로 인덱스를 만들고, 자동완성처럼 닉네임 일부를 검색어로 사용해
+ * 인덱스 검색 시간과 전체 순회(LIKE '%검색어%' 와 같은 방식) 시간을 비교하여 리포트한다.
+ * 일부 검색어는 전체 순회 결과와 비교하여 검색 결과가 정확한지 함께 검증한다.
+ *
+ * 일반 빌드에서는 실행되지 않으며 아래처럼 명시적으로 실행한다.
+ * ./gradlew test --tests "*NicknameIndexBenchmarkTest" -Dloadtest=true
+ * 옵션: -Dloadtest.members=100000 -Dloadtest.samples=10000
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("닉네임 검색 인덱스 벤치마크")
+class NicknameIndexBenchmarkTest {
+
+    private static final int MEMBER_COUNT = Integer.getInteger("loadtest.members", 100_000);
+    private static final int SAMPLE_COUNT = Integer.getInteger("loadtest.samples", 10_000);
+    private static final int LIMIT = 10;
+    private static final int VERIFY_COUNT = 200;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789.";
+    private static final String[] SYLLABLES = {"김", "이", "박", "최", "정", "민", "준", "서", "연", "지"};
+
+    @Test
+    @DisplayName("10만 개 닉네임에서 자동완성 검색 시간을 리포트한다")
+    void search_LargeIndex_Report() {
+        // given
+        Random random = new Random(42);
+        Map<Long, String> nicknames = new HashMap<>();
+        for (long id = 1; id <= MEMBER_COUNT; id++) {
+            nicknames.put(id, randomNickname(random));
+        }
+        long buildStartedAt = System.nanoTime();
+        NicknameIndex index = NicknameIndex.build(nicknames);
+        long buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStartedAt);
+
+        String[] queries = new String[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            String nickname = NicknameIndex.normalize(nicknames.get(1L + random.nextInt(MEMBER_COUNT)));
+            int length = Math.min(nickname.length(), 2 + random.nextInt(4));
+            int start = random.nextInt(nickname.length() - length + 1);
+            queries[i] = nickname.substring(start, start + length);
+        }
+
+        // when
+        long[] indexNanos = new long[SAMPLE_COUNT];
+        long[] scanNanos = new long[SAMPLE_COUNT];
+        String[] keys = nicknames.values().stream().map(NicknameIndex::normalize).toArray(String[]::new);
+        long totalResults = 0;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            long startedAt = System.nanoTime();
+            List<NicknameIndex.Match> matches = index.search(queries[i], LIMIT, id -> false);
+            indexNanos[i] = System.nanoTime() - startedAt;
+            totalResults += matches.size();
+
+            startedAt = System.nanoTime();
+            int scanned = 0;
+            for (String key : keys) {
+                if (key.contains(queries[i]) && ++scanned >= LIMIT * 2) {
+                    break;
+                }
+            }
+            scanNanos[i] = System.nanoTime() - startedAt;
+
+            if (i < VERIFY_COUNT) {
+                assertMatches(queries[i], index, nicknames);
+            }
+        }
+
+        // then
+        Arrays.sort(indexNanos);
+        Arrays.sort(scanNanos);
+        StringBuilder sb = new StringBuilder("\n===== 닉네임 검색 인덱스 벤치마크 =====\n");
+        sb.append(String.format("닉네임 %,d개 (인덱스 생성 %,d ms), 검색 %,d회, 평균 결과 %.1f개%n",
+                MEMBER_COUNT, buildMillis, SAMPLE_COUNT, (double) totalResults / SAMPLE_COUNT));
+        sb.append(String.format("인덱스 검색 p50=%,d us, p99=%,d us, max=%,d us%n",
+                micros(indexNanos, 0.50), micros(indexNanos, 0.99), indexNanos[SAMPLE_COUNT - 1] / 1000));
+        sb.append(String.format("전체 순회   p50=%,d us, p99=%,d us, max=%,d us%n",
+                micros(scanNanos, 0.50), micros(scanNanos, 0.99), scanNanos[SAMPLE_COUNT - 1] / 1000));
+        log.info(sb.toString());
+
+        assertThat(index.size()).isEqualTo(MEMBER_COUNT);
+    }
+
+    /**
+     * 전체 순회로 구한 접두사/부분 일치 결과와 비교
+     */
+    private void assertMatches(String query, NicknameIndex index, Map<Long, String> nicknames) {
+        List<NicknameIndex.Match> matches = index.search(query, Integer.MAX_VALUE, id -> false);
+
+        long expectedPrefix = nicknames.values().stream()
+                .map(NicknameIndex::normalize)
+                .filter(key -> key.startsWith(query))
+                .count();
+        long expectedInfix = query.length() < 3 ? 0 : nicknames.values().stream()
+                .map(NicknameIndex::normalize)
+                .filter(key -> !key.startsWith(query) && key.contains(query))
+                .count();
+
+        assertThat(matches.stream().filter(NicknameIndex.Match::prefix).count()).isEqualTo(expectedPrefix);
+        assertThat(matches.stream().filter(match -> !match.prefix()).count()).isEqualTo(expectedInfix);
+        assertThat(matches).allSatisfy(match -> assertThat(match.key()).contains(query));
+    }
+
+    private String randomNickname(Random random) {
+        StringBuilder sb = new StringBuilder();
+        if (random.nextInt(5) == 0) {
+            for (int i = 0, length = 2 + random.nextInt(3); i < length; i++) {
+                sb.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+        }
+        for (int i = 0, length = 4 + random.nextInt(8); i < length; i++) {
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            sb.append(random.nextInt(4) == 0 ? Character.toUpperCase(c) : c);
+        }
+        return sb.toString();
+    }
+
+    private long micros(long[] sortedNanos, double ratio) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, (int) Math.ceil(ratio * sortedNanos.length) - 1)] / 1000;
+    }
+}
@@ -0,0 +1,168 @@
+package com.kakaobase.snsapp.loadtest;
+
+import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
+import com.kakaobase.snsapp.domain.auth.util.RefreshTokenCodec;
+import com.kakaobase.snsapp.global.security.jwt.JwtTokenProvider;
+import com.kakaobase.snsapp.global.security.jwt.JwtTokenValidator;
+import com.kakaobase.snsapp.global.security.jwt.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인증 토큰 발급/검증 경로 벤치마크
+ *
+ * 로그인(Access Token 발급 + 리프레시 토큰 생성/해싱), 재발급(리프레시 토큰 해싱 + Access Token 발급),
+ * 검증(서명 검증 + 클레임 추출) 각각에 대해 기존 경로와 현재 경로의 처리 시간을 비교하여 리포트한다.
+ * - 기존: 요청마다 JJWT 빌더와 Date, new SecureRandom(), MessageDigest.getInstance(), JwtParser 생성
+ * - 현재: 미리 인코딩한 헤더 + 스레드별 Mac, 공유 SecureRandom, 스레드별 MessageDigest, 공유 JwtParser
+ * 세션 저장과 취소 목록 조회(DB/Redis)는 두 경로가 같으므로 측정에 포함하지 않는다.
+ *
+ * 일반 빌드에서는 실행되지 않으며 아래처럼 명시적으로 실행한다.
+ * ./gradlew test --tests "*TokenIssuanceBenchmarkTest" -Dloadtest=true
+ * 옵션: -Dloadtest.samples=50000 -Dloadtest.warmup=20000
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@DisplayName("인증 토큰 발급/검증 경로 벤치마크")
+class TokenIssuanceBenchmarkTest {
+
+    private static final int SAMPLE_COUNT = Integer.getInteger("loadtest.samples", 50_000);
+    private static final int WARMUP_COUNT = Integer.getInteger("loadtest.warmup", 20_000);
+    private static final String SECRET = "loadtest-secret-key-for-token-issuance-benchmark-with-sufficient-length";
+    private static final long ACCESS_TOKEN_VALIDITY = 1800000L;
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, ACCESS_TOKEN_VALIDITY);
+    private final JwtTokenValidator jwtTokenValidator = new JwtTokenValidator(jwtUtil);
+    private final RefreshTokenCodec refreshTokenCodec = new RefreshTokenCodec();
+
+    @Test
+    @DisplayName("로그인, 재발급, 검증 경로의 처리 시간을 기존 경로와 비교하여 리포트한다")
+    void tokenPaths_Report() {
+        // given
+        CustomUserDetails[] users = new CustomUserDetails[1_000];
+        String[] refreshTokens = new String[users.length];
+        String[] accessTokens = new String[users.length];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = new CustomUserDetails(String.valueOf(i + 1), "USER", "PANGYO_2", true);
+            refreshTokens[i] = refreshTokenCodec.generate();
+            accessTokens[i] = jwtTokenProvider.createAccessToken(users[i]);
+        }
+
+        IntFunction<Object> legacyLogin = i -> legacyAccessToken(users[i % users.length])
+                + legacyHash(legacyGenerate());
+        IntFunction<Object> currentLogin = i -> jwtTokenProvider.createAccessToken(users[i % users.length])
+                + refreshTokenCodec.hash(refreshTokenCodec.generate());
+        IntFunction<Object> legacyRefresh = i -> legacyHash(refreshTokens[i % users.length])
+                + legacyAccessToken(users[i % users.length]);
+        IntFunction<Object> currentRefresh = i -> refreshTokenCodec.hash(refreshTokens[i % users.length])
+                + jwtTokenProvider.createAccessToken(users[i % users.length]);
+        IntFunction<Object> legacyValidate = i -> Jwts.parserBuilder()
+                .setSigningKey(jwtUtil.getSecretKey())
+                .build()
+                .parseClaimsJws(accessTokens[i % users.length])
+                .getBody();
+        IntFunction<Object> currentValidate = i -> jwtTokenValidator.validateAndGetClaims(accessTokens[i % users.length]);
+
+        // when
+        StringBuilder sb = new StringBuilder("\n===== 인증 토큰 발급/검증 경로 벤치마크 =====\n");
+        sb.append(String.format("측정 %,d회 (워밍업 %,d회)%n", SAMPLE_COUNT, WARMUP_COUNT));
+        report(sb, "로그인", legacyLogin, currentLogin);
+        report(sb, "재발급", legacyRefresh, currentRefresh);
+        report(sb, "검증  ", legacyValidate, currentValidate);
+        log.info(sb.toString());
+
+        // then
+        // 두 방식의 토큰이 서로 호환되는지 확인
+        assertThat(jwtTokenValidator.validateAndGetClaims(legacyAccessToken(users[0])).getSubject()).isEqualTo("1");
+        assertThat(jwtTokenValidator.validateAndGetClaims(accessTokens[0]).getSubject()).isEqualTo("1");
+        assertThat(refreshTokenCodec.hash(refreshTokens[0])).isEqualTo(legacyHash(refreshTokens[0]));
+    }
+
+    private void report(StringBuilder sb, String name, IntFunction<Object> legacy, IntFunction<Object> current) {
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            legacy.apply(i);
+            current.apply(i);
+        }
+
+        long[] legacyNanos = new long[SAMPLE_COUNT];
+        long[] currentNanos = new long[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            long startedAt = System.nanoTime();
+            legacy.apply(i);
+            legacyNanos[i] = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            current.apply(i);
+            currentNanos[i] = System.nanoTime() - startedAt;
+        }
+
+        long legacyTotal = Arrays.stream(legacyNanos).sum();
+        long currentTotal = Arrays.stream(currentNanos).sum();
+        Arrays.sort(legacyNanos);
+        Arrays.sort(currentNanos);
+        sb.append(String.format("%s 기존 p50=%,d ns, p99=%,d ns, 처리량=%,.0f/s | 현재 p50=%,d ns, p99=%,d ns, 처리량=%,.0f/s | %.2fx%n",
+                name,
+                percentile(legacyNanos, 0.50), percentile(legacyNanos, 0.99), throughput(legacyTotal),
+                percentile(currentNanos, 0.50), percentile(currentNanos, 0.99), throughput(currentTotal),
+                (double) legacyTotal / currentTotal));
+    }
+
+    /**
+     * 기존 Access Token 발급: 요청마다 JJWT 빌더와 Date 생성
+     */
+    private String legacyAccessToken(CustomUserDetails userDetails) {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject(userDetails.getId())
+                .claim("role", userDetails.getRole())
+                .claim("class_name", userDetails.getClassName())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_VALIDITY))
+                .signWith(jwtUtil.getSecretKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * 기존 리프레시 토큰 생성: 토큰마다 SecureRandom 생성
+     */
+    private String legacyGenerate() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 기존 리프레시 토큰 해싱: 해시마다 MessageDigest 조회
+     */
+    private String legacyHash(String rawToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long percentile(long[] sortedNanos, double ratio) {
+        return sortedNanos[Math.min(sortedNanos.length - 1, (int) Math.ceil(ratio * sortedNanos.length) - 1)];
+    }
+
+    private double throughput(long totalNanos) {
+        return SAMPLE_COUNT / (totalNanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,277 @@
+package com.kakaobase.snsapp.stub;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 AI 서버 Stub (Reactor Netty)
+ *
+ * 실제 AI 서버 없이 AI 연동 경로를 테스트/부하 측정하기 위한 독립 HTTP 서버
+ * - /posts/youtube/summary, /posts/bot, /recomments/bot 구현
+ * - 라우트별 지연 분포, 에러율, 타임아웃(무응답) 비율 설정 가능
+ * - 라우트별 요청 수/결과/동시 처리 수 집계
+ *
+ * Spring 빈이 아니므로 테스트에서 직접 start()/stop() 하고
+ * ai.server.url 을 {@link #getBaseUrl()} 로 지정해서 사용
+ */
+@Slf4j
+public class StubAiServer {
+
+    public static final String YOUTUBE_SUMMARY = "/posts/youtube/summary";
+    public static final String BOT_POST = "/posts/bot";
+    public static final String BOT_RECOMMENT = "/recomments/bot";
+
+    private final Map<String, RouteBehavior> behaviors = new ConcurrentHashMap<>();
+    private final Map<String, RouteStats> stats = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<ReceivedRequest> receivedRequests = new ConcurrentLinkedQueue<>();
+
+    private DisposableServer server;
+
+    public StubAiServer() {
+        for (String route : List.of(YOUTUBE_SUMMARY, BOT_POST, BOT_RECOMMENT)) {
+            behaviors.put(route, RouteBehavior.defaults());
+            stats.put(route, new RouteStats());
+        }
+    }
+
+    /**
+     * 랜덤 포트로 서버 시작
+     */
+    public StubAiServer start() {
+        server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> routes
+                        .post(YOUTUBE_SUMMARY, (req, res) -> handle(YOUTUBE_SUMMARY, req, res))
+                        .post(BOT_POST, (req, res) -> handle(BOT_POST, req, res))
+                        .post(BOT_RECOMMENT, (req, res) -> handle(BOT_RECOMMENT, req, res)))
+                .bindNow();
+        log.info("[STUB] AI 서버 시작: {}", getBaseUrl());
+        return this;
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            log.info("[STUB] AI 서버 종료");
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    // === 동작 설정 ===
+
+    /**
+     * 라우트 동작 설정 (테스트용)
+     */
+    public void configure(String route, RouteBehavior behavior) {
+        behaviors.put(route, behavior);
+    }
+
+    /**
+     * 모든 라우트 동작 설정 (테스트용)
+     */
+    public void configureAll(RouteBehavior behavior) {
+        behaviors.replaceAll((route, old) -> behavior);
+    }
+
+    // === 집계 조회 ===
+
+    public RouteStats getStats(String route) {
+        return stats.get(route);
+    }
+
+    public List<ReceivedRequest> getReceivedRequests() {
+        return List.copyOf(receivedRequests);
+    }
+
+    /**
+     * 집계 초기화 (테스트용)
+     */
+    public void reset() {
+        stats.replaceAll((route, old) -> new RouteStats());
+        receivedRequests.clear();
+    }
+
+    private Mono<Void> handle(String route, HttpServerRequest req, HttpServerResponse res) {
+        RouteBehavior behavior = behaviors.get(route);
+        RouteStats routeStats = stats.get(route);
+
+        return req.receive().aggregate().asString(StandardCharsets.UTF_8).defaultIfEmpty("")
+                .flatMap(body -> {
+                    receivedRequests.add(new ReceivedRequest(route, body, System.nanoTime()));
+                    routeStats.onArrive();
+
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    double dice = random.nextDouble();
+
+                    // 타임아웃: 응답하지 않고 클라이언트가 끊을 때까지 대기
+                    if (dice < behavior.timeoutRate()) {
+                        routeStats.timeouts.increment();
+                        return Mono.<Void>never()
+                                .doOnCancel(routeStats::onLeave);
+                    }
+
+                    boolean error = dice < behavior.timeoutRate() + behavior.errorRate();
+                    Duration latency = behavior.latency().sample(random);
+
+                    return Mono.delay(latency)
+                            .then(Mono.defer(() -> error
+                                    ? sendJson(res, behavior.errorStatus(), errorBody(behavior))
+                                    : sendJson(res, 200, successBody(route))))
+                            .doOnSuccess(v -> {
+                                if (error) {
+                                    routeStats.errors.increment();
+                                } else {
+                                    routeStats.successes.increment();
+                                }
+                            })
+                            .doFinally(signal -> routeStats.onLeave());
+                });
+    }
+
+    private Mono<Void> sendJson(HttpServerResponse res, int status, String body) {
+        return res.status(status)
+                .header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                .sendString(Mono.just(body))
+                .then();
+    }
+
+    private String successBody(String route) {
+        return switch (route) {
+            case YOUTUBE_SUMMARY -> "{\"message\":\"YouTube 영상이 요약되었습니다.\","
+                    + "\"data\":{\"summary\":\"• [STUB] 영상 요약 내용입니다.\"}}";
+            case BOT_POST -> "{\"message\":\"소셜봇이 게시물을 작성했습니다.\","
+                    + "\"data\":{\"board_type\":\"ALL\",\"user\":null,\"content\":\"[STUB] 봇 게시글입니다.\"}}";
+            case BOT_RECOMMENT -> "{\"message\":\"소셜봇이 대댓글을 작성했습니다.\","
+                    + "\"data\":{\"content\":\"[STUB] 봇 대댓글입니다.\"}}";
+            default -> "{}";
+        };
+    }
+
+    private String errorBody(RouteBehavior behavior) {
+        return "{\"error\":\"" + behavior.errorCode() + "\",\"message\":\"[STUB] AI 서버 에러\"}";
+    }
+
+    /**
+     * 지연 시간 분포
+     */
+    @FunctionalInterface
+    public interface LatencyDistribution {
+
+        Duration sample(ThreadLocalRandom random);
+
+        static LatencyDistribution fixed(long millis) {
+            return random -> Duration.ofMillis(millis);
+        }
+
+        static LatencyDistribution uniform(long minMillis, long maxMillis) {
+            return random -> Duration.ofMillis(random.nextLong(minMillis, maxMillis + 1));
+        }
+
+        /**
+         * 로그정규 분포 (실제 LLM 응답처럼 긴 꼬리를 가지는 지연)
+         *
+         * @param medianMillis 중앙값
+         * @param sigma 꼬리 두께 (0.5 ~ 1.0 권장)
+         */
+        static LatencyDistribution logNormal(long medianMillis, double sigma) {
+            return random -> Duration.ofMillis(
+                    Math.round(medianMillis * Math.exp(sigma * random.nextGaussian())));
+        }
+    }
+
+    /**
+     * 라우트별 동작 설정
+     *
+     * @param latency 응답 지연 분포
+     * @param errorRate 에러 응답 비율 (0.0 ~ 1.0)
+     * @param timeoutRate 무응답 비율 (0.0 ~ 1.0)
+     * @param errorStatus 에러 응답 HTTP 상태 코드
+     * @param errorCode 에러 응답 error 필드 값
+     */
+    public record RouteBehavior(
+            LatencyDistribution latency,
+            double errorRate,
+            double timeoutRate,
+            int errorStatus,
+            String errorCode
+    ) {
+        public static RouteBehavior defaults() {
+            return new RouteBehavior(LatencyDistribution.fixed(0), 0.0, 0.0, 500, "internal_server_error");
+        }
+
+        public static RouteBehavior of(LatencyDistribution latency, double errorRate, double timeoutRate) {
+            return new RouteBehavior(latency, errorRate, timeoutRate, 500, "internal_server_error");
+        }
+    }
+
+    /**
+     * 수신한 요청 기록
+     */
+    public record ReceivedRequest(String route, String body, long arrivedAtNanos) {
+    }
+
+    /**
+     * 라우트별 집계
+     */
+    public static class RouteStats {
+        private final LongAdder arrivals = new LongAdder();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private void onArrive() {
+            arrivals.increment();
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+        }
+
+        private void onLeave() {
+            inFlight.decrementAndGet();
+        }
+
+        public long getArrivals() {
+            return arrivals.sum();
+        }
+
+        public long getSuccesses() {
+            return successes.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        public long getCompleted() {
+            return successes.sum() + errors.sum();
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight.get();
+        }
+    }
+}
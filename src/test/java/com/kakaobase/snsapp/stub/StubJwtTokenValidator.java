@@ -2,11 +2,15 @@ package com.kakaobase.snsapp.stub;
 
 import com.kakaobase.snsapp.domain.auth.principal.CustomUserDetails;
 import com.kakaobase.snsapp.global.security.jwt.JwtTokenValidator;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Date;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -53,6 +57,23 @@ public class StubJwtTokenValidator extends JwtTokenValidator {
         return isValid;
     }
 
+    /**
+     * 토큰 검증 및 클레임 조회 (Stub)
+     */
+    @Override
+    public Claims validateAndGetClaims(String token) {
+        TokenInfo tokenInfo = validTokens.get(token);
+        log.info("[STUB] JWT 토큰 클레임 조회: {} -> {}", token, tokenInfo != null);
+        if (tokenInfo == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        Claims claims = Jwts.claims().setSubject(tokenInfo.getUserId());
+        claims.setIssuedAt(new Date());
+        claims.put("role", tokenInfo.getRole());
+        claims.put("class_name", tokenInfo.getClassName());
+        return claims;
+    }
+
     // === 테스트 헬퍼 메서드들 ===
 
     /**